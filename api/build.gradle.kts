@@ -1,5 +1,6 @@
 import com.github.retrooper.compression.strategy.dir.JsonBase64DataDirStrategy
-import com.github.retrooper.compression.strategy.dir.JsonRegistryCompressionDirStrategy
+import com.github.retrooper.compression.strategy.dir.JsonBlockStateTableDirStrategy
+import com.github.retrooper.compression.strategy.dir.JsonRegistryTableDirStrategy
 import com.github.retrooper.compression.strategy.dir.JsonToNbtDirStrategy
 import com.github.retrooper.excludeAdventure
 
@@ -49,10 +50,13 @@ mappingCompression {
     with<JsonToNbtDirStrategy> {
         compress("data")
     }
+    with<JsonBlockStateTableDirStrategy> {
+        compress("data", "block_state")
+    }
     with<JsonBase64DataDirStrategy> {
         compress("item_base_components")
     }
-    with<JsonRegistryCompressionDirStrategy> {
+    with<JsonRegistryTableDirStrategy> {
         compress("registries")
     }
 }
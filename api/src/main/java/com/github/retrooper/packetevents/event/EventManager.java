@@ -19,12 +19,23 @@
 package com.github.retrooper.packetevents.event;
 
 import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.event.metrics.ListenerMetrics;
+import com.github.retrooper.packetevents.event.metrics.PacketMetrics;
 import com.github.retrooper.packetevents.exception.InvalidHandshakeException;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.protocol.ConnectionState;
+import com.github.retrooper.packetevents.protocol.PacketSide;
+import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
+import com.github.retrooper.packetevents.protocol.player.ClientVersion;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.logging.Level;
 
 /**
@@ -43,6 +54,9 @@ import java.util.logging.Level;
 
 public class EventManager {
 
+    private static final ConnectionState[] STATES = ConnectionState.values();
+    private static final PacketSide[] SIDES = PacketSide.values();
+
     //Using a ConcurrentHashMap is faster and more secure here, compared to Collections.synchronizedMap(new EnumMap<>(PacketListenerPriority.class))
     //This is mainly due to:
     //1. On each modification Collections.synchronizedMap synchronizes the whole Map object, while ConcurrentHashMap only it's internal, currently modified Node
@@ -52,6 +66,17 @@ public class EventManager {
     //Since reads greatly outnumber writes, create an array for the best possible iteration time
     //Updated as a whole on writes, no index modifications are allowed
     private volatile PacketListenerCommon[] listeners = new PacketListenerCommon[0];
+    //The listeners interested in each packet type, first indexed by side and connection state (see #tableIndex),
+    //then by the ordinal of the packet type. Null until the first listener has been registered.
+    //Rebuilt together with the 'listeners' array, entries are never modified afterward
+    private volatile PacketListenerCommon[][][] packetListeners;
+    //Same as 'packetListeners', but only contains the async listeners (see PacketListenerCommon#isAsync).
+    //Null if no async listener has been registered
+    private volatile PacketListenerCommon[][][] asyncPacketListeners;
+    //One bit per packet type ordinal, set if at least one listener is interested in it. Indexed like 'packetListeners'
+    private volatile long[][] packetInterest;
+    //Null while metrics are disabled, so the only cost is reading this field
+    private volatile PacketMetrics metrics;
 
 
     /**
@@ -79,7 +104,14 @@ public class EventManager {
      * @param postCallListenerAction The action to be ran after all the listeners have finished processing
      */
     public void callEvent(PacketEvent event, @Nullable Runnable postCallListenerAction) {
-        for (PacketListenerCommon listener : listeners) {
+        PacketMetrics metrics = this.metrics;
+        int size = 0;
+        long listenerNanos = 0L;
+        if (metrics != null && event instanceof ProtocolPacketEvent) {
+            size = ((ProtocolPacketEvent) event).getPacketSize();
+        }
+        for (PacketListenerCommon listener : this.getListeners(event)) {
+            long start = metrics == null ? 0L : System.nanoTime();
             try {
                 event.call(listener);
             } catch (Exception t) {
@@ -88,16 +120,200 @@ public class EventManager {
                     PacketEvents.getAPI().getLogger().log(Level.WARNING, "PacketEvents caught an unhandled exception while calling your listener.", t);
                 }
             }
+            if (metrics != null) {
+                long nanos = System.nanoTime() - start;
+                listenerNanos += nanos;
+                ListenerMetrics listenerMetrics = listener.metrics;
+                if (listenerMetrics != null) {
+                    listenerMetrics.recordCall(nanos);
+                }
+            }
             if (postCallListenerAction != null) {
                 postCallListenerAction.run();
             }
         }
+        if (metrics != null && event instanceof ProtocolPacketEvent) {
+            ProtocolPacketEvent packetEvent = (ProtocolPacketEvent) event;
+            if (packetEvent.getPacketType() != null) {
+                metrics.recordEvent(packetEvent.getPacketType(), size, packetEvent.isCancelled(), listenerNanos);
+            }
+        }
         // For performance reasons, we don't want to re-encode the packet if it's not needed.
-        if (event instanceof ProtocolPacketEvent && !((ProtocolPacketEvent) event).needsReEncode()) {
-            ((ProtocolPacketEvent) event).setLastUsedWrapper(null);
+        if (event instanceof ProtocolPacketEvent) {
+            ProtocolPacketEvent packetEvent = (ProtocolPacketEvent) event;
+            PacketWrapper<?> wrapper = packetEvent.getLastUsedWrapper();
+            // Wrappers which were only read pass on the original bytes. Objects handed out by getters may have
+            // been modified in place, so escaped wrappers are re-encoded too, unless re-encoding by default is off.
+            boolean reEncode;
+            if (packetEvent.isMarkedForReEncode()) {
+                reEncode = packetEvent.needsReEncode();
+            } else {
+                reEncode = wrapper != null && (wrapper.isDirty()
+                        || (wrapper.isEscaped() && packetEvent.needsReEncode()));
+            }
+            if (!reEncode) {
+                packetEvent.setLastUsedWrapper(null);
+            }
         }
     }
 
+    /**
+     * Hands a snapshot of the packet to the async listeners, on the ordered executor of the user.
+     * Has to be called once the packet was processed, with the buffer which is passed on.
+     * The snapshot is dropped and released if too many packets of the user are queued already,
+     * see {@link com.github.retrooper.packetevents.settings.PacketEventsSettings#asyncListenerQueueCapacity(int)}.
+     *
+     * @param event  The processed event
+     * @param buffer The final packet, including its id, starting at the reader index.
+     *               This is the original packet if the event was cancelled.
+     */
+    @ApiStatus.Internal
+    public void callAsyncListeners(ProtocolPacketEvent event, Object buffer) {
+        PacketListenerCommon[][][] asyncPacketListeners = this.asyncPacketListeners;
+        PacketTypeCommon packetType = event.getPacketType();
+        if (asyncPacketListeners == null || packetType == null) {
+            return;
+        }
+        ConnectionState state = PacketType.getConnectionState(packetType);
+        if (state == null) {
+            return;
+        }
+        PacketListenerCommon[] listeners = asyncPacketListeners[tableIndex(packetType.getSide(), state)][((Enum<?>) packetType).ordinal()];
+        if (listeners.length == 0) {
+            return;
+        }
+        ProtocolPacketEvent snapshot;
+        int packetIndex = ByteBufHelper.readerIndex(buffer);
+        try {
+            ByteBufHelper.readVarInt(buffer); // the packet id isn't part of the snapshot
+            snapshot = event.snapshot(buffer);
+        } finally {
+            ByteBufHelper.readerIndex(buffer, packetIndex);
+        }
+        if (snapshot == null) {
+            return;
+        }
+        Object snapshotBuffer = snapshot.getByteBuf();
+        int readerIndex = ByteBufHelper.readerIndex(snapshotBuffer);
+        try {
+            event.getUser().getAsyncListenerExecutor().execute(() -> {
+                try {
+                    for (PacketListenerCommon listener : listeners) {
+                        ByteBufHelper.readerIndex(snapshotBuffer, readerIndex);
+                        try {
+                            snapshot.call(listener);
+                        } catch (Exception t) {
+                            PacketEvents.getAPI().getLogger().log(Level.WARNING, "PacketEvents caught an unhandled exception while calling your async listener.", t);
+                        }
+                    }
+                } finally {
+                    snapshot.cleanUp();
+                }
+            }, snapshot::cleanUp); // dropped if the queue of the user is full, or the user disconnected
+        } catch (RejectedExecutionException e) {
+            snapshot.cleanUp();
+            PacketEvents.getAPI().getLogger().log(Level.WARNING, "Failed to pass a packet to the async listeners.", e);
+        }
+    }
+
+    //Only visit the listeners which declared interest in the packet type, see PacketListenerCommon#getPacketTypes
+    private PacketListenerCommon[] getListeners(PacketEvent event) {
+        if (event instanceof ProtocolPacketEvent) {
+            PacketListenerCommon[][][] packetListeners = this.packetListeners;
+            PacketTypeCommon packetType = ((ProtocolPacketEvent) event).getPacketType();
+            if (packetListeners != null && packetType != null) {
+                ConnectionState state = PacketType.getConnectionState(packetType);
+                //Custom packet types aren't part of the tables, they are dispatched to everyone
+                if (state != null) {
+                    return packetListeners[tableIndex(packetType.getSide(), state)][((Enum<?>) packetType).ordinal()];
+                }
+            }
+        }
+        return this.listeners;
+    }
+
+    /**
+     * Checks whether any registered listener wants to be called for the given packet type.
+     * If not, platforms may pass the packet on untouched, without ever constructing an event for it.
+     *
+     * @param packetType The packet type
+     * @return true if at least one listener would be called for the packet type
+     */
+    public boolean isListening(PacketTypeCommon packetType) {
+        ConnectionState state = PacketType.getConnectionState(packetType);
+        if (state == null) {
+            //Custom packet types are dispatched to everyone
+            return this.listeners.length != 0;
+        }
+        long[][] packetInterest = this.packetInterest;
+        if (packetInterest == null) {
+            return false;
+        }
+        int ordinal = ((Enum<?>) packetType).ordinal();
+        return (packetInterest[tableIndex(packetType.getSide(), state)][ordinal >> 6] & (1L << ordinal)) != 0L;
+    }
+
+    /**
+     * Checks whether any registered listener wants to be called for the packet with the given id.
+     * Unknown packet ids are always reported as listened to, so they go through the regular (error-reporting) path.
+     *
+     * @param side     The side sending the packet
+     * @param state    The connection state the packet is sent in
+     * @param version  The version to resolve the packet id with
+     * @param packetId The packet id
+     * @return true if at least one listener would be called for the packet
+     */
+    public boolean isListening(PacketSide side, ConnectionState state, ClientVersion version, int packetId) {
+        PacketTypeCommon packetType = PacketType.getById(side, state, version, packetId);
+        return packetType == null || this.isListening(packetType);
+    }
+
+    /**
+     * Enables or disables collecting per packet type and per listener metrics.
+     * Enabling them again starts over with empty counters.
+     *
+     * @param enabled Whether metrics should be collected
+     */
+    public void setMetricsEnabled(boolean enabled) {
+        synchronized (this) {
+            this.metrics = enabled ? new PacketMetrics() : null;
+            this.updateListenerMetrics(this.listeners);
+        }
+    }
+
+    //Resolves the counters of the listeners once instead of for every call, and drops those of removed listeners.
+    //Needs to be synchronized, the 'listeners' variable still has to contain the previous listeners
+    private void updateListenerMetrics(PacketListenerCommon[] listeners) {
+        PacketMetrics metrics = this.metrics;
+        Set<PacketListenerCommon> registered = new HashSet<>(Arrays.asList(listeners));
+        for (PacketListenerCommon listener : this.listeners) {
+            if (!registered.contains(listener)) {
+                listener.metrics = null;
+                if (metrics != null) {
+                    metrics.removeListener(listener);
+                }
+            }
+        }
+        for (PacketListenerCommon listener : listeners) {
+            listener.metrics = metrics == null ? null : metrics.addListener(listener);
+        }
+    }
+
+    public boolean isMetricsEnabled() {
+        return this.metrics != null;
+    }
+
+    /**
+     * @return The collected metrics, or null if metrics are disabled
+     */
+    public @Nullable PacketMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    private static int tableIndex(PacketSide side, ConnectionState state) {
+        return side.ordinal() * STATES.length + state.ordinal();
+    }
+
     /**
      * Register the dynamic packet event listener.
      *
@@ -152,7 +368,11 @@ public class EventManager {
     public void unregisterAllListeners() {
         this.listenersMap.clear();
         synchronized (this) {//like booky10 said, the synchronization is necessary here
+            this.updateListenerMetrics(new PacketListenerCommon[0]);
             this.listeners = new PacketListenerCommon[0];
+            this.packetListeners = null;
+            this.asyncPacketListeners = null;
+            this.packetInterest = null;
         }
     }
 
@@ -166,8 +386,76 @@ public class EventManager {
                 Set<PacketListenerCommon> set = this.listenersMap.get(priority);
                 if (set != null) list.addAll(set);
             }
-            this.listeners = list.toArray(new PacketListenerCommon[0]);
+            PacketListenerCommon[] listeners = list.toArray(new PacketListenerCommon[0]);
+            //Async listeners are kept out of the packet tables, they are called with a snapshot instead
+            List<PacketListenerCommon> syncList = new ArrayList<>(listeners.length);
+            List<PacketListenerCommon> asyncList = new ArrayList<>();
+            for (PacketListenerCommon listener : listeners) {
+                (listener.isAsync() ? asyncList : syncList).add(listener);
+            }
+            PacketListenerCommon[][][] packetListeners = buildPacketListeners(asyncList.isEmpty()
+                    ? listeners : syncList.toArray(new PacketListenerCommon[0]));
+            PacketListenerCommon[][][] asyncPacketListeners = asyncList.isEmpty()
+                    ? null : buildPacketListeners(asyncList.toArray(new PacketListenerCommon[0]));
+            this.packetListeners = packetListeners;
+            this.asyncPacketListeners = asyncPacketListeners;
+            this.packetInterest = buildPacketInterest(packetListeners, asyncPacketListeners);
+            this.updateListenerMetrics(listeners);
+            this.listeners = listeners;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PacketListenerCommon[][][] buildPacketListeners(PacketListenerCommon[] listeners) {
+        Set<PacketTypeCommon>[] packetTypes = new Set[listeners.length];
+        boolean filtered = false;
+        for (int i = 0; i < listeners.length; i++) {
+            packetTypes[i] = listeners[i].getPacketTypes();
+            filtered |= packetTypes[i] != null;
+        }
+
+        PacketListenerCommon[][][] tables = new PacketListenerCommon[SIDES.length * STATES.length][][];
+        List<PacketListenerCommon> interested = new ArrayList<>(listeners.length);
+        for (PacketSide side : SIDES) {
+            for (ConnectionState state : STATES) {
+                PacketTypeCommon[] types = PacketType.getPacketTypes(side, state);
+                PacketListenerCommon[][] table = new PacketListenerCommon[types.length][];
+                for (PacketTypeCommon type : types) {
+                    if (!filtered) {
+                        //Nobody declared any packet types, share the catch-all array
+                        table[((Enum<?>) type).ordinal()] = listeners;
+                        continue;
+                    }
+                    interested.clear();
+                    for (int i = 0; i < listeners.length; i++) {
+                        if (packetTypes[i] == null || packetTypes[i].contains(type)) {
+                            interested.add(listeners[i]);
+                        }
+                    }
+                    table[((Enum<?>) type).ordinal()] = interested.size() == listeners.length
+                            ? listeners : interested.toArray(new PacketListenerCommon[0]);
+                }
+                tables[tableIndex(side, state)] = table;
+            }
+        }
+        return tables;
+    }
+
+    private static long[][] buildPacketInterest(PacketListenerCommon[][][] packetListeners,
+                                                @Nullable PacketListenerCommon[][][] asyncPacketListeners) {
+        long[][] interest = new long[packetListeners.length][];
+        for (int i = 0; i < packetListeners.length; i++) {
+            PacketListenerCommon[][] table = packetListeners[i];
+            PacketListenerCommon[][] asyncTable = asyncPacketListeners == null ? null : asyncPacketListeners[i];
+            long[] bits = new long[(table.length + 63) >> 6];
+            for (int ordinal = 0; ordinal < table.length; ordinal++) {
+                if (table[ordinal].length != 0 || (asyncTable != null && asyncTable[ordinal].length != 0)) {
+                    bits[ordinal >> 6] |= 1L << ordinal;
+                }
+            }
+            interest[i] = bits;
         }
+        return interest;
     }
 
     //Internal registration methods, specifically separated for lesser overhead when registering an array of Listeners
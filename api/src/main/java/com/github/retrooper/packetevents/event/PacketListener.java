@@ -18,9 +18,24 @@
 
 package com.github.retrooper.packetevents.event;
 
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+
 public interface PacketListener {
     default PacketListenerAbstract asAbstract(PacketListenerPriority priority) {
         return new PacketListenerAbstract(priority) {
+            @Override
+            public @Nullable Set<PacketTypeCommon> getPacketTypes() {
+                return PacketListener.this.getPacketTypes();
+            }
+
+            @Override
+            public boolean isAsync() {
+                return PacketListener.this.isAsync();
+            }
+
             @Override
             public void onUserConnect(UserConnectEvent event) {
                 PacketListener.this.onUserConnect(event);
@@ -53,6 +68,20 @@ public interface PacketListener {
         };
     }
 
+    /**
+     * @see PacketListenerCommon#getPacketTypes()
+     */
+    default @Nullable Set<PacketTypeCommon> getPacketTypes() {
+        return null;
+    }
+
+    /**
+     * @see PacketListenerCommon#isAsync()
+     */
+    default boolean isAsync() {
+        return false;
+    }
+
     default void onUserConnect(UserConnectEvent event) {
     }
 
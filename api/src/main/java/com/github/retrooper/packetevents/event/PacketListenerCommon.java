@@ -18,9 +18,14 @@
 
 package com.github.retrooper.packetevents.event;
 
+import com.github.retrooper.packetevents.event.metrics.ListenerMetrics;
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
+import org.jetbrains.annotations.Nullable;
+
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Abstract packet listener.
@@ -30,6 +35,8 @@ import java.util.Map;
  */
 public abstract class PacketListenerCommon {
     private final PacketListenerPriority priority;
+    //Set by the EventManager while this listener is registered and metrics are enabled
+    volatile @Nullable ListenerMetrics metrics;
 
     public PacketListenerCommon(PacketListenerPriority priority) {
         this.priority = priority;
@@ -43,6 +50,33 @@ public abstract class PacketListenerCommon {
         return priority;
     }
 
+    /**
+     * The packet types this listener should be called for.
+     * Packets of any other type will skip this listener entirely.
+     * This is only queried once when the listener gets registered.
+     *
+     * @return The packet types to listen for, or null to listen for every packet.
+     */
+    public @Nullable Set<PacketTypeCommon> getPacketTypes() {
+        return null;
+    }
+
+    /**
+     * Whether this listener only reads packets and may be called off the netty thread.
+     * Async listeners receive a read-only snapshot of each packet event after all other listeners ran,
+     * containing the packet as it was passed on, including modifications by the other listeners,
+     * on the executor configured in {@link com.github.retrooper.packetevents.settings.PacketEventsSettings#asyncListenerExecutor}.
+     * Events of one user are delivered in order. Cancelling or modifying the snapshot has no effect,
+     * so listeners which need to do so must not be async.
+     * Non-packet events, like {@link UserConnectEvent}, are still called on the calling thread.
+     * This is only queried once when the listener gets registered.
+     *
+     * @return true if packet events should be delivered asynchronously
+     */
+    public boolean isAsync() {
+        return false;
+    }
+
     public void onUserConnect(UserConnectEvent event) {
     }
 
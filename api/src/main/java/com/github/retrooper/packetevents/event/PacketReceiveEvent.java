@@ -55,4 +55,18 @@ public class PacketReceiveEvent extends ProtocolPacketEvent {
         }
         return null;
     }
+
+    @Override
+    public PacketReceiveEvent snapshot(Object buffer) {
+        try {
+            Object copiedBuffer = ByteBufHelper.copy(buffer);
+            PacketReceiveEvent event = new PacketReceiveEvent(getPacketId(), getPacketType(), getServerVersion(),
+                    getChannel(), getUser(), getPlayer(), copiedBuffer);
+            event.setCancelled(isCancelled());
+            return event;
+        } catch (PacketProcessException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
 }
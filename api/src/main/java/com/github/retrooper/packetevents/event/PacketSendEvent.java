@@ -74,4 +74,18 @@ public class PacketSendEvent extends ProtocolPacketEvent {
         }
         return null;
     }
+
+    @Override
+    public PacketSendEvent snapshot(Object buffer) {
+        try {
+            Object copiedBuffer = ByteBufHelper.copy(buffer);
+            PacketSendEvent event = new PacketSendEvent(getPacketId(), getPacketType(), getServerVersion(),
+                    getChannel(), getUser(), getPlayer(), copiedBuffer);
+            event.setCancelled(isCancelled());
+            return event;
+        } catch (PacketProcessException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
 }
@@ -32,6 +32,7 @@ import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
 import com.github.retrooper.packetevents.protocol.player.ClientVersion;
 import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -54,6 +55,9 @@ public abstract class ProtocolPacketEvent extends PacketEvent implements PlayerE
     private List<Runnable> postTasks = null;
     private boolean cloned;
     private boolean needsReEncode = PacketEvents.getAPI().getSettings().reEncodeByDefault();
+    private boolean markedForReEncode;
+    // the length of the packet including its id, before it was processed
+    private final int packetSize;
 
     public ProtocolPacketEvent(PacketSide packetSide, Object channel,
                                User user, Object player, Object byteBuf,
@@ -61,15 +65,11 @@ public abstract class ProtocolPacketEvent extends PacketEvent implements PlayerE
         this.channel = channel;
         this.user = user;
         this.player = player;
-        if (autoProtocolTranslation || user.getClientVersion() == null) {
-            this.serverVersion = PacketEvents.getAPI().getServerManager().getVersion();
-        } else {
-            //TODO Optimize
-            this.serverVersion = user.getClientVersion().toServerVersion();
-        }
+        this.serverVersion = user.getPacketServerVersion(autoProtocolTranslation);
 
         this.byteBuf = byteBuf;
         int size = ByteBufHelper.readableBytes(byteBuf);
+        this.packetSize = size;
         if (size == 0) {
             throw new PacketProcessException("Trying to process a packet, but it has no content. (Size=0)");
         }
@@ -101,14 +101,36 @@ public abstract class ProtocolPacketEvent extends PacketEvent implements PlayerE
         this.byteBuf = byteBuf;
         this.packetID = packetID;
         this.packetType = packetType;
+        this.packetSize = ByteBufHelper.getByteSize(packetID) + ByteBufHelper.readableBytes(byteBuf);
 
         this.connectionState = (packetType != null && packetType.getSide() == PacketSide.SERVER)
                 ? user.getEncoderState() : user.getDecoderState();
         cloned = true;
     }
 
+    /**
+     * Overrides whether the packet is re-encoded from the last used wrapper.
+     * By default, the packet is only re-encoded if the wrapper was modified, see {@link PacketWrapper#isDirty()},
+     * or if it handed out mutable objects, see {@link PacketWrapper#isEscaped()}.
+     *
+     * @param needsReEncode Whether the packet should be re-encoded
+     */
     public void markForReEncode(boolean needsReEncode) {
         this.needsReEncode = needsReEncode;
+        this.markedForReEncode = true;
+    }
+
+    /**
+     * @return the length of the packet including its id, as it was received or sent by the server
+     */
+    @ApiStatus.Internal
+    public int getPacketSize() {
+        return packetSize;
+    }
+
+    @ApiStatus.Internal
+    public boolean isMarkedForReEncode() {
+        return markedForReEncode;
     }
 
     public boolean needsReEncode() {
@@ -229,6 +251,19 @@ public abstract class ProtocolPacketEvent extends PacketEvent implements PlayerE
                 : ((PacketSendEvent) this).clone();
     }
 
+    /**
+     * Creates a clone of this event with a copy of the remaining packet data of the given buffer,
+     * which stays valid no matter what happens to the buffer afterward.
+     * Has to be cleaned up using {@link #cleanUp()}.
+     *
+     * @param buffer The packet data after the packet id
+     */
+    @ApiStatus.Internal
+    public ProtocolPacketEvent snapshot(Object buffer) {
+        return this instanceof PacketReceiveEvent ? ((PacketReceiveEvent) this).snapshot(buffer)
+                : ((PacketSendEvent) this).snapshot(buffer);
+    }
+
     public void cleanUp() {
         if (isClone()) {
             ByteBufHelper.release(byteBuf);
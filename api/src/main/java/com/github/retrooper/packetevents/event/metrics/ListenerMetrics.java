@@ -0,0 +1,61 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.event.metrics;
+
+import com.github.retrooper.packetevents.event.PacketListenerCommon;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of a single listener, collected while metrics are enabled.
+ *
+ * @see PacketMetrics
+ */
+public final class ListenerMetrics {
+
+    private final PacketListenerCommon listener;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    ListenerMetrics(PacketListenerCommon listener) {
+        this.listener = listener;
+    }
+
+    @ApiStatus.Internal
+    public void recordCall(long nanos) {
+        this.calls.increment();
+        this.nanos.add(nanos);
+    }
+
+    public PacketListenerCommon getListener() {
+        return listener;
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * @return The time spent in this listener, in nanoseconds
+     */
+    public long getNanos() {
+        return nanos.sum();
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.event.metrics;
+
+import com.github.retrooper.packetevents.event.PacketListenerCommon;
+import com.github.retrooper.packetevents.protocol.ConnectionState;
+import com.github.retrooper.packetevents.protocol.PacketSide;
+import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per packet type and per listener counters, see {@link com.github.retrooper.packetevents.event.EventManager#setMetricsEnabled(boolean)}.
+ * Custom packet types are not tracked. Listeners are only tracked while they are registered.
+ */
+public final class PacketMetrics {
+
+    private static final ConnectionState[] STATES = ConnectionState.values();
+    private static final PacketSide[] SIDES = PacketSide.values();
+
+    private final long startTime = System.nanoTime();
+    //Indexed by side and connection state, then by the ordinal of the packet type
+    private final PacketTypeMetrics[][] packetMetrics = new PacketTypeMetrics[SIDES.length * STATES.length][];
+    private final Map<PacketListenerCommon, ListenerMetrics> listenerMetrics = new ConcurrentHashMap<>();
+
+    public PacketMetrics() {
+        for (PacketSide side : SIDES) {
+            for (ConnectionState state : STATES) {
+                PacketTypeCommon[] types = PacketType.getPacketTypes(side, state);
+                PacketTypeMetrics[] table = new PacketTypeMetrics[types.length];
+                for (PacketTypeCommon type : types) {
+                    table[((Enum<?>) type).ordinal()] = new PacketTypeMetrics(type);
+                }
+                this.packetMetrics[side.ordinal() * STATES.length + state.ordinal()] = table;
+            }
+        }
+    }
+
+    /**
+     * @param packetType The packet type
+     * @return The counters of the packet type, or null for custom packet types
+     */
+    public @Nullable PacketTypeMetrics getMetrics(PacketTypeCommon packetType) {
+        ConnectionState state = PacketType.getConnectionState(packetType);
+        if (state == null) {
+            return null;
+        }
+        return this.packetMetrics[packetType.getSide().ordinal() * STATES.length + state.ordinal()][((Enum<?>) packetType).ordinal()];
+    }
+
+    /**
+     * @return The counters of all packet types which were seen at least once
+     */
+    public List<PacketTypeMetrics> getPacketMetrics() {
+        List<PacketTypeMetrics> list = new ArrayList<>();
+        for (PacketTypeMetrics[] table : this.packetMetrics) {
+            for (PacketTypeMetrics metrics : table) {
+                if (metrics.getPackets() != 0L || metrics.getSkippedPackets() != 0L) {
+                    list.add(metrics);
+                }
+            }
+        }
+        return list;
+    }
+
+    public Collection<ListenerMetrics> getListenerMetrics() {
+        return Collections.unmodifiableCollection(this.listenerMetrics.values());
+    }
+
+    /**
+     * @return How long the metrics have been collected for, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return System.nanoTime() - this.startTime;
+    }
+
+    @ApiStatus.Internal
+    public void recordEvent(PacketTypeCommon packetType, int bytes, boolean cancelled, long listenerNanos) {
+        PacketTypeMetrics metrics = this.getMetrics(packetType);
+        if (metrics != null) {
+            metrics.recordEvent(bytes, cancelled, listenerNanos);
+        }
+    }
+
+    @ApiStatus.Internal
+    public void recordDecode(PacketTypeCommon packetType, long nanos) {
+        PacketTypeMetrics metrics = this.getMetrics(packetType);
+        if (metrics != null) {
+            metrics.recordDecode(nanos);
+        }
+    }
+
+    @ApiStatus.Internal
+    public void recordReEncode(PacketTypeCommon packetType, long nanos) {
+        PacketTypeMetrics metrics = this.getMetrics(packetType);
+        if (metrics != null) {
+            metrics.recordReEncode(nanos);
+        }
+    }
+
+    @ApiStatus.Internal
+    public void recordSkip(PacketTypeCommon packetType, int bytes) {
+        PacketTypeMetrics metrics = this.getMetrics(packetType);
+        if (metrics != null) {
+            metrics.recordSkip(bytes);
+        }
+    }
+
+    /**
+     * Only called when the listener is registered, so calls don't have to look up their counters.
+     */
+    @ApiStatus.Internal
+    public ListenerMetrics addListener(PacketListenerCommon listener) {
+        return this.listenerMetrics.computeIfAbsent(listener, ListenerMetrics::new);
+    }
+
+    @ApiStatus.Internal
+    public void removeListener(PacketListenerCommon listener) {
+        this.listenerMetrics.remove(listener);
+    }
+
+    /**
+     * Formats the collected metrics as human-readable lines, most frequent packet types first.
+     *
+     * @return The lines of the report
+     */
+    public List<String> dump() {
+        List<String> lines = new ArrayList<>();
+        double seconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(this.getElapsedNanos()));
+        lines.add(String.format("Packet metrics of the last %.0f seconds:", seconds));
+        List<PacketTypeMetrics> packets = this.getPacketMetrics();
+        packets.sort(Comparator.comparingLong((PacketTypeMetrics metrics) -> metrics.getPackets() + metrics.getSkippedPackets()).reversed());
+        for (PacketTypeMetrics metrics : packets) {
+            long count = metrics.getPackets();
+            lines.add(String.format("%s %s: %d packets (%.1f/s), %d bytes, %d skipped (%d bytes), %d cancelled, "
+                            + "%d re-encoded, decode %.2fus, listeners %.2fus, re-encode %.2fus (avg)",
+                    metrics.getSide(), metrics.getPacketType().getName(), count, count / seconds,
+                    metrics.getBytes(), metrics.getSkippedPackets(), metrics.getSkippedBytes(),
+                    metrics.getCancellations(), metrics.getReEncodes(),
+                    average(metrics.getDecodeNanos(), count), average(metrics.getListenerNanos(), count),
+                    average(metrics.getReEncodeNanos(), metrics.getReEncodes())));
+        }
+        List<ListenerMetrics> listeners = new ArrayList<>(this.listenerMetrics.values());
+        listeners.sort(Comparator.comparingLong(ListenerMetrics::getNanos).reversed());
+        for (ListenerMetrics metrics : listeners) {
+            lines.add(String.format("Listener %s: %d calls, %.2fms total, %.2fus (avg)",
+                    metrics.getListener().getClass().getName(), metrics.getCalls(),
+                    metrics.getNanos() / 1_000_000D, average(metrics.getNanos(), metrics.getCalls())));
+        }
+        return lines;
+    }
+
+    private static double average(long nanos, long count) {
+        return count == 0L ? 0D : nanos / 1_000D / count;
+    }
+}
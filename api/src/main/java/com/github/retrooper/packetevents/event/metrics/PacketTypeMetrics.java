@@ -0,0 +1,135 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.event.metrics;
+
+import com.github.retrooper.packetevents.protocol.PacketSide;
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of a single packet type, collected while metrics are enabled.
+ *
+ * @see PacketMetrics
+ */
+public final class PacketTypeMetrics {
+
+    private final PacketTypeCommon packetType;
+    private final LongAdder packets = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder cancellations = new LongAdder();
+    private final LongAdder reEncodes = new LongAdder();
+    private final LongAdder decodeNanos = new LongAdder();
+    private final LongAdder reEncodeNanos = new LongAdder();
+    private final LongAdder listenerNanos = new LongAdder();
+    private final LongAdder skippedPackets = new LongAdder();
+    private final LongAdder skippedBytes = new LongAdder();
+
+    PacketTypeMetrics(PacketTypeCommon packetType) {
+        this.packetType = packetType;
+    }
+
+    void recordEvent(int bytes, boolean cancelled, long listenerNanos) {
+        this.packets.increment();
+        this.bytes.add(bytes);
+        if (cancelled) {
+            this.cancellations.increment();
+        }
+        this.listenerNanos.add(listenerNanos);
+    }
+
+    void recordDecode(long nanos) {
+        this.decodeNanos.add(nanos);
+    }
+
+    void recordReEncode(long nanos) {
+        this.reEncodes.increment();
+        this.reEncodeNanos.add(nanos);
+    }
+
+    void recordSkip(int bytes) {
+        this.skippedPackets.increment();
+        this.skippedBytes.add(bytes);
+    }
+
+    public PacketTypeCommon getPacketType() {
+        return packetType;
+    }
+
+    public PacketSide getSide() {
+        return packetType.getSide();
+    }
+
+    /**
+     * @return How many packets of this type the listeners were called for
+     */
+    public long getPackets() {
+        return packets.sum();
+    }
+
+    /**
+     * @return The summed size of these packets, including the packet id, before they were modified
+     */
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    public long getCancellations() {
+        return cancellations.sum();
+    }
+
+    public long getReEncodes() {
+        return reEncodes.sum();
+    }
+
+    /**
+     * @return The time spent creating the events of these packets, in nanoseconds
+     */
+    public long getDecodeNanos() {
+        return decodeNanos.sum();
+    }
+
+    /**
+     * @return The time spent re-encoding these packets from their wrappers, in nanoseconds
+     */
+    public long getReEncodeNanos() {
+        return reEncodeNanos.sum();
+    }
+
+    /**
+     * @return The time spent in listeners for these packets, in nanoseconds
+     */
+    public long getListenerNanos() {
+        return listenerNanos.sum();
+    }
+
+    /**
+     * @return How many packets of this type were passed on without an event, since no listener was interested in them
+     */
+    public long getSkippedPackets() {
+        return skippedPackets.sum();
+    }
+
+    /**
+     * @return The summed size of the skipped packets, including the packet id
+     */
+    public long getSkippedBytes() {
+        return skippedBytes.sum();
+    }
+}
@@ -19,15 +19,21 @@
 package com.github.retrooper.packetevents.manager.protocol;
 
 import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
 import com.github.retrooper.packetevents.netty.channel.ChannelHelper;
 import com.github.retrooper.packetevents.protocol.ProtocolVersion;
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
 import com.github.retrooper.packetevents.protocol.player.ClientVersion;
 import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.util.PacketTransformationUtil;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 import org.jetbrains.annotations.ApiStatus;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -137,6 +143,70 @@ public interface ProtocolManager {
         writePacketsSilently(channel, transformed);
     }
 
+    /**
+     * Sends the wrapper to all the given users, while only encoding it once per distinct client version.
+     * On non-proxy platforms, the wrapper is encoded exactly once.
+     * <p>
+     * Recipients share the encoded buffer through retained duplicates. If a listener may rewrite the packet
+     * while it is being sent, every recipient gets a plain copy of the encoded bytes instead.
+     *
+     * @param users   The recipients
+     * @param wrapper The packet to send
+     */
+    default void broadcastPacket(Collection<User> users, PacketWrapper<?> wrapper) {
+        broadcastPacket(users, wrapper, false);
+    }
+
+    /**
+     * Sends the wrapper to all the given users without processing it in our listeners,
+     * while only encoding it once per distinct client version.
+     *
+     * @see #broadcastPacket(Collection, PacketWrapper)
+     */
+    default void broadcastPacketSilently(Collection<User> users, PacketWrapper<?> wrapper) {
+        broadcastPacket(users, wrapper, true);
+    }
+
+    @ApiStatus.Internal
+    default void broadcastPacket(Collection<User> users, PacketWrapper<?> wrapper, boolean silently) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Collection<? extends Collection<User>> groups;
+        if (PacketEvents.getAPI().getInjector().isProxy()) {
+            // the packet id and the data depend on the version of the recipient on proxies
+            Map<ClientVersion, List<User>> byVersion = new HashMap<>();
+            for (User user : users) {
+                byVersion.computeIfAbsent(user.getClientVersion(), version -> new ArrayList<>()).add(user);
+            }
+            groups = byVersion.values();
+        } else {
+            groups = Collections.singletonList(users);
+        }
+
+        // listeners may rewrite the buffer in place, which would corrupt the shared memory of a duplicate
+        PacketTypeCommon packetType = wrapper.getPacketTypeData().getPacketType();
+        boolean share = silently || (packetType != null
+                && !PacketEvents.getAPI().getEventManager().isListening(packetType));
+        for (Collection<User> group : groups) {
+            Object[] buffers = transformWrappers(wrapper, group.iterator().next().getChannel(), true);
+            for (Object buffer : buffers) {
+                try {
+                    for (User user : group) {
+                        Object copy = share ? ByteBufHelper.retainedDuplicate(buffer) : ByteBufHelper.copy(buffer);
+                        if (silently) {
+                            sendPacketSilently(user.getChannel(), copy);
+                        } else {
+                            sendPacket(user.getChannel(), copy);
+                        }
+                    }
+                } finally {
+                    ByteBufHelper.release(buffer);
+                }
+            }
+        }
+    }
+
     default void receivePacket(Object channel, PacketWrapper<?> wrapper) {
         Object[] transformed = transformWrappers(wrapper, channel, false);
         receivePackets(channel, transformed);
@@ -148,12 +218,18 @@ public interface ProtocolManager {
     }
 
     default User getUser(Object channel) {
+        // users are attached to their channel, if the platform supports it
+        User user = ChannelHelper.getUser(channel);
+        if (user != null) {
+            return user;
+        }
         Object pipeline = ChannelHelper.getPipeline(channel);
         return USERS.get(pipeline);
     }
 
     @ApiStatus.Internal
     default User removeUser(Object channel) {
+        ChannelHelper.setUser(channel, null);
         Object pipeline = ChannelHelper.getPipeline(channel);
         return USERS.remove(pipeline);
     }
@@ -163,6 +239,7 @@ public interface ProtocolManager {
         synchronized (channel) {
             Object pipeline = ChannelHelper.getPipeline(channel);
             USERS.put(pipeline, user);
+            ChannelHelper.setUser(channel, user);
         }
         PacketEvents.getAPI().getInjector().updateUser(channel, user);
     }
@@ -253,18 +253,62 @@ public class ByteBufHelper {
     }
 
     public static int readVarInt(Object buffer) {
-        int value = 0;
-        int length = 0;
-        byte currentByte;
-        do {
-            currentByte = readByte(buffer);
-            value |= (currentByte & 0x7F) << (length * 7);
-            length++;
-            if (length > 5) {
-                throw new RuntimeException("VarInt is too large. Must be smaller than 5 bytes.");
-            }
-        } while ((currentByte & 0x80) == 0x80);
-        return value;
+        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readVarInt(buffer);
+    }
+
+    public static long readVarLong(Object buffer) {
+        return PacketEvents.getAPI().getNettyManager().getByteBufOperator().readVarLong(buffer);
+    }
+
+    public static void readVarInts(Object buffer, int[] destination) {
+        PacketEvents.getAPI().getNettyManager().getByteBufOperator().readVarInts(buffer, destination);
+    }
+
+    /**
+     * Gets the length of the VarInt at the start of the given little endian word.
+     *
+     * @param word The next 8 bytes of a buffer, in little endian
+     * @return The length of the VarInt in bytes, or 0 if it is longer than 5 bytes
+     */
+    public static int getVarIntLength(long word) {
+        // the first byte without the continuation bit ends the VarInt
+        long stop = ~word & 0x8080808080L;
+        return stop == 0L ? 0 : (Long.numberOfTrailingZeros(stop) + 1) >> 3;
+    }
+
+    /**
+     * Decodes a VarInt from the given little endian word, by compacting the 7 bit groups of each byte.
+     *
+     * @param word   The next 8 bytes of a buffer, in little endian
+     * @param length The length of the VarInt, see {@link #getVarIntLength(long)}
+     * @return The decoded VarInt
+     */
+    public static int decodeVarInt(long word, int length) {
+        word &= -1L >>> (64 - (length << 3));
+        return (int) (word & 0x7FL)
+                | (int) ((word >> 1) & 0x3F80L)
+                | (int) ((word >> 2) & 0x1FC000L)
+                | (int) ((word >> 3) & 0xFE00000L)
+                | (int) ((word >> 4) & 0xF0000000L);
+    }
+
+    /**
+     * Decodes a VarLong of at most 8 bytes from the given little endian word.
+     *
+     * @param word   The next 8 bytes of a buffer, in little endian
+     * @param length The length of the VarLong, at most 8
+     * @return The decoded VarLong
+     */
+    public static long decodeVarLong(long word, int length) {
+        word &= -1L >>> (64 - (length << 3));
+        return (word & 0x7FL)
+                | ((word >> 1) & 0x3F80L)
+                | ((word >> 2) & 0x1FC000L)
+                | ((word >> 3) & 0xFE00000L)
+                | ((word >> 4) & 0x7F0000000L)
+                | ((word >> 5) & 0x3F800000000L)
+                | ((word >> 6) & 0x1FC0000000000L)
+                | ((word >> 7) & 0xFE000000000000L);
     }
 
     public static void writeVarInt(Object buffer, int value) {
@@ -110,6 +110,94 @@ public interface ByteBufOperator {
         return (short) (this.readByte(buffer) & 255);
     }
 
+    /**
+     * Gets the big endian long at the given index, without moving the reader index.
+     */
+    default long getLong(Object buffer, int index) {
+        long value = 0L;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | getUnsignedByte(buffer, index + i);
+        }
+        return value;
+    }
+
+    /**
+     * Reads a VarInt. If enough bytes are readable, the VarInt is decoded from a single 8 byte peek
+     * instead of reading one byte at a time.
+     */
+    default int readVarInt(Object buffer) {
+        int readerIndex = readerIndex(buffer);
+        if (writerIndex(buffer) - readerIndex >= Long.BYTES) {
+            long word = Long.reverseBytes(getLong(buffer, readerIndex));
+            int length = ByteBufHelper.getVarIntLength(word);
+            if (length == 0) {
+                throw new RuntimeException("VarInt is too large. Must be smaller than 5 bytes.");
+            }
+            readerIndex(buffer, readerIndex + length);
+            return ByteBufHelper.decodeVarInt(word, length);
+        }
+        int value = 0;
+        int length = 0;
+        byte currentByte;
+        do {
+            currentByte = readByte(buffer);
+            value |= (currentByte & 0x7F) << (length * 7);
+            length++;
+            if (length > 5) {
+                throw new RuntimeException("VarInt is too large. Must be smaller than 5 bytes.");
+            }
+        } while ((currentByte & 0x80) == 0x80);
+        return value;
+    }
+
+    /**
+     * Reads VarInts until the destination array is filled.
+     * The reader index is only updated once for all VarInts decoded from peeked words.
+     */
+    default void readVarInts(Object buffer, int[] destination) {
+        int index = readerIndex(buffer);
+        int end = writerIndex(buffer);
+        int i = 0;
+        while (i < destination.length && end - index >= Long.BYTES) {
+            long word = Long.reverseBytes(getLong(buffer, index));
+            int length = ByteBufHelper.getVarIntLength(word);
+            if (length == 0) {
+                readerIndex(buffer, index);
+                throw new RuntimeException("VarInt is too large. Must be smaller than 5 bytes.");
+            }
+            destination[i++] = ByteBufHelper.decodeVarInt(word, length);
+            index += length;
+        }
+        readerIndex(buffer, index);
+        // the last few VarInts of the buffer
+        for (; i < destination.length; i++) {
+            destination[i] = readVarInt(buffer);
+        }
+    }
+
+    /**
+     * Reads a VarLong. VarLongs of up to 8 bytes are decoded from a single 8 byte peek.
+     */
+    default long readVarLong(Object buffer) {
+        int readerIndex = readerIndex(buffer);
+        if (writerIndex(buffer) - readerIndex >= Long.BYTES) {
+            long word = Long.reverseBytes(getLong(buffer, readerIndex));
+            long stop = ~word & 0x8080808080808080L;
+            if (stop != 0L) {
+                int length = (Long.numberOfTrailingZeros(stop) + 1) >> 3;
+                readerIndex(buffer, readerIndex + length);
+                return ByteBufHelper.decodeVarLong(word, length);
+            }
+        }
+        long value = 0;
+        int size = 0;
+        int b;
+        while (((b = readByte(buffer)) & 0x80) == 0x80) {
+            value |= (long) (b & 0x7F) << (size++ * 7);
+        }
+        return value | ((long) (b & 0x7F) << (size * 7));
+    }
+
     default boolean readBoolean(Object buffer) {
         return readByte(buffer) != 0;
     }
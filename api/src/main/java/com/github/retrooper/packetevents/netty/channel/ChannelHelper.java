@@ -19,6 +19,8 @@
 package com.github.retrooper.packetevents.netty.channel;
 
 import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.protocol.player.User;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.SocketAddress;
 import java.util.Arrays;
@@ -97,6 +99,14 @@ public class ChannelHelper {
         return PacketEvents.getAPI().getNettyManager().getChannelOperator().pooledByteBuf(channel);
     }
 
+    public static @Nullable User getUser(Object channel) {
+        return PacketEvents.getAPI().getNettyManager().getChannelOperator().getUser(channel);
+    }
+
+    public static void setUser(Object channel, @Nullable User user) {
+        PacketEvents.getAPI().getNettyManager().getChannelOperator().setUser(channel, user);
+    }
+
     public static void runInEventLoop(Object channel, Runnable runnable) {
         PacketEvents.getAPI().getNettyManager().getChannelOperator().runInEventLoop(channel, runnable);
     }
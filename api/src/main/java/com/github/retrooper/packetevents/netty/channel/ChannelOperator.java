@@ -18,6 +18,10 @@
 
 package com.github.retrooper.packetevents.netty.channel;
 
+import com.github.retrooper.packetevents.protocol.player.User;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
 import java.net.SocketAddress;
 import java.util.List;
 
@@ -57,4 +61,19 @@ public interface ChannelOperator {
     void runInEventLoop(Object channel, Runnable runnable);
 
     Object pooledByteBuf(Object channel);
+
+    /**
+     * @return the user attached to the channel, or null if there is none or attaching users isn't supported
+     */
+    @ApiStatus.Internal
+    default @Nullable User getUser(Object channel) {
+        return null;
+    }
+
+    /**
+     * Attaches the user directly to the channel, so it can be looked up without hashing.
+     */
+    @ApiStatus.Internal
+    default void setUser(Object channel, @Nullable User user) {
+    }
 }
@@ -54,7 +54,7 @@ public class ComponentPredicate implements Predicate<IComponentMap> {
 
     @SuppressWarnings("unchecked")
     public static ComponentPredicate fromPatches(PatchableComponentMap components) {
-        Map<ComponentType<?>, Optional<?>> patches = components.getPatches();
+        Map<ComponentType<?>, Optional<?>> patches = components.getPatchView();
         List<ComponentValue<?>> values = new ArrayList<>(patches.size());
         for (Map.Entry<ComponentType<?>, Optional<?>> patch : patches.entrySet()) {
             if (patch.getValue().isPresent()) {
@@ -18,6 +18,10 @@
 
 package com.github.retrooper.packetevents.protocol.component;
 
+import com.github.retrooper.packetevents.protocol.player.ClientVersion;
+import com.github.retrooper.packetevents.util.MutabilityUtil;
+import com.github.retrooper.packetevents.util.mappings.IRegistryHolder;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
@@ -25,17 +29,26 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Copies of this map share their patches until either of them is modified, which also allows
+ * them to share the encoded form of their patches. The encoded form is only cached if all patched
+ * values are immutable, as values modified in place wouldn't be reflected by it.
+ */
 public class PatchableComponentMap implements IComponentMap {
 
     public static final PatchableComponentMap EMPTY = new PatchableComponentMap(
             Collections.emptyMap(), Collections.emptyMap());
 
     private final Map<ComponentType<?>, ?> base;
-    private final Map<ComponentType<?>, Optional<?>> patches;
+    private Patches patches;
+    // whether the patches are only referenced by this map and can be modified in place
+    private boolean ownsPatches;
 
     public PatchableComponentMap(StaticComponentMap base) {
-        this(base.getDelegate(), new HashMap<>());
+        // static component maps are immutable, no need to copy
+        this(base.getDelegate(), new Patches(Collections.emptyMap(), false), false);
     }
 
     public PatchableComponentMap(Map<ComponentType<?>, ?> base) {
@@ -46,21 +59,30 @@ public class PatchableComponentMap implements IComponentMap {
             StaticComponentMap base,
             Map<ComponentType<?>, Optional<?>> patches
     ) {
-        this(base.getDelegate(), patches);
+        this(base.getDelegate(), new Patches(patches, true), true);
     }
 
     public PatchableComponentMap(
             Map<ComponentType<?>, ?> base,
             Map<ComponentType<?>, Optional<?>> patches
     ) {
-        this.base = Collections.unmodifiableMap(new HashMap<>(base));
+        this(Collections.unmodifiableMap(new HashMap<>(base)), new Patches(patches, true), true);
+    }
+
+    private PatchableComponentMap(
+            Map<ComponentType<?>, ?> base,
+            Patches patches,
+            boolean ownsPatches
+    ) {
+        this.base = base;
         this.patches = patches;
+        this.ownsPatches = ownsPatches;
     }
 
     @SuppressWarnings("unchecked") // no
     @Override
     public <T> @Nullable T get(ComponentType<T> type) {
-        Optional<?> patched = this.patches.get(type);
+        Optional<?> patched = this.patches.map.get(type);
         if (patched != null) {
             return (T) patched.orElse(null);
         }
@@ -72,28 +94,89 @@ public class PatchableComponentMap implements IComponentMap {
         Object baseVal = this.base.get(type);
         T newVal = value.orElse(null);
         if (Objects.equals(baseVal, newVal)) {
-            this.patches.remove(type); // fallback to base
+            if (this.patches.map.containsKey(type)) {
+                this.getMutablePatches().remove(type); // fallback to base
+            }
         } else {
-            this.patches.put(type, value);
+            this.getMutablePatches().put(type, value);
         }
     }
 
     @Override
     public boolean has(ComponentType<?> type) {
-        Optional<?> patched = this.patches.get(type);
+        Optional<?> patched = this.patches.map.get(type);
         return patched != null ? patched.isPresent() : this.base.containsKey(type);
     }
 
     public PatchableComponentMap copy() {
-        return new PatchableComponentMap(this.base, new HashMap<>(this.patches));
+        if (this.patches.escaped) {
+            return new PatchableComponentMap(this.base, new Patches(new HashMap<>(this.patches.map), false), true);
+        }
+        // share the patches until either map is modified
+        this.ownsPatches = false;
+        return new PatchableComponentMap(this.base, this.patches, false);
+    }
+
+    private Map<ComponentType<?>, Optional<?>> getMutablePatches() {
+        if (!this.ownsPatches) {
+            this.patches = new Patches(new HashMap<>(this.patches.map), false);
+            this.ownsPatches = true;
+        } else {
+            this.patches.encoded.clear();
+        }
+        return this.patches.map;
     }
 
     public Map<ComponentType<?>, ?> getBase() {
         return this.base;
     }
 
+    /**
+     * The returned map may be modified to change the patches of this component map.
+     * Use {@link #getPatchView()} if the patches are only read.
+     */
     public Map<ComponentType<?>, Optional<?>> getPatches() {
-        return this.patches;
+        Map<ComponentType<?>, Optional<?>> patches = this.getMutablePatches();
+        this.patches.escaped = true;
+        return patches;
+    }
+
+    public Map<ComponentType<?>, Optional<?>> getPatchView() {
+        return this.patches.view;
+    }
+
+    public boolean hasPatches() {
+        return !this.patches.map.isEmpty();
+    }
+
+    /**
+     * @return the encoded patches for the specified version and registries, or null if they haven't been cached
+     */
+    @ApiStatus.Internal
+    public byte @Nullable [] getEncodedPatches(ClientVersion version, IRegistryHolder registryHolder, boolean lengthPrefixed) {
+        EncodedPatches encoded = this.patches.encoded.get(version);
+        if (encoded != null && encoded.lengthPrefixed == lengthPrefixed
+                && encoded.registriesKey.equals(registryHolder.getRegistriesKey())) {
+            return encoded.data;
+        }
+        return null;
+    }
+
+    /**
+     * Caches the encoded patches; this is shared with all copies which haven't been modified.
+     * Nothing is cached if any patched value may be modified in place.
+     */
+    @ApiStatus.Internal
+    public void setEncodedPatches(ClientVersion version, IRegistryHolder registryHolder, boolean lengthPrefixed, byte[] data) {
+        if (this.patches.escaped) {
+            return;
+        }
+        for (Optional<?> value : this.patches.map.values()) {
+            if (!MutabilityUtil.isImmutable(value)) {
+                return;
+            }
+        }
+        this.patches.encoded.put(version, new EncodedPatches(registryHolder.getRegistriesKey(), lengthPrefixed, data));
     }
 
     @Override
@@ -102,16 +185,47 @@ public class PatchableComponentMap implements IComponentMap {
         if (!(obj instanceof PatchableComponentMap)) return false;
         PatchableComponentMap that = (PatchableComponentMap) obj;
         if (!this.base.equals(that.base)) return false;
-        return this.patches.equals(that.patches);
+        return this.patches.map.equals(that.patches.map);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.base, this.patches);
+        return Objects.hash(this.base, this.patches.map);
     }
 
     @Override
     public String toString() {
-        return "PatchableComponentMap{base=" + this.base + ", patches=" + this.patches + '}';
+        return "PatchableComponentMap{base=" + this.base + ", patches=" + this.patches.map + '}';
+    }
+
+    private static final class Patches {
+
+        private final Map<ComponentType<?>, Optional<?>> map;
+        private final Map<ComponentType<?>, Optional<?>> view;
+        // set once the map has been handed out for modification, disables sharing and caching
+        // as it may be modified through a reference we don't know about
+        private boolean escaped;
+        // a single entry per version, replaced if the registries differ
+        private final Map<ClientVersion, EncodedPatches> encoded = new ConcurrentHashMap<>();
+
+        private Patches(Map<ComponentType<?>, Optional<?>> map, boolean escaped) {
+            this.map = map;
+            this.escaped = escaped;
+            this.view = Collections.unmodifiableMap(map);
+        }
+    }
+
+    private static final class EncodedPatches {
+
+        // doesn't reference the registry holder itself, which may be a user
+        private final Object registriesKey;
+        private final boolean lengthPrefixed;
+        private final byte[] data;
+
+        private EncodedPatches(Object registriesKey, boolean lengthPrefixed, byte[] data) {
+            this.registriesKey = registriesKey;
+            this.lengthPrefixed = lengthPrefixed;
+            this.data = data;
+        }
     }
 }
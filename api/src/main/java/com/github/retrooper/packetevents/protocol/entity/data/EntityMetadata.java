@@ -0,0 +1,426 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.protocol.entity.data;
+
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.protocol.player.ClientVersion;
+import com.github.retrooper.packetevents.util.MutabilityUtil;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entity metadata addressed by entity data index. Unlike a list of {@link EntityData}, byte, short, int,
+ * float and boolean values are stored without boxing them.
+ * <p>
+ * Entries which haven't been modified since they were read are written back verbatim,
+ * if the metadata is written for the same version it was read with.
+ */
+public final class EntityMetadata {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private int size;
+    private byte[] indices;
+    private EntityDataType<?>[] types;
+    // the value of primitive entries
+    private long[] primitives;
+    // the value of all other entries
+    private Object[] objects;
+
+    // the encoded entries as read, with the start and end offset of each entry; -1 if the entry was modified
+    private byte @Nullable [] encoded;
+    private int[] encodedStarts;
+    private int[] encodedEnds;
+    private @Nullable ServerVersion encodedVersion;
+    // marked dirty when entries are modified
+    private @Nullable PacketWrapper<?> owner;
+
+    public EntityMetadata() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public EntityMetadata(int capacity) {
+        capacity = Math.max(capacity, 1);
+        this.indices = new byte[capacity];
+        this.types = new EntityDataType<?>[capacity];
+        this.primitives = new long[capacity];
+        this.objects = new Object[capacity];
+        this.encodedStarts = new int[capacity];
+        this.encodedEnds = new int[capacity];
+    }
+
+    public static EntityMetadata fromList(List<EntityData<?>> list) {
+        EntityMetadata metadata = new EntityMetadata(list.size());
+        for (EntityData<?> data : list) {
+            metadata.set(data);
+        }
+        return metadata;
+    }
+
+    public static EntityMetadata read(PacketWrapper<?> wrapper) {
+        ServerVersion version = wrapper.getServerVersion();
+        ClientVersion clientVersion = version.toClientVersion();
+        boolean v1_9 = version.isNewerThanOrEquals(ServerVersion.V_1_9);
+        boolean v1_10 = version.isNewerThanOrEquals(ServerVersion.V_1_10);
+
+        EntityMetadata metadata = new EntityMetadata();
+        int start = ByteBufHelper.readerIndex(wrapper.buffer);
+        while (true) {
+            int entryStart = ByteBufHelper.readerIndex(wrapper.buffer) - start;
+            int index, typeId;
+            if (v1_9) {
+                if ((index = wrapper.readUnsignedByte()) == 255) {
+                    break;
+                }
+                typeId = v1_10 ? wrapper.readVarInt() : wrapper.readUnsignedByte();
+            } else {
+                byte data = wrapper.readByte();
+                if (data == Byte.MAX_VALUE) {
+                    break;
+                }
+                typeId = (data & 0xE0) >> 5;
+                index = data & 0x1F;
+            }
+            EntityDataType<?> type = EntityDataTypes.getById(clientVersion, typeId);
+            if (type == null) {
+                throw new IllegalStateException("Unknown entity metadata type id: " + typeId + " version " + clientVersion);
+            }
+            int slot = metadata.add(index, type);
+            if (type == EntityDataTypes.BYTE) {
+                metadata.primitives[slot] = wrapper.readByte();
+            } else if (type == EntityDataTypes.INT) {
+                metadata.primitives[slot] = v1_9 ? wrapper.readVarInt() : wrapper.readInt();
+            } else if (type == EntityDataTypes.FLOAT) {
+                metadata.primitives[slot] = Float.floatToRawIntBits(wrapper.readFloat());
+            } else if (type == EntityDataTypes.BOOLEAN) {
+                metadata.primitives[slot] = wrapper.readBoolean() ? 1L : 0L;
+            } else if (type == EntityDataTypes.SHORT) {
+                metadata.primitives[slot] = wrapper.readShort();
+            } else {
+                metadata.objects[slot] = type.read(wrapper);
+            }
+            metadata.encodedStarts[slot] = entryStart;
+            metadata.encodedEnds[slot] = ByteBufHelper.readerIndex(wrapper.buffer) - start;
+        }
+        int length = ByteBufHelper.readerIndex(wrapper.buffer) - start - 1; // without the terminator
+        byte[] encoded = new byte[length];
+        ByteBufHelper.getBytes(wrapper.buffer, start, encoded);
+        metadata.encoded = encoded;
+        metadata.encodedVersion = version;
+        return metadata;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void write(PacketWrapper<?> wrapper) {
+        ServerVersion version = wrapper.getServerVersion();
+        ClientVersion clientVersion = version.toClientVersion();
+        boolean v1_9 = version.isNewerThanOrEquals(ServerVersion.V_1_9);
+        boolean v1_10 = version.isNewerThanOrEquals(ServerVersion.V_1_10);
+        byte[] encoded = version == this.encodedVersion ? this.encoded : null;
+
+        for (int slot = 0; slot < this.size; slot++) {
+            if (encoded != null && this.encodedStarts[slot] != -1) {
+                // copy all following unmodified entries at once
+                int start = this.encodedStarts[slot];
+                int end = this.encodedEnds[slot];
+                while (slot + 1 < this.size && this.encodedStarts[slot + 1] == end) {
+                    end = this.encodedEnds[++slot];
+                }
+                ByteBufHelper.writeBytes(wrapper.buffer, encoded, start, end - start);
+                continue;
+            }
+            EntityDataType<?> type = this.types[slot];
+            int index = this.indices[slot] & 0xFF;
+            int typeId = type.getId(clientVersion);
+            if (v1_9) {
+                wrapper.writeByte(index);
+                if (v1_10) {
+                    wrapper.writeVarInt(typeId);
+                } else {
+                    wrapper.writeByte(typeId);
+                }
+            } else {
+                wrapper.writeByte((typeId << 5 | index & 31) & 255);
+            }
+            long primitive = this.primitives[slot];
+            if (type == EntityDataTypes.BYTE) {
+                wrapper.writeByte((byte) primitive);
+            } else if (type == EntityDataTypes.INT) {
+                if (v1_9) {
+                    wrapper.writeVarInt((int) primitive);
+                } else {
+                    wrapper.writeInt((int) primitive);
+                }
+            } else if (type == EntityDataTypes.FLOAT) {
+                wrapper.writeFloat(Float.intBitsToFloat((int) primitive));
+            } else if (type == EntityDataTypes.BOOLEAN) {
+                wrapper.writeBoolean(primitive != 0L);
+            } else if (type == EntityDataTypes.SHORT) {
+                wrapper.writeShort((short) primitive);
+            } else {
+                ((EntityDataType<Object>) type).write(wrapper, this.objects[slot]);
+            }
+        }
+        wrapper.writeByte(v1_9 ? 255 : 127); // end of metadata
+    }
+
+    /**
+     * Marks the wrapper dirty whenever entries of this metadata are set or removed,
+     * and escaped when mutable values are handed out.
+     */
+    @ApiStatus.Internal
+    public void setOwner(@Nullable PacketWrapper<?> owner) {
+        this.owner = owner;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public boolean has(int index) {
+        return this.slotOf(index) != -1;
+    }
+
+    public @Nullable EntityDataType<?> getType(int index) {
+        int slot = this.slotOf(index);
+        return slot == -1 ? null : this.types[slot];
+    }
+
+    /**
+     * @return the entity data indices in this metadata, in the order they are written
+     */
+    public int[] getIndices() {
+        int[] indices = new int[this.size];
+        for (int i = 0; i < this.size; i++) {
+            indices[i] = this.indices[i] & 0xFF;
+        }
+        return indices;
+    }
+
+    public byte getByte(int index) {
+        return (byte) this.primitives[this.slotOf(index, EntityDataTypes.BYTE)];
+    }
+
+    public short getShort(int index) {
+        return (short) this.primitives[this.slotOf(index, EntityDataTypes.SHORT)];
+    }
+
+    public int getInt(int index) {
+        return (int) this.primitives[this.slotOf(index, EntityDataTypes.INT)];
+    }
+
+    public float getFloat(int index) {
+        return Float.intBitsToFloat((int) this.primitives[this.slotOf(index, EntityDataTypes.FLOAT)]);
+    }
+
+    public boolean getBoolean(int index) {
+        return this.primitives[this.slotOf(index, EntityDataTypes.BOOLEAN)] != 0L;
+    }
+
+    /**
+     * Mutable values may be modified in place, so their entries are re-encoded once they were handed out.
+     *
+     * @return the value of the entry, boxed if it's a primitive, or null if there is no entry at this index
+     */
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T get(int index) {
+        int slot = this.slotOf(index);
+        if (slot == -1) {
+            return null;
+        }
+        Object value = this.getValue(slot);
+        if (!MutabilityUtil.isImmutable(value)) {
+            this.encodedStarts[slot] = -1;
+            this.encodedEnds[slot] = -1;
+            if (this.owner != null) {
+                this.owner.markEscaped();
+            }
+        }
+        return (T) value;
+    }
+
+    public void setByte(int index, byte value) {
+        this.setPrimitive(index, EntityDataTypes.BYTE, value);
+    }
+
+    public void setShort(int index, short value) {
+        this.setPrimitive(index, EntityDataTypes.SHORT, value);
+    }
+
+    public void setInt(int index, int value) {
+        this.setPrimitive(index, EntityDataTypes.INT, value);
+    }
+
+    public void setFloat(int index, float value) {
+        this.setPrimitive(index, EntityDataTypes.FLOAT, Float.floatToRawIntBits(value));
+    }
+
+    public void setBoolean(int index, boolean value) {
+        this.setPrimitive(index, EntityDataTypes.BOOLEAN, value ? 1L : 0L);
+    }
+
+    public <T> void set(int index, EntityDataType<T> type, T value) {
+        if (type == EntityDataTypes.BYTE) {
+            this.setByte(index, (Byte) value);
+        } else if (type == EntityDataTypes.INT) {
+            this.setInt(index, (Integer) value);
+        } else if (type == EntityDataTypes.FLOAT) {
+            this.setFloat(index, (Float) value);
+        } else if (type == EntityDataTypes.BOOLEAN) {
+            this.setBoolean(index, (Boolean) value);
+        } else if (type == EntityDataTypes.SHORT) {
+            this.setShort(index, (Short) value);
+        } else {
+            int slot = this.modify(index, type);
+            this.primitives[slot] = 0L;
+            this.objects[slot] = value;
+        }
+    }
+
+    public <T> void set(EntityData<T> data) {
+        this.set(data.getIndex(), data.getType(), data.getValue());
+    }
+
+    public boolean remove(int index) {
+        int slot = this.slotOf(index);
+        if (slot == -1) {
+            return false;
+        }
+        this.markModified();
+        int moved = this.size - slot - 1;
+        System.arraycopy(this.indices, slot + 1, this.indices, slot, moved);
+        System.arraycopy(this.types, slot + 1, this.types, slot, moved);
+        System.arraycopy(this.primitives, slot + 1, this.primitives, slot, moved);
+        System.arraycopy(this.objects, slot + 1, this.objects, slot, moved);
+        System.arraycopy(this.encodedStarts, slot + 1, this.encodedStarts, slot, moved);
+        System.arraycopy(this.encodedEnds, slot + 1, this.encodedEnds, slot, moved);
+        this.size--;
+        this.types[this.size] = null;
+        this.objects[this.size] = null;
+        return true;
+    }
+
+    public List<EntityData<?>> toList() {
+        List<EntityData<?>> list = new ArrayList<>(this.size);
+        for (int slot = 0; slot < this.size; slot++) {
+            list.add(this.toEntityData(slot));
+        }
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private EntityData<?> toEntityData(int slot) {
+        return new EntityData<>(this.indices[slot] & 0xFF,
+                (EntityDataType<Object>) this.types[slot], this.getValue(slot));
+    }
+
+    private Object getValue(int slot) {
+        EntityDataType<?> type = this.types[slot];
+        long primitive = this.primitives[slot];
+        if (type == EntityDataTypes.BYTE) {
+            return (byte) primitive;
+        } else if (type == EntityDataTypes.INT) {
+            return (int) primitive;
+        } else if (type == EntityDataTypes.FLOAT) {
+            return Float.intBitsToFloat((int) primitive);
+        } else if (type == EntityDataTypes.BOOLEAN) {
+            return primitive != 0L;
+        } else if (type == EntityDataTypes.SHORT) {
+            return (short) primitive;
+        }
+        return this.objects[slot];
+    }
+
+    private void setPrimitive(int index, EntityDataType<?> type, long value) {
+        int slot = this.modify(index, type);
+        this.primitives[slot] = value;
+        this.objects[slot] = null;
+    }
+
+    // returns the slot of the entry at this index, which is replaced or added and no longer written verbatim
+    private int modify(int index, EntityDataType<?> type) {
+        this.markModified();
+        int slot = this.slotOf(index);
+        if (slot == -1) {
+            slot = this.add(index, type);
+        } else {
+            this.types[slot] = type;
+        }
+        this.encodedStarts[slot] = -1;
+        this.encodedEnds[slot] = -1;
+        return slot;
+    }
+
+    private void markModified() {
+        if (this.owner != null) {
+            this.owner.markDirty();
+        }
+    }
+
+    private int add(int index, EntityDataType<?> type) {
+        if (this.size == this.indices.length) {
+            int capacity = this.size << 1;
+            this.indices = Arrays.copyOf(this.indices, capacity);
+            this.types = Arrays.copyOf(this.types, capacity);
+            this.primitives = Arrays.copyOf(this.primitives, capacity);
+            this.objects = Arrays.copyOf(this.objects, capacity);
+            this.encodedStarts = Arrays.copyOf(this.encodedStarts, capacity);
+            this.encodedEnds = Arrays.copyOf(this.encodedEnds, capacity);
+        }
+        int slot = this.size++;
+        this.indices[slot] = (byte) index;
+        this.types[slot] = type;
+        this.encodedStarts[slot] = -1;
+        this.encodedEnds[slot] = -1;
+        return slot;
+    }
+
+    // metadata only has a few entries, so a linear search is faster than hashing
+    private int slotOf(int index) {
+        byte key = (byte) index;
+        for (int slot = 0; slot < this.size; slot++) {
+            if (this.indices[slot] == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int slotOf(int index, EntityDataType<?> type) {
+        int slot = this.slotOf(index);
+        if (slot == -1) {
+            throw new IllegalArgumentException("No entity data at index " + index);
+        }
+        if (this.types[slot] != type) {
+            throw new IllegalArgumentException("Entity data at index " + index + " is of type "
+                    + this.types[slot].getName() + ", not " + type.getName());
+        }
+        return slot;
+    }
+}
@@ -70,7 +70,7 @@ public final class HashedStack {
             return Optional.empty();
         }
         // extract component info from item stack
-        Map<ComponentType<?>, Optional<?>> patches = stack.getComponents().getPatches();
+        Map<ComponentType<?>, Optional<?>> patches = stack.getComponents().getPatchView();
         Map<ComponentType<?>, Integer> addedComponents = new HashMap<>(patches.size());
         Set<ComponentType<?>> removedComponents = new HashSet<>(patches.size());
         for (Map.Entry<ComponentType<?>, Optional<?>> patch : patches.entrySet()) {
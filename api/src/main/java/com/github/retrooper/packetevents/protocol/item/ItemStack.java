@@ -27,6 +27,7 @@ import com.github.retrooper.packetevents.protocol.item.enchantment.type.Enchantm
 import com.github.retrooper.packetevents.protocol.item.enchantment.type.EnchantmentTypes;
 import com.github.retrooper.packetevents.protocol.item.type.ItemType;
 import com.github.retrooper.packetevents.protocol.item.type.ItemTypes;
+import com.github.retrooper.packetevents.protocol.nbt.EncodedNBT;
 import com.github.retrooper.packetevents.protocol.nbt.NBT;
 import com.github.retrooper.packetevents.protocol.nbt.NBTCompound;
 import com.github.retrooper.packetevents.protocol.nbt.NBTInt;
@@ -78,6 +79,8 @@ public class ItemStack {
     @ApiStatus.Obsolete
     @Nullable
     private NBTCompound nbt;
+    @Nullable // the undecoded nbt, until it is accessed
+    private EncodedNBT encodedNbt;
     /**
      * Added with 1.20.5
      */
@@ -145,7 +148,7 @@ public class ItemStack {
         if (version.isNewerThanOrEquals(ClientVersion.V_1_20_5)) {
             boolean simple = itemStack.isEmpty()
                     || itemStack.components == null
-                    || itemStack.components.getPatches().isEmpty();
+                    || !itemStack.components.hasPatches();
             if (simple) {
                 return new NBTString(itemStack.type.getName().toString());
             }
@@ -155,8 +158,8 @@ public class ItemStack {
         compound.setTag("id", new NBTString(itemStack.type.getName().toString()));
         if (version.isOlderThan(ClientVersion.V_1_20_5)) {
             compound.setTag("Count", new NBTInt(itemStack.getAmount()));
-            if (itemStack.nbt != null) {
-                compound.setTag("tag", itemStack.nbt);
+            if (itemStack.getNBT() != null) {
+                compound.setTag("tag", itemStack.getNBT());
             }
         }
 
@@ -183,7 +186,7 @@ public class ItemStack {
                     && this.hasComponent(DAMAGE);
         }
         return !this.isEmpty() && this.getMaxDamage() > 0
-                && (this.nbt == null || !this.nbt.getBoolean("Unbreakable"));
+                && (this.getNBT() == null || !this.nbt.getBoolean("Unbreakable"));
     }
 
     public boolean isDamaged() {
@@ -195,7 +198,7 @@ public class ItemStack {
             int value = this.getComponentOr(DAMAGE, 0);
             return MathUtil.clamp(value, 0, this.getMaxDamage());
         } else if (this.version.isNewerThanOrEquals(ClientVersion.V_1_13)) {
-            NBTNumber damage = this.nbt != null ? this.nbt.getNumberTagOrNull("Damage") : null;
+            NBTNumber damage = this.getNBT() != null ? this.nbt.getNumberTagOrNull("Damage") : null;
             return damage == null ? 0 : damage.getAsInt();
         } else {
             return Math.max(0, this.legacyData);
@@ -221,7 +224,7 @@ public class ItemStack {
     }
 
     public NBTCompound getOrCreateTag() {
-        if (this.nbt == null) {
+        if (this.getNBT() == null) {
             this.nbt = new NBTCompound();
         }
         return this.nbt;
@@ -267,21 +270,38 @@ public class ItemStack {
         if (this.isEmpty()) {
             return EMPTY;
         }
-        return new ItemStack(
+        ItemStack copy = new ItemStack(
                 this.type, this.amount,
                 this.nbt == null ? null : this.nbt.copy(),
                 this.components == null ? null : this.components.copy(),
                 this.legacyData, this.version, this.registryHolder
         );
+        // the encoded bytes are never modified, no need to copy them
+        copy.encodedNbt = this.encodedNbt;
+        return copy;
     }
 
     @Nullable
     public NBTCompound getNBT() {
+        if (this.encodedNbt != null) {
+            this.nbt = this.encodedNbt.decode();
+            this.encodedNbt = null;
+        }
         return nbt;
     }
 
     public void setNBT(NBTCompound nbt) {
         this.nbt = nbt;
+        this.encodedNbt = null;
+    }
+
+    /**
+     * Writes the legacy nbt of this item, without decoding it if it hasn't been accessed.
+     */
+    void writeLegacyNBT(PacketWrapper<?> wrapper) {
+        if (this.encodedNbt == null || !this.encodedNbt.write(wrapper)) {
+            wrapper.writeNBT(this.getNBT());
+        }
     }
 
     public <T> T getComponentOr(ComponentType<T> type, T otherValue) {
@@ -318,13 +338,12 @@ public class ItemStack {
     }
 
     public boolean hasComponentPatches() {
-        return this.components != null && !this.components.getPatches().isEmpty();
+        return this.components != null && this.components.hasPatches();
     }
 
     public PatchableComponentMap getComponents() {
         if (this.components == null) { // lazy load on access
-            this.components = new PatchableComponentMap(
-                    this.type.getComponents(), new HashMap<>(4));
+            this.components = new PatchableComponentMap(this.type.getComponents());
         }
         return this.components;
     }
@@ -381,7 +400,7 @@ public class ItemStack {
                     || !this.getComponentOr(STORED_ENCHANTMENTS, ItemEnchantments.EMPTY).isEmpty();
         }
         // legacy nbt logic
-        if (this.nbt != null) {
+        if (this.getNBT() != null) {
             String tagName = this.getEnchantmentsTagName(version);
             NBTList<NBTCompound> enchantments = this.nbt.getCompoundListTagOrNull(tagName);
             return enchantments != null && !enchantments.getTags().isEmpty();
@@ -414,7 +433,7 @@ public class ItemStack {
             return enchantmentsList;
         }
         // legacy nbt logic
-        if (this.nbt != null) {
+        if (this.getNBT() != null) {
             String tagName = this.getEnchantmentsTagName(version);
             NBTList<NBTCompound> nbtList = this.nbt.getCompoundListTagOrNull(tagName);
             if (nbtList != null) {
@@ -466,7 +485,7 @@ public class ItemStack {
         }
 
         // legacy nbt logic
-        if (this.nbt != null) {
+        if (this.getNBT() != null) {
             String tagName = this.getEnchantmentsTagName(version);
             NBTList<NBTCompound> nbtList = this.nbt.getCompoundListTagOrNull(tagName);
             if (nbtList != null) {
@@ -518,7 +537,7 @@ public class ItemStack {
             String tagName = this.getEnchantmentsTagName(version);
             if (enchantments.isEmpty()) {
                 // just remove enchantment tag
-                if (this.nbt != null && this.nbt.getTagOrNull(tagName) != null) {
+                if (this.getNBT() != null && this.nbt.getTagOrNull(tagName) != null) {
                     this.nbt.removeTag(tagName);
                 }
             } else {
@@ -572,7 +591,7 @@ public class ItemStack {
         // component nbt
         return stack.is(otherStack.getType())
                 && (stack.isEmpty() && otherStack.isEmpty()
-                || (Objects.equals(stack.nbt, otherStack.nbt)));
+                || (Objects.equals(stack.getNBT(), otherStack.getNBT())));
     }
 
     public static boolean tagMatches(@Nullable ItemStack stack, @Nullable ItemStack otherStack) {
@@ -589,7 +608,7 @@ public class ItemStack {
         } else if (stack.version.isNewerThanOrEquals(ClientVersion.V_1_20_5)) {
             return stack.getComponents().equals(otherStack.getComponents());
         }
-        return Objects.equals(stack.nbt, otherStack.nbt);
+        return Objects.equals(stack.getNBT(), otherStack.getNBT());
     }
 
     public boolean isEmpty() {
@@ -617,7 +636,7 @@ public class ItemStack {
             ItemStack itemStack = (ItemStack) obj;
             return this.type.equals(itemStack.type)
                     && this.amount == itemStack.amount
-                    && Objects.equals(this.nbt, itemStack.nbt)
+                    && Objects.equals(this.getNBT(), itemStack.getNBT())
                     && Objects.equals(this.components, itemStack.components)
                     && this.legacyData == itemStack.legacyData;
         }
@@ -631,9 +650,9 @@ public class ItemStack {
         }
         return "ItemStack["
                 + this.getAmount() + "x/" + this.getMaxStackSize() + "x " + this.type.getName()
-                + (this.nbt != null ? ", nbt tag names=" + this.nbt.getTagNames() : "")
+                + (this.getNBT() != null ? ", nbt tag names=" + this.nbt.getTagNames() : "")
                 + (this.legacyData != -1 ? ", legacy data=" + this.legacyData : "")
-                + (this.components != null ? ", components=" + this.components.getPatches() : "")
+                + (this.components != null ? ", components=" + this.components.getPatchView() : "")
                 + "]";
     }
 
@@ -649,6 +668,7 @@ public class ItemStack {
         private ItemType type = ItemTypes.AIR;
         private int amount = 1;
         private @Nullable NBTCompound nbt = null;
+        private @Nullable EncodedNBT encodedNbt = null;
         private @Nullable PatchableComponentMap components = null;
         private int legacyData = -1;
 
@@ -664,10 +684,22 @@ public class ItemStack {
 
         public Builder nbt(NBTCompound nbt) {
             this.nbt = nbt;
+            this.encodedNbt = null;
+            return this;
+        }
+
+        @ApiStatus.Internal
+        public Builder encodedNbt(EncodedNBT nbt) {
+            this.nbt = null;
+            this.encodedNbt = nbt;
             return this;
         }
 
         public Builder nbt(String key, NBT tag) {
+            if (this.encodedNbt != null) {
+                this.nbt = this.encodedNbt.decode();
+                this.encodedNbt = null;
+            }
             if (this.nbt == null) {
                 this.nbt = new NBTCompound();
             }
@@ -713,8 +745,10 @@ public class ItemStack {
         }
 
         public ItemStack build() {
-            return new ItemStack(this.type, this.amount, this.nbt, this.components,
+            ItemStack stack = new ItemStack(this.type, this.amount, this.nbt, this.components,
                     this.legacyData, this.version, this.registryHolder);
+            stack.encodedNbt = this.encodedNbt;
+            return stack;
         }
     }
 }
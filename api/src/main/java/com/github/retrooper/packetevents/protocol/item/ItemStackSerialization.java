@@ -25,12 +25,12 @@ import com.github.retrooper.packetevents.protocol.component.ComponentTypes;
 import com.github.retrooper.packetevents.protocol.component.PatchableComponentMap;
 import com.github.retrooper.packetevents.protocol.item.type.ItemType;
 import com.github.retrooper.packetevents.protocol.item.type.ItemTypes;
-import com.github.retrooper.packetevents.protocol.nbt.NBTCompound;
+import com.github.retrooper.packetevents.protocol.nbt.EncodedNBT;
 import com.github.retrooper.packetevents.protocol.player.ClientVersion;
+import com.github.retrooper.packetevents.util.mappings.IRegistryHolder;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -70,9 +70,9 @@ public final class ItemStackSerialization {
         ItemType type = ItemTypes.getRegistry().getByIdOrThrow(version, typeId);
         int amount = wrapper.readByte();
         int legacyData = version.isOlderThan(ClientVersion.V_1_13) ? wrapper.readShort() : -1;
-        NBTCompound nbt = wrapper.readNBT();
+        EncodedNBT nbt = EncodedNBT.read(wrapper);
         return ItemStack.builder().type(type).amount(amount)
-                .nbt(nbt).legacyData(legacyData)
+                .encodedNbt(nbt).legacyData(legacyData)
                 .wrapper(wrapper).build();
     }
 
@@ -88,7 +88,7 @@ public final class ItemStackSerialization {
                 if (wrapper.getServerVersion().isOlderThan(ServerVersion.V_1_13)) {
                     wrapper.writeShort(stack.getLegacyData());
                 }
-                wrapper.writeNBT(stack.getNBT());
+                stack.writeLegacyNBT(wrapper);
             }
         } else if (stack.isEmpty()) {
             wrapper.writeBoolean(false);
@@ -96,7 +96,7 @@ public final class ItemStackSerialization {
             wrapper.writeBoolean(true);
             wrapper.writeMappedEntity(stack.getType());
             wrapper.writeByte(stack.getAmount());
-            wrapper.writeNBT(stack.getNBT());
+            stack.writeLegacyNBT(wrapper);
         }
     }
 
@@ -130,8 +130,7 @@ public final class ItemStackSerialization {
         }
 
         PatchableComponentMap components = new PatchableComponentMap(
-                itemType.getComponents(wrapper.getServerVersion().toClientVersion()),
-                new HashMap<>(presentCount + absentCount));
+                itemType.getComponents(wrapper.getServerVersion().toClientVersion()));
         for (int i = 0; i < presentCount; i++) {
             ComponentType<?> type = wrapper.readMappedEntity(ComponentTypes.getRegistry());
             // this is not 1:1 how vanilla decodes the length prefix, vanilla slices the buffer and
@@ -181,7 +180,6 @@ public final class ItemStackSerialization {
         writeModern(wrapper, stack, true);
     }
 
-    @SuppressWarnings("unchecked")
     private static void writeModern(PacketWrapper<?> wrapper, ItemStack stack, boolean lengthPrefixed) {
         if (stack.isEmpty()) {
             wrapper.writeByte(0);
@@ -195,8 +193,34 @@ public final class ItemStackSerialization {
             return; // early return
         }
 
+        PatchableComponentMap components = stack.getComponents();
+        ClientVersion version = wrapper.getServerVersion().toClientVersion();
+        IRegistryHolder registryHolder = wrapper.getRegistryHolder();
+        byte[] encoded = components.getEncodedPatches(version, registryHolder, lengthPrefixed);
+        if (encoded == null) {
+            // encode the patches once, unmodified copies of this item stack will reuse them
+            Object originalBuffer = wrapper.buffer;
+            Object patchBuffer = ByteBufHelper.allocateNewBuffer(originalBuffer);
+            wrapper.buffer = patchBuffer;
+            try {
+                writePatches(wrapper, components.getPatchView(), lengthPrefixed);
+                encoded = ByteBufHelper.copyBytes(patchBuffer);
+            } finally {
+                wrapper.buffer = originalBuffer;
+                ByteBufHelper.release(patchBuffer);
+            }
+            components.setEncodedPatches(version, registryHolder, lengthPrefixed, encoded);
+        }
+        wrapper.writeBytes(encoded);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writePatches(
+            PacketWrapper<?> wrapper,
+            Map<ComponentType<?>, Optional<?>> allPatches,
+            boolean lengthPrefixed
+    ) {
         // write component patch counts
-        Map<ComponentType<?>, Optional<?>> allPatches = stack.getComponents().getPatches();
         int presentCount = 0, absentCount = 0;
         for (Map.Entry<ComponentType<?>, Optional<?>> patch : allPatches.entrySet()) {
             if (patch.getValue().isPresent()) {
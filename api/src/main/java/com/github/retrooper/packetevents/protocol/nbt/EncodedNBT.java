@@ -0,0 +1,78 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.protocol.nbt;
+
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
+import com.github.retrooper.packetevents.protocol.nbt.codec.NBTCodec;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A compound exactly as it was encoded in a packet. It only has to be decoded once it's accessed,
+ * and can be written back verbatim if it hasn't been.
+ */
+@ApiStatus.Internal
+public final class EncodedNBT {
+
+    private final byte[] data;
+    private final ServerVersion version;
+
+    private EncodedNBT(byte[] data, ServerVersion version) {
+        this.data = data;
+        this.version = version;
+    }
+
+    public static EncodedNBT read(PacketWrapper<?> wrapper) {
+        ServerVersion version = wrapper.getServerVersion();
+        return new EncodedNBT(NBTCodec.readRawNBTFromBuffer(wrapper.buffer, version), version);
+    }
+
+    public @Nullable NBTCompound decode() {
+        Object buffer = UnpooledByteBufAllocationHelper.wrappedBuffer(this.data);
+        try {
+            return (NBTCompound) NBTCodec.readNBTFromBuffer(buffer, this.version);
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+    }
+
+    /**
+     * Writes the original bytes, if the nbt format of the wrapper's version is the same.
+     *
+     * @return false if the compound has to be decoded and encoded again instead
+     */
+    public boolean write(PacketWrapper<?> wrapper) {
+        if (getFormat(wrapper.getServerVersion()) != getFormat(this.version)) {
+            return false;
+        }
+        wrapper.writeBytes(this.data);
+        return true;
+    }
+
+    // gzip compressed before 1.8, unnamed root tag since 1.20.2
+    private static int getFormat(ServerVersion version) {
+        if (version.isOlderThan(ServerVersion.V_1_8)) {
+            return 0;
+        }
+        return version.isOlderThan(ServerVersion.V_1_20_2) ? 1 : 2;
+    }
+}
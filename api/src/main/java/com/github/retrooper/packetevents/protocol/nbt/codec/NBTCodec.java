@@ -22,11 +22,14 @@ import com.github.retrooper.packetevents.manager.server.ServerVersion;
 import com.github.retrooper.packetevents.netty.buffer.ByteBufInputStream;
 import com.github.retrooper.packetevents.netty.buffer.ByteBufOutputStream;
 import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
 import com.github.retrooper.packetevents.protocol.nbt.*;
 import com.github.retrooper.packetevents.protocol.nbt.serializer.DefaultNBTSerializer;
+import com.github.retrooper.packetevents.protocol.nbt.serializer.NBTBufferReader;
 import com.google.gson.*;
 import com.google.gson.internal.LazilyParsedNumber;
 
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -182,6 +185,80 @@ public class NBTCodec {
         }
     }
 
+    /**
+     * Reads the encoded bytes of a tag, without decoding it.
+     * The bytes can be decoded again using {@link #readNBTFromBuffer(Object, ServerVersion)}.
+     */
+    public static byte[] readRawNBTFromBuffer(Object byteBuf, ServerVersion serverVersion) {
+        int start = ByteBufHelper.readerIndex(byteBuf);
+        if (serverVersion.isNewerThanOrEquals(ServerVersion.V_1_8)) {
+            NBTBufferReader reader = new NBTBufferReader(byteBuf);
+            NBTType<?> type = reader.readRootType(serverVersion.isOlderThan(ServerVersion.V_1_20_2));
+            if (type != null) {
+                reader.skip(type);
+            }
+        } else {
+            final short length = ByteBufHelper.readShort(byteBuf);
+            if (length > 0) {
+                ByteBufHelper.skipBytes(byteBuf, length);
+            }
+        }
+        byte[] data = new byte[ByteBufHelper.readerIndex(byteBuf) - start];
+        ByteBufHelper.getBytes(byteBuf, start, data);
+        return data;
+    }
+
+    /**
+     * Reads a compound from the buffer without building its tag tree, see {@link NBTBufferReader}.
+     *
+     * @return false if there was no compound to read
+     */
+    public static boolean readNBTFromBuffer(
+            Object byteBuf, ServerVersion serverVersion, NBTBufferReader.CompoundVisitor visitor
+    ) {
+        if (serverVersion.isNewerThanOrEquals(ServerVersion.V_1_8)) {
+            NBTBufferReader reader = new NBTBufferReader(byteBuf);
+            return readCompound(reader, serverVersion.isOlderThan(ServerVersion.V_1_20_2), visitor);
+        }
+        final short length = ByteBufHelper.readShort(byteBuf);
+        if (length < 0) {
+            return false;
+        }
+        // legacy nbt is compressed, so it has to be decompressed before it can be read
+        Object slicedBuffer = ByteBufHelper.readSlice(byteBuf, length);
+        byte[] data;
+        try (GZIPInputStream stream = new GZIPInputStream(new ByteBufInputStream(slicedBuffer))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length * 2);
+            byte[] chunk = new byte[1024];
+            int read;
+            while ((read = stream.read(chunk)) != -1) {
+                out.write(chunk, 0, read);
+            }
+            data = out.toByteArray();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        Object buffer = UnpooledByteBufAllocationHelper.wrappedBuffer(data);
+        try {
+            return readCompound(new NBTBufferReader(buffer), true, visitor);
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+    }
+
+    private static boolean readCompound(NBTBufferReader reader, boolean named, NBTBufferReader.CompoundVisitor visitor) {
+        NBTType<?> type = reader.readRootType(named);
+        if (type == null) {
+            return false;
+        }
+        if (type != NBTType.COMPOUND) {
+            reader.skip(type);
+            return false;
+        }
+        reader.readCompound(visitor);
+        return true;
+    }
+
     public static void writeNBTToBuffer(Object byteBuf, ServerVersion serverVersion, NBTCompound tag) {
         writeNBTToBuffer(byteBuf, serverVersion, (NBT) tag);
     }
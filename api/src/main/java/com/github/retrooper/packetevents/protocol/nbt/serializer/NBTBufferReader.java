@@ -0,0 +1,363 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.protocol.nbt.serializer;
+
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufInputStream;
+import com.github.retrooper.packetevents.protocol.nbt.NBT;
+import com.github.retrooper.packetevents.protocol.nbt.NBTLimiter;
+import com.github.retrooper.packetevents.protocol.nbt.NBTType;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Reads nbt directly from a buffer, without building the tag tree.
+ * <p>
+ * Compounds and lists are read using visitors; every value a visitor doesn't read is skipped,
+ * so only the tags which are actually needed get decoded.
+ * <pre>{@code
+ * NBTBufferReader reader = new NBTBufferReader(buffer);
+ * String[] id = new String[1];
+ * if (reader.readRootType(false) == NBTType.COMPOUND) {
+ *     reader.readCompound((r, type, name) -> {
+ *         if (type == NBTType.STRING && name.equals("id")) {
+ *             id[0] = r.readString();
+ *             return false; // skip everything else
+ *         }
+ *         return true;
+ *     });
+ * }
+ * }</pre>
+ */
+public final class NBTBufferReader {
+
+    private static final NBTType<?>[] TYPES = {
+            NBTType.END, NBTType.BYTE, NBTType.SHORT, NBTType.INT, NBTType.LONG, NBTType.FLOAT, NBTType.DOUBLE,
+            NBTType.BYTE_ARRAY, NBTType.STRING, NBTType.LIST, NBTType.COMPOUND, NBTType.INT_ARRAY,
+            NBTType.LONG_ARRAY,
+    };
+    private static final int MAX_ARRAY_LENGTH = 1 << 24;
+
+    private final Object buffer;
+    private final NBTLimiter limiter;
+
+    public NBTBufferReader(Object buffer) {
+        this(buffer, NBTLimiter.forBuffer(buffer));
+    }
+
+    public NBTBufferReader(Object buffer, NBTLimiter limiter) {
+        this.buffer = buffer;
+        this.limiter = limiter;
+    }
+
+    public Object getBuffer() {
+        return this.buffer;
+    }
+
+    /**
+     * Reads the type of the root tag and skips its name, if it has one.
+     *
+     * @param named whether the root tag is named, which is the case before 1.20.2
+     * @return the type of the root tag, or null if there is no tag
+     */
+    public @Nullable NBTType<?> readRootType(boolean named) {
+        NBTType<?> type = this.readType();
+        if (type == NBTType.END) {
+            return null;
+        }
+        if (named) {
+            this.skipName();
+        }
+        return type;
+    }
+
+    public NBTType<?> readType() {
+        this.limiter.increment(1);
+        int id = ByteBufHelper.readByte(this.buffer);
+        if (id < 0 || id >= TYPES.length) {
+            throw new IllegalStateException("Unknown nbt type id " + id);
+        }
+        return TYPES[id];
+    }
+
+    public String readName() {
+        String name = this.readUTF();
+        this.limiter.increment(name.length() * 2 + 28);
+        return name;
+    }
+
+    public void skipName() {
+        ByteBufHelper.skipBytes(this.buffer, ByteBufHelper.readUnsignedShort(this.buffer));
+    }
+
+    public byte readByte() {
+        this.limiter.increment(9);
+        return ByteBufHelper.readByte(this.buffer);
+    }
+
+    public short readShort() {
+        this.limiter.increment(10);
+        return ByteBufHelper.readShort(this.buffer);
+    }
+
+    public int readInt() {
+        this.limiter.increment(12);
+        return ByteBufHelper.readInt(this.buffer);
+    }
+
+    public long readLong() {
+        this.limiter.increment(16);
+        return ByteBufHelper.readLong(this.buffer);
+    }
+
+    public float readFloat() {
+        this.limiter.increment(12);
+        return ByteBufHelper.readFloat(this.buffer);
+    }
+
+    public double readDouble() {
+        this.limiter.increment(16);
+        return ByteBufHelper.readDouble(this.buffer);
+    }
+
+    public String readString() {
+        this.limiter.increment(36);
+        String string = this.readUTF();
+        this.limiter.increment(string.length() * 2);
+        return string;
+    }
+
+    public byte[] readByteArray() {
+        int length = this.readArrayLength(Byte.BYTES);
+        byte[] array = new byte[length];
+        ByteBufHelper.readBytes(this.buffer, array);
+        return array;
+    }
+
+    public int[] readIntArray() {
+        int length = this.readArrayLength(Integer.BYTES);
+        int[] array = new int[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = ByteBufHelper.readInt(this.buffer);
+        }
+        return array;
+    }
+
+    public long[] readLongArray() {
+        int length = this.readArrayLength(Long.BYTES);
+        long[] array = new long[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = ByteBufHelper.readLong(this.buffer);
+        }
+        return array;
+    }
+
+    private int readArrayLength(int elementSize) {
+        this.limiter.increment(24);
+        int length = ByteBufHelper.readInt(this.buffer);
+        if (length >= MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException("Array length is too large: " + length);
+        }
+        this.limiter.checkReadability(length * elementSize);
+        this.limiter.increment(length * elementSize);
+        return length;
+    }
+
+    private int readListSize(NBTType<?> type) {
+        int size = ByteBufHelper.readInt(this.buffer);
+        if (type == NBTType.END && size > 0) {
+            throw new IllegalStateException("Missing nbt list values tag type");
+        }
+        // every element takes at least one byte, this bounds the work of skipping even without a limiter
+        if (size > ByteBufHelper.readableBytes(this.buffer)) {
+            throw new IllegalArgumentException("List size is too large: " + size
+                    + ", readable: " + ByteBufHelper.readableBytes(this.buffer));
+        }
+        this.limiter.increment((int) Math.min(Math.max(size, 0) * 4L, Integer.MAX_VALUE));
+        return size;
+    }
+
+    /**
+     * Reads a tag of the given type completely, building its tag tree.
+     */
+    public NBT readTag(NBTType<?> type) {
+        try {
+            return DefaultNBTSerializer.INSTANCE.readTag(this.limiter, new ByteBufInputStream(this.buffer), type);
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Reads the entries of a compound, the type of the compound must have already been read.
+     *
+     * @param visitor called for every entry, until it returns false
+     */
+    public void readCompound(CompoundVisitor visitor) {
+        this.limiter.increment(48);
+        NBTType<?> type;
+        while ((type = this.readType()) != NBTType.END) {
+            String name = this.readName();
+            this.limiter.increment(36);
+            int readerIndex = ByteBufHelper.readerIndex(this.buffer);
+            boolean proceed = visitor.visit(this, type, name);
+            if (readerIndex == ByteBufHelper.readerIndex(this.buffer)) {
+                this.skip(type); // the visitor didn't read this value
+            }
+            if (!proceed) {
+                this.skipCompound();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads the elements of a list, the type of the list must have already been read.
+     *
+     * @param visitor called for every element, until it returns false
+     */
+    public void readList(ListVisitor visitor) {
+        this.limiter.increment(37);
+        NBTType<?> type = this.readType();
+        int size = this.readListSize(type);
+        for (int i = 0; i < size; i++) {
+            int readerIndex = ByteBufHelper.readerIndex(this.buffer);
+            boolean proceed = visitor.visit(this, type, i);
+            if (readerIndex == ByteBufHelper.readerIndex(this.buffer)) {
+                this.skip(type); // the visitor didn't read this element
+            }
+            if (!proceed) {
+                for (int j = i + 1; j < size; j++) {
+                    this.skip(type);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Skips a tag of the given type, without decoding it.
+     */
+    public void skip(NBTType<?> type) {
+        if (type == NBTType.BYTE) {
+            this.limiter.increment(9);
+            ByteBufHelper.skipBytes(this.buffer, Byte.BYTES);
+        } else if (type == NBTType.SHORT) {
+            this.limiter.increment(10);
+            ByteBufHelper.skipBytes(this.buffer, Short.BYTES);
+        } else if (type == NBTType.INT) {
+            this.limiter.increment(12);
+            ByteBufHelper.skipBytes(this.buffer, Integer.BYTES);
+        } else if (type == NBTType.LONG) {
+            this.limiter.increment(16);
+            ByteBufHelper.skipBytes(this.buffer, Long.BYTES);
+        } else if (type == NBTType.FLOAT) {
+            this.limiter.increment(12);
+            ByteBufHelper.skipBytes(this.buffer, Float.BYTES);
+        } else if (type == NBTType.DOUBLE) {
+            this.limiter.increment(16);
+            ByteBufHelper.skipBytes(this.buffer, Double.BYTES);
+        } else if (type == NBTType.BYTE_ARRAY) {
+            ByteBufHelper.skipBytes(this.buffer, this.readArrayLength(Byte.BYTES));
+        } else if (type == NBTType.STRING) {
+            this.limiter.increment(36);
+            int length = ByteBufHelper.readUnsignedShort(this.buffer);
+            this.limiter.increment(length * 2);
+            ByteBufHelper.skipBytes(this.buffer, length);
+        } else if (type == NBTType.LIST) {
+            this.limiter.increment(37);
+            NBTType<?> listType = this.readType();
+            int size = this.readListSize(listType);
+            for (int i = 0; i < size; i++) {
+                this.skip(listType);
+            }
+        } else if (type == NBTType.COMPOUND) {
+            this.limiter.increment(48);
+            this.skipCompound();
+        } else if (type == NBTType.INT_ARRAY) {
+            ByteBufHelper.skipBytes(this.buffer, this.readArrayLength(Integer.BYTES) * Integer.BYTES);
+        } else if (type == NBTType.LONG_ARRAY) {
+            ByteBufHelper.skipBytes(this.buffer, this.readArrayLength(Long.BYTES) * Long.BYTES);
+        } else if (type != NBTType.END) {
+            throw new IllegalStateException("Can't skip nbt type " + type);
+        }
+    }
+
+    // skips the remaining entries of a compound
+    private void skipCompound() {
+        NBTType<?> type;
+        while ((type = this.readType()) != NBTType.END) {
+            this.skipName();
+            this.limiter.increment(36);
+            this.skip(type);
+        }
+    }
+
+    // same format as DataInput#readUTF
+    private String readUTF() {
+        int length = ByteBufHelper.readUnsignedShort(this.buffer);
+        byte[] bytes = new byte[length];
+        ByteBufHelper.readBytes(this.buffer, bytes);
+
+        char[] chars = new char[length];
+        int charCount = 0;
+        for (int i = 0; i < length; ) {
+            int b = bytes[i] & 0xFF;
+            if (b < 0x80) {
+                chars[charCount++] = (char) b;
+                i++;
+            } else if ((b & 0xE0) == 0xC0 && i + 1 < length && (bytes[i + 1] & 0xC0) == 0x80) {
+                chars[charCount++] = (char) ((b & 0x1F) << 6 | bytes[i + 1] & 0x3F);
+                i += 2;
+            } else if ((b & 0xF0) == 0xE0 && i + 2 < length
+                    && (bytes[i + 1] & 0xC0) == 0x80 && (bytes[i + 2] & 0xC0) == 0x80) {
+                chars[charCount++] = (char) ((b & 0x0F) << 12 | (bytes[i + 1] & 0x3F) << 6 | bytes[i + 2] & 0x3F);
+                i += 3;
+            } else {
+                throw new IllegalStateException("Malformed nbt string around byte " + i);
+            }
+        }
+        return new String(chars, 0, charCount);
+    }
+
+    @FunctionalInterface
+    public interface CompoundVisitor {
+
+        /**
+         * Called for every entry of a compound. The value can be read using the reader,
+         * otherwise it gets skipped.
+         *
+         * @return false to skip all remaining entries
+         */
+        boolean visit(NBTBufferReader reader, NBTType<?> type, String name);
+    }
+
+    @FunctionalInterface
+    public interface ListVisitor {
+
+        /**
+         * Called for every element of a list. The element can be read using the reader,
+         * otherwise it gets skipped.
+         *
+         * @return false to skip all remaining elements
+         */
+        boolean visit(NBTBufferReader reader, NBTType<?> type, int index);
+    }
+}
@@ -197,8 +197,6 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 
 public final class PacketType {
 
@@ -320,6 +318,51 @@ public final class PacketType {
         }
     }
 
+    /**
+     * Returns all packet type constants of the given side and connection state, indexed by their ordinal.
+     */
+    public static PacketTypeCommon[] getPacketTypes(PacketSide side, ConnectionState state) {
+        boolean client = side == PacketSide.CLIENT;
+        switch (state) {
+            case HANDSHAKING:
+                return client ? Handshaking.Client.values() : Handshaking.Server.values();
+            case STATUS:
+                return client ? Status.Client.values() : Status.Server.values();
+            case LOGIN:
+                return client ? Login.Client.values() : Login.Server.values();
+            case PLAY:
+                return client ? Play.Client.values() : Play.Server.values();
+            case CONFIGURATION:
+                return client ? Configuration.Client.values() : Configuration.Server.values();
+            default:
+                return new PacketTypeCommon[0];
+        }
+    }
+
+    /**
+     * Returns the connection state the given packet type belongs to,
+     * or null if it isn't one of the constants declared in this class.
+     */
+    public static @Nullable ConnectionState getConnectionState(PacketTypeCommon packetType) {
+        // ordered by how often these are looked up
+        if (packetType instanceof Play.Server || packetType instanceof Play.Client) {
+            return ConnectionState.PLAY;
+        } else if (packetType instanceof Configuration.Server || packetType instanceof Configuration.Client) {
+            return ConnectionState.CONFIGURATION;
+        } else if (packetType instanceof Login.Server || packetType instanceof Login.Client) {
+            return ConnectionState.LOGIN;
+        } else if (packetType instanceof Status.Server || packetType instanceof Status.Client) {
+            return ConnectionState.STATUS;
+        } else if (packetType instanceof Handshaking.Server || packetType instanceof Handshaking.Client) {
+            return ConnectionState.HANDSHAKING;
+        }
+        return null;
+    }
+
+    private static @Nullable PacketTypeCommon lookup(PacketTypeCommon[] table, int packetId) {
+        return packetId >= 0 && packetId < table.length ? table[packetId] : null;
+    }
+
     public static class Handshaking {
 
         public enum Client implements PacketTypeConstant, ServerBoundPacket {
@@ -631,7 +674,8 @@ public final class PacketType {
             ;
 
             private static int INDEX = 0;
-            private static final Map<Byte, Map<Integer, PacketTypeCommon>> PACKET_TYPE_ID_MAP = new HashMap<>();
+            // indexed by version mapper index, then packet id
+            private static final PacketTypeCommon[][] PACKET_TYPE_ID_TABLE = new PacketTypeCommon[SERVERBOUND_CONFIG_VERSION_MAPPER.getVersions().length][];
             private final int[] ids;
             private final Class<? extends PacketWrapper<?>> wrapper;
 
@@ -656,13 +700,14 @@ public final class PacketType {
 
             private static void loadPacketIds(Enum<?>[] enumConstants) {
                 int index = INDEX;
+                PacketTypeCommon[] table = new PacketTypeCommon[enumConstants.length];
                 for (Enum<?> constant : enumConstants) {
                     int id = constant.ordinal();
                     Configuration.Client value = Configuration.Client.valueOf(constant.name());
                     value.ids[index] = id;
-                    Map<Integer, PacketTypeCommon> packetIdMap = PACKET_TYPE_ID_MAP.computeIfAbsent((byte) index, k -> new HashMap<>());
-                    packetIdMap.put(id, value);
+                    table[id] = value;
                 }
+                PACKET_TYPE_ID_TABLE[index] = table;
                 INDEX++;
             }
 
@@ -675,8 +720,7 @@ public final class PacketType {
                     PacketType.prepare();
                 }
                 int index = SERVERBOUND_CONFIG_VERSION_MAPPER.getIndex(version);
-                Map<Integer, PacketTypeCommon> map = PACKET_TYPE_ID_MAP.get((byte) index);
-                return map.get(packetId);
+                return lookup(PACKET_TYPE_ID_TABLE[index], packetId);
             }
 
             @Deprecated
@@ -757,7 +801,8 @@ public final class PacketType {
             ;
 
             private static int INDEX = 0;
-            private static final Map<Byte, Map<Integer, PacketTypeCommon>> PACKET_TYPE_ID_MAP = new HashMap<>();
+            // indexed by version mapper index, then packet id
+            private static final PacketTypeCommon[][] PACKET_TYPE_ID_TABLE = new PacketTypeCommon[CLIENTBOUND_CONFIG_VERSION_MAPPER.getVersions().length][];
             private final int[] ids;
             private final Class<? extends PacketWrapper<?>> wrapper;
 
@@ -784,13 +829,14 @@ public final class PacketType {
 
             private static void loadPacketIds(Enum<?>[] enumConstants) {
                 int index = INDEX;
+                PacketTypeCommon[] table = new PacketTypeCommon[enumConstants.length];
                 for (Enum<?> constant : enumConstants) {
                     int id = constant.ordinal();
                     Configuration.Server value = Configuration.Server.valueOf(constant.name());
                     value.ids[index] = id;
-                    Map<Integer, PacketTypeCommon> packetIdMap = PACKET_TYPE_ID_MAP.computeIfAbsent((byte) index, k -> new HashMap<>());
-                    packetIdMap.put(id, value);
+                    table[id] = value;
                 }
+                PACKET_TYPE_ID_TABLE[index] = table;
                 INDEX++;
             }
 
@@ -803,8 +849,7 @@ public final class PacketType {
                     PacketType.prepare();
                 }
                 int index = CLIENTBOUND_CONFIG_VERSION_MAPPER.getIndex(version);
-                Map<Integer, PacketTypeCommon> map = PACKET_TYPE_ID_MAP.get((byte) index);
-                return map.get(packetId);
+                return lookup(PACKET_TYPE_ID_TABLE[index], packetId);
             }
 
             @Deprecated
@@ -986,7 +1031,8 @@ public final class PacketType {
             ;
 
             private static int INDEX = 0;
-            private static final Map<Byte, Map<Integer, PacketTypeCommon>> PACKET_TYPE_ID_MAP = new HashMap<>();
+            // indexed by version mapper index, then packet id
+            private static final PacketTypeCommon[][] PACKET_TYPE_ID_TABLE = new PacketTypeCommon[SERVERBOUND_PLAY_VERSION_MAPPER.getVersions().length][];
             private final int[] ids;
             private final Class<? extends PacketWrapper<?>> wrapper;
 
@@ -1007,20 +1053,19 @@ public final class PacketType {
                     PacketType.prepare();
                 }
                 int index = SERVERBOUND_PLAY_VERSION_MAPPER.getIndex(version);
-                Map<Integer, PacketTypeCommon> packetIdMap = PACKET_TYPE_ID_MAP.computeIfAbsent((byte) index, k -> new HashMap<>());
-                return packetIdMap.get(packetId);
+                return lookup(PACKET_TYPE_ID_TABLE[index], packetId);
             }
 
             private static void loadPacketIds(Enum<?>[] enumConstants) {
                 int index = INDEX;
+                PacketTypeCommon[] table = new PacketTypeCommon[enumConstants.length];
                 for (Enum<?> constant : enumConstants) {
                     int id = constant.ordinal();
                     Client value = Client.valueOf(constant.name());
                     value.ids[index] = id;
-                    Map<Integer, PacketTypeCommon> packetIdMap = PACKET_TYPE_ID_MAP.computeIfAbsent((byte) index,
-                            k -> new HashMap<>());
-                    packetIdMap.put(id, value);
+                    table[id] = value;
                 }
+                PACKET_TYPE_ID_TABLE[index] = table;
                 INDEX++;
             }
 
@@ -1367,7 +1412,8 @@ public final class PacketType {
             ;
 
             private static int INDEX = 0;
-            private static final Map<Byte, Map<Integer, PacketTypeCommon>> PACKET_TYPE_ID_MAP = new HashMap<>();
+            // indexed by version mapper index, then packet id
+            private static final PacketTypeCommon[][] PACKET_TYPE_ID_TABLE = new PacketTypeCommon[CLIENTBOUND_PLAY_VERSION_MAPPER.getVersions().length][];
             private final int[] ids;
             private final Class<? extends PacketWrapper<?>> wrapper;
 
@@ -1396,8 +1442,7 @@ public final class PacketType {
                     PacketType.prepare();
                 }
                 int index = CLIENTBOUND_PLAY_VERSION_MAPPER.getIndex(version);
-                Map<Integer, PacketTypeCommon> map = PACKET_TYPE_ID_MAP.get((byte) index);
-                return map.get(packetId);
+                return lookup(PACKET_TYPE_ID_TABLE[index], packetId);
             }
 
             @Override
@@ -1407,13 +1452,14 @@ public final class PacketType {
 
             private static void loadPacketIds(Enum<?>[] enumConstants) {
                 int index = INDEX;
+                PacketTypeCommon[] table = new PacketTypeCommon[enumConstants.length];
                 for (Enum<?> constant : enumConstants) {
                     int id = constant.ordinal();
                     Server value = Server.valueOf(constant.name());
                     value.ids[index] = id;
-                    Map<Integer, PacketTypeCommon> packetIdMap = PACKET_TYPE_ID_MAP.computeIfAbsent((byte) index, k -> new HashMap<>());
-                    packetIdMap.put(id, value);
+                    table[id] = value;
                 }
+                PACKET_TYPE_ID_TABLE[index] = table;
                 INDEX++;
             }
 
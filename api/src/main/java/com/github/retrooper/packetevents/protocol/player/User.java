@@ -35,6 +35,8 @@ import com.github.retrooper.packetevents.protocol.world.Dimension;
 import com.github.retrooper.packetevents.protocol.world.dimension.DimensionType;
 import com.github.retrooper.packetevents.protocol.world.dimension.DimensionTypes;
 import com.github.retrooper.packetevents.resources.ResourceLocation;
+import com.github.retrooper.packetevents.settings.PacketEventsSettings;
+import com.github.retrooper.packetevents.util.SerialExecutor;
 import com.github.retrooper.packetevents.util.adventure.AdventureSerializer;
 import com.github.retrooper.packetevents.util.mappings.IRegistry;
 import com.github.retrooper.packetevents.util.mappings.IRegistryHolder;
@@ -52,8 +54,11 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
 import java.net.InetSocketAddress;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public class User implements IRegistryHolder {
@@ -62,11 +67,18 @@ public class User implements IRegistryHolder {
     private ConnectionState decoderState;
     private ConnectionState encoderState;
     private ClientVersion clientVersion;
+    // the server version with the protocol of the client version, resolved once instead of for every packet;
+    // volatile as it's set from whichever thread detects the client version, but read by the netty threads
+    private volatile @Nullable ServerVersion clientServerVersion;
     private final UserProfile profile;
     private int entityId = -1;
 
     private DimensionType dimensionType = DimensionTypes.OVERWORLD;
     private final Map<ResourceLocation, IRegistry<?>> registries = new HashMap<>();
+    // synchronized registries are usually shared between users, so this is equal for most users
+    private @Nullable Set<IRegistry<?>> registriesKey;
+    // Created once the first packet has to be passed to an async listener
+    private volatile SerialExecutor asyncListenerExecutor;
 
     public User(Object channel,
                 ConnectionState connectionState, ClientVersion clientVersion,
@@ -74,6 +86,7 @@ public class User implements IRegistryHolder {
         this.channel = channel;
         this.decoderState = connectionState;
         this.encoderState = connectionState;
+        this.clientServerVersion = resolveServerVersion(clientVersion);
         this.clientVersion = clientVersion;
         this.profile = profile;
     }
@@ -84,9 +97,23 @@ public class User implements IRegistryHolder {
         return this.registries.get(registryKey);
     }
 
+    @ApiStatus.Internal
+    @Override
+    public Object getRegistriesKey() {
+        Set<IRegistry<?>> key = this.registriesKey;
+        if (key == null) {
+            // registries don't implement equals, compare them by identity
+            key = Collections.newSetFromMap(new IdentityHashMap<>());
+            key.addAll(this.registries.values());
+            this.registriesKey = key = Collections.unmodifiableSet(key);
+        }
+        return key;
+    }
+
     @ApiStatus.Internal
     public void putRegistry(IRegistry<?> registry) {
         this.registries.put(registry.getRegistryKey(), registry);
+        this.registriesKey = null;
     }
 
     public Object getChannel() {
@@ -149,9 +176,29 @@ public class User implements IRegistryHolder {
     }
 
     public void setClientVersion(ClientVersion clientVersion) {
+        this.clientServerVersion = resolveServerVersion(clientVersion);
         this.clientVersion = clientVersion;
     }
 
+    /**
+     * The version packets of this user are read and written with.
+     * This is the server version if packets are translated or the client version isn't known yet.
+     */
+    @ApiStatus.Internal
+    public ServerVersion getPacketServerVersion(boolean autoProtocolTranslation) {
+        // only read the field once, it's null as long as the client version isn't known
+        ServerVersion clientServerVersion = this.clientServerVersion;
+        if (autoProtocolTranslation || clientServerVersion == null) {
+            return PacketEvents.getAPI().getServerManager().getVersion();
+        }
+        return clientServerVersion;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static @Nullable ServerVersion resolveServerVersion(@Nullable ClientVersion clientVersion) {
+        return clientVersion == null ? null : clientVersion.toServerVersion();
+    }
+
     public UserProfile getProfile() {
         return profile;
     }
@@ -172,6 +219,37 @@ public class User implements IRegistryHolder {
         this.entityId = entityId;
     }
 
+    /**
+     * The executor the async packet listeners of this user run on, so the events of this user are processed in order.
+     */
+    @ApiStatus.Internal
+    public SerialExecutor getAsyncListenerExecutor() {
+        SerialExecutor executor = this.asyncListenerExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.asyncListenerExecutor;
+                if (executor == null) {
+                    PacketEventsSettings settings = PacketEvents.getAPI().getSettings();
+                    executor = new SerialExecutor(settings.getAsyncListenerExecutor(),
+                            settings.getAsyncListenerQueueCapacity());
+                    this.asyncListenerExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Drops the packets still queued for the async listeners of this user, once the user disconnected.
+     */
+    @ApiStatus.Internal
+    public void shutdownAsyncListenerExecutor() {
+        SerialExecutor executor = this.asyncListenerExecutor;
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
     public void sendPacket(Object buffer) {
         PacketEvents.getAPI().getProtocolManager().sendPacket(channel, buffer);
     }
@@ -152,6 +152,21 @@ public class Column {
         return chunks;
     }
 
+    /**
+     * Gets a single section of this column. Unlike {@link #getChunks()}, this only decodes
+     * the requested section for columns read from a packet.
+     *
+     * @param index The index of the section, starting at the bottom of the world
+     * @return The section
+     */
+    public BaseChunk getChunk(int index) {
+        return chunks[index];
+    }
+
+    public int getChunkCount() {
+        return chunks.length;
+    }
+
     public TileEntity[] getTileEntities() {
         return tileEntities;
     }
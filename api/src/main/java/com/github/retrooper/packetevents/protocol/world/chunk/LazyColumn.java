@@ -0,0 +1,163 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.protocol.world.chunk;
+
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
+import com.github.retrooper.packetevents.protocol.nbt.NBTCompound;
+import com.github.retrooper.packetevents.protocol.world.chunk.impl.v_1_18.Chunk_v1_18;
+import com.github.retrooper.packetevents.protocol.world.chunk.storage.BaseStorage;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Map;
+
+/**
+ * A 1.18+ column read from a packet, which only decodes its sections once they are accessed.
+ * Sections which were never accessed are written back as their original bytes.
+ * <p>
+ * {@link #getChunks()} decodes all remaining sections, use {@link #getChunk(int)} to only decode single sections.
+ */
+public class LazyColumn extends Column {
+
+    private final ServerVersion serverVersion;
+    // the encoded sections, section i spans from sectionOffsets[i] to sectionOffsets[i + 1]
+    private final byte[] sectionData;
+    private final int[] sectionOffsets;
+    // see ChunkReader_v1_18#getMojangZeroByteSuffixLength
+    private final int[] zeroByteSuffixLengths;
+    private int decodedCount;
+
+    public LazyColumn(int x, int z, TileEntity[] tileEntities, NBTCompound heightmapsNbt,
+                      ServerVersion serverVersion, byte[] sectionData, int chunkSize) {
+        super(x, z, true, new BaseChunk[chunkSize], tileEntities, heightmapsNbt);
+        this.serverVersion = serverVersion;
+        this.sectionData = sectionData;
+        this.sectionOffsets = new int[chunkSize + 1];
+        this.zeroByteSuffixLengths = new int[chunkSize];
+        this.scanSections();
+    }
+
+    public LazyColumn(int x, int z, TileEntity[] tileEntities, Map<HeightmapType, long[]> heightmaps,
+                      ServerVersion serverVersion, byte[] sectionData, int chunkSize) {
+        super(x, z, true, new BaseChunk[chunkSize], tileEntities, heightmaps);
+        this.serverVersion = serverVersion;
+        this.sectionData = sectionData;
+        this.sectionOffsets = new int[chunkSize + 1];
+        this.zeroByteSuffixLengths = new int[chunkSize];
+        this.scanSections();
+    }
+
+    // only records where each section starts, without decoding any of them
+    private void scanSections() {
+        Object buffer = UnpooledByteBufAllocationHelper.wrappedBuffer(this.sectionData);
+        try {
+            PacketWrapper<?> scanner = PacketWrapper.createUniversalPacketWrapper(buffer, this.serverVersion);
+            for (int i = 0; i < this.zeroByteSuffixLengths.length; i++) {
+                this.sectionOffsets[i] = ByteBufHelper.readerIndex(buffer);
+                this.zeroByteSuffixLengths[i] = Chunk_v1_18.skip(scanner);
+            }
+            int readerIndex = ByteBufHelper.readerIndex(buffer);
+            this.sectionOffsets[this.zeroByteSuffixLengths.length] = readerIndex;
+            // verify the full chunk has been read, except for the zero bytes mojang appends on 1.21.5
+            if (readerIndex != this.sectionData.length && (this.serverVersion.isOlderThan(ServerVersion.V_1_21_5)
+                    || readerIndex + this.getMojangZeroByteSuffixLength() != this.sectionData.length)) {
+                throw new RuntimeException("Error while decoding chunk at " + this.getX() + " " + this.getZ()
+                        + "; expected reader index " + this.sectionData.length + ", got " + readerIndex);
+            }
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+    }
+
+    @Override
+    public BaseChunk[] getChunks() {
+        BaseChunk[] chunks = super.getChunks();
+        if (this.decodedCount != chunks.length) {
+            for (int i = 0; i < chunks.length; i++) {
+                this.getChunk(i);
+            }
+        }
+        return chunks;
+    }
+
+    @Override
+    public BaseChunk getChunk(int index) {
+        BaseChunk[] chunks = super.getChunks();
+        BaseChunk chunk = chunks[index];
+        if (chunk == null) {
+            chunk = this.decode(index);
+            chunks[index] = chunk;
+            this.decodedCount++;
+        }
+        return chunk;
+    }
+
+    public boolean isDecoded(int index) {
+        return super.getChunk(index) != null;
+    }
+
+    private Chunk_v1_18 decode(int index) {
+        Object buffer = UnpooledByteBufAllocationHelper.wrappedBuffer(this.sectionData);
+        try {
+            ByteBufHelper.readerIndex(buffer, this.sectionOffsets[index]);
+            ByteBufHelper.writerIndex(buffer, this.sectionOffsets[index + 1]);
+            return Chunk_v1_18.read(PacketWrapper.createUniversalPacketWrapper(buffer, this.serverVersion));
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+    }
+
+    /**
+     * Writes the section as its original bytes, if it was never decoded.
+     *
+     * @return false if the section has to be encoded instead
+     */
+    @ApiStatus.Internal
+    public boolean writeRawSection(PacketWrapper<?> wrapper, int index) {
+        if (this.isDecoded(index) || isLengthPrefixed(wrapper.getServerVersion()) != isLengthPrefixed(this.serverVersion)) {
+            return false;
+        }
+        int offset = this.sectionOffsets[index];
+        ByteBufHelper.writeBytes(wrapper.buffer, this.sectionData, offset, this.sectionOffsets[index + 1] - offset);
+        return true;
+    }
+
+    @ApiStatus.Internal
+    public int getMojangZeroByteSuffixLength() {
+        int length = 0;
+        for (int i = 0; i < this.zeroByteSuffixLengths.length; i++) {
+            if (this.isDecoded(i)) {
+                Chunk_v1_18 chunk = (Chunk_v1_18) super.getChunk(i);
+                BaseStorage chunkStorage = chunk.getChunkData().storage;
+                BaseStorage biomeStorage = chunk.getBiomeData().storage;
+                length += ByteBufHelper.getByteSize(chunkStorage != null ? chunkStorage.getData().length : 0);
+                length += ByteBufHelper.getByteSize(biomeStorage != null ? biomeStorage.getData().length : 0);
+            } else {
+                length += this.zeroByteSuffixLengths[i];
+            }
+        }
+        return length;
+    }
+
+    private static boolean isLengthPrefixed(ServerVersion version) {
+        return version.isOlderThan(ServerVersion.V_1_21_5);
+    }
+}
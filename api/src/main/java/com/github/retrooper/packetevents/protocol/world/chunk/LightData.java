@@ -1,7 +1,10 @@
 package com.github.retrooper.packetevents.protocol.world.chunk;
 
 import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.BitSet;
 
@@ -16,6 +19,10 @@ public class LightData implements Cloneable {
     private byte[][] skyLightArray;
     private byte[][] blockLightArray;
 
+    // the light data exactly as it was read, only decoded once it's accessed
+    private byte @Nullable [] encoded;
+    private @Nullable ServerVersion encodedVersion;
+
     public LightData() {
     }
 
@@ -35,6 +42,9 @@ public class LightData implements Cloneable {
     public LightData clone() {
         try {
             LightData clone = (LightData) super.clone();
+            if (clone.encoded != null) {
+                return clone; // the encoded data is never modified, so it can be shared
+            }
             clone.blockLightMask = (BitSet) blockLightMask.clone();
             clone.skyLightMask = (BitSet) skyLightMask.clone();
             clone.emptyBlockLightMask = (BitSet) emptyBlockLightMask.clone();
@@ -48,111 +58,195 @@ public class LightData implements Cloneable {
     }
 
     public boolean isTrustEdges() {
+        this.decode();
         return trustEdges;
     }
 
     public void setTrustEdges(boolean trustEdges) {
+        this.decode();
         this.trustEdges = trustEdges;
     }
 
     public BitSet getBlockLightMask() {
+        this.decode();
         return blockLightMask;
     }
 
     public void setBlockLightMask(BitSet blockLightMask) {
+        this.decode();
         this.blockLightMask = blockLightMask;
     }
 
     public BitSet getSkyLightMask() {
+        this.decode();
         return skyLightMask;
     }
 
     public void setSkyLightMask(BitSet skyLightMask) {
+        this.decode();
         this.skyLightMask = skyLightMask;
     }
 
     public BitSet getEmptyBlockLightMask() {
+        this.decode();
         return emptyBlockLightMask;
     }
 
     public void setEmptyBlockLightMask(BitSet emptyBlockLightMask) {
+        this.decode();
         this.emptyBlockLightMask = emptyBlockLightMask;
     }
 
     public BitSet getEmptySkyLightMask() {
+        this.decode();
         return emptySkyLightMask;
     }
 
     public void setEmptySkyLightMask(BitSet emptySkyLightMask) {
+        this.decode();
         this.emptySkyLightMask = emptySkyLightMask;
     }
 
     public int getSkyLightCount() {
+        this.decode();
         return skyLightCount;
     }
 
     public void setSkyLightCount(int skyLightCount) {
+        this.decode();
         this.skyLightCount = skyLightCount;
     }
 
     public int getBlockLightCount() {
+        this.decode();
         return blockLightCount;
     }
 
     public void setBlockLightCount(int blockLightCount) {
+        this.decode();
         this.blockLightCount = blockLightCount;
     }
 
     public byte[][] getSkyLightArray() {
+        this.decode();
         return skyLightArray;
     }
 
     public void setSkyLightArray(byte[][] skyLightArray) {
+        this.decode();
         this.skyLightArray = skyLightArray;
     }
 
     public byte[][] getBlockLightArray() {
+        this.decode();
         return blockLightArray;
     }
 
     public void setBlockLightArray(byte[][] blockLightArray) {
+        this.decode();
         this.blockLightArray = blockLightArray;
     }
 
+    /**
+     * Only skips over the light data, which is decoded once it's accessed.
+     */
     public static LightData read(PacketWrapper<?> packet) {
+        int start = ByteBufHelper.readerIndex(packet.buffer);
+        skip(packet);
+        byte[] encoded = new byte[ByteBufHelper.readerIndex(packet.buffer) - start];
+        ByteBufHelper.getBytes(packet.buffer, start, encoded);
         LightData lightData = new LightData();
+        lightData.encoded = encoded;
+        lightData.encodedVersion = packet.getServerVersion();
+        return lightData;
+    }
+
+    private static void skip(PacketWrapper<?> packet) {
+        ServerVersion serverVersion = packet.getServerVersion();
+        if (serverVersion.isOlderThanOrEquals(ServerVersion.V_1_19_4)) {
+            packet.readBoolean();
+        }
+        if (serverVersion.isNewerThanOrEquals(ServerVersion.V_1_17)) {
+            for (int i = 0; i < 4; i++) {
+                skipBytes(packet, packet.readVarInt() * Long.BYTES);
+            }
+            for (int i = 0; i < 2; i++) {
+                int count = packet.readVarInt();
+                for (int j = 0; j < count; j++) {
+                    skipBytes(packet, packet.readVarInt());
+                }
+            }
+        } else {
+            BitSet skyLightMask = ChunkBitMask.readChunkMask(packet);
+            BitSet blockLightMask = ChunkBitMask.readChunkMask(packet);
+            ChunkBitMask.readChunkMask(packet);
+            ChunkBitMask.readChunkMask(packet);
+            for (int i = skyLightMask.nextSetBit(0); i != -1 && i < 18; i = skyLightMask.nextSetBit(i + 1)) {
+                skipBytes(packet, packet.readVarInt());
+            }
+            for (int i = blockLightMask.nextSetBit(0); i != -1 && i < 18; i = blockLightMask.nextSetBit(i + 1)) {
+                skipBytes(packet, packet.readVarInt());
+            }
+        }
+    }
+
+    private static void skipBytes(PacketWrapper<?> packet, int length) {
+        ByteBufHelper.readerIndex(packet.buffer, ByteBufHelper.readerIndex(packet.buffer) + length);
+    }
+
+    private void decode() {
+        byte[] encoded = this.encoded;
+        if (encoded == null) {
+            return;
+        }
+        Object buffer = UnpooledByteBufAllocationHelper.wrappedBuffer(encoded);
+        try {
+            this.readData(PacketWrapper.createUniversalPacketWrapper(buffer, this.encodedVersion));
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+        this.encoded = null;
+        this.encodedVersion = null;
+    }
+
+    private void readData(PacketWrapper<?> packet) {
         ServerVersion serverVersion = packet.getServerVersion();
         if (serverVersion.isOlderThanOrEquals(ServerVersion.V_1_19_4)) {
-            lightData.trustEdges = packet.readBoolean();
+            this.trustEdges = packet.readBoolean();
         }
 
-        lightData.skyLightMask = ChunkBitMask.readChunkMask(packet);
-        lightData.blockLightMask = ChunkBitMask.readChunkMask(packet);
-        lightData.emptySkyLightMask = ChunkBitMask.readChunkMask(packet);
-        lightData.emptyBlockLightMask = ChunkBitMask.readChunkMask(packet);
+        this.skyLightMask = ChunkBitMask.readChunkMask(packet);
+        this.blockLightMask = ChunkBitMask.readChunkMask(packet);
+        this.emptySkyLightMask = ChunkBitMask.readChunkMask(packet);
+        this.emptyBlockLightMask = ChunkBitMask.readChunkMask(packet);
 
         boolean v17 = serverVersion.isNewerThanOrEquals(ServerVersion.V_1_17);
-        lightData.skyLightCount = v17 ? packet.readVarInt() : 18;
-        lightData.skyLightArray = new byte[lightData.skyLightCount][];
-        for (int i = 0; i < lightData.skyLightCount; i++) {
-            if (v17 || lightData.skyLightMask.get(i)) {
-                lightData.skyLightArray[i] = packet.readByteArray();
+        this.skyLightCount = v17 ? packet.readVarInt() : 18;
+        this.skyLightArray = new byte[this.skyLightCount][];
+        for (int i = 0; i < this.skyLightCount; i++) {
+            if (v17 || this.skyLightMask.get(i)) {
+                this.skyLightArray[i] = packet.readByteArray();
             }
         }
 
-        lightData.blockLightCount = v17 ? packet.readVarInt() : 18;
-        lightData.blockLightArray = new byte[lightData.blockLightCount][];
-        for (int i = 0; i < lightData.blockLightCount; i++) {
-            if (v17 || lightData.blockLightMask.get(i)) {
-                lightData.blockLightArray[i] = packet.readByteArray();
+        this.blockLightCount = v17 ? packet.readVarInt() : 18;
+        this.blockLightArray = new byte[this.blockLightCount][];
+        for (int i = 0; i < this.blockLightCount; i++) {
+            if (v17 || this.blockLightMask.get(i)) {
+                this.blockLightArray[i] = packet.readByteArray();
             }
         }
-
-        return lightData;
     }
 
     public static void write(PacketWrapper<?> packet, LightData lightData) {
         ServerVersion serverVersion = packet.getServerVersion();
+        if (lightData.encoded != null) {
+            if (serverVersion == lightData.encodedVersion) {
+                packet.writeBytes(lightData.encoded);
+                return;
+            }
+            lightData.decode();
+        }
         if (serverVersion.isOlderThanOrEquals(ServerVersion.V_1_19_4)) {
             packet.writeBoolean(lightData.trustEdges);
         }
@@ -20,8 +20,12 @@ package com.github.retrooper.packetevents.protocol.world.chunk;
 
 import com.github.retrooper.packetevents.PacketEvents;
 import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.protocol.nbt.EncodedNBT;
 import com.github.retrooper.packetevents.protocol.nbt.NBTCompound;
 import com.github.retrooper.packetevents.protocol.nbt.NBTInt;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 public class TileEntity {
     // 1.18+
@@ -32,6 +36,8 @@ public class TileEntity {
     int type;
     // Exists on all versions
     NBTCompound data;
+    // the undecoded data, if this was read from a packet and the data hasn't been accessed yet
+    private @Nullable EncodedNBT encodedData;
 
     // 1.18 format: ((blockX & 15) << 4) | (blockZ & 15)
     // Versions below this store height in the NBTCompound
@@ -46,32 +52,45 @@ public class TileEntity {
         this.data = data;
     }
 
+    @ApiStatus.Internal
+    public TileEntity(final EncodedNBT data) {
+        this.encodedData = data;
+    }
+
+    @ApiStatus.Internal
+    public TileEntity(final byte packedByte, final short y, final int type, final EncodedNBT data) {
+        this.packedByte = packedByte;
+        this.y = y;
+        this.type = type;
+        this.encodedData = data;
+    }
+
     public int getX() {
         if (PacketEvents.getAPI().getServerManager().getVersion().isNewerThanOrEquals(ServerVersion.V_1_18)) {
             return (this.packedByte & 0xF0) >> 4;
         }
-        return data.getTagOfTypeOrNull("x", NBTInt.class).getAsInt();
+        return this.getNBT().getTagOfTypeOrNull("x", NBTInt.class).getAsInt();
     }
 
     public int getZ() {
         if (PacketEvents.getAPI().getServerManager().getVersion().isNewerThanOrEquals(ServerVersion.V_1_18)) {
             return this.packedByte & 0xF;
         }
-        return data.getTagOfTypeOrNull("z", NBTInt.class).getAsInt();
+        return this.getNBT().getTagOfTypeOrNull("z", NBTInt.class).getAsInt();
     }
 
     public int getY() {
         if (PacketEvents.getAPI().getServerManager().getVersion().isNewerThanOrEquals(ServerVersion.V_1_18)) {
             return this.y;
         }
-        return data.getTagOfTypeOrNull("y", NBTInt.class).getAsInt();
+        return this.getNBT().getTagOfTypeOrNull("y", NBTInt.class).getAsInt();
     }
 
     public void setX(final int x) {
         if (PacketEvents.getAPI().getServerManager().getVersion().isNewerThanOrEquals(ServerVersion.V_1_18)) {
             this.packedByte = (byte) ((this.packedByte & 0xF) | ((x & 0xF) << 4));
         } else {
-            data.setTag("x", new NBTInt(x));
+            this.getNBT().setTag("x", new NBTInt(x));
         }
     }
 
@@ -79,7 +98,7 @@ public class TileEntity {
         if (PacketEvents.getAPI().getServerManager().getVersion().isNewerThanOrEquals(ServerVersion.V_1_18)) {
             this.y = (short) y;
         } else {
-            data.setTag("y", new NBTInt(y));
+            this.getNBT().setTag("y", new NBTInt(y));
         }
     }
 
@@ -87,7 +106,7 @@ public class TileEntity {
         if (PacketEvents.getAPI().getServerManager().getVersion().isNewerThanOrEquals(ServerVersion.V_1_18)) {
             this.packedByte = (byte) ((this.packedByte & 0xF0) | (z & 0xF));
         } else {
-            data.setTag("z", new NBTInt(z));
+            this.getNBT().setTag("z", new NBTInt(z));
         }
     }
 
@@ -105,6 +124,20 @@ public class TileEntity {
     }
 
     public NBTCompound getNBT() {
+        if (this.encodedData != null) {
+            this.data = this.encodedData.decode();
+            this.encodedData = null;
+        }
         return this.data;
     }
+
+    /**
+     * Writes the data of this tile entity, without decoding it if it hasn't been accessed.
+     */
+    @ApiStatus.Internal
+    public void writeNBT(PacketWrapper<?> wrapper) {
+        if (this.encodedData == null || !this.encodedData.write(wrapper)) {
+            wrapper.writeNBT(this.getNBT());
+        }
+    }
 }
@@ -19,6 +19,7 @@
 package com.github.retrooper.packetevents.protocol.world.chunk.impl.v_1_18;
 
 import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
 import com.github.retrooper.packetevents.protocol.stream.NetStreamInput;
 import com.github.retrooper.packetevents.protocol.stream.NetStreamInputWrapper;
 import com.github.retrooper.packetevents.protocol.stream.NetStreamOutput;
@@ -27,6 +28,7 @@ import com.github.retrooper.packetevents.protocol.world.chunk.BaseChunk;
 import com.github.retrooper.packetevents.protocol.world.chunk.palette.DataPalette;
 import com.github.retrooper.packetevents.protocol.world.chunk.palette.PaletteType;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import org.jetbrains.annotations.ApiStatus;
 
 public class Chunk_v1_18 implements BaseChunk {
 
@@ -73,6 +75,20 @@ public class Chunk_v1_18 implements BaseChunk {
         return new Chunk_v1_18(blockCount, chunkPalette, biomePalette);
     }
 
+    /**
+     * Skips a section, without decoding it.
+     *
+     * @return The amount of zero bytes mojang appends for this section on 1.21.5,
+     * see {@link com.github.retrooper.packetevents.protocol.world.chunk.reader.impl.ChunkReader_v1_18#getMojangZeroByteSuffixLength(BaseChunk[])}
+     */
+    @ApiStatus.Internal
+    public static int skip(PacketWrapper<?> wrapper) {
+        wrapper.readShort(); // block count
+        int chunkStorageLen = PaletteType.CHUNK.skip(wrapper);
+        int biomeStorageLen = PaletteType.BIOME.skip(wrapper);
+        return ByteBufHelper.getByteSize(chunkStorageLen) + ByteBufHelper.getByteSize(biomeStorageLen);
+    }
+
     public static void write(PacketWrapper<?> wrapper, Chunk_v1_18 section) {
         boolean paletteLengthPrefix = wrapper.getServerVersion().isOlderThan(ServerVersion.V_1_21_5);
         write(new NetStreamOutputWrapper(wrapper), section, paletteLengthPrefix);
@@ -25,6 +25,9 @@ import com.github.retrooper.packetevents.protocol.world.chunk.storage.BitStorage
 import com.github.retrooper.packetevents.protocol.world.chunk.storage.LegacyFlexibleStorage;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
 public class DataPalette {
 
     public final PaletteType paletteType;
@@ -186,6 +189,121 @@ public class DataPalette {
         }
     }
 
+    /**
+     * Reads all states of this palette at once, which is a lot faster than calling {@link #get(int, int, int)}
+     * for every position.
+     * <p>
+     * The states are ordered by y, then z, then x; the state at x, y, z is stored at
+     * {@code (y << bitShift | z) << bitShift | x}, see {@link PaletteType#getBitShift()}.
+     *
+     * @param out The array to store the states in, has to hold at least {@link PaletteType#getStorageSize()} states
+     */
+    public void getAll(int[] out) {
+        if (this.storage == null) {
+            Arrays.fill(out, 0, this.paletteType.getStorageSize(), this.palette.idToState(0));
+            return;
+        }
+        this.storage.getAll(out);
+        if (this.palette instanceof GlobalPalette) {
+            return; // ids are the states already
+        }
+        // resolve every id only once
+        int[] states = new int[1 << this.storage.getBitsPerEntry()];
+        for (int id = 0; id < states.length; id++) {
+            states[id] = this.palette.idToState(id);
+        }
+        for (int i = 0, len = this.paletteType.getStorageSize(); i < len; i++) {
+            out[i] = states[out[i]];
+        }
+    }
+
+    /**
+     * Replaces all states of this palette at once, which is a lot faster than calling
+     * {@link #set(int, int, int, int)} for every position. The palette is rebuilt to fit the new states.
+     *
+     * @param states The new states, in the same order as {@link #getAll(int[])}
+     */
+    public void setAll(int[] states) {
+        int size = this.paletteType.getStorageSize();
+        int maxMapSize = 1 << this.paletteType.getMaxBitsPerEntryForMap();
+
+        // collect the distinct states, in the order the new palette will assign their ids
+        MapPalette.IntIntMap stateToId = new MapPalette.IntIntMap(maxMapSize);
+        int[] idToState = new int[maxMapSize];
+        boolean global = false;
+        for (int i = 0; i < size; i++) {
+            int state = states[i];
+            if (stateToId.get(state) == -1) {
+                int id = stateToId.size();
+                if (id == maxMapSize) {
+                    global = true;
+                    break;
+                }
+                stateToId.putIfAbsent(state, id);
+                idToState[id] = state;
+            }
+        }
+
+        // singleton palettes only exist since 1.18, so only use them if this palette already is one
+        if (!global && stateToId.size() == 1 && this.storage == null) {
+            this.palette = new SingletonPalette(states[0]);
+            return;
+        }
+
+        Palette palette;
+        int[] ids;
+        if (global) {
+            palette = GlobalPalette.INSTANCE;
+            ids = states;
+        } else {
+            int distinct = stateToId.size();
+            palette = createPalette(Math.max(1, 32 - Integer.numberOfLeadingZeros(distinct - 1)), this.paletteType);
+            for (int id = 0; id < distinct; id++) {
+                palette.stateToId(idToState[id]);
+            }
+            ids = new int[size];
+            for (int i = 0; i < size; i++) {
+                ids[i] = stateToId.get(states[i]);
+            }
+        }
+
+        BaseStorage storage = this.storage;
+        if (storage == null || !(global && this.palette instanceof GlobalPalette)
+                && storage.getBitsPerEntry() != palette.getBits()) {
+            storage = storage instanceof LegacyFlexibleStorage
+                    ? new LegacyFlexibleStorage(palette.getBits(), size)
+                    : new BitStorage(palette.getBits(), size);
+        }
+        storage.setAll(ids);
+        this.palette = palette;
+        this.storage = storage;
+    }
+
+    /**
+     * Replaces every state of this palette with the result of the operator.
+     * <p>
+     * Unless this palette is a {@link GlobalPalette}, only the palette entries are rewritten, without touching
+     * the storage. The operator may be called for states which aren't used anymore.
+     *
+     * @param operator Maps old states to new states
+     */
+    public void replaceAll(IntUnaryOperator operator) {
+        if (this.palette instanceof SingletonPalette) {
+            this.palette = new SingletonPalette(operator.applyAsInt(this.palette.idToState(0)));
+        } else if (this.palette instanceof ListPalette) {
+            ((ListPalette) this.palette).replaceAll(operator);
+        } else if (this.palette instanceof MapPalette) {
+            ((MapPalette) this.palette).replaceAll(operator);
+        } else {
+            int[] states = new int[this.paletteType.getStorageSize()];
+            this.getAll(states);
+            for (int i = 0; i < states.length; i++) {
+                states[i] = operator.applyAsInt(states[i]);
+            }
+            this.setAll(states);
+        }
+    }
+
     @Deprecated
     private static Palette readPalette(
             PaletteType paletteType,
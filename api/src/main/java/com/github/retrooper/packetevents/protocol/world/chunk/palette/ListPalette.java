@@ -27,6 +27,8 @@ package com.github.retrooper.packetevents.protocol.world.chunk.palette;
 import com.github.retrooper.packetevents.protocol.stream.NetStreamInput;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 
+import java.util.function.IntUnaryOperator;
+
 /**
  * A palette backed by a List.
  */
@@ -98,4 +100,13 @@ public class ListPalette implements Palette {
     public int getBits() {
         return this.bits;
     }
+
+    /**
+     * Replaces every state of this palette, without changing the ids.
+     */
+    void replaceAll(IntUnaryOperator operator) {
+        for (int i = 0; i < this.nextId; i++) {
+            this.data[i] = operator.applyAsInt(this.data[i]);
+        }
+    }
 }
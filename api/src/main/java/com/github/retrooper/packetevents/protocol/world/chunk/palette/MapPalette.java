@@ -27,7 +27,8 @@ package com.github.retrooper.packetevents.protocol.world.chunk.palette;
 import com.github.retrooper.packetevents.protocol.stream.NetStreamInput;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
 
 /**
  * A palette backed by a map.
@@ -36,13 +37,13 @@ public class MapPalette implements Palette {
 
     private final int bits;
     private final int[] idToState;
-    // TODO: Can we use fastutils here?
-    private final HashMap<Object, Integer> stateToId = new HashMap<>();
+    private final IntIntMap stateToId;
     private int nextId = 0;
 
     public MapPalette(int bitsPerEntry) {
         this.bits = bitsPerEntry;
         this.idToState = new int[1 << bitsPerEntry];
+        this.stateToId = new IntIntMap(this.idToState.length);
     }
 
     @Deprecated
@@ -77,18 +78,13 @@ public class MapPalette implements Palette {
 
     @Override
     public int stateToId(int state) {
-        Integer id = this.stateToId.get(state);
-        if (id == null && this.size() < this.idToState.length) {
+        int id = this.stateToId.get(state);
+        if (id == -1 && this.size() < this.idToState.length) {
             id = this.nextId++;
             this.idToState[id] = state;
-            this.stateToId.put(state, id);
-        }
-
-        if (id != null) {
-            return id;
-        } else {
-            return -1;
+            this.stateToId.putIfAbsent(state, id);
         }
+        return id;
     }
 
     @Override
@@ -104,4 +100,82 @@ public class MapPalette implements Palette {
     public int getBits() {
         return this.bits;
     }
+
+    /**
+     * Replaces every state of this palette, without changing the ids.
+     */
+    void replaceAll(IntUnaryOperator operator) {
+        this.stateToId.clear();
+        for (int i = 0; i < this.nextId; i++) {
+            int state = operator.applyAsInt(this.idToState[i]);
+            this.idToState[i] = state;
+            this.stateToId.putIfAbsent(state, i);
+        }
+    }
+
+    /**
+     * An open addressing map from int keys to non-negative int values, with a fixed maximum size.
+     */
+    static final class IntIntMap {
+
+        private final int[] keys;
+        // -1 marks empty slots
+        private final int[] values;
+        private final int mask;
+        private int size;
+
+        IntIntMap(int maxSize) {
+            // keep the load factor at or below 0.5
+            int capacity = Integer.highestOneBit(Math.max(maxSize, 1) * 2 - 1) << 1;
+            this.keys = new int[capacity];
+            this.values = new int[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(this.values, -1);
+        }
+
+        private static int hash(int key) {
+            int hash = key * 0x9E3779B9;
+            return hash ^ hash >>> 16;
+        }
+
+        /**
+         * @return the value mapped to the key, or -1 if there is none
+         */
+        int get(int key) {
+            int[] values = this.values;
+            for (int i = hash(key) & this.mask; ; i = i + 1 & this.mask) {
+                int value = values[i];
+                if (value == -1 || this.keys[i] == key) {
+                    return value;
+                }
+            }
+        }
+
+        /**
+         * @return the value already mapped to the key, or -1 if the new value has been put
+         */
+        int putIfAbsent(int key, int value) {
+            int[] values = this.values;
+            for (int i = hash(key) & this.mask; ; i = i + 1 & this.mask) {
+                int current = values[i];
+                if (current == -1) {
+                    this.keys[i] = key;
+                    values[i] = value;
+                    this.size++;
+                    return -1;
+                } else if (this.keys[i] == key) {
+                    return current;
+                }
+            }
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        void clear() {
+            Arrays.fill(this.values, -1);
+            this.size = 0;
+        }
+    }
 }
@@ -19,10 +19,12 @@
 package com.github.retrooper.packetevents.protocol.world.chunk.palette;
 
 import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
 import com.github.retrooper.packetevents.protocol.stream.NetStreamInputWrapper;
 import com.github.retrooper.packetevents.protocol.stream.NetStreamOutputWrapper;
 import com.github.retrooper.packetevents.protocol.world.chunk.storage.BitStorage;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import org.jetbrains.annotations.ApiStatus;
 
 public enum PaletteType {
 
@@ -84,6 +86,39 @@ public enum PaletteType {
         return DataPalette.read(new NetStreamInputWrapper(wrapper), this, allowSingletonPalette, lengthPrefix);
     }
 
+    /**
+     * Skips a palette written in the 1.18+ format, without decoding it.
+     *
+     * @return The length of the storage data in longs, 0 for singleton palettes
+     */
+    @ApiStatus.Internal
+    public int skip(PacketWrapper<?> wrapper) {
+        boolean lengthPrefix = wrapper.getServerVersion().isOlderThan(ServerVersion.V_1_21_5);
+        int bitsPerEntry = wrapper.readByte();
+        if (bitsPerEntry == 0) {
+            wrapper.readVarInt(); // singleton value
+            if (lengthPrefix) {
+                ByteBufHelper.skipBytes(wrapper.buffer, wrapper.readVarInt() * Long.BYTES);
+            }
+            return 0;
+        }
+        if (bitsPerEntry <= this.getMaxBitsPerEntryForMap()) {
+            int paletteLength = wrapper.readVarInt();
+            for (int i = 0; i < paletteLength; i++) {
+                wrapper.readVarInt();
+            }
+        }
+        int dataLength;
+        if (lengthPrefix) {
+            dataLength = wrapper.readVarInt();
+        } else {
+            int valuesPerLong = 64 / bitsPerEntry;
+            dataLength = (this.getStorageSize() + valuesPerLong - 1) / valuesPerLong;
+        }
+        ByteBufHelper.skipBytes(wrapper.buffer, dataLength * Long.BYTES);
+        return dataLength;
+    }
+
     public DataPalette create() {
         int bitsPerEntry = this.getMaxBitsPerEntryForList();
         Palette palette = new ListPalette(bitsPerEntry);
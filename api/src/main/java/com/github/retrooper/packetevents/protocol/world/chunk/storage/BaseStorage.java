@@ -28,4 +28,26 @@ public abstract class BaseStorage {
     public abstract int get(int index);
 
     public abstract void set(int index, int value);
+
+    /**
+     * Reads all values of this storage.
+     *
+     * @param out The array to store the values in, has to hold at least as many values as this storage
+     */
+    public void getAll(int[] out) {
+        for (int i = 0, size = this.getSize(); i < size; i++) {
+            out[i] = this.get(i);
+        }
+    }
+
+    /**
+     * Replaces all values of this storage.
+     *
+     * @param values The new values, has to hold at least as many values as this storage
+     */
+    public void setAll(int[] values) {
+        for (int i = 0, size = this.getSize(); i < size; i++) {
+            this.set(i, values[i]);
+        }
+    }
 }
@@ -130,6 +130,44 @@ public class BitStorage extends BaseStorage {
         this.data[cellIndex] = this.data[cellIndex] & ~(this.maxValue << bitIndex) | ((long) value & this.maxValue) << bitIndex;
     }
 
+    @Override
+    public void getAll(int[] out) {
+        long[] data = this.data;
+        int bitsPerEntry = this.bitsPerEntry;
+        int valuesPerLong = this.valuesPerLong;
+        long maxValue = this.maxValue;
+        int index = 0;
+        for (int cellIndex = 0; cellIndex < data.length; cellIndex++) {
+            long cell = data[cellIndex];
+            int end = Math.min(index + valuesPerLong, this.size);
+            for (; index < end; index++) {
+                out[index] = (int) (cell & maxValue);
+                cell >>>= bitsPerEntry;
+            }
+        }
+    }
+
+    @Override
+    public void setAll(int[] values) {
+        long[] data = this.data;
+        int bitsPerEntry = this.bitsPerEntry;
+        int valuesPerLong = this.valuesPerLong;
+        long maxValue = this.maxValue;
+        int index = 0;
+        for (int cellIndex = 0; cellIndex < data.length; cellIndex++) {
+            long cell = 0L;
+            int end = Math.min(index + valuesPerLong, this.size);
+            for (int bitIndex = 0; index < end; index++, bitIndex += bitsPerEntry) {
+                int value = values[index];
+                if (value < 0 || value > maxValue) {
+                    throw new IllegalStateException("Illegal value: " + value + " < 0 || " + value + " > " + maxValue);
+                }
+                cell |= (long) value << bitIndex;
+            }
+            data[cellIndex] = cell;
+        }
+    }
+
     private int cellIndex(int index) {
         return (int) (index * this.divideMultiply + this.divideAdd >> 32 >> this.divideShift);
     }
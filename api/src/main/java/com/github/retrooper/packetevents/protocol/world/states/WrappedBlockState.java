@@ -39,8 +39,10 @@ import com.github.retrooper.packetevents.protocol.world.states.type.StateValue;
 import com.github.retrooper.packetevents.util.mappings.MappingHelper;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -83,6 +85,8 @@ public class WrappedBlockState {
 
     private static final String MAPPINGS_ASSETS_PREFIX = "mappings/data/block_state/";
     private static final String MAPPINGS_ASSETS_LEGACY = MAPPINGS_ASSETS_PREFIX + "legacy";
+    private static final int MODERN_MAPPINGS_MAGIC = 0x50454253;
+    private static final byte MODERN_MAPPINGS_FORMAT_VERSION = 1;
     private static final boolean PRELOAD_BLOCK_STATE_MAPPINGS = Boolean.getBoolean("packetevents.mappings.preload");
 
     static {
@@ -106,9 +110,11 @@ public class WrappedBlockState {
     private static final WrappedBlockState AIR = new WrappedBlockState(StateTypes.AIR,
             new EnumMap<>(StateValue.class), 0, AIR_MAPPING_INDEX);
     private static final Map<String, WrappedBlockState>[] BY_STRING = new Map[HIGHEST_MAPPING_INDEX + 1];
-    private static final Map<Integer, WrappedBlockState>[] BY_ID = new Map[HIGHEST_MAPPING_INDEX + 1];
-    private static final Map<WrappedBlockState, String>[] INTO_STRING = new Map[HIGHEST_MAPPING_INDEX + 1];
-    private static final Map<WrappedBlockState, Integer>[] INTO_ID = new Map[HIGHEST_MAPPING_INDEX + 1];
+    // indexed by global id, an empty array means the mappings haven't been loaded yet
+    private static final WrappedBlockState[][] BY_ID = new WrappedBlockState[HIGHEST_MAPPING_INDEX + 1][];
+    // indexed by global id
+    private static final String[][] INTO_STRING = new String[HIGHEST_MAPPING_INDEX + 1][];
+    private static final Map<StateType, StateTypeTable>[] INTO_ID = new Map[HIGHEST_MAPPING_INDEX + 1];
     private static final Map<StateType, WrappedBlockState>[] DEFAULT_STATES = new Map[HIGHEST_MAPPING_INDEX + 1];
 
     private static final Map<String, String> STRING_UPDATER = new HashMap<>();
@@ -117,17 +123,19 @@ public class WrappedBlockState {
         STRING_UPDATER.put("grass_path", "dirt_path"); // 1.16 -> 1.17
 
         Arrays.fill(BY_STRING, Collections.emptyMap());
-        Arrays.fill(BY_ID, Collections.emptyMap());
-        Arrays.fill(INTO_STRING, Collections.emptyMap());
+        Arrays.fill(BY_ID, new WrappedBlockState[0]);
+        Arrays.fill(INTO_STRING, new String[0]);
         Arrays.fill(INTO_ID, Collections.emptyMap());
         Arrays.fill(DEFAULT_STATES, Collections.emptyMap());
 
         // because AIR is a constant, preload all data for this into a separate mapping index
         String airName = AIR.getType().getMapped().getName().getKey();
+        StateTypeTable.Builder airTable = new StateTypeTable.Builder();
+        airTable.add(AIR.data, AIR.getGlobalId());
         BY_STRING[AIR_MAPPING_INDEX] = Collections.singletonMap(airName, AIR);
-        BY_ID[AIR_MAPPING_INDEX] = Collections.singletonMap(AIR.getGlobalId(), AIR);
-        INTO_STRING[AIR_MAPPING_INDEX] = Collections.singletonMap(AIR, airName);
-        INTO_ID[AIR_MAPPING_INDEX] = Collections.singletonMap(AIR, AIR.getGlobalId());
+        BY_ID[AIR_MAPPING_INDEX] = new WrappedBlockState[]{AIR};
+        INTO_STRING[AIR_MAPPING_INDEX] = new String[]{airName};
+        INTO_ID[AIR_MAPPING_INDEX] = Collections.singletonMap(AIR.getType(), airTable.build());
         DEFAULT_STATES[AIR_MAPPING_INDEX] = Collections.singletonMap(AIR.getType(), AIR);
     }
 
@@ -136,6 +144,8 @@ public class WrappedBlockState {
     Map<StateValue, Object> data = new HashMap<>(0);
     boolean hasClonedData = false;
     byte mappingsIndex;
+    // whether this is the shared instance stored in the lookup tables
+    boolean interned = false;
 
     @Deprecated
     public WrappedBlockState(StateType type, String[] data, int globalID, byte mappingsIndex) {
@@ -167,14 +177,14 @@ public class WrappedBlockState {
 
     private static byte loadMappings(ClientVersion version) {
         byte mappingsIndex = getMappingsIndex(version);
-        if (!PRELOAD_BLOCK_STATE_MAPPINGS && BY_ID[mappingsIndex].isEmpty()) {
+        if (!PRELOAD_BLOCK_STATE_MAPPINGS && BY_ID[mappingsIndex].length == 0) {
             loadMappings0(getMappingsVersion(version), mappingsIndex); // try to load mappings
         }
         return mappingsIndex;
     }
 
     private static synchronized void loadMappings0(ClientVersion version, byte mappingsIndex) {
-        if (!BY_ID[mappingsIndex].isEmpty()) {
+        if (BY_ID[mappingsIndex].length != 0) {
             return; // already loaded
         }
         PacketEvents.getAPI().getLogger().info("Loading block mappings for " + version + "/" + mappingsIndex + "...");
@@ -205,12 +215,10 @@ public class WrappedBlockState {
 
         Map<Map<StateValue, Object>, StateCacheValue> cache = new HashMap<>();
         for (byte i = 0; i < HIGHEST_MAPPING_INDEX; i++) {
-            Map<Integer, WrappedBlockState> map = BY_ID[i];
-            if (map == null) {
-                continue; // not loaded yet
-            }
-            for (WrappedBlockState state : map.values()) {
-                cache.computeIfAbsent(state.data, StateCacheValue::new);
+            for (WrappedBlockState state : BY_ID[i]) {
+                if (state != null) {
+                    cache.computeIfAbsent(state.data, StateCacheValue::new);
+                }
             }
         }
         return cache;
@@ -230,6 +238,8 @@ public class WrappedBlockState {
         if (state != AIR) { // don't modify global air state
             NBTCompound propsTag = compound.getCompoundTagOrNull("Properties");
             if (propsTag != null) {
+                // the property map is shared with the interned state
+                state.checkIfCloneNeeded();
                 for (Map.Entry<String, NBT> entry : propsTag.getTags().entrySet()) {
                     StateValue stateValue = indexValueOrThrow(StateValue.NAME_INDEX, entry.getKey());
                     Object value;
@@ -242,9 +252,9 @@ public class WrappedBlockState {
                     } else {
                         value = stateValue.parse((((NBTString) entry.getValue()).getValue()));
                     }
-                    // safe to modify, gets cloned (if not air)
                     state.getInternalData().put(stateValue, value);
                 }
+                state.checkIsStillValid();
             }
         }
 
@@ -296,11 +306,15 @@ public class WrappedBlockState {
         return getByGlobalId(version, globalID, true);
     }
 
+    /**
+     * @param clone if false, the interned state is returned without allocating anything;
+     *              interned states can't be modified, use the {@code with} methods to get other states instead
+     */
     @NotNull
     public static WrappedBlockState getByGlobalId(ClientVersion version, int globalID, boolean clone) {
         if (globalID == 0) return AIR; // Hardcode for performance
         byte mappingsIndex = loadMappings(version);
-        final WrappedBlockState state = BY_ID[mappingsIndex].getOrDefault(globalID, AIR);
+        final WrappedBlockState state = getById(mappingsIndex, globalID);
         return clone ? state.clone() : state;
     }
 
@@ -343,6 +357,28 @@ public class WrappedBlockState {
         return clone ? state.clone() : state;
     }
 
+    private static WrappedBlockState getById(byte mappingsIndex, int globalID) {
+        WrappedBlockState[] states = BY_ID[mappingsIndex];
+        WrappedBlockState state = globalID >= 0 && globalID < states.length ? states[globalID] : null;
+        return state != null ? state : AIR;
+    }
+
+    private static <T> T[] putById(T[] array, int globalID, T value) {
+        if (globalID >= array.length) {
+            array = Arrays.copyOf(array, Math.max(globalID + 1, array.length << 1));
+        }
+        array[globalID] = value;
+        return array;
+    }
+
+    private static Map<StateType, StateTypeTable> buildTables(Map<StateType, StateTypeTable.Builder> builders) {
+        Map<StateType, StateTypeTable> tables = new HashMap<>(builders.size() * 4 / 3 + 1);
+        for (Map.Entry<StateType, StateTypeTable.Builder> entry : builders.entrySet()) {
+            tables.put(entry.getKey(), entry.getValue().build());
+        }
+        return tables;
+    }
+
     private static byte getMappingsIndex(ClientVersion version) {
         return MAPPING_INDEXES[version.ordinal()];
     }
@@ -352,10 +388,11 @@ public class WrappedBlockState {
     }
 
     private static void loadLegacy(Map<Map<StateValue, Object>, StateCacheValue> cache) {
-        Map<Integer, WrappedBlockState> stateByIdMap = new HashMap<>();
-        Map<WrappedBlockState, Integer> stateToIdMap = new HashMap<>();
+        WrappedBlockState[] stateById = new WrappedBlockState[256 << 4];
+        String[] stringById = new String[256 << 4];
+        int maxId = -1;
+        Map<StateType, StateTypeTable.Builder> stateToIdTables = new HashMap<>();
         Map<String, WrappedBlockState> stateByStringMap = new HashMap<>();
-        Map<WrappedBlockState, String> stateToStringMap = new HashMap<>();
         Map<StateType, WrappedBlockState> stateTypeToBlockStateMap = new HashMap<>();
 
         try (final SequentialNBTReader.Compound compound = MappingHelper.decompress(MAPPINGS_ASSETS_LEGACY)) {
@@ -410,10 +447,13 @@ public class WrappedBlockState {
 
                     String fullString = entry.getKey() + stateCache.getString();
                     WrappedBlockState state = new WrappedBlockState(type, stateCache.map, combinedID, LEGACY_MAPPING_INDEX);
+                    state.interned = true;
 
-                    stateByIdMap.put(combinedID, state);
-                    stateToStringMap.put(state, fullString);
-                    stateToIdMap.put(state, combinedID);
+                    stateById = putById(stateById, combinedID, state);
+                    stringById = putById(stringById, combinedID, fullString);
+                    maxId = Math.max(maxId, combinedID);
+                    stateToIdTables.computeIfAbsent(type, k -> new StateTypeTable.Builder())
+                            .add(stateCache.map, combinedID);
 
                     // We want the first with this ID, to prevent invalid blocks that work with vanilla, but may
                     // cause other things handling data to have issues, such as air with a byte value of 1
@@ -425,116 +465,114 @@ public class WrappedBlockState {
                 }
             }
 
-            BY_ID[LEGACY_MAPPING_INDEX] = stateByIdMap;
-            INTO_ID[LEGACY_MAPPING_INDEX] = stateToIdMap;
+            INTO_ID[LEGACY_MAPPING_INDEX] = buildTables(stateToIdTables);
             BY_STRING[LEGACY_MAPPING_INDEX] = stateByStringMap;
-            INTO_STRING[LEGACY_MAPPING_INDEX] = stateToStringMap;
+            INTO_STRING[LEGACY_MAPPING_INDEX] = Arrays.copyOf(stringById, maxId + 1);
             DEFAULT_STATES[LEGACY_MAPPING_INDEX] = stateTypeToBlockStateMap;
+            // set last, this marks the mappings as loaded
+            BY_ID[LEGACY_MAPPING_INDEX] = Arrays.copyOf(stateById, maxId + 1);
         } catch (IOException e) {
             throw new RuntimeException("Failed to load legacy block mappings", e);
         }
     }
 
     private static void loadModern(Map<Map<StateValue, Object>, StateCacheValue> cache, ClientVersion version) {
-        try (final SequentialNBTReader.Compound compound = MappingHelper.decompress(MAPPINGS_ASSETS_PREFIX + version.name())) {
-            compound.skipOne(); // Skip version
+        ByteBuffer buffer = MappingHelper.readBinary(MAPPINGS_ASSETS_PREFIX + version.name());
+        if (buffer.getInt() != MODERN_MAPPINGS_MAGIC || buffer.get() != MODERN_MAPPINGS_FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported block mapping file format for " + version.name());
+        }
 
-            byte mappingIndex = getMappingsIndex(version);
-            SequentialNBTReader.List list = (SequentialNBTReader.List) compound.next().getValue();
+        byte mappingIndex = getMappingsIndex(version);
 
-            Map<Integer, WrappedBlockState> stateByIdMap = new HashMap<>();
-            Map<WrappedBlockState, Integer> stateToIdMap = new HashMap<>();
-            Map<String, WrappedBlockState> stateByStringMap = new HashMap<>();
-            Map<WrappedBlockState, String> stateToStringMap = new HashMap<>();
-            Map<StateType, WrappedBlockState> stateTypeToBlockStateMap = new HashMap<>();
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = MappingHelper.readUTF(buffer);
+        }
 
-            int id = 0;
-            for (NBT e : list) {
-                SequentialNBTReader.Compound element = (SequentialNBTReader.Compound) e;
-                String typeString = ((NBTString) element.next().getValue()).getValue(); // type
-                StateType type = StateTypes.getByName(typeString);
-                if (type == null) {
-                    // Let's update the state type to a modern version
-                    for (Map.Entry<String, String> stringEntry : STRING_UPDATER.entrySet()) {
-                        typeString = typeString.replace(stringEntry.getKey(), stringEntry.getValue());
-                    }
+        // every distinct property set is only stored and parsed once
+        StateCacheValue[] stateCaches = new StateCacheValue[buffer.getInt()];
+        for (int i = 0; i < stateCaches.length; i++) {
+            int pairCount = buffer.get() & 0xFF;
+            if (pairCount == 0) {
+                stateCaches[i] = StateCacheValue.EMPTY;
+                continue;
+            }
+            Map<StateValue, Object> dataMap = new LinkedHashMap<>(3);
+            for (int j = 0; j < pairCount; j++) {
+                String name = strings[buffer.getShort() & 0xFFFF];
+                String value = strings[buffer.getShort() & 0xFFFF];
+                StateValue state = StateValue.byName(name);
+                if (state == null) {
+                    PacketEvents.getAPI().getLogger().warning("Could not find value for " + name);
+                    continue;
+                }
+                dataMap.put(state, state.getParser().apply(value.toUpperCase(Locale.ROOT)));
+            }
+            stateCaches[i] = cache.computeIfAbsent(dataMap, StateCacheValue::new);
+        }
+        boolean wideIndexes = buffer.get() == Integer.BYTES;
 
-                    type = StateTypes.getByName(typeString);
+        WrappedBlockState[] stateById = new WrappedBlockState[1 << 15];
+        String[] stringById = new String[1 << 15];
+        Map<StateType, StateTypeTable.Builder> stateToIdTables = new HashMap<>();
+        Map<String, WrappedBlockState> stateByStringMap = new HashMap<>();
+        Map<StateType, WrappedBlockState> stateTypeToBlockStateMap = new HashMap<>();
 
-                    if (type == null) {
-                        PacketEvents.getAPI().getLogger().warning("Unknown block type: " + typeString);
-                        element.skip();
-                        continue;
-                    }
+        int id = 0;
+        int typeCount = buffer.getInt();
+        for (int i = 0; i < typeCount; i++) {
+            String typeString = MappingHelper.readUTF(buffer);
+            int defaultIdx = buffer.getInt();
+            int stateCount = buffer.getInt();
+
+            StateType type = StateTypes.getByName(typeString);
+            if (type == null) {
+                // Let's update the state type to a modern version
+                for (Map.Entry<String, String> stringEntry : STRING_UPDATER.entrySet()) {
+                    typeString = typeString.replace(stringEntry.getKey(), stringEntry.getValue());
                 }
 
-                Map.Entry<String, NBT> next = element.next(); // def
+                type = StateTypes.getByName(typeString);
 
-                int defaultIdx = 0;
-                if (!next.getKey().equals("def")) {
-                    PacketEvents.getAPI().getLogger().warning("No default state for " + type + " using 0");
-                } else {
-                    defaultIdx = ((NBTNumber) next.getValue()).getAsInt();
-                    next = element.next(); // entries
+                if (type == null) {
+                    PacketEvents.getAPI().getLogger().warning("Unknown block type: " + typeString);
+                    buffer.position(buffer.position() + stateCount * (wideIndexes ? Integer.BYTES : Short.BYTES));
+                    continue;
                 }
+            }
 
-                int index = 0;
-                for (NBT nbt : ((SequentialNBTReader.List) next.getValue())) {
-                    SequentialNBTReader.Compound dataContent = (SequentialNBTReader.Compound) nbt;
-                    StateCacheValue stateCache;
-                    if (dataContent.hasNext()) { // only try to read if there is data available
-                        Map<StateValue, Object> dataMap = new LinkedHashMap<>(3);
-                        for (Map.Entry<String, NBT> props : dataContent) {
-                            StateValue state = StateValue.byName(props.getKey());
-                            if (state == null) {
-                                PacketEvents.getAPI().getLogger().warning("Could not find value for " + props.getKey());
-                                continue;
-                            }
+            if (defaultIdx == -1) {
+                PacketEvents.getAPI().getLogger().warning("No default state for " + type + " using 0");
+                defaultIdx = 0;
+            }
 
-                            NBT value = props.getValue();
-                            Object v;
-                            if (value instanceof NBTByte) {
-                                v = ((NBTByte) value).getAsInt() == 1;
-                            } else if (value instanceof NBTNumber) {
-                                v = ((NBTNumber) value).getAsInt();
-                            } else if (value instanceof NBTString) {
-                                v = ((NBTString) value).getValue();
-                            } else {
-                                PacketEvents.getAPI().getLogger().warning("Unknown NBT typeString in modern mapping: " + value.getClass().getSimpleName());
-                                continue;
-                            }
-                            dataMap.put(state, state.getParser().apply(v.toString().toUpperCase(Locale.ROOT)));
-                        }
-                        stateCache = cache.computeIfAbsent(dataMap, StateCacheValue::new);
-                    } else {
-                        stateCache = StateCacheValue.EMPTY;
-                    }
+            for (int index = 0; index < stateCount; index++) {
+                StateCacheValue stateCache = stateCaches[wideIndexes ? buffer.getInt() : buffer.getShort() & 0xFFFF];
 
-                    String fullString = typeString + stateCache.getString();
-                    WrappedBlockState state = new WrappedBlockState(type, stateCache.map, id, mappingIndex);
+                String fullString = typeString + stateCache.getString();
+                WrappedBlockState state = new WrappedBlockState(type, stateCache.map, id, mappingIndex);
+                state.interned = true;
 
-                    if (defaultIdx == index) {
-                        stateTypeToBlockStateMap.put(type, state);
-                    }
+                if (defaultIdx == index) {
+                    stateTypeToBlockStateMap.put(type, state);
+                }
 
-                    stateByStringMap.put(fullString, state);
-                    stateByIdMap.put(id, state);
-                    stateToStringMap.put(state, fullString);
-                    stateToIdMap.put(state, id);
+                stateByStringMap.put(fullString, state);
+                stateById = putById(stateById, id, state);
+                stringById = putById(stringById, id, fullString);
+                stateToIdTables.computeIfAbsent(type, k -> new StateTypeTable.Builder())
+                        .add(stateCache.map, id);
 
-                    id++;
-                    index++;
-                }
+                id++;
             }
-
-            BY_ID[mappingIndex] = stateByIdMap;
-            INTO_ID[mappingIndex] = stateToIdMap;
-            BY_STRING[mappingIndex] = stateByStringMap;
-            INTO_STRING[mappingIndex] = stateToStringMap;
-            DEFAULT_STATES[mappingIndex] = stateTypeToBlockStateMap;
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to load modern block mappings", e);
         }
+
+        INTO_ID[mappingIndex] = buildTables(stateToIdTables);
+        BY_STRING[mappingIndex] = stateByStringMap;
+        INTO_STRING[mappingIndex] = Arrays.copyOf(stringById, id);
+        DEFAULT_STATES[mappingIndex] = stateTypeToBlockStateMap;
+        // set last, this marks the mappings as loaded
+        BY_ID[mappingIndex] = Arrays.copyOf(stateById, id);
     }
 
     @Override
@@ -561,6 +599,83 @@ public class WrappedBlockState {
         return type;
     }
 
+    /**
+     * @return whether this is the shared, immutable instance of this state
+     * @see #intern()
+     */
+    public boolean isInterned() {
+        return this.interned;
+    }
+
+    /**
+     * Gets the shared, immutable instance of this state. Looking up and transitioning interned states
+     * never allocates.
+     *
+     * @return the interned instance of this state
+     */
+    public WrappedBlockState intern() {
+        if (this.interned) {
+            return this;
+        }
+        int globalId = this.getGlobalIdNoCache();
+        return getById(this.mappingsIndex, globalId != -1 ? globalId : this.globalID);
+    }
+
+    /**
+     * Gets the interned state of the same type with a single property changed, without modifying this state.
+     * <p>
+     * If the property isn't valid for this block, the change is ignored and the interned instance
+     * of this state is returned.
+     *
+     * @param property the property to change
+     * @param value    the new value of the property
+     * @return the interned state with the changed property
+     */
+    public WrappedBlockState with(StateValue property, Object value) {
+        StateTypeTable table = INTO_ID[this.mappingsIndex].get(this.type);
+        int globalId = table != null ? table.getId(this.data, property, value) : -1;
+        if (globalId == -1) {
+            if (PacketEvents.getAPI().getSettings().isDebugEnabled()) {
+                PacketEvents.getAPI().getLogManager().warn("Attempt to set unknown property " + property
+                        + "=" + value + " for block " + this.type.getName());
+            }
+            return this.intern();
+        }
+        return getById(this.mappingsIndex, globalId);
+    }
+
+    public WrappedBlockState withAge(int age) {
+        return this.with(StateValue.AGE, age);
+    }
+
+    public WrappedBlockState withAxis(Axis axis) {
+        return this.with(StateValue.AXIS, axis);
+    }
+
+    public WrappedBlockState withFacing(BlockFace facing) {
+        return this.with(StateValue.FACING, facing);
+    }
+
+    public WrappedBlockState withHalf(Half half) {
+        return this.with(StateValue.HALF, half);
+    }
+
+    public WrappedBlockState withLevel(int level) {
+        return this.with(StateValue.LEVEL, level);
+    }
+
+    public WrappedBlockState withOpen(boolean open) {
+        return this.with(StateValue.OPEN, open);
+    }
+
+    public WrappedBlockState withPowered(boolean powered) {
+        return this.with(StateValue.POWERED, powered);
+    }
+
+    public WrappedBlockState withWaterlogged(boolean waterlogged) {
+        return this.with(StateValue.WATERLOGGED, waterlogged);
+    }
+
     // Begin all block data types
     public int getAge() {
         return (int) data.get(StateValue.AGE);
@@ -1525,6 +1640,10 @@ public class WrappedBlockState {
      * Cloning on every wrapped block state is too expensive.
      */
     private void checkIfCloneNeeded() {
+        if (this.interned) {
+            throw new UnsupportedOperationException("Interned block states can't be modified, "
+                    + "use the with methods or clone the state first");
+        }
         if (!hasClonedData) {
             data = new HashMap<>(data);
             hasClonedData = true;
@@ -1541,7 +1660,7 @@ public class WrappedBlockState {
         int oldGlobalID = globalID;
         globalID = getGlobalIdNoCache();
         if (globalID == -1) { // -1 maps to no block as negative ID are impossible
-            WrappedBlockState blockState = BY_ID[this.mappingsIndex].getOrDefault(oldGlobalID, AIR).clone();
+            WrappedBlockState blockState = getById(this.mappingsIndex, oldGlobalID).clone();
             this.type = blockState.type;
             this.globalID = blockState.globalID;
             this.data = new HashMap<>(blockState.data);
@@ -1585,12 +1704,14 @@ public class WrappedBlockState {
      * Internal method for determining if the block state is still valid
      */
     private int getGlobalIdNoCache() {
-        return INTO_ID[this.mappingsIndex].getOrDefault(this, -1);
+        StateTypeTable table = INTO_ID[this.mappingsIndex].get(this.type);
+        return table != null ? table.getId(this.data) : -1;
     }
 
     @Override
     public String toString() {
-        return INTO_STRING[this.mappingsIndex].get(this);
+        int globalId = this.getGlobalIdNoCache();
+        return globalId != -1 ? INTO_STRING[this.mappingsIndex][globalId] : null;
     }
 
     @ApiStatus.Internal
@@ -1614,6 +1735,139 @@ public class WrappedBlockState {
         logger.info("Finish preloading block mappings in " + timeDiff + "ms");
     }
 
+    /**
+     * Maps the properties of all states of a single type to their global ids.
+     * <p>
+     * All states of a type have the same properties, so the property values are packed into a single long
+     * with one byte per property, which avoids boxing and hashing whole states.
+     */
+    private static final class StateTypeTable {
+
+        private static final long INVALID_KEY = -1L;
+        private static final int MAX_PACKED_PROPERTIES = Long.SIZE / Byte.SIZE;
+
+        private final StateValue[] properties;
+        // sorted, to allow binary searching
+        private final long[] keys;
+        private final int[] ids;
+        // states which can't be packed, this is never needed with the current mappings
+        private final @Nullable Map<Map<StateValue, Object>, Integer> unpacked;
+
+        private StateTypeTable(
+                StateValue[] properties, long[] keys, int[] ids,
+                @Nullable Map<Map<StateValue, Object>, Integer> unpacked
+        ) {
+            this.properties = properties;
+            this.keys = keys;
+            this.ids = ids;
+            this.unpacked = unpacked;
+        }
+
+        private static long pack(StateValue[] properties, Map<StateValue, Object> data) {
+            return pack(properties, data, null, null);
+        }
+
+        // packs the data as if the replaced property had the replacement value
+        private static long pack(
+                StateValue[] properties, Map<StateValue, Object> data,
+                @Nullable StateValue replaced, @Nullable Object replacement
+        ) {
+            if (properties.length > MAX_PACKED_PROPERTIES || data.size() != properties.length) {
+                return INVALID_KEY;
+            }
+            long key = 0L;
+            for (int i = 0; i < properties.length; i++) {
+                StateValue property = properties[i];
+                Object value = property == replaced ? replacement : data.get(property);
+                int packed;
+                if (value instanceof Boolean) {
+                    packed = (Boolean) value ? 1 : 0;
+                } else if (value instanceof Integer) {
+                    packed = (Integer) value;
+                } else if (value instanceof Enum<?>) {
+                    packed = ((Enum<?>) value).ordinal();
+                } else {
+                    return INVALID_KEY;
+                }
+                if (packed < 0 || packed > 0xFF) {
+                    return INVALID_KEY;
+                }
+                key |= (long) packed << (i * Byte.SIZE);
+            }
+            return key;
+        }
+
+        public int getId(Map<StateValue, Object> data) {
+            long key = pack(this.properties, data);
+            if (key != INVALID_KEY) {
+                return this.getId(key);
+            }
+            if (this.unpacked == null) {
+                return -1;
+            }
+            Integer id = this.unpacked.get(data);
+            return id != null ? id : -1;
+        }
+
+        public int getId(Map<StateValue, Object> data, StateValue property, Object value) {
+            if (data.containsKey(property)) {
+                long key = pack(this.properties, data, property, value);
+                if (key != INVALID_KEY) {
+                    return this.getId(key);
+                }
+            }
+            if (this.unpacked == null) {
+                return -1;
+            }
+            Map<StateValue, Object> changed = new HashMap<>(data);
+            changed.put(property, value);
+            Integer id = this.unpacked.get(changed);
+            return id != null ? id : -1;
+        }
+
+        private int getId(long key) {
+            int index = Arrays.binarySearch(this.keys, key);
+            return index >= 0 ? this.ids[index] : -1;
+        }
+
+        private static final class Builder {
+
+            private StateValue[] properties;
+            private final Map<Long, Integer> ids = new HashMap<>();
+            private @Nullable Map<Map<StateValue, Object>, Integer> unpacked;
+
+            public void add(Map<StateValue, Object> data, int id) {
+                if (this.properties == null) {
+                    this.properties = data.keySet().toArray(new StateValue[0]);
+                }
+                long key = pack(this.properties, data);
+                if (key != INVALID_KEY) {
+                    this.ids.put(key, id);
+                } else {
+                    if (this.unpacked == null) {
+                        this.unpacked = new HashMap<>();
+                    }
+                    this.unpacked.put(data, id);
+                }
+            }
+
+            public StateTypeTable build() {
+                long[] keys = new long[this.ids.size()];
+                int i = 0;
+                for (long key : this.ids.keySet()) {
+                    keys[i++] = key;
+                }
+                Arrays.sort(keys);
+                int[] ids = new int[keys.length];
+                for (i = 0; i < keys.length; i++) {
+                    ids[i] = this.ids.get(keys[i]);
+                }
+                StateValue[] properties = this.properties != null ? this.properties : new StateValue[0];
+                return new StateTypeTable(properties, keys, ids, this.unpacked);
+            }
+        }
+    }
+
     private static final class StateCacheValue {
 
         public static final StateCacheValue EMPTY = new StateCacheValue(Collections.emptyMap());
@@ -22,6 +22,8 @@ import com.github.retrooper.packetevents.util.TimeStampMode;
 import org.jetbrains.annotations.ApiStatus;
 
 import java.io.InputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 /**
@@ -43,6 +45,8 @@ public class PacketEventsSettings {
     private Function<String, InputStream> resourceProvider = path -> PacketEventsSettings.class
             .getClassLoader()
             .getResourceAsStream(path);
+    private Executor asyncListenerExecutor = ForkJoinPool.commonPool();
+    private int asyncListenerQueueCapacity = 1024;
 
     /**
      * Time stamp mode. How precise should the timestamps in the events be.
@@ -57,7 +61,10 @@ public class PacketEventsSettings {
     }
 
     /**
-     * Do we re-encode all packets by default?
+     * Do we re-encode packets whose wrapper handed out mutable objects, which may have been modified in place?
+     * If disabled, packets are only re-encoded if their wrapper was modified through its setters,
+     * or if they were explicitly marked for re-encoding. Wrappers which were only read from
+     * pass on the original bytes either way.
      *
      * @param reEncodeByDefault Value
      * @return Settings instance
@@ -152,6 +159,37 @@ public class PacketEventsSettings {
         return this;
     }
 
+    /**
+     * The executor running the async packet listeners, see {@link com.github.retrooper.packetevents.event.PacketListenerCommon#isAsync()}.
+     * Events of a single user are still processed one after another, in the order they were received or sent.
+     * By default, the common fork-join pool is used. On newer java versions, a virtual thread executor may be passed.
+     *
+     * @param asyncListenerExecutor Executor
+     * @return Settings instance.
+     */
+    public PacketEventsSettings asyncListenerExecutor(Executor asyncListenerExecutor) {
+        this.asyncListenerExecutor = asyncListenerExecutor;
+        return this;
+    }
+
+    /**
+     * The maximum amount of packets queued for the async listeners of a single user.
+     * If the async listeners can't keep up, the oldest queued packet of the user is dropped
+     * for every new one, so slow listeners can't exhaust the memory of the server.
+     * Queued packets are also dropped once the user disconnects.
+     * By default, this is 1024.
+     *
+     * @param asyncListenerQueueCapacity Capacity
+     * @return Settings instance.
+     */
+    public PacketEventsSettings asyncListenerQueueCapacity(int asyncListenerQueueCapacity) {
+        if (asyncListenerQueueCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity has to be positive: " + asyncListenerQueueCapacity);
+        }
+        this.asyncListenerQueueCapacity = asyncListenerQueueCapacity;
+        return this;
+    }
+
     /**
      * Some projects may want to implement a CDN with resources like asset mappings
      * By default, all resources are retrieved from the ClassLoader
@@ -251,6 +289,24 @@ public class PacketEventsSettings {
         return resourceProvider;
     }
 
+    /**
+     * The executor running the async packet listeners.
+     *
+     * @return Getter for {@link #asyncListenerExecutor}
+     */
+    public Executor getAsyncListenerExecutor() {
+        return asyncListenerExecutor;
+    }
+
+    /**
+     * The maximum amount of packets queued for the async listeners of a single user.
+     *
+     * @return Getter for {@link #asyncListenerQueueCapacity}
+     */
+    public int getAsyncListenerQueueCapacity() {
+        return asyncListenerQueueCapacity;
+    }
+
     /**
      * Get the timestamp mode
      *
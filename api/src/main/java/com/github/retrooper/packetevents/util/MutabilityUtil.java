@@ -0,0 +1,58 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.util;
+
+import com.github.retrooper.packetevents.protocol.mapper.MappedEntity;
+import com.github.retrooper.packetevents.resources.ResourceLocation;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@ApiStatus.Internal
+public final class MutabilityUtil {
+
+    private MutabilityUtil() {
+    }
+
+    /**
+     * Whether the value can't be modified in place, so handing it out can't change what was read.
+     * Unknown types are treated as mutable.
+     */
+    public static boolean isImmutable(@Nullable Object value) {
+        if (value == null || value instanceof String || value instanceof Integer || value instanceof Boolean
+                || value instanceof Enum<?> || value instanceof Component || value instanceof ResourceLocation
+                || value instanceof MappedEntity || value instanceof UUID) {
+            return true;
+        }
+        if (value instanceof Long || value instanceof Float || value instanceof Double
+                || value instanceof Short || value instanceof Byte || value instanceof Character) {
+            return true;
+        }
+        if (value instanceof Vector3i || value instanceof Vector3d || value instanceof Vector3f) {
+            return true;
+        }
+        if (value instanceof Optional<?>) {
+            return isImmutable(((Optional<?>) value).orElse(null));
+        }
+        return false;
+    }
+}
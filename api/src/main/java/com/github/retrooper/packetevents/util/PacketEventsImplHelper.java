@@ -19,13 +19,19 @@
 package com.github.retrooper.packetevents.util;
 
 import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.event.EventManager;
 import com.github.retrooper.packetevents.event.PacketReceiveEvent;
 import com.github.retrooper.packetevents.event.PacketSendEvent;
 import com.github.retrooper.packetevents.event.ProtocolPacketEvent;
 import com.github.retrooper.packetevents.event.UserDisconnectEvent;
+import com.github.retrooper.packetevents.event.metrics.PacketMetrics;
 import com.github.retrooper.packetevents.manager.protocol.ProtocolManager;
 import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.protocol.ConnectionState;
 import com.github.retrooper.packetevents.protocol.PacketSide;
+import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
+import com.github.retrooper.packetevents.protocol.player.ClientVersion;
 import com.github.retrooper.packetevents.protocol.player.User;
 import org.jetbrains.annotations.Nullable;
 
@@ -47,6 +53,42 @@ public final class PacketEventsImplHelper {
         }
     }
 
+    /**
+     * Checks whether any listener is interested in the packet at the reader index of the buffer.
+     * The reader index is left untouched. If nobody is interested, platforms pass the buffer on
+     * as-is without creating an event, which is recorded as a skipped packet if metrics are enabled.
+     */
+    public static boolean isListenedTo(
+            User user, Object buffer, PacketSide side,
+            boolean autoProtocolTranslation
+    ) {
+        int readerIndex = ByteBufHelper.readerIndex(buffer);
+        int packetId;
+        try {
+            packetId = ByteBufHelper.readVarInt(buffer);
+        } catch (Exception e) {
+            // let the event creation report the malformed packet
+            return true;
+        } finally {
+            ByteBufHelper.readerIndex(buffer, readerIndex);
+        }
+        // resolve the version just like ProtocolPacketEvent does
+        ClientVersion version = user.getPacketServerVersion(autoProtocolTranslation).toClientVersion();
+        ConnectionState state = side == PacketSide.CLIENT ? user.getDecoderState() : user.getEncoderState();
+        EventManager eventManager = PacketEvents.getAPI().getEventManager();
+        if (eventManager.isListening(side, state, version, packetId)) {
+            return true;
+        }
+        PacketMetrics metrics = eventManager.getMetrics();
+        if (metrics != null) {
+            PacketTypeCommon packetType = PacketType.getById(side, state, version, packetId);
+            if (packetType != null) {
+                metrics.recordSkip(packetType, ByteBufHelper.readableBytes(buffer));
+            }
+        }
+        return false;
+    }
+
     public static @Nullable PacketSendEvent handleClientBoundPacket(
             Object channel, User user, Object player, Object buffer,
             boolean autoProtocolTranslation
@@ -54,9 +96,17 @@ public final class PacketEventsImplHelper {
         if (!ByteBufHelper.isReadable(buffer)) {
             return null;
         }
+        if (!isListenedTo(user, buffer, PacketSide.SERVER, autoProtocolTranslation)) {
+            return null;
+        }
 
+        PacketMetrics metrics = PacketEvents.getAPI().getEventManager().getMetrics();
         int preProcessIndex = ByteBufHelper.readerIndex(buffer);
+        long start = metrics == null ? 0L : System.nanoTime();
         PacketSendEvent packetSendEvent = EventCreationUtil.createSendEvent(channel, user, player, buffer, autoProtocolTranslation);
+        if (metrics != null) {
+            metrics.recordDecode(packetSendEvent.getPacketType(), System.nanoTime() - start);
+        }
         int processIndex = ByteBufHelper.readerIndex(buffer);
         PacketEvents.getAPI().getEventManager().callEvent(packetSendEvent, () -> {
             ByteBufHelper.readerIndex(buffer, processIndex);
@@ -65,15 +115,22 @@ public final class PacketEventsImplHelper {
             //Did they ever use a wrapper?
             if (packetSendEvent.getLastUsedWrapper() != null) {
                 //Rewrite the buffer
+                long reEncodeStart = metrics == null ? 0L : System.nanoTime();
                 ByteBufHelper.clear(buffer);
                 packetSendEvent.getLastUsedWrapper().writeVarInt(packetSendEvent.getPacketId());
                 packetSendEvent.getLastUsedWrapper().write();
+                if (metrics != null) {
+                    metrics.recordReEncode(packetSendEvent.getPacketType(), System.nanoTime() - reEncodeStart);
+                }
             } else {
                 //If no wrappers were used, just pass on the original buffer.
                 //Correct the reader index, basically what the next handler is expecting.
                 ByteBufHelper.readerIndex(buffer, preProcessIndex);
             }
+            PacketEvents.getAPI().getEventManager().callAsyncListeners(packetSendEvent, buffer);
         } else {
+            ByteBufHelper.readerIndex(buffer, preProcessIndex);
+            PacketEvents.getAPI().getEventManager().callAsyncListeners(packetSendEvent, buffer);
             //Make the buffer unreadable for the next handlers
             ByteBufHelper.clear(buffer);
         }
@@ -94,9 +151,17 @@ public final class PacketEventsImplHelper {
         if (!ByteBufHelper.isReadable(buffer)) {
             return null;
         }
+        if (!isListenedTo(user, buffer, PacketSide.CLIENT, autoProtocolTranslation)) {
+            return null;
+        }
 
+        PacketMetrics metrics = PacketEvents.getAPI().getEventManager().getMetrics();
         int preProcessIndex = ByteBufHelper.readerIndex(buffer);
+        long start = metrics == null ? 0L : System.nanoTime();
         PacketReceiveEvent packetReceiveEvent = EventCreationUtil.createReceiveEvent(channel, user, player, buffer, autoProtocolTranslation);
+        if (metrics != null) {
+            metrics.recordDecode(packetReceiveEvent.getPacketType(), System.nanoTime() - start);
+        }
         int processIndex = ByteBufHelper.readerIndex(buffer);
         PacketEvents.getAPI().getEventManager().callEvent(packetReceiveEvent, () -> {
             ByteBufHelper.readerIndex(buffer, processIndex);
@@ -105,15 +170,22 @@ public final class PacketEventsImplHelper {
             //Did they ever use a wrapper?
             if (packetReceiveEvent.getLastUsedWrapper() != null) {
                 //Rewrite the buffer
+                long reEncodeStart = metrics == null ? 0L : System.nanoTime();
                 ByteBufHelper.clear(buffer);
                 packetReceiveEvent.getLastUsedWrapper().writeVarInt(packetReceiveEvent.getPacketId());
                 packetReceiveEvent.getLastUsedWrapper().write();
+                if (metrics != null) {
+                    metrics.recordReEncode(packetReceiveEvent.getPacketType(), System.nanoTime() - reEncodeStart);
+                }
             } else {
                 //If no wrappers were used, just pass on the original buffer.
                 //Correct the reader index, basically what the next handler is expecting.
                 ByteBufHelper.readerIndex(buffer, preProcessIndex);
             }
+            PacketEvents.getAPI().getEventManager().callAsyncListeners(packetReceiveEvent, buffer);
         } else {
+            ByteBufHelper.readerIndex(buffer, preProcessIndex);
+            PacketEvents.getAPI().getEventManager().callAsyncListeners(packetReceiveEvent, buffer);
             //Cancelling the packet, lets clear the buffer
             ByteBufHelper.clear(buffer);
         }
@@ -134,6 +206,7 @@ public final class PacketEventsImplHelper {
                 UserDisconnectEvent disconnectEvent = new UserDisconnectEvent(user);
                 PacketEvents.getAPI().getEventManager().callEvent(disconnectEvent);
                 protocolManager.removeUser(user.getChannel());
+                user.shutdownAsyncListenerExecutor();
             }
 
             if (uuid == null) {
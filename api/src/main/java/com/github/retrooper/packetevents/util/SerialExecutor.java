@@ -0,0 +1,183 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.github.retrooper.packetevents.util;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * Runs tasks one after another, in submission order, on a shared executor.
+ * At most one task of this executor runs at a time, without blocking a thread of the shared executor while idle.
+ * <p>
+ * At most {@code capacity} tasks are queued. If another task is submitted while the queue is full,
+ * the oldest queued task is dropped, which runs its discard action instead. Once shut down,
+ * all queued and submitted tasks are discarded.
+ */
+@ApiStatus.Internal
+public final class SerialExecutor implements Executor {
+
+    private static final Runnable NO_DISCARD = () -> {
+    };
+
+    private final Queue<Task> tasks = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue#size has to traverse the queue
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong droppedTasks = new AtomicLong();
+    private final Executor executor;
+    private final int capacity;
+    private volatile boolean shutdown;
+
+    public SerialExecutor(Executor executor) {
+        this(executor, Integer.MAX_VALUE);
+    }
+
+    public SerialExecutor(Executor executor, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity has to be positive: " + capacity);
+        }
+        this.executor = executor;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        this.execute(task, NO_DISCARD);
+    }
+
+    /**
+     * @param discard run instead of the task if the task is dropped or this executor was shut down
+     */
+    public void execute(Runnable task, Runnable discard) {
+        Task entry = new Task(task, discard);
+        if (this.shutdown) {
+            entry.discard();
+            return;
+        }
+        this.tasks.add(entry);
+        if (this.size.incrementAndGet() > this.capacity) {
+            // drop the oldest task, this may be the one just added if the others were polled concurrently
+            Task dropped = this.poll();
+            if (dropped != null) {
+                this.droppedTasks.incrementAndGet();
+                dropped.discard();
+            }
+        }
+        if (this.shutdown) {
+            // shut down while adding, the task may not have been discarded
+            this.discardAll();
+            return;
+        }
+        try {
+            this.schedule();
+        } catch (RejectedExecutionException e) {
+            if (this.tasks.remove(entry)) {
+                this.size.decrementAndGet();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Discards all queued tasks and all tasks submitted afterward. A task which is already running completes.
+     */
+    public void shutdown() {
+        this.shutdown = true;
+        this.discardAll();
+    }
+
+    /**
+     * @return the number of tasks which were dropped since the queue was full
+     */
+    public long getDroppedTasks() {
+        return this.droppedTasks.get();
+    }
+
+    private Task poll() {
+        Task task = this.tasks.poll();
+        if (task != null) {
+            this.size.decrementAndGet();
+        }
+        return task;
+    }
+
+    private void discardAll() {
+        Task task;
+        while ((task = this.poll()) != null) {
+            task.discard();
+        }
+    }
+
+    private void schedule() {
+        if (this.running.compareAndSet(false, true)) {
+            try {
+                this.executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                this.running.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Task task;
+            while (!this.shutdown && (task = this.poll()) != null) {
+                try {
+                    task.task.run();
+                } catch (Throwable t) {
+                    PacketEvents.getAPI().getLogger().log(Level.WARNING, "Failed to run a task", t);
+                }
+            }
+        } finally {
+            this.running.set(false);
+            // a task may have been added after the last poll, but before we were done
+            if (!this.shutdown && !this.tasks.isEmpty()) {
+                this.schedule();
+            }
+        }
+    }
+
+    private static final class Task {
+
+        private final Runnable task;
+        private final Runnable discard;
+
+        private Task(Runnable task, Runnable discard) {
+            this.task = task;
+            this.discard = discard;
+        }
+
+        private void discard() {
+            try {
+                this.discard.run();
+            } catch (Throwable t) {
+                PacketEvents.getAPI().getLogger().log(Level.WARNING, "Failed to discard a task", t);
+            }
+        }
+    }
+}
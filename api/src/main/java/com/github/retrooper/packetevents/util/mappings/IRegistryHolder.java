@@ -43,4 +43,12 @@ public interface IRegistryHolder {
     }
 
     @Nullable IRegistry<?> getRegistry(ResourceLocation registryKey, ClientVersion version);
+
+    /**
+     * @return a key which is equal for registry holders providing the same registries,
+     * allowing data depending on the registries to be cached without referencing this holder
+     */
+    default Object getRegistriesKey() {
+        return this;
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.util.mappings;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps protocol ids of a single version to their entries.
+ * <p>
+ * Ids are stored in a dense array, so lookups don't box or hash. Ids which would leave
+ * a large gap in the array are stored in a sparse map instead.
+ */
+@ApiStatus.Internal
+public final class IdTable<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    // how far an id may be past the highest dense id before it is stored sparsely
+    private static final int MAX_DENSE_GAP = 1024;
+
+    private Object[] dense = new Object[INITIAL_CAPACITY];
+    private int maxDenseId = -1;
+    private @Nullable Map<Integer, T> sparse;
+
+    public void put(int id, T value) {
+        if (id < 0) {
+            return; // not present in this version
+        }
+        if (id >= this.dense.length) {
+            if (id - this.maxDenseId > MAX_DENSE_GAP) {
+                if (this.sparse == null) {
+                    this.sparse = new HashMap<>();
+                }
+                this.sparse.put(id, value);
+                return;
+            }
+            this.dense = Arrays.copyOf(this.dense, Math.max(id + 1, this.dense.length << 1));
+        }
+        this.dense[id] = value;
+        if (id > this.maxDenseId) {
+            this.maxDenseId = id;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public @Nullable T get(int id) {
+        Object[] dense = this.dense;
+        if (id >= 0 && id < dense.length) {
+            Object value = dense[id];
+            if (value != null) {
+                return (T) value;
+            }
+        }
+        Map<Integer, T> sparse = this.sparse;
+        return sparse == null ? null : sparse.get(id);
+    }
+}
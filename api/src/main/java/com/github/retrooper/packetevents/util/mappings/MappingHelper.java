@@ -31,9 +31,12 @@ import org.jetbrains.annotations.ApiStatus;
 import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -53,6 +56,40 @@ public class MappingHelper {
         }
     }
 
+    /**
+     * Reads an uncompressed binary mapping file in one go, for direct access to its contents.
+     */
+    public static ByteBuffer readBinary(final String path) {
+        try (InputStream input = PacketEvents.getAPI().getSettings().getResourceProvider().apply("assets/" + path + ".bin")) {
+            if (input == null) {
+                throw new IOException("Resource not found");
+            }
+            byte[] data = new byte[Math.max(input.available(), 8192)];
+            int length = 0;
+            int read;
+            while ((read = input.read(data, length, data.length - length)) != -1) {
+                length += read;
+                if (length == data.length) {
+                    data = Arrays.copyOf(data, data.length << 1);
+                }
+            }
+            return ByteBuffer.wrap(data, 0, length).slice();
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot find resource file " + path + ".bin", e);
+        }
+    }
+
+    /**
+     * Reads a string of a binary mapping file, mapping names are plain ascii
+     * so this is compatible with {@link java.io.DataOutput#writeUTF(String)}.
+     */
+    public static String readUTF(final ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xFFFF;
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
     public static List<ListDiff<String>> createListDiff(final SequentialNBTReader.Compound compound) {
         final List<ListDiff<String>> diffs = new ArrayList<>();
 
@@ -112,15 +149,14 @@ public class MappingHelper {
     public static <T extends MappedEntity> void registerMapping(
             TypesBuilder builder,
             Map<String, T> typeMap,
-            Map<Byte, Map<Integer, T>> typeIdMap,
+            IdTable<T>[] typeIdTables,
             TypesBuilderData typeData,
             T type
     ) {
         typeMap.put(typeData.getName().toString(), type);
         for (ClientVersion version : builder.getVersions()) {
             int index = builder.getDataIndex(version);
-            Map<Integer, T> idMap = typeIdMap.computeIfAbsent((byte) index, k -> new HashMap<>());
-            idMap.put(typeData.getId(version), type);
+            typeIdTables[index].put(typeData.getId(version), type);
         }
     }
 
@@ -18,11 +18,6 @@
 
 package com.github.retrooper.packetevents.util.mappings;
 
-import com.github.retrooper.packetevents.protocol.nbt.NBT;
-import com.github.retrooper.packetevents.protocol.nbt.NBTNumber;
-import com.github.retrooper.packetevents.protocol.nbt.NBTString;
-import com.github.retrooper.packetevents.protocol.nbt.NBTType;
-import com.github.retrooper.packetevents.protocol.nbt.serializer.SequentialNBTReader;
 import com.github.retrooper.packetevents.protocol.player.ClientVersion;
 import com.github.retrooper.packetevents.resources.ResourceLocation;
 import com.github.retrooper.packetevents.util.VersionMapper;
@@ -30,21 +25,25 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 
-import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.function.Consumer;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 @ApiStatus.Internal
 public class TypesBuilder {
+
+    // "PEMT", see the registry table compression strategy for the format
+    private static final int MAGIC = 0x50454D54;
+    private static final int FORMAT_VERSION = 1;
+
     private final String mapPath;
-    private Map<ClientVersion, Map<String, Integer>> entries = new HashMap<>();
     private VersionMapper versionMapper;
 
+    // the ids of every version, one row per version and one column per entry name
+    private @Nullable ByteBuffer table;
+    private int idWidth;
+    private @Nullable Map<String, Integer> columns;
+
     @Nullable
     VersionedRegistry<?> registry;
 
@@ -60,91 +59,26 @@ public class TypesBuilder {
     }
 
     public void load() {
-        if (this.entries == null) {
-            this.entries = new HashMap<>();
+        ByteBuffer buffer = MappingHelper.readBinary("mappings/" + this.mapPath);
+        if (buffer.getInt() != MAGIC || buffer.get() != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported mapping file format of " + this.mapPath);
         }
-        try (final SequentialNBTReader.Compound rootCompound = MappingHelper.decompress("mappings/" + this.mapPath)) {
-            rootCompound.skipOne(); // skip version tag for now
-            SequentialNBTReader.Compound compound = (SequentialNBTReader.Compound) rootCompound.next().getValue();
-
-            int length = ((NBTNumber) compound.next().getValue()).getAsInt(); // Second tag is the length
-            final SequentialNBTReader.Compound entries = (SequentialNBTReader.Compound) compound.next().getValue(); // Third tag are the entries
-
-            final ClientVersion[] versions = new ClientVersion[length];
-            final Map.Entry<String, NBT> first = entries.next();
-            if (first.getValue().getType() == NBTType.LIST) {
-                loadAsArray(first, entries, versions);
-            } else {
-                loadAsMap(first, entries, versions);
-            }
 
-            versionMapper = new VersionMapper(versions);
-        } catch (IOException e) {
-            throw new RuntimeException("Unable to load mapping files.", e);
+        final ClientVersion[] versions = new ClientVersion[buffer.getInt()];
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = ClientVersion.valueOf(MappingHelper.readUTF(buffer));
         }
-    }
-
-    private void loadAsArray(
-            final Map.Entry<String, NBT> first,
-            final SequentialNBTReader.Compound entries,
-            final ClientVersion[] versions
-    ) {
-        final ClientVersion start = ClientVersion.valueOf(first.getKey());
-        versions[0] = start;
-        final List<String> lastEntries = new ArrayList<>();
-        for (NBT entry : ((SequentialNBTReader.List) first.getValue())) {
-            lastEntries.add(((NBTString) entry).getValue());
+        int nameCount = buffer.getInt();
+        final Map<String, Integer> columns = new HashMap<>(nameCount * 4 / 3 + 1);
+        for (int i = 0; i < nameCount; i++) {
+            columns.put(MappingHelper.readUTF(buffer), i);
         }
+        this.idWidth = buffer.get();
+        // ids are read directly from the table when entries are defined
+        this.table = buffer.slice();
+        this.columns = columns;
 
-        final Consumer<ClientVersion> mapLoader = version -> {
-            final Map<String, Integer> map = new HashMap<>();
-            for (int i = 0; i < lastEntries.size(); i++) {
-                map.put(lastEntries.get(i), i);
-            }
-            this.entries.put(version, map);
-        };
-        mapLoader.accept(start);
-
-        int i = 1;
-        for (Map.Entry<String, NBT> entry : entries) {
-            final ClientVersion version = ClientVersion.valueOf(entry.getKey());
-            versions[i++] = version;
-            final List<ListDiff<String>> diff = MappingHelper.createListDiff((SequentialNBTReader.Compound) entry.getValue());
-
-            for (int j = diff.size() - 1; j >= 0; j--) {
-                diff.get(j).applyTo(lastEntries);
-            }
-            mapLoader.accept(version);
-        }
-    }
-
-    private void loadAsMap(
-            final Map.Entry<String, NBT> first,
-            final SequentialNBTReader.Compound entries,
-            final ClientVersion[] versions
-    ) {
-        final ClientVersion start = ClientVersion.valueOf(first.getKey());
-        versions[0] = start;
-        final Map<String, Integer> lastEntries = StreamSupport.stream(((SequentialNBTReader.Compound) first.getValue()).spliterator(), false)
-                .collect(Collectors.toMap(Map.Entry::getKey, entry -> ((NBTNumber) entry.getValue()).getAsInt()));
-
-        final Consumer<ClientVersion> mapLoader = version -> {
-            final Map<String, Integer> map = new HashMap<>(lastEntries);
-            this.entries.put(version, map);
-        };
-        mapLoader.accept(start);
-
-        int i = 1;
-        for (Map.Entry<String, NBT> entry : entries) {
-            final ClientVersion version = ClientVersion.valueOf(entry.getKey());
-            versions[i++] = version;
-            final List<MapDiff<String, Integer>> diff = MappingHelper.createDiff((SequentialNBTReader.Compound) entry.getValue());
-
-            for (MapDiff<String, Integer> d : diff) {
-                d.applyTo(lastEntries);
-            }
-            mapLoader.accept(version);
-        }
+        versionMapper = new VersionMapper(versions);
     }
 
     public @Nullable VersionedRegistry<?> getRegistry() {
@@ -165,32 +99,50 @@ public class TypesBuilder {
 
     @VisibleForTesting
     public boolean isMappingDataLoaded() {
-        return this.entries != null;
+        return this.table != null;
     }
 
     public void unloadFileMappings() {
-        entries.clear();
-        entries = null;
+        this.table = null;
+        this.columns = null;
     }
 
     public TypesBuilderData define(String key) {
         final ResourceLocation name = new ResourceLocation(key);
         final int[] ids = new int[getVersions().length];
-        int index = 0;
-        for (ClientVersion v : getVersions()) {
-            final Map<String, Integer> map = entries.get(v);
-            if (map.containsKey(key)) {
-                int id = map.get(key);
-                ids[index] = id;
-            } else {
-                ids[index] = -1;
-            }
-            index++;
+        final Integer column = this.columns.get(key);
+        for (int row = 0; row < ids.length; row++) {
+            ids[row] = column == null ? -1 : this.getId(row, column);
         }
         return new TypesBuilderData(this, name, ids);
     }
 
+    private int getId(int row, int column) {
+        int index = row * this.columns.size() + column;
+        return this.idWidth == Integer.BYTES
+                ? this.table.getInt(index * Integer.BYTES)
+                : this.table.getShort(index * Short.BYTES);
+    }
+
+    /**
+     * Builds the mappings of each version, only intended for validating the mappings.
+     */
     public @Nullable Map<ClientVersion, Map<String, Integer>> getEntries() {
-        return this.entries;
+        if (this.table == null) {
+            return null;
+        }
+        ClientVersion[] versions = this.getVersions();
+        Map<ClientVersion, Map<String, Integer>> entries = new HashMap<>(versions.length);
+        for (int row = 0; row < versions.length; row++) {
+            Map<String, Integer> map = new HashMap<>();
+            for (Map.Entry<String, Integer> column : this.columns.entrySet()) {
+                int id = this.getId(row, column.getValue());
+                if (id != -1) {
+                    map.put(column.getKey(), id);
+                }
+            }
+            entries.put(versions[row], map);
+        }
+        return entries;
     }
 }
@@ -39,7 +39,8 @@ public final class VersionedRegistry<T extends MappedEntity> implements IRegistr
     private final TypesBuilder typesBuilder;
 
     private final Map<String, T> typeMap = new HashMap<>();
-    private final Map<Byte, Map<Integer, T>> typeIdMap = new HashMap<>();
+    // indexed by the data index of the version
+    private final IdTable<T>[] typeIdTables;
 
     public VersionedRegistry(String registry) {
         this(registry, "registries/" + registry);
@@ -53,13 +54,23 @@ public final class VersionedRegistry<T extends MappedEntity> implements IRegistr
         this.registryKey = registryKey;
         this.typesBuilder = new TypesBuilder(mappingsPath);
         this.typesBuilder.registry = this;
+        this.typeIdTables = createIdTables(this.typesBuilder.getVersions().length);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> IdTable<T>[] createIdTables(int length) {
+        IdTable<T>[] tables = new IdTable[length];
+        for (int i = 0; i < length; i++) {
+            tables[i] = new IdTable<>();
+        }
+        return tables;
     }
 
     @ApiStatus.Internal
     public <Z extends T> Z define(String name, Function<TypesBuilderData, Z> builder) {
         TypesBuilderData typeData = this.typesBuilder.define(name);
         Z instance = builder.apply(typeData);
-        MappingHelper.registerMapping(this.typesBuilder, this.typeMap, this.typeIdMap, typeData, instance);
+        MappingHelper.registerMapping(this.typesBuilder, this.typeMap, this.typeIdTables, typeData, instance);
         return instance;
     }
 
@@ -88,8 +99,7 @@ public final class VersionedRegistry<T extends MappedEntity> implements IRegistr
     @Override
     public @Nullable T getById(ClientVersion version, int id) {
         int index = this.typesBuilder.getDataIndex(version);
-        Map<Integer, T> idMap = this.typeIdMap.get((byte) index);
-        return idMap.get(id);
+        return this.typeIdTables[index].get(id);
     }
 
     @Override
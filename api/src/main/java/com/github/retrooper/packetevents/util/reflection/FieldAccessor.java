@@ -0,0 +1,152 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.util.reflection;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Accesses a field through method handles, which the JIT can inline unlike {@link Field#get(Object)}.
+ * Handles stored in static final fields are treated as constants and are as fast as direct field access.
+ */
+@ApiStatus.Internal
+public final class FieldAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle getter;
+    // null if the field can't be written to through a method handle, e.g. if it's final
+    private final @Nullable MethodHandle setter;
+
+    public FieldAccessor(Field field) {
+        if (!field.isAccessible()) {
+            field.setAccessible(true);
+        }
+        this.field = field;
+        // static fields ignore the instance, like Field#get does
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        try {
+            MethodHandle getter = LOOKUP.unreflectGetter(field);
+            if (isStatic) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            this.getter = getter.asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Failed to access field " + field, e);
+        }
+        MethodHandle setter;
+        try {
+            setter = LOOKUP.unreflectSetter(field);
+            if (isStatic) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+            setter = setter.asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            setter = null;
+        }
+        this.setter = setter;
+    }
+
+    /**
+     * Finds the declared field of the class with exactly the specified type, like {@link ReflectionObject}.
+     */
+    public static @Nullable FieldAccessor find(@Nullable Class<?> clazz, @Nullable Class<?> type, int index) {
+        if (clazz == null || type == null) {
+            return null;
+        }
+        int currentIndex = 0;
+        for (Field field : clazz.getDeclaredFields()) {
+            if (field.getType().equals(type) && currentIndex++ == index) {
+                try {
+                    return new FieldAccessor(field);
+                } catch (RuntimeException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return a getter handle of type {@code (Object)Object}, or null if the field doesn't exist
+     */
+    public static @Nullable MethodHandle getter(@Nullable Class<?> clazz, @Nullable Class<?> type, int index) {
+        FieldAccessor accessor = find(clazz, type, index);
+        return accessor == null ? null : accessor.getter;
+    }
+
+    /**
+     * @return a handle of type {@code (Object)Object} invoking the method without arguments, or null if it can't be accessed
+     */
+    public static @Nullable MethodHandle invoker(@Nullable Method method) {
+        if (method == null) {
+            return null;
+        }
+        try {
+            if (!method.isAccessible()) {
+                method.setAccessible(true);
+            }
+            return LOOKUP.unreflect(method).asType(GETTER_TYPE);
+        } catch (RuntimeException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    public Object get(Object instance) {
+        try {
+            return (Object) this.getter.invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    public void set(Object instance, Object value) {
+        try {
+            if (this.setter != null) {
+                this.setter.invokeExact(instance, value);
+            } else {
+                this.field.set(instance, value);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    public Field getField() {
+        return this.field;
+    }
+
+    public MethodHandle getGetter() {
+        return this.getter;
+    }
+}
@@ -18,6 +18,7 @@
 
 package com.github.retrooper.packetevents.util.reflection;
 
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -26,8 +27,8 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class ReflectionObject implements ReflectionObjectReader, ReflectionObjectWriter {
-    private static final Map<Class<?>, Map<Class<?>, Field[]>> FIELD_CACHE = new ConcurrentHashMap<>();
-    private static final Field[] EMPTY_FIELD_ARRAY = new Field[0];
+    private static final Map<Class<?>, Map<Class<?>, FieldAccessor[]>> FIELD_CACHE = new ConcurrentHashMap<>();
+    private static final FieldAccessor[] EMPTY_FIELD_ARRAY = new FieldAccessor[0];
     protected final Object object;
     private final Class<?> clazz;
 
@@ -162,9 +163,9 @@ public class ReflectionObject implements ReflectionObjectReader, ReflectionObjec
     @SuppressWarnings("unchecked")
     public <T> T read(int index, Class<? extends T> type) {
         try {
-            Field field = getField(type, index);
+            FieldAccessor field = getField(type, index);
             return (T) field.get(object);
-        } catch (IllegalAccessException | NullPointerException | ArrayIndexOutOfBoundsException e) {
+        } catch (NullPointerException | ArrayIndexOutOfBoundsException e) {
             throw new IllegalStateException("PacketEvents failed to find a " + type.getSimpleName() + " indexed " + index + " by its type in the " + clazz.getName() + " class!");
         }
     }
@@ -275,13 +276,14 @@ public class ReflectionObject implements ReflectionObjectReader, ReflectionObjec
     }
 
     public void write(Class<?> type, int index, Object value) throws IllegalStateException {
-        Field field = getField(type, index);
+        FieldAccessor field = getField(type, index);
         if (field == null) {
             throw new IllegalStateException("PacketEvents failed to find a " + type.getSimpleName() + " indexed " + index + " by its type in the " + clazz.getName() + " class!");
         }
         try {
             field.set(object, value);
-        } catch (IllegalAccessException | NullPointerException e) {
+        } catch (IllegalStateException | NullPointerException | ClassCastException | WrongMethodTypeException e) {
+            // the setter handle rejects values and instances of the wrong type with these
             e.printStackTrace();
         }
     }
@@ -294,9 +296,9 @@ public class ReflectionObject implements ReflectionObjectReader, ReflectionObjec
         write(List.class, index, list);
     }
 
-    private Field getField(Class<?> type, int index) {
-        Map<Class<?>, Field[]> cached = FIELD_CACHE.computeIfAbsent(clazz, k -> new ConcurrentHashMap<>());
-        Field[] fields = cached.computeIfAbsent(type, typeClass -> getFields(typeClass, clazz.getDeclaredFields()));
+    private FieldAccessor getField(Class<?> type, int index) {
+        Map<Class<?>, FieldAccessor[]> cached = FIELD_CACHE.computeIfAbsent(clazz, k -> new ConcurrentHashMap<>());
+        FieldAccessor[] fields = cached.computeIfAbsent(type, typeClass -> getFields(typeClass, clazz.getDeclaredFields()));
         if (fields.length >= index + 1) {
             return fields[index];
         } else {
@@ -304,14 +306,11 @@ public class ReflectionObject implements ReflectionObjectReader, ReflectionObjec
         }
     }
 
-    private Field[] getFields(Class<?> type, Field[] fields) {
-        List<Field> ret = new ArrayList<>();
+    private FieldAccessor[] getFields(Class<?> type, Field[] fields) {
+        List<FieldAccessor> ret = new ArrayList<>();
         for (Field field : fields) {
             if (field.getType().equals(type)) {
-                if (!field.isAccessible()) {
-                    field.setAccessible(true);
-                }
-                ret.add(field);
+                ret.add(new FieldAccessor(field));
             }
         }
         return ret.toArray(EMPTY_FIELD_ARRAY);
@@ -49,6 +49,7 @@ import com.github.retrooper.packetevents.event.ProtocolPacketEvent;
 import com.github.retrooper.packetevents.manager.server.ServerVersion;
 import com.github.retrooper.packetevents.manager.server.VersionComparison;
 import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufOperator;
 import com.github.retrooper.packetevents.netty.channel.ChannelHelper;
 import com.github.retrooper.packetevents.protocol.PacketSide;
 import com.github.retrooper.packetevents.protocol.chat.ChatType;
@@ -78,6 +79,7 @@ import com.github.retrooper.packetevents.protocol.nbt.NBT;
 import com.github.retrooper.packetevents.protocol.nbt.NBTCompound;
 import com.github.retrooper.packetevents.protocol.nbt.NBTLimiter;
 import com.github.retrooper.packetevents.protocol.nbt.codec.NBTCodec;
+import com.github.retrooper.packetevents.protocol.nbt.serializer.NBTBufferReader;
 import com.github.retrooper.packetevents.protocol.packettype.PacketType;
 import com.github.retrooper.packetevents.protocol.packettype.PacketTypeCommon;
 import com.github.retrooper.packetevents.protocol.player.ClientVersion;
@@ -92,6 +94,7 @@ import com.github.retrooper.packetevents.resources.ResourceLocation;
 import com.github.retrooper.packetevents.util.Either;
 import com.github.retrooper.packetevents.util.KnownPack;
 import com.github.retrooper.packetevents.util.MathUtil;
+import com.github.retrooper.packetevents.util.MutabilityUtil;
 import com.github.retrooper.packetevents.util.StringUtil;
 import com.github.retrooper.packetevents.util.Vector3i;
 import com.github.retrooper.packetevents.util.adventure.AdventureSerializer;
@@ -137,6 +140,12 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
     protected ClientVersion clientVersion;
     protected ServerVersion serverVersion;
     private PacketTypeData packetTypeData;
+    // Resolved once per wrapper, instead of walking from the API to the operator for every single byte
+    private ByteBufOperator byteBufOperator;
+    // Set by the setters, untouched wrappers don't have to be re-encoded
+    private boolean dirty;
+    // Set when a getter handed out an object which may have been modified in place
+    private boolean escaped;
     // For sending chunk data packets, which need this data
     @Nullable
     protected User user;
@@ -249,7 +258,7 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
                         user.getConnectionState(), serverVersion.toClientVersion(), packetTypeData.getNativePacketId()));
             }
             //Change local version to user version so that the packet can be processed correctly.
-            serverVersion = user.getClientVersion().toServerVersion();
+            serverVersion = user.getPacketServerVersion(false);
             int id = packetTypeData.getPacketType().getId(user.getClientVersion());
             writeVarInt(id);
         } else {
@@ -282,12 +291,58 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
         PacketWrapper<?> last = event.getLastUsedWrapper();
         if (this.getClass().isInstance(last)) {
             copy((T) last);
+            // changes of the previous wrapper are carried over
+            this.dirty = last.dirty;
+            this.escaped = last.escaped;
         } else {
             read();
+            this.dirty = false;
+            this.escaped = false;
         }
         event.setLastUsedWrapper(this);
     }
 
+    /**
+     * Marks this wrapper as modified, so the packet gets re-encoded from it when used in an event.
+     * Setters call this automatically. Objects handed out by getters which were modified in place only
+     * have to be marked if re-encoding by default is disabled, see {@link #isEscaped()}.
+     */
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    /**
+     * Was this wrapper modified after it was read?
+     *
+     * @return Whether any setter was called, or {@link #markDirty()}
+     */
+    public boolean isDirty() {
+        return this.dirty;
+    }
+
+    /**
+     * Did a getter of this wrapper hand out an object which can be modified in place?
+     * Such wrappers are re-encoded like modified ones, as the object may have been changed.
+     */
+    public boolean isEscaped() {
+        return this.escaped;
+    }
+
+    /**
+     * Returns a value from a getter, marking this wrapper as escaped if the value isn't immutable.
+     */
+    protected <V> V escape(V value) {
+        if (!this.escaped && !MutabilityUtil.isImmutable(value)) {
+            this.escaped = true;
+        }
+        return value;
+    }
+
+    @ApiStatus.Internal
+    public void markEscaped() {
+        this.escaped = true;
+    }
+
     public ClientVersion getClientVersion() {
         return clientVersion;
     }
@@ -350,25 +405,34 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
         return serverVersion.isNewerThanOrEquals(ServerVersion.V_1_13) ? MODERN_MESSAGE_LENGTH : LEGACY_MESSAGE_LENGTH;
     }
 
+    private ByteBufOperator getByteBufOperator() {
+        ByteBufOperator operator = this.byteBufOperator;
+        if (operator == null) {
+            operator = PacketEvents.getAPI().getNettyManager().getByteBufOperator();
+            this.byteBufOperator = operator;
+        }
+        return operator;
+    }
+
     @Deprecated
     public void resetByteBuf() {
-        ByteBufHelper.clear(buffer);
+        getByteBufOperator().clear(buffer);
     }
 
     public void resetBuffer() {
-        ByteBufHelper.clear(buffer);
+        getByteBufOperator().clear(buffer);
     }
 
     public byte readByte() {
-        return ByteBufHelper.readByte(buffer);
+        return getByteBufOperator().readByte(buffer);
     }
 
     public void writeByte(int value) {
-        ByteBufHelper.writeByte(buffer, value);
+        getByteBufOperator().writeByte(buffer, value);
     }
 
     public short readUnsignedByte() {
-        return ByteBufHelper.readUnsignedByte(buffer);
+        return getByteBufOperator().readUnsignedByte(buffer);
     }
 
     public boolean readBoolean() {
@@ -380,34 +444,23 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
     }
 
     public int readInt() {
-        return ByteBufHelper.readInt(buffer);
+        return getByteBufOperator().readInt(buffer);
     }
 
     public void writeInt(int value) {
-        ByteBufHelper.writeInt(buffer, value);
+        getByteBufOperator().writeInt(buffer, value);
     }
 
     public int readMedium() {
-        return ByteBufHelper.readMedium(buffer);
+        return getByteBufOperator().readMedium(buffer);
     }
 
     public void writeMedium(int value) {
-        ByteBufHelper.writeMedium(buffer, value);
+        getByteBufOperator().writeMedium(buffer, value);
     }
 
     public int readVarInt() {
-        int value = 0;
-        int length = 0;
-        byte currentByte;
-        do {
-            currentByte = readByte();
-            value |= (currentByte & 0x7F) << (length * 7);
-            length++;
-            if (length > 5) {
-                throw new RuntimeException("VarInt is too large. Must be smaller than 5 bytes.");
-            }
-        } while ((currentByte & 0x80) == 0x80);
-        return value;
+        return getByteBufOperator().readVarInt(buffer);
     }
 
     public void writeVarInt(int value) {
@@ -517,6 +570,16 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
         return NBTCodec.readNBTFromBuffer(buffer, serverVersion);
     }
 
+    /**
+     * Reads a compound without building its tag tree. Values which aren't read by the visitor are skipped.
+     *
+     * @return false if there was no compound to read
+     * @see NBTBufferReader
+     */
+    public boolean readNBT(NBTBufferReader.CompoundVisitor visitor) {
+        return NBTCodec.readNBTFromBuffer(buffer, serverVersion, visitor);
+    }
+
     public NBTCompound readUnlimitedNBT() {
         return (NBTCompound) this.readUnlimitedNBTRaw();
     }
@@ -545,8 +608,8 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
         } else if (j < 0) {
             throw new RuntimeException("The received encoded string buffer length is less than zero! Weird string!");
         } else {
-            String s = ByteBufHelper.toString(buffer, ByteBufHelper.readerIndex(buffer), j, StandardCharsets.UTF_8);
-            ByteBufHelper.readerIndex(buffer, ByteBufHelper.readerIndex(buffer) + j);
+            String s = getByteBufOperator().toString(buffer, getByteBufOperator().readerIndex(buffer), j, StandardCharsets.UTF_8);
+            getByteBufOperator().readerIndex(buffer, getByteBufOperator().readerIndex(buffer) + j);
             if (s.length() > maxLen) {
                 throw new RuntimeException("The received string length is longer than maximum allowed (" + j + " > " + maxLen + ")");
             } else {
@@ -578,7 +641,7 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
             throw new IllegalStateException("String too big (was " + bytes.length + " bytes encoded, max " + maxLen + ")");
         } else {
             writeVarInt(bytes.length);
-            ByteBufHelper.writeBytes(buffer, bytes);
+            getByteBufOperator().writeBytes(buffer, bytes);
         }
     }
 
@@ -648,15 +711,15 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
     }
 
     public int readUnsignedShort() {
-        return ByteBufHelper.readUnsignedShort(buffer);
+        return getByteBufOperator().readUnsignedShort(buffer);
     }
 
     public short readShort() {
-        return ByteBufHelper.readShort(buffer);
+        return getByteBufOperator().readShort(buffer);
     }
 
     public void writeShort(int value) {
-        ByteBufHelper.writeShort(buffer, value);
+        getByteBufOperator().writeShort(buffer, value);
     }
 
     public int readVarShort() {
@@ -682,21 +745,15 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
     }
 
     public long readLong() {
-        return ByteBufHelper.readLong(buffer);
+        return getByteBufOperator().readLong(buffer);
     }
 
     public void writeLong(long value) {
-        ByteBufHelper.writeLong(buffer, value);
+        getByteBufOperator().writeLong(buffer, value);
     }
 
     public long readVarLong() {
-        long value = 0;
-        int size = 0;
-        int b;
-        while (((b = readByte()) & 0x80) == 0x80) {
-            value |= (long) (b & 0x7F) << (size++ * 7);
-        }
-        return value | ((long) (b & 0x7F) << (size * 7));
+        return getByteBufOperator().readVarLong(buffer);
     }
 
     public void writeVarLong(long l) {
@@ -709,33 +766,33 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
     }
 
     public float readFloat() {
-        return ByteBufHelper.readFloat(buffer);
+        return getByteBufOperator().readFloat(buffer);
     }
 
     public void writeFloat(float value) {
-        ByteBufHelper.writeFloat(buffer, value);
+        getByteBufOperator().writeFloat(buffer, value);
     }
 
     public double readDouble() {
-        return ByteBufHelper.readDouble(buffer);
+        return getByteBufOperator().readDouble(buffer);
     }
 
     public void writeDouble(double value) {
-        ByteBufHelper.writeDouble(buffer, value);
+        getByteBufOperator().writeDouble(buffer, value);
     }
 
     public byte[] readRemainingBytes() {
-        return readBytes(ByteBufHelper.readableBytes(buffer));
+        return readBytes(getByteBufOperator().readableBytes(buffer));
     }
 
     public byte[] readBytes(int size) {
         byte[] bytes = new byte[size];
-        ByteBufHelper.readBytes(buffer, bytes);
+        getByteBufOperator().readBytes(buffer, bytes);
         return bytes;
     }
 
     public void writeBytes(byte[] array) {
-        ByteBufHelper.writeBytes(buffer, array);
+        getByteBufOperator().writeBytes(buffer, array);
     }
 
     public byte[] readByteArray(int maxLength) {
@@ -747,7 +804,7 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
     }
 
     public byte[] readByteArray() {
-        return readByteArray(ByteBufHelper.readableBytes(buffer));
+        return readByteArray(getByteBufOperator().readableBytes(buffer));
     }
 
     public void writeByteArray(byte[] array) {
@@ -756,16 +813,14 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
     }
 
     public int[] readVarIntArray() {
-        int readableBytes = ByteBufHelper.readableBytes(buffer);
+        int readableBytes = getByteBufOperator().readableBytes(buffer);
         int size = readVarInt();
         if (size > readableBytes) {
             throw new IllegalStateException("VarIntArray with size " + size + " is bigger than allowed " + readableBytes);
         }
 
         int[] array = new int[size];
-        for (int i = 0; i < size; i++) {
-            array[i] = readVarInt();
-        }
+        getByteBufOperator().readVarInts(buffer, array);
         return array;
     }
 
@@ -787,19 +842,17 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
 
     public byte[] readByteArrayOfSize(int size) {
         byte[] array = new byte[size];
-        ByteBufHelper.readBytes(buffer, array);
+        getByteBufOperator().readBytes(buffer, array);
         return array;
     }
 
     public void writeByteArrayOfSize(byte[] array) {
-        ByteBufHelper.writeBytes(buffer, array);
+        getByteBufOperator().writeBytes(buffer, array);
     }
 
     public int[] readVarIntArrayOfSize(int size) {
         int[] array = new int[size];
-        for (int i = 0; i < array.length; i++) {
-            array[i] = readVarInt();
-        }
+        getByteBufOperator().readVarInts(buffer, array);
         return array;
     }
 
@@ -810,7 +863,7 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
     }
 
     public long[] readLongArray() {
-        int readableBytes = ByteBufHelper.readableBytes(buffer) / 8;
+        int readableBytes = getByteBufOperator().readableBytes(buffer) / 8;
         int size = readVarInt();
         if (size > readableBytes) {
             throw new IllegalStateException("LongArray with size " + size + " is bigger than allowed " + readableBytes);
@@ -863,14 +916,15 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
     @SuppressWarnings("unchecked")
     public List<EntityData<?>> readEntityMetadata() {
         List<EntityData<?>> list = new ArrayList<>();
+        ClientVersion version = serverVersion.toClientVersion();
         if (serverVersion.isNewerThanOrEquals(ServerVersion.V_1_9)) {
             boolean v1_10 = serverVersion.isNewerThanOrEquals(ServerVersion.V_1_10);
             short index;
             while ((index = readUnsignedByte()) != 255) {
                 int typeID = v1_10 ? readVarInt() : readUnsignedByte();
-                EntityDataType<?> type = EntityDataTypes.getById(serverVersion.toClientVersion(), typeID);
+                EntityDataType<?> type = EntityDataTypes.getById(version, typeID);
                 if (type == null) {
-                    throw new IllegalStateException("Unknown entity metadata type id: " + typeID + " version " + serverVersion.toClientVersion());
+                    throw new IllegalStateException("Unknown entity metadata type id: " + typeID + " version " + version);
                 }
                 list.add(new EntityData<>(index, (EntityDataType<Object>) type, type.read(this)));
             }
@@ -878,7 +932,7 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
             for (byte data = readByte(); data != Byte.MAX_VALUE; data = readByte()) {
                 int typeID = (data & 0xE0) >> 5;
                 int index = data & 0x1F;
-                EntityDataType<?> type = EntityDataTypes.getById(serverVersion.toClientVersion(), typeID);
+                EntityDataType<?> type = EntityDataTypes.getById(version, typeID);
                 EntityData<?> entityData = new EntityData<>(index, (EntityDataType<Object>) type, type.read(this));
                 list.add(entityData);
             }
@@ -891,21 +945,22 @@ public class PacketWrapper<T extends PacketWrapper<T>> {
         if (list == null) {
             list = new ArrayList<>();
         }
+        ClientVersion version = serverVersion.toClientVersion();
         if (serverVersion.isNewerThanOrEquals(ServerVersion.V_1_9)) {
             boolean v1_10 = serverVersion.isNewerThanOrEquals(ServerVersion.V_1_10);
             for (EntityData<?> entityData : list) {
                 writeByte(entityData.getIndex());
                 if (v1_10) {
-                    writeVarInt(entityData.getType().getId(serverVersion.toClientVersion()));
+                    writeVarInt(entityData.getType().getId(version));
                 } else {
-                    writeByte(entityData.getType().getId(serverVersion.toClientVersion()));
+                    writeByte(entityData.getType().getId(version));
                 }
                 ((EntityDataType<Object>) entityData.getType()).write(this, entityData.getValue());
             }
             writeByte(255); // End of metadata array
         } else {
             for (EntityData<?> entityData : list) {
-                int typeID = entityData.getType().getId(serverVersion.toClientVersion());
+                int typeID = entityData.getType().getId(version);
                 int index = entityData.getIndex();
                 int data = (typeID << 5 | index & 31) & 255;
                 writeByte(data);
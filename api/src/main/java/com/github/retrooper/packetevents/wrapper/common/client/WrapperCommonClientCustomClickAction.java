@@ -67,14 +67,16 @@ public class WrapperCommonClientCustomClickAction<T extends WrapperCommonClientC
     }
 
     public void setId(ResourceLocation id) {
+        this.markDirty();
         this.id = id;
     }
 
     public @Nullable NBT getPayload() {
-        return this.payload;
+        return this.escape(this.payload);
     }
 
     public void setPayload(@Nullable NBT payload) {
+        this.markDirty();
         this.payload = payload;
     }
 }
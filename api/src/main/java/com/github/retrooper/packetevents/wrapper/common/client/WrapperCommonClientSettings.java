@@ -137,6 +137,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setLocale(String locale) {
+        this.markDirty();
         this.locale = locale;
     }
 
@@ -145,6 +146,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setViewDistance(int viewDistance) {
+        this.markDirty();
         this.viewDistance = viewDistance;
     }
 
@@ -153,6 +155,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setChatVisibility(ChatVisibility chatVisibility) {
+        this.markDirty();
         this.chatVisibility = chatVisibility;
     }
 
@@ -161,6 +164,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setChatColors(boolean chatColors) {
+        this.markDirty();
         this.chatColors = chatColors;
     }
 
@@ -169,14 +173,16 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setSkinMask(byte skinMask) {
+        this.markDirty();
         this.skinMask = skinMask;
     }
 
     public SkinSection getVisibleSkinSection() {
-        return new SkinSection(this.skinMask);
+        return this.escape(new SkinSection(this.skinMask));
     }
 
     public void setVisibleSkinSections(SkinSection visibleSkinSection) {
+        this.markDirty();
         this.skinMask = visibleSkinSection.getMask();
     }
 
@@ -185,6 +191,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setSkinSectionVisible(SkinSection section, boolean visible) {
+        this.markDirty();
         this.skinMask = section.set(this.skinMask, visible);
     }
 
@@ -193,6 +200,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setMainHand(HumanoidArm mainHand) {
+        this.markDirty();
         this.mainHand = mainHand;
     }
 
@@ -201,6 +209,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setTextFilteringEnabled(boolean textFilteringEnabled) {
+        this.markDirty();
         this.textFilteringEnabled = textFilteringEnabled;
     }
 
@@ -209,6 +218,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setServerListingAllowed(boolean allowServerListings) {
+        this.markDirty();
         this.allowServerListings = allowServerListings;
     }
 
@@ -217,6 +227,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
     }
 
     public void setParticleStatus(ParticleStatus particleStatus) {
+        this.markDirty();
         this.particleStatus = particleStatus;
     }
 
@@ -233,6 +244,7 @@ public class WrapperCommonClientSettings<T extends WrapperCommonClientSettings<T
      */
     @ApiStatus.Obsolete
     public void setIgnoredDifficulty(byte ignoredDifficulty) {
+        this.markDirty();
         this.ignoredDifficulty = ignoredDifficulty;
     }
 
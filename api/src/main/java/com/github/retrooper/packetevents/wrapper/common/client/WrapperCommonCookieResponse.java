@@ -70,14 +70,16 @@ public abstract class WrapperCommonCookieResponse<T extends WrapperCommonCookieR
     }
 
     public void setKey(ResourceLocation key) {
+        this.markDirty();
         this.key = key;
     }
 
     public byte @Nullable [] getPayload() {
-        return this.payload;
+        return this.escape(this.payload);
     }
 
     public void setPayload(byte @Nullable [] payload) {
+        this.markDirty();
         this.payload = payload;
     }
 }
@@ -62,10 +62,11 @@ public abstract class WrapperCommonServerCustomReportDetails<T extends WrapperCo
     }
 
     public Map<String, String> getDetails() {
-        return this.details;
+        return this.escape(this.details);
     }
 
     public void setDetails(Map<String, String> details) {
+        this.markDirty();
         this.details = details;
     }
 }
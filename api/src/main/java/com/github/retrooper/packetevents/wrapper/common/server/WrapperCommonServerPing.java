@@ -63,6 +63,7 @@ public class WrapperCommonServerPing<T extends WrapperCommonServerPing<T>> exten
     }
 
     public void setId(int id) {
+        this.markDirty();
         this.id = id;
     }
 }
@@ -56,10 +56,11 @@ public abstract class WrapperCommonServerServerLinks<T extends WrapperCommonServ
     }
 
     public List<ServerLink> getLinks() {
-        return this.links;
+        return this.escape(this.links);
     }
 
     public void setLinks(List<ServerLink> links) {
+        this.markDirty();
         this.links = links;
     }
 
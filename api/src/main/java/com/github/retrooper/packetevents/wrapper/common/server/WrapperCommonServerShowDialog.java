@@ -52,10 +52,11 @@ public class WrapperCommonServerShowDialog<T extends WrapperCommonServerShowDial
     }
 
     public Dialog getDialog() {
-        return this.dialog;
+        return this.escape(this.dialog);
     }
 
     public void setDialog(Dialog dialog) {
+        this.markDirty();
         this.dialog = dialog;
     }
 }
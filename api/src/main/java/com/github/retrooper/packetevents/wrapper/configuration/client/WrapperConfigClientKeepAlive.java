@@ -55,6 +55,7 @@ public class WrapperConfigClientKeepAlive extends PacketWrapper<WrapperConfigCli
     }
 
     public void setId(long id) {
+        this.markDirty();
         this.id = id;
     }
 }
@@ -69,14 +69,16 @@ public class WrapperConfigClientPluginMessage extends PacketWrapper<WrapperConfi
     }
 
     public void setChannelName(String channelName) {
+        this.markDirty();
         this.channelName = channelName;
     }
 
     public byte[] getData() {
-        return this.data;
+        return this.escape(this.data);
     }
 
     public void setData(byte[] data) {
+        this.markDirty();
         this.data = data;
     }
 }
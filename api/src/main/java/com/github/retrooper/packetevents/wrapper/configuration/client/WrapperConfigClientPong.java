@@ -55,6 +55,7 @@ public class WrapperConfigClientPong extends PacketWrapper<WrapperConfigClientPo
     }
 
     public void setId(int id) {
+        this.markDirty();
         this.id = id;
     }
 }
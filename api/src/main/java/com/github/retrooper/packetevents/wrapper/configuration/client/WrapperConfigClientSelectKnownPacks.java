@@ -54,10 +54,11 @@ public class WrapperConfigClientSelectKnownPacks extends PacketWrapper<WrapperCo
     }
 
     public List<KnownPack> getKnownPacks() {
-        return this.knownPacks;
+        return this.escape(this.knownPacks);
     }
 
     public void setKnownPacks(List<KnownPack> knownPacks) {
+        this.markDirty();
         this.knownPacks = knownPacks;
     }
 }
@@ -56,6 +56,7 @@ public class WrapperConfigServerCookieRequest extends PacketWrapper<WrapperConfi
     }
 
     public void setKey(ResourceLocation key) {
+        this.markDirty();
         this.key = key;
     }
 }
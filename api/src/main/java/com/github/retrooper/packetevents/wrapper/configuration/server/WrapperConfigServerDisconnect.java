@@ -56,6 +56,7 @@ public class WrapperConfigServerDisconnect extends PacketWrapper<WrapperConfigSe
     }
 
     public void setReason(Component reason) {
+        this.markDirty();
         this.reason = reason;
     }
 }
@@ -109,11 +109,12 @@ public class WrapperConfigServerRegistryData extends PacketWrapper<WrapperConfig
 
     @ApiStatus.Obsolete
     public @Nullable NBTCompound getRegistryData() {
-        return this.registryData;
+        return this.escape(this.registryData);
     }
 
     @ApiStatus.Obsolete
     public void setRegistryData(NBTCompound registryData) {
+        this.markDirty();
         this.registryData = registryData;
     }
 
@@ -122,14 +123,16 @@ public class WrapperConfigServerRegistryData extends PacketWrapper<WrapperConfig
     }
 
     public void setRegistryKey(ResourceLocation registryKey) {
+        this.markDirty();
         this.registryKey = registryKey;
     }
 
     public @Nullable List<RegistryElement> getElements() {
-        return this.elements;
+        return this.escape(this.elements);
     }
 
     public void setElements(List<RegistryElement> elements) {
+        this.markDirty();
         this.elements = elements;
     }
 
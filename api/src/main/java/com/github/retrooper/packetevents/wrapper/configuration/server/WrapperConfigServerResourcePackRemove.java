@@ -58,6 +58,7 @@ public class WrapperConfigServerResourcePackRemove extends PacketWrapper<Wrapper
     }
 
     public void setPackId(@Nullable UUID packId) {
+        this.markDirty();
         this.packId = packId;
     }
 }
@@ -104,6 +104,7 @@ public class WrapperConfigServerResourcePackSend extends PacketWrapper<WrapperCo
     }
 
     public void setPackId(UUID packId) {
+        this.markDirty();
         this.packId = packId;
     }
 
@@ -112,6 +113,7 @@ public class WrapperConfigServerResourcePackSend extends PacketWrapper<WrapperCo
     }
 
     public void setUrl(String url) {
+        this.markDirty();
         this.url = url;
     }
 
@@ -120,6 +122,7 @@ public class WrapperConfigServerResourcePackSend extends PacketWrapper<WrapperCo
     }
 
     public void setHash(String hash) {
+        this.markDirty();
         this.hash = hash;
     }
 
@@ -128,6 +131,7 @@ public class WrapperConfigServerResourcePackSend extends PacketWrapper<WrapperCo
     }
 
     public void setRequired(boolean required) {
+        this.markDirty();
         this.required = required;
     }
 
@@ -136,6 +140,7 @@ public class WrapperConfigServerResourcePackSend extends PacketWrapper<WrapperCo
     }
 
     public void setPrompt(Component prompt) {
+        this.markDirty();
         this.prompt = prompt;
     }
 }
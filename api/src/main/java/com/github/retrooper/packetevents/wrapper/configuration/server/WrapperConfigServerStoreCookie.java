@@ -63,14 +63,16 @@ public class WrapperConfigServerStoreCookie extends PacketWrapper<WrapperConfigS
     }
 
     public void setKey(ResourceLocation key) {
+        this.markDirty();
         this.key = key;
     }
 
     public byte[] getPayload() {
-        return this.payload;
+        return this.escape(this.payload);
     }
 
     public void setPayload(byte[] payload) {
+        this.markDirty();
         this.payload = payload;
     }
 }
@@ -55,10 +55,11 @@ public class WrapperConfigServerUpdateEnabledFeatures extends PacketWrapper<Wrap
     }
 
     public Set<ResourceLocation> getFeatures() {
-        return this.features;
+        return this.escape(this.features);
     }
 
     public void setFeatures(Set<ResourceLocation> features) {
+        this.markDirty();
         this.features = features;
     }
 }
@@ -91,10 +91,11 @@ public class WrapperLoginClientEncryptionResponse extends PacketWrapper<WrapperL
     }
 
     public byte[] getEncryptedSharedSecret() {
-        return this.encryptedSharedSecret;
+        return this.escape(this.encryptedSharedSecret);
     }
 
     public void setEncryptedSharedSecret(byte[] encryptedSharedSecret) {
+        this.markDirty();
         this.encryptedSharedSecret = encryptedSharedSecret;
     }
 
@@ -110,22 +111,25 @@ public class WrapperLoginClientEncryptionResponse extends PacketWrapper<WrapperL
 
     //TODO: Confirm is this is correct
     public void setSharedKey(SecretKey key, PublicKey publicKey) {
+        this.markDirty();
         this.encryptedSharedSecret = MinecraftEncryptionUtil.encrypt(publicKey.getAlgorithm(), publicKey, key.getEncoded());
     }
 
     public Optional<byte[]> getEncryptedVerifyToken() {
-        return Optional.ofNullable(this.encryptedVerifyToken);
+        return this.escape(Optional.ofNullable(this.encryptedVerifyToken));
     }
 
     public void setEncryptedVerifyToken(byte[] encryptedVerifyToken) {
+        this.markDirty();
         this.encryptedVerifyToken = encryptedVerifyToken;
     }
 
     public Optional<SaltSignature> getSaltSignature() {
-        return Optional.ofNullable(this.saltSignature);
+        return this.escape(Optional.ofNullable(this.saltSignature));
     }
 
     public void setSaltSignature(@Nullable SaltSignature saltSignature) {
+        this.markDirty();
         this.saltSignature = saltSignature;
     }
 }
@@ -100,14 +100,16 @@ public class WrapperLoginClientLoginStart extends PacketWrapper<WrapperLoginClie
     }
 
     public void setUsername(String username) {
+        this.markDirty();
         this.username = username;
     }
 
     public Optional<SignatureData> getSignatureData() {
-        return Optional.ofNullable(signatureData);
+        return this.escape(Optional.ofNullable(signatureData));
     }
 
     public void setSignatureData(@Nullable SignatureData signatureData) {
+        this.markDirty();
         this.signatureData = signatureData;
     }
 
@@ -116,6 +118,7 @@ public class WrapperLoginClientLoginStart extends PacketWrapper<WrapperLoginClie
     }
 
     public void setPlayerUUID(@Nullable UUID playerUUID) {
+        this.markDirty();
         this.playerUUID = playerUUID;
     }
 }
@@ -72,6 +72,7 @@ public class WrapperLoginClientPluginResponse extends PacketWrapper<WrapperLogin
     }
 
     public void setMessageId(int messageID) {
+        this.markDirty();
         this.messageID = messageID;
     }
 
@@ -80,14 +81,16 @@ public class WrapperLoginClientPluginResponse extends PacketWrapper<WrapperLogin
     }
 
     public void setSuccessful(boolean successful) {
+        this.markDirty();
         this.successful = successful;
     }
 
     public byte[] getData() {
-        return this.data;
+        return this.escape(this.data);
     }
 
     public void setData(byte[] data) {
+        this.markDirty();
         this.data = data;
     }
 }
@@ -56,6 +56,7 @@ public class WrapperLoginServerCookieRequest extends PacketWrapper<WrapperLoginS
     }
 
     public void setKey(ResourceLocation key) {
+        this.markDirty();
         this.key = key;
     }
 }
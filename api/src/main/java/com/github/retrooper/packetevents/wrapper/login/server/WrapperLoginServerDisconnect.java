@@ -64,6 +64,7 @@ public class WrapperLoginServerDisconnect extends PacketWrapper<WrapperLoginServ
     }
 
     public void setReason(Component reason) {
+        this.markDirty();
         this.reason = reason;
     }
 }
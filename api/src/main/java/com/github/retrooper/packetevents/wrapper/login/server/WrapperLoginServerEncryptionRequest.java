@@ -104,14 +104,16 @@ public class WrapperLoginServerEncryptionRequest extends PacketWrapper<WrapperLo
     }
 
     public void setServerId(String serverID) {
+        this.markDirty();
         this.serverID = serverID;
     }
 
     public byte[] getPublicKeyBytes() {
-        return publicKeyBytes;
+        return this.escape(publicKeyBytes);
     }
 
     public void setPublicKeyBytes(byte[] publicKeyBytes) {
+        this.markDirty();
         this.publicKeyBytes = publicKeyBytes;
     }
 
@@ -124,10 +126,11 @@ public class WrapperLoginServerEncryptionRequest extends PacketWrapper<WrapperLo
      * @return Public key
      */
     public PublicKey getPublicKey() {
-        return MinecraftEncryptionUtil.publicKey(publicKeyBytes);
+        return this.escape(MinecraftEncryptionUtil.publicKey(publicKeyBytes));
     }
 
     public void setPublicKey(PublicKey publicKey) {
+        this.markDirty();
         this.publicKeyBytes = publicKey.getEncoded();
     }
 
@@ -138,10 +141,11 @@ public class WrapperLoginServerEncryptionRequest extends PacketWrapper<WrapperLo
      * @return Verify token
      */
     public byte[] getVerifyToken() {
-        return verifyToken;
+        return this.escape(verifyToken);
     }
 
     public void setVerifyToken(byte[] verifyToken) {
+        this.markDirty();
         this.verifyToken = verifyToken;
     }
 
@@ -150,6 +154,7 @@ public class WrapperLoginServerEncryptionRequest extends PacketWrapper<WrapperLo
     }
 
     public void setShouldAuthenticate(boolean shouldAuthenticate) {
+        this.markDirty();
         this.shouldAuthenticate = shouldAuthenticate;
     }
 }
@@ -113,10 +113,11 @@ public class WrapperLoginServerLoginSuccess extends PacketWrapper<WrapperLoginSe
     }
 
     public UserProfile getUserProfile() {
-        return userProfile;
+        return this.escape(userProfile);
     }
 
     public void setUserProfile(UserProfile userProfile) {
+        this.markDirty();
         this.userProfile = userProfile;
     }
 
@@ -133,6 +134,7 @@ public class WrapperLoginServerLoginSuccess extends PacketWrapper<WrapperLoginSe
      */
     @ApiStatus.Obsolete
     public void setStrictErrorHandling(boolean strictErrorHandling) {
+        this.markDirty();
         this.strictErrorHandling = strictErrorHandling;
     }
 }
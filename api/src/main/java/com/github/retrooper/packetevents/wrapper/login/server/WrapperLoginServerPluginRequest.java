@@ -65,6 +65,7 @@ public class WrapperLoginServerPluginRequest extends PacketWrapper<WrapperLoginS
     }
 
     public void setMessageId(int messageID) {
+        this.markDirty();
         this.messageID = messageID;
     }
 
@@ -73,14 +74,16 @@ public class WrapperLoginServerPluginRequest extends PacketWrapper<WrapperLoginS
     }
 
     public void setChannelName(String channelName) {
+        this.markDirty();
         this.channelName = channelName;
     }
 
     public byte[] getData() {
-        return data;
+        return this.escape(data);
     }
 
     public void setData(byte[] data) {
+        this.markDirty();
         this.data = data;
     }
 }
\ No newline at end of file
@@ -66,6 +66,7 @@ public class WrapperPlayClientAdvancementTab extends PacketWrapper<WrapperPlayCl
     }
 
     public void setAction(Action action) {
+        this.markDirty();
         this.action = action;
     }
 
@@ -74,6 +75,7 @@ public class WrapperPlayClientAdvancementTab extends PacketWrapper<WrapperPlayCl
     }
 
     public void setTabId(String tabID) {
+        this.markDirty();
         this.tabID = tabID;
     }
 
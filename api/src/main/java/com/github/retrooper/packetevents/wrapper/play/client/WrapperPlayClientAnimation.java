@@ -81,6 +81,7 @@ public class WrapperPlayClientAnimation extends PacketWrapper<WrapperPlayClientA
      * @param interactionHand Hand used for the animation
      */
     public void setHand(InteractionHand interactionHand) {
+        this.markDirty();
         this.interactionHand = interactionHand;
     }
 }
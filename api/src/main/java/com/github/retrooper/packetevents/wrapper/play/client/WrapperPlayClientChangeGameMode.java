@@ -56,6 +56,7 @@ public class WrapperPlayClientChangeGameMode extends PacketWrapper<WrapperPlayCl
     }
 
     public void setGameMode(GameMode gamemode) {
+        this.markDirty();
         this.gameMode = gamemode;
     }
 }
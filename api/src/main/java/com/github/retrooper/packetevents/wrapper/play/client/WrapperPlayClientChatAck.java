@@ -71,14 +71,16 @@ public class WrapperPlayClientChatAck extends PacketWrapper<WrapperPlayClientCha
     }
 
     public void setOffset(int offset) {
+        this.markDirty();
         this.offset = offset;
     }
 
     public LastSeenMessages.LegacyUpdate getLastSeenMessages() {
-        return lastSeenMessages;
+        return this.escape(lastSeenMessages);
     }
 
     public void setLastSeenMessages(LastSeenMessages.LegacyUpdate lastSeenMessages) {
+        this.markDirty();
         this.lastSeenMessages = lastSeenMessages;
     }
 }
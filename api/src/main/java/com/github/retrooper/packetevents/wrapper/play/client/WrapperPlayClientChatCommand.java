@@ -93,38 +93,43 @@ public class WrapperPlayClientChatCommand extends PacketWrapper<WrapperPlayClien
     }
 
     public void setCommand(String command) {
+        this.markDirty();
         this.command = command;
     }
 
     public MessageSignData getMessageSignData() {
-        return messageSignData;
+        return this.escape(messageSignData);
     }
 
     public void setMessageSignData(MessageSignData messageSignData) {
+        this.markDirty();
         this.messageSignData = messageSignData;
     }
 
     public List<SignedCommandArgument> getSignedArguments() {
-        return signedArguments;
+        return this.escape(signedArguments);
     }
 
     public void setSignedArguments(List<SignedCommandArgument> signedArguments) {
+        this.markDirty();
         this.signedArguments = signedArguments;
     }
 
     public LastSeenMessages.@Nullable Update getLastSeenMessages() {
-        return lastSeenMessages;
+        return this.escape(lastSeenMessages);
     }
 
     public void setLastSeenMessages(LastSeenMessages.@Nullable Update lastSeenMessages) {
+        this.markDirty();
         this.lastSeenMessages = lastSeenMessages;
     }
 
     public @Nullable LastSeenMessages.LegacyUpdate getLegacyLastSeenMessages() {
-        return legacyLastSeenMessages;
+        return this.escape(legacyLastSeenMessages);
     }
 
     public void setLegacyLastSeenMessages(@Nullable LastSeenMessages.LegacyUpdate lastSeenMessages) {
+        this.markDirty();
         this.legacyLastSeenMessages = lastSeenMessages;
     }
 }
\ No newline at end of file
@@ -55,6 +55,7 @@ public class WrapperPlayClientChatCommandUnsigned extends PacketWrapper<WrapperP
     }
 
     public void setCommand(String command) {
+        this.markDirty();
         this.command = command;
     }
 }
@@ -128,30 +128,34 @@ public class WrapperPlayClientChatMessage extends PacketWrapper<WrapperPlayClien
      * @param message Message
      */
     public void setMessage(String message) {
+        this.markDirty();
         this.message = message;
     }
 
     public Optional<MessageSignData> getMessageSignData() {
-        return Optional.ofNullable(messageSignData);
+        return this.escape(Optional.ofNullable(messageSignData));
     }
 
     public void setMessageSignData(@Nullable MessageSignData messageSignData) {
+        this.markDirty();
         this.messageSignData = messageSignData;
     }
 
     public @Nullable LastSeenMessages.Update getLastSeenMessages() {
-        return lastSeenMessages;
+        return this.escape(lastSeenMessages);
     }
 
     public void setLastSeenMessages(LastSeenMessages.@Nullable Update lastSeenMessages) {
+        this.markDirty();
         this.lastSeenMessages = lastSeenMessages;
     }
 
     public @Nullable LastSeenMessages.LegacyUpdate getLegacyLastSeenMessages() {
-        return legacyLastSeenMessages;
+        return this.escape(legacyLastSeenMessages);
     }
 
     public void setLegacyLastSeenMessages(@Nullable LastSeenMessages.LegacyUpdate lastSeenMessages) {
+        this.markDirty();
         this.legacyLastSeenMessages = lastSeenMessages;
     }
 }
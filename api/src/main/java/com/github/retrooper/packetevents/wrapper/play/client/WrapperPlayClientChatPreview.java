@@ -41,6 +41,7 @@ public class WrapperPlayClientChatPreview extends PacketWrapper<WrapperPlayClien
     }
 
     public void setQueryId(int queryId) {
+        this.markDirty();
         this.queryId = queryId;
     }
 
@@ -49,6 +50,7 @@ public class WrapperPlayClientChatPreview extends PacketWrapper<WrapperPlayClien
     }
 
     public void setMessage(String message) {
+        this.markDirty();
         this.message = message;
     }
 }
\ No newline at end of file
@@ -51,10 +51,11 @@ public class WrapperPlayClientChatSessionUpdate extends PacketWrapper<WrapperPla
     }
 
     public RemoteChatSession getChatSession() {
-        return chatSession;
+        return this.escape(chatSession);
     }
 
     public void setChatSession(RemoteChatSession chatSession) {
+        this.markDirty();
         this.chatSession = chatSession;
     }
 }
@@ -176,6 +176,7 @@ public class WrapperPlayClientClickWindow extends PacketWrapper<WrapperPlayClien
     }
 
     public void setWindowId(int windowID) {
+        this.markDirty();
         this.windowID = windowID;
     }
 
@@ -190,6 +191,7 @@ public class WrapperPlayClientClickWindow extends PacketWrapper<WrapperPlayClien
      * Added with 1.17.1, not actually optional
      */
     public void setStateID(Optional<Integer> stateID) {
+        this.markDirty();
         this.stateID = stateID.orElse(null);
     }
 
@@ -198,6 +200,7 @@ public class WrapperPlayClientClickWindow extends PacketWrapper<WrapperPlayClien
     }
 
     public void setSlot(int slot) {
+        this.markDirty();
         this.slot = slot;
     }
 
@@ -206,6 +209,7 @@ public class WrapperPlayClientClickWindow extends PacketWrapper<WrapperPlayClien
     }
 
     public void setButton(int button) {
+        this.markDirty();
         this.button = button;
     }
 
@@ -222,6 +226,7 @@ public class WrapperPlayClientClickWindow extends PacketWrapper<WrapperPlayClien
      */
     @ApiStatus.Obsolete
     public void setActionNumber(int button) {
+        this.markDirty();
         this.actionNumber = button;
     }
 
@@ -230,6 +235,7 @@ public class WrapperPlayClientClickWindow extends PacketWrapper<WrapperPlayClien
     }
 
     public void setWindowClickType(WindowClickType windowClickType) {
+        this.markDirty();
         this.windowClickType = windowClickType;
     }
 
@@ -237,13 +243,14 @@ public class WrapperPlayClientClickWindow extends PacketWrapper<WrapperPlayClien
      * Added with 1.17, not actually optional; Removed with 1.21.5, replaced with {@link #getHashedSlots()}
      */
     public Optional<Map<Integer, ItemStack>> getSlots() {
-        return Optional.ofNullable(this.slots);
+        return this.escape(Optional.ofNullable(this.slots));
     }
 
     /**
      * Added with 1.17, not actually optional; Removed with 1.21.5, replaced with {@link #setHashedSlots(Map)}
      */
     public void setSlots(Optional<Map<Integer, ItemStack>> slots) {
+        this.markDirty();
         this.slots = slots.orElse(null);
     }
 
@@ -251,13 +258,14 @@ public class WrapperPlayClientClickWindow extends PacketWrapper<WrapperPlayClien
      * Added with 1.21.5
      */
     public Map<Integer, Optional<HashedStack>> getHashedSlots() {
-        return this.hashedSlots;
+        return this.escape(this.hashedSlots);
     }
 
     /**
      * Added with 1.21.5
      */
     public void setHashedSlots(Map<Integer, Optional<HashedStack>> hashedSlots) {
+        this.markDirty();
         this.hashedSlots = hashedSlots;
     }
 
@@ -270,13 +278,14 @@ public class WrapperPlayClientClickWindow extends PacketWrapper<WrapperPlayClien
                     .map(HashedStack::asItemStack)
                     .orElse(ItemStack.EMPTY);
         }
-        return this.carriedItemStack;
+        return this.escape(this.carriedItemStack);
     }
 
     /**
      * Removed with 1.21.5, replaced with {@link #setCarriedHashedStack(Optional)}
      */
     public void setCarriedItemStack(ItemStack carriedItemStack) {
+        this.markDirty();
         this.carriedItemStack = carriedItemStack;
         this.carriedHashedStack = HashedStack.fromItemStack(carriedItemStack);
     }
@@ -285,13 +294,14 @@ public class WrapperPlayClientClickWindow extends PacketWrapper<WrapperPlayClien
      * Added with 1.21.5
      */
     public Optional<HashedStack> getCarriedHashedStack() {
-        return this.carriedHashedStack;
+        return this.escape(this.carriedHashedStack);
     }
 
     /**
      * Added with 1.21.5
      */
     public void setCarriedHashedStack(Optional<HashedStack> carriedHashedStack) {
+        this.markDirty();
         this.carriedHashedStack = carriedHashedStack;
     }
 
@@ -75,6 +75,7 @@ public class WrapperPlayClientClickWindowButton extends PacketWrapper<WrapperPla
      * @param windowID Window ID
      */
     public void setWindowId(int windowID) {
+        this.markDirty();
         this.windowID = windowID;
     }
 
@@ -95,6 +96,7 @@ public class WrapperPlayClientClickWindowButton extends PacketWrapper<WrapperPla
      * @param buttonID Button ID
      */
     public void setButtonId(int buttonID) {
+        this.markDirty();
         this.buttonID = buttonID;
     }
 }
@@ -54,6 +54,7 @@ public class WrapperPlayClientCloseWindow extends PacketWrapper<WrapperPlayClien
     }
 
     public void setWindowId(int windowID) {
+        this.markDirty();
         this.windowID = windowID;
     }
 }
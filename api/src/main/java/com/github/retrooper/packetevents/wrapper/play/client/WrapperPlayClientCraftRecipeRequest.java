@@ -102,6 +102,7 @@ public class WrapperPlayClientCraftRecipeRequest extends PacketWrapper<WrapperPl
     }
 
     public void setWindowId(int windowId) {
+        this.markDirty();
         this.windowId = windowId;
     }
 
@@ -110,9 +111,9 @@ public class WrapperPlayClientCraftRecipeRequest extends PacketWrapper<WrapperPl
      */
     @Deprecated
     public <T> T getRecipe() {
-        return (T) (this.serverVersion.isOlderThan(ServerVersion.V_1_21_2)
+        return this.escape((T) (this.serverVersion.isOlderThan(ServerVersion.V_1_21_2)
                 && this.serverVersion.isNewerThanOrEquals(ServerVersion.V_1_13)
-                ? this.recipeKey : this.recipeId.getId());
+                ? this.recipeKey : this.recipeId.getId()));
     }
 
     /**
@@ -120,6 +121,7 @@ public class WrapperPlayClientCraftRecipeRequest extends PacketWrapper<WrapperPl
      */
     @Deprecated
     public <T> void setRecipe(T recipe) {
+        this.markDirty();
         if (this.serverVersion.isNewerThanOrEquals(ServerVersion.V_1_13)) {
             this.recipeKey = new ResourceLocation((String) recipe);
         } else {
@@ -132,14 +134,16 @@ public class WrapperPlayClientCraftRecipeRequest extends PacketWrapper<WrapperPl
     }
 
     public void setRecipeKey(ResourceLocation recipeKey) {
+        this.markDirty();
         this.recipeKey = recipeKey;
     }
 
     public RecipeDisplayId getRecipeId() {
-        return this.recipeId;
+        return this.escape(this.recipeId);
     }
 
     public void setRecipeId(RecipeDisplayId recipeId) {
+        this.markDirty();
         this.recipeId = recipeId;
     }
 
@@ -148,6 +152,7 @@ public class WrapperPlayClientCraftRecipeRequest extends PacketWrapper<WrapperPl
     }
 
     public void setMakeAll(boolean makeAll) {
+        this.markDirty();
         this.makeAll = makeAll;
     }
 }
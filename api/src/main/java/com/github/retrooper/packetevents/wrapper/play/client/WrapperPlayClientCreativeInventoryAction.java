@@ -69,14 +69,16 @@ public class WrapperPlayClientCreativeInventoryAction extends PacketWrapper<Wrap
     }
 
     public void setSlot(int slot) {
+        this.markDirty();
         this.slot = slot;
     }
 
     public ItemStack getItemStack() {
-        return itemStack;
+        return this.escape(itemStack);
     }
 
     public void setItemStack(ItemStack itemStack) {
+        this.markDirty();
         this.itemStack = itemStack;
     }
 }
@@ -55,6 +55,7 @@ public class WrapperPlayClientDebugPing extends PacketWrapper<WrapperPlayClientD
     }
 
     public void setTimestamp(long timestamp) {
+        this.markDirty();
         this.timestamp = timestamp;
     }
 }
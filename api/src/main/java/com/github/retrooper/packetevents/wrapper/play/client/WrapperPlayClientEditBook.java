@@ -133,14 +133,16 @@ public class WrapperPlayClientEditBook extends PacketWrapper<WrapperPlayClientEd
     }
 
     public void setSlot(int slot) {
+        this.markDirty();
         this.slot = slot;
     }
 
     public @Nullable List<String> getPages() {
-        return pages;
+        return this.escape(pages);
     }
 
     public void setPages(List<String> pages) {
+        this.markDirty();
         this.pages = pages;
     }
 
@@ -149,14 +151,16 @@ public class WrapperPlayClientEditBook extends PacketWrapper<WrapperPlayClientEd
     }
 
     public void setTitle(@Nullable String title) {
+        this.markDirty();
         this.title = title;
     }
 
     public @Nullable ItemStack getItemStack() {
-        return itemStack;
+        return this.escape(itemStack);
     }
 
     public void setItemStack(@Nullable ItemStack itemStack) {
+        this.markDirty();
         this.itemStack = itemStack;
     }
 
@@ -165,6 +169,7 @@ public class WrapperPlayClientEditBook extends PacketWrapper<WrapperPlayClientEd
     }
 
     public void setSigning(@Nullable Boolean signing) {
+        this.markDirty();
         this.signing = signing;
     }
 }
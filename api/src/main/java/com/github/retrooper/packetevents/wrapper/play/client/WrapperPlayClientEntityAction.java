@@ -77,6 +77,7 @@ public class WrapperPlayClientEntityAction extends PacketWrapper<WrapperPlayClie
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
@@ -85,6 +86,7 @@ public class WrapperPlayClientEntityAction extends PacketWrapper<WrapperPlayClie
     }
 
     public void setAction(Action action) {
+        this.markDirty();
         this.action = action;
     }
 
@@ -93,6 +95,7 @@ public class WrapperPlayClientEntityAction extends PacketWrapper<WrapperPlayClie
     }
 
     public void setJumpBoost(int jumpBoost) {
+        this.markDirty();
         this.jumpBoost = jumpBoost;
     }
 
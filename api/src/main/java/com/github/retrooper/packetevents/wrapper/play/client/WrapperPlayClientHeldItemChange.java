@@ -67,6 +67,7 @@ public class WrapperPlayClientHeldItemChange extends PacketWrapper<WrapperPlayCl
      * @param slot Target slot
      */
     public void setSlot(int slot) {
+        this.markDirty();
         this.slot = slot;
     }
 }
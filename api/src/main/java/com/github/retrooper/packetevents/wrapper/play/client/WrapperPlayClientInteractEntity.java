@@ -128,6 +128,7 @@ public class WrapperPlayClientInteractEntity extends PacketWrapper<WrapperPlayCl
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
@@ -136,6 +137,7 @@ public class WrapperPlayClientInteractEntity extends PacketWrapper<WrapperPlayCl
     }
 
     public void setAction(InteractAction interactAction) {
+        this.markDirty();
         this.interactAction = interactAction;
     }
 
@@ -144,6 +146,7 @@ public class WrapperPlayClientInteractEntity extends PacketWrapper<WrapperPlayCl
     }
 
     public void setHand(InteractionHand interactionHand) {
+        this.markDirty();
         this.interactionHand = interactionHand;
     }
 
@@ -152,6 +155,7 @@ public class WrapperPlayClientInteractEntity extends PacketWrapper<WrapperPlayCl
     }
 
     public void setTarget(Optional<Vector3f> target) {
+        this.markDirty();
         this.target = target;
     }
 
@@ -160,6 +164,7 @@ public class WrapperPlayClientInteractEntity extends PacketWrapper<WrapperPlayCl
     }
 
     public void setSneaking(Optional<Boolean> sneaking) {
+        this.markDirty();
         this.sneaking = sneaking;
     }
 
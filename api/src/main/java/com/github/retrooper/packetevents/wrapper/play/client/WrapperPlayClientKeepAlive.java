@@ -77,6 +77,7 @@ public class WrapperPlayClientKeepAlive extends PacketWrapper<WrapperPlayClientK
     }
 
     public void setId(long id) {
+        this.markDirty();
         this.id = id;
     }
 }
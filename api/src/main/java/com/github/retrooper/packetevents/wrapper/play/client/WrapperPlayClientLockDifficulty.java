@@ -54,6 +54,7 @@ public class WrapperPlayClientLockDifficulty extends PacketWrapper<WrapperPlayCl
     }
 
     public void setLocked(boolean locked) {
+        this.markDirty();
         this.locked = locked;
     }
 }
@@ -54,6 +54,7 @@ public class WrapperPlayClientNameItem extends PacketWrapper<WrapperPlayClientNa
     }
 
     public void setItemName(String itemName) {
+        this.markDirty();
         this.itemName = itemName;
     }
 }
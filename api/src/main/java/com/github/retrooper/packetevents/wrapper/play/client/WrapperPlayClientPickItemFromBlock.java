@@ -64,6 +64,7 @@ public class WrapperPlayClientPickItemFromBlock extends PacketWrapper<WrapperPla
     }
 
     public void setBlockPos(Vector3i blockPos) {
+        this.markDirty();
         this.blockPos = blockPos;
     }
 
@@ -72,6 +73,7 @@ public class WrapperPlayClientPickItemFromBlock extends PacketWrapper<WrapperPla
     }
 
     public void setIncludeData(boolean includeData) {
+        this.markDirty();
         this.includeData = includeData;
     }
 }
@@ -63,6 +63,7 @@ public class WrapperPlayClientPickItemFromEntity extends PacketWrapper<WrapperPl
     }
 
     public void setEntityId(int entityId) {
+        this.markDirty();
         this.entityId = entityId;
     }
 
@@ -71,6 +72,7 @@ public class WrapperPlayClientPickItemFromEntity extends PacketWrapper<WrapperPl
     }
 
     public void setIncludeData(boolean includeData) {
+        this.markDirty();
         this.includeData = includeData;
     }
 }
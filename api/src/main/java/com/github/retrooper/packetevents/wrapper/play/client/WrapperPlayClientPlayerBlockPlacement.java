@@ -172,6 +172,7 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setHand(InteractionHand interactionHand) {
+        this.markDirty();
         this.interactionHand = interactionHand;
     }
 
@@ -180,6 +181,7 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setBlockPosition(Vector3i blockPosition) {
+        this.markDirty();
         this.blockPosition = blockPosition;
     }
 
@@ -188,6 +190,7 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setFaceId(int faceId) {
+        this.markDirty();
         this.faceId = faceId;
         this.face = serverVersion.isNewerThanOrEquals(ServerVersion.V_1_9)
                 ? BlockFace.getBlockFaceByValue(faceId)
@@ -199,6 +202,7 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setFace(BlockFace face) {
+        this.markDirty();
         this.face = face;
         this.faceId = face.getFaceValue();
     }
@@ -208,14 +212,16 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setCursorPosition(Vector3f cursorPosition) {
+        this.markDirty();
         this.cursorPosition = cursorPosition;
     }
 
     public Optional<ItemStack> getItemStack() {
-        return itemStack;
+        return this.escape(itemStack);
     }
 
     public void setItemStack(Optional<ItemStack> itemStack) {
+        this.markDirty();
         this.itemStack = itemStack;
     }
 
@@ -224,6 +230,7 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setInsideBlock(Optional<Boolean> insideBlock) {
+        this.markDirty();
         this.insideBlock = insideBlock;
     }
 
@@ -232,6 +239,7 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setWorldBorderHit(Optional<Boolean> worldBorderHit) {
+        this.markDirty();
         this.worldBorderHit = worldBorderHit;
     }
 
@@ -240,6 +248,7 @@ public class WrapperPlayClientPlayerBlockPlacement extends PacketWrapper<Wrapper
     }
 
     public void setSequence(int sequence) {
+        this.markDirty();
         this.sequence = sequence;
     }
 }
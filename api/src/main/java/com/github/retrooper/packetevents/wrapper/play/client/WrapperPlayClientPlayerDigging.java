@@ -112,6 +112,7 @@ public class WrapperPlayClientPlayerDigging extends PacketWrapper<WrapperPlayCli
     }
 
     public void setAction(DiggingAction action) {
+        this.markDirty();
         this.action = action;
     }
 
@@ -120,6 +121,7 @@ public class WrapperPlayClientPlayerDigging extends PacketWrapper<WrapperPlayCli
     }
 
     public void setBlockPosition(Vector3i blockPosition) {
+        this.markDirty();
         this.blockPosition = blockPosition;
     }
 
@@ -128,6 +130,7 @@ public class WrapperPlayClientPlayerDigging extends PacketWrapper<WrapperPlayCli
     }
 
     public void setBlockFace(BlockFace blockFace) {
+        this.markDirty();
         this.blockFace = blockFace;
         this.blockFaceId = blockFace.getFaceValue();
     }
@@ -137,6 +140,7 @@ public class WrapperPlayClientPlayerDigging extends PacketWrapper<WrapperPlayCli
     }
 
     public void setBlockFaceId(int faceId) {
+        this.markDirty();
         this.blockFace = BlockFace.getBlockFaceByValue(faceId);
         this.blockFaceId = faceId;
     }
@@ -146,6 +150,7 @@ public class WrapperPlayClientPlayerDigging extends PacketWrapper<WrapperPlayCli
     }
 
     public void setSequence(int sequence) {
+        this.markDirty();
         this.sequence = sequence;
     }
 }
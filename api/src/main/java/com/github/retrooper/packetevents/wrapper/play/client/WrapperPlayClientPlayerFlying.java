@@ -117,10 +117,11 @@ public class WrapperPlayClientPlayerFlying extends PacketWrapper<WrapperPlayClie
     }
 
     public Location getLocation() {
-        return location;
+        return this.escape(location);
     }
 
     public void setLocation(Location location) {
+        this.markDirty();
         this.location = location;
     }
 
@@ -129,6 +130,7 @@ public class WrapperPlayClientPlayerFlying extends PacketWrapper<WrapperPlayClie
     }
 
     public void setPositionChanged(boolean positionChanged) {
+        this.markDirty();
         this.positionChanged = positionChanged;
     }
 
@@ -137,6 +139,7 @@ public class WrapperPlayClientPlayerFlying extends PacketWrapper<WrapperPlayClie
     }
 
     public void setRotationChanged(boolean rotationChanged) {
+        this.markDirty();
         this.rotationChanged = rotationChanged;
     }
 
@@ -145,6 +148,7 @@ public class WrapperPlayClientPlayerFlying extends PacketWrapper<WrapperPlayClie
     }
 
     public void setOnGround(boolean onGround) {
+        this.markDirty();
         this.onGround = onGround;
     }
 
@@ -153,6 +157,7 @@ public class WrapperPlayClientPlayerFlying extends PacketWrapper<WrapperPlayClie
     }
 
     public void setHorizontalCollision(boolean horizontalCollision) {
+        this.markDirty();
         this.horizontalCollision = horizontalCollision;
     }
 }
@@ -99,6 +99,7 @@ public class WrapperPlayClientPlayerInput extends PacketWrapper<WrapperPlayClien
     }
 
     public void setForward(boolean forward) {
+        this.markDirty();
         this.forward = forward;
     }
 
@@ -107,6 +108,7 @@ public class WrapperPlayClientPlayerInput extends PacketWrapper<WrapperPlayClien
     }
 
     public void setBackward(boolean backward) {
+        this.markDirty();
         this.backward = backward;
     }
 
@@ -115,6 +117,7 @@ public class WrapperPlayClientPlayerInput extends PacketWrapper<WrapperPlayClien
     }
 
     public void setLeft(boolean left) {
+        this.markDirty();
         this.left = left;
     }
 
@@ -123,6 +126,7 @@ public class WrapperPlayClientPlayerInput extends PacketWrapper<WrapperPlayClien
     }
 
     public void setRight(boolean right) {
+        this.markDirty();
         this.right = right;
     }
 
@@ -131,6 +135,7 @@ public class WrapperPlayClientPlayerInput extends PacketWrapper<WrapperPlayClien
     }
 
     public void setJump(boolean jump) {
+        this.markDirty();
         this.jump = jump;
     }
 
@@ -139,6 +144,7 @@ public class WrapperPlayClientPlayerInput extends PacketWrapper<WrapperPlayClien
     }
 
     public void setShift(boolean shift) {
+        this.markDirty();
         this.shift = shift;
     }
 
@@ -147,6 +153,7 @@ public class WrapperPlayClientPlayerInput extends PacketWrapper<WrapperPlayClien
     }
 
     public void setSprint(boolean sprint) {
+        this.markDirty();
         this.sprint = sprint;
     }
 }
@@ -36,6 +36,7 @@ public class WrapperPlayClientPlayerRotation extends WrapperPlayClientPlayerFlyi
     }
 
     public void setYaw(float yaw) {
+        this.markDirty();
         getLocation().setYaw(yaw);
     }
 
@@ -44,6 +45,7 @@ public class WrapperPlayClientPlayerRotation extends WrapperPlayClientPlayerFlyi
     }
 
     public void setPitch(float pitch) {
+        this.markDirty();
         getLocation().setPitch(pitch);
     }
 }
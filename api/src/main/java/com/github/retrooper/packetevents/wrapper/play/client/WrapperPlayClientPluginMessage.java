@@ -100,6 +100,7 @@ public class WrapperPlayClientPluginMessage extends PacketWrapper<WrapperPlayCli
      * @param channelName The channel name.
      */
     public void setChannelName(String channelName) {
+        this.markDirty();
         this.channelName = channelName;
     }
 
@@ -109,7 +110,7 @@ public class WrapperPlayClientPluginMessage extends PacketWrapper<WrapperPlayCli
      * @return The data.
      */
     public byte[] getData() {
-        return data;
+        return this.escape(data);
     }
 
     /**
@@ -118,6 +119,7 @@ public class WrapperPlayClientPluginMessage extends PacketWrapper<WrapperPlayCli
      * @param data The data.
      */
     public void setData(byte[] data) {
+        this.markDirty();
         this.data = data;
     }
 }
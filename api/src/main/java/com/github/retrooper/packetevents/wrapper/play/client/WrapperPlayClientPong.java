@@ -67,6 +67,7 @@ public class WrapperPlayClientPong extends PacketWrapper<WrapperPlayClientPong>
     }
 
     public void setId(int id) {
+        this.markDirty();
         this.id = id;
     }
 }
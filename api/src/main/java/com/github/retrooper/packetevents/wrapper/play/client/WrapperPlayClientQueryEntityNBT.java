@@ -59,6 +59,7 @@ public class WrapperPlayClientQueryEntityNBT extends PacketWrapper<WrapperPlayCl
     }
 
     public void setTransactionId(int transactionID) {
+        this.markDirty();
         this.transactionID = transactionID;
     }
 
@@ -67,6 +68,7 @@ public class WrapperPlayClientQueryEntityNBT extends PacketWrapper<WrapperPlayCl
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 }
@@ -64,6 +64,7 @@ public class WrapperPlayClientSelectBundleItem extends PacketWrapper<WrapperPlay
     }
 
     public void setSlotId(int slotId) {
+        this.markDirty();
         this.slotId = slotId;
     }
 
@@ -72,6 +73,7 @@ public class WrapperPlayClientSelectBundleItem extends PacketWrapper<WrapperPlay
     }
 
     public void setSelectedItemIndex(int selectedItemIndex) {
+        this.markDirty();
         this.selectedItemIndex = selectedItemIndex;
     }
 }
@@ -64,6 +64,7 @@ public class WrapperPlayClientSetDifficulty extends PacketWrapper<WrapperPlayCli
     }
 
     public void setDifficulty(Difficulty difficulty) {
+        this.markDirty();
         this.difficulty = difficulty;
     }
 }
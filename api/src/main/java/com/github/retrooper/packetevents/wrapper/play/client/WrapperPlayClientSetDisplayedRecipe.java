@@ -91,14 +91,16 @@ public class WrapperPlayClientSetDisplayedRecipe extends PacketWrapper<WrapperPl
      */
     @ApiStatus.Obsolete
     public void setRecipe(ResourceLocation recipe) {
+        this.markDirty();
         this.recipe = recipe;
     }
 
     public RecipeDisplayId getRecipeId() {
-        return this.recipeId;
+        return this.escape(this.recipeId);
     }
 
     public void setRecipeId(RecipeDisplayId recipeId) {
+        this.markDirty();
         this.recipeId = recipeId;
     }
 }
@@ -65,6 +65,7 @@ public class WrapperPlayClientSetRecipeBookState extends PacketWrapper<WrapperPl
     }
 
     public void setBookType(BookType bookType) {
+        this.markDirty();
         this.bookType = bookType;
     }
 
@@ -73,6 +74,7 @@ public class WrapperPlayClientSetRecipeBookState extends PacketWrapper<WrapperPl
     }
 
     public void setBookOpen(boolean bookOpen) {
+        this.markDirty();
         this.bookOpen = bookOpen;
     }
 
@@ -81,6 +83,7 @@ public class WrapperPlayClientSetRecipeBookState extends PacketWrapper<WrapperPl
     }
 
     public void setFilterActive(boolean filterActive) {
+        this.markDirty();
         this.filterActive = filterActive;
     }
 }
@@ -164,6 +164,7 @@ public class WrapperPlayClientSetStructureBlock extends PacketWrapper<WrapperPla
     }
 
     public void setPosition(Vector3i position) {
+        this.markDirty();
         this.position = position;
     }
 
@@ -172,6 +173,7 @@ public class WrapperPlayClientSetStructureBlock extends PacketWrapper<WrapperPla
     }
 
     public void setUpdateType(UpdateType updateType) {
+        this.markDirty();
         this.updateType = updateType;
     }
 
@@ -180,6 +182,7 @@ public class WrapperPlayClientSetStructureBlock extends PacketWrapper<WrapperPla
     }
 
     public void setMode(StructureMode mode) {
+        this.markDirty();
         this.mode = mode;
     }
 
@@ -188,6 +191,7 @@ public class WrapperPlayClientSetStructureBlock extends PacketWrapper<WrapperPla
     }
 
     public void setName(String name) {
+        this.markDirty();
         this.name = name;
     }
 
@@ -196,6 +200,7 @@ public class WrapperPlayClientSetStructureBlock extends PacketWrapper<WrapperPla
     }
 
     public void setOffset(Vector3i offset) {
+        this.markDirty();
         this.offset = offset;
     }
 
@@ -204,6 +209,7 @@ public class WrapperPlayClientSetStructureBlock extends PacketWrapper<WrapperPla
     }
 
     public void setSize(Vector3i size) {
+        this.markDirty();
         this.size = size;
     }
 
@@ -212,6 +218,7 @@ public class WrapperPlayClientSetStructureBlock extends PacketWrapper<WrapperPla
     }
 
     public void setMirror(StructureMirror mirror) {
+        this.markDirty();
         this.mirror = mirror;
     }
 
@@ -220,6 +227,7 @@ public class WrapperPlayClientSetStructureBlock extends PacketWrapper<WrapperPla
     }
 
     public void setRotation(StructureRotation rotation) {
+        this.markDirty();
         this.rotation = rotation;
     }
 
@@ -228,6 +236,7 @@ public class WrapperPlayClientSetStructureBlock extends PacketWrapper<WrapperPla
     }
 
     public void setData(String data) {
+        this.markDirty();
         this.data = data;
     }
 
@@ -236,6 +245,7 @@ public class WrapperPlayClientSetStructureBlock extends PacketWrapper<WrapperPla
     }
 
     public void setIgnoreEntities(boolean ignoreEntities) {
+        this.markDirty();
         this.ignoreEntities = ignoreEntities;
     }
 
@@ -250,6 +260,7 @@ public class WrapperPlayClientSetStructureBlock extends PacketWrapper<WrapperPla
      * Added with 1.21.5
      */
     public void setStrict(boolean strict) {
+        this.markDirty();
         this.strict = strict;
     }
 
@@ -258,6 +269,7 @@ public class WrapperPlayClientSetStructureBlock extends PacketWrapper<WrapperPla
     }
 
     public void setShowAir(boolean showAir) {
+        this.markDirty();
         this.showAir = showAir;
     }
 
@@ -266,6 +278,7 @@ public class WrapperPlayClientSetStructureBlock extends PacketWrapper<WrapperPla
     }
 
     public void setShowBoundingBox(boolean showBoundingBox) {
+        this.markDirty();
         this.showBoundingBox = showBoundingBox;
     }
 
@@ -274,6 +287,7 @@ public class WrapperPlayClientSetStructureBlock extends PacketWrapper<WrapperPla
     }
 
     public void setIntegrity(float integrity) {
+        this.markDirty();
         this.integrity = integrity;
     }
 
@@ -282,6 +296,7 @@ public class WrapperPlayClientSetStructureBlock extends PacketWrapper<WrapperPla
     }
 
     public void setSeed(long seed) {
+        this.markDirty();
         this.seed = seed;
     }
 
@@ -69,6 +69,7 @@ public class WrapperPlayClientSetTestBlock extends PacketWrapper<WrapperPlayClie
     }
 
     public void setPosition(Vector3i position) {
+        this.markDirty();
         this.position = position;
     }
 
@@ -77,6 +78,7 @@ public class WrapperPlayClientSetTestBlock extends PacketWrapper<WrapperPlayClie
     }
 
     public void setMode(TestBlockMode mode) {
+        this.markDirty();
         this.mode = mode;
     }
 
@@ -85,6 +87,7 @@ public class WrapperPlayClientSetTestBlock extends PacketWrapper<WrapperPlayClie
     }
 
     public void setMessage(String message) {
+        this.markDirty();
         this.message = message;
     }
 
@@ -71,6 +71,7 @@ public class WrapperPlayClientSlotStateChange extends PacketWrapper<WrapperPlayC
     }
 
     public void setSlot(int slot) {
+        this.markDirty();
         this.slot = slot;
     }
 
@@ -79,6 +80,7 @@ public class WrapperPlayClientSlotStateChange extends PacketWrapper<WrapperPlayC
     }
 
     public void setWindowId(int windowId) {
+        this.markDirty();
         this.windowId = windowId;
     }
 
@@ -87,6 +89,7 @@ public class WrapperPlayClientSlotStateChange extends PacketWrapper<WrapperPlayC
     }
 
     public void setState(boolean state) {
+        this.markDirty();
         this.state = state;
     }
 }
@@ -77,6 +77,7 @@ public class WrapperPlayClientSteerVehicle extends PacketWrapper<WrapperPlayClie
     }
 
     public void setSideways(float sideways) {
+        this.markDirty();
         this.sideways = sideways;
     }
 
@@ -85,6 +86,7 @@ public class WrapperPlayClientSteerVehicle extends PacketWrapper<WrapperPlayClie
     }
 
     public void setForward(float forward) {
+        this.markDirty();
         this.forward = forward;
     }
 
@@ -93,6 +95,7 @@ public class WrapperPlayClientSteerVehicle extends PacketWrapper<WrapperPlayClie
     }
 
     public void setFlags(byte flags) {
+        this.markDirty();
         this.flags = flags;
     }
 
@@ -101,6 +104,7 @@ public class WrapperPlayClientSteerVehicle extends PacketWrapper<WrapperPlayClie
     }
 
     public void setJump(boolean jump) {
+        this.markDirty();
         if (jump) {
             flags |= 0x01;
         } else {
@@ -113,6 +117,7 @@ public class WrapperPlayClientSteerVehicle extends PacketWrapper<WrapperPlayClie
     }
 
     public void setUnmount(boolean unmount) {
+        this.markDirty();
         if (unmount) {
             flags |= 0x02;
         } else {
@@ -122,6 +122,7 @@ public class WrapperPlayClientTabComplete extends PacketWrapper<WrapperPlayClien
     }
 
     public void setText(String text) {
+        this.markDirty();
         this.text = text;
     }
 
@@ -130,6 +131,7 @@ public class WrapperPlayClientTabComplete extends PacketWrapper<WrapperPlayClien
     }
 
     public void setTransactionId(@Nullable Integer transactionID) {
+        this.markDirty();
         this.transactionId = Optional.ofNullable(transactionID);
     }
 
@@ -140,6 +142,7 @@ public class WrapperPlayClientTabComplete extends PacketWrapper<WrapperPlayClien
 
     @Deprecated
     public void setAssumeCommand(boolean assumeCommand) {
+        this.markDirty();
         this.assumeCommand = assumeCommand;
     }
 
@@ -148,6 +151,7 @@ public class WrapperPlayClientTabComplete extends PacketWrapper<WrapperPlayClien
     }
 
     public void setBlockPosition(@Nullable Vector3i blockPosition) {
+        this.markDirty();
         this.blockPosition = blockPosition;
     }
 }
@@ -54,6 +54,7 @@ public class WrapperPlayClientTeleportConfirm extends PacketWrapper<WrapperPlayC
     }
 
     public void setTeleportId(int teleportID) {
+        this.markDirty();
         this.teleportID = teleportID;
     }
 }
@@ -70,6 +70,7 @@ public class WrapperPlayClientTestInstanceBlockAction extends PacketWrapper<Wrap
     }
 
     public void setPosition(Vector3i position) {
+        this.markDirty();
         this.position = position;
     }
 
@@ -78,14 +79,16 @@ public class WrapperPlayClientTestInstanceBlockAction extends PacketWrapper<Wrap
     }
 
     public void setAction(Action action) {
+        this.markDirty();
         this.action = action;
     }
 
     public TestInstanceData getData() {
-        return this.data;
+        return this.escape(this.data);
     }
 
     public void setData(TestInstanceData data) {
+        this.markDirty();
         this.data = data;
     }
 
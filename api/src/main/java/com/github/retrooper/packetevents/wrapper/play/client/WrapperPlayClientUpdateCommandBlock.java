@@ -96,6 +96,7 @@ public class WrapperPlayClientUpdateCommandBlock extends PacketWrapper<WrapperPl
     }
 
     public void setPosition(Vector3i position) {
+        this.markDirty();
         this.position = position;
     }
 
@@ -104,6 +105,7 @@ public class WrapperPlayClientUpdateCommandBlock extends PacketWrapper<WrapperPl
     }
 
     public void setCommand(String command) {
+        this.markDirty();
         this.command = command;
     }
 
@@ -112,6 +114,7 @@ public class WrapperPlayClientUpdateCommandBlock extends PacketWrapper<WrapperPl
     }
 
     public void setMode(CommandBlockMode mode) {
+        this.markDirty();
         this.mode = mode;
     }
 
@@ -120,6 +123,7 @@ public class WrapperPlayClientUpdateCommandBlock extends PacketWrapper<WrapperPl
     }
 
     public void setDoesTrackOutput(boolean doesTrackOutput) {
+        this.markDirty();
         this.doesTrackOutput = doesTrackOutput;
     }
 
@@ -128,6 +132,7 @@ public class WrapperPlayClientUpdateCommandBlock extends PacketWrapper<WrapperPl
     }
 
     public void setConditional(boolean conditional) {
+        this.markDirty();
         this.conditional = conditional;
     }
 
@@ -136,6 +141,7 @@ public class WrapperPlayClientUpdateCommandBlock extends PacketWrapper<WrapperPl
     }
 
     public void setAutomatic(boolean automatic) {
+        this.markDirty();
         this.automatic = automatic;
     }
 
@@ -144,6 +150,7 @@ public class WrapperPlayClientUpdateCommandBlock extends PacketWrapper<WrapperPl
     }
 
     public void setFlags(short flags) {
+        this.markDirty();
         this.flags = flags;
     }
 
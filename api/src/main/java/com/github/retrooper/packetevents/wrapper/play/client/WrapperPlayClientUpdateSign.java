@@ -104,6 +104,7 @@ public class WrapperPlayClientUpdateSign extends PacketWrapper<WrapperPlayClient
      * @param blockPosition Sign position
      */
     public void setBlockPosition(Vector3i blockPosition) {
+        this.markDirty();
         this.blockPosition = blockPosition;
     }
 
@@ -113,7 +114,7 @@ public class WrapperPlayClientUpdateSign extends PacketWrapper<WrapperPlayClient
      * @return Sign content
      */
     public String[] getTextLines() {
-        return textLines;
+        return this.escape(textLines);
     }
 
     /**
@@ -122,6 +123,7 @@ public class WrapperPlayClientUpdateSign extends PacketWrapper<WrapperPlayClient
      * @param textLines Sign content
      */
     public void setTextLines(String[] textLines) {
+        this.markDirty();
         this.textLines = textLines;
     }
 
@@ -130,6 +132,7 @@ public class WrapperPlayClientUpdateSign extends PacketWrapper<WrapperPlayClient
     }
 
     public void setFrontText(boolean frontText) {
+        this.markDirty();
         isFrontText = frontText;
     }
 }
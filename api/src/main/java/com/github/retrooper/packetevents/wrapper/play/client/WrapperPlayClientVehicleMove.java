@@ -83,6 +83,7 @@ public class WrapperPlayClientVehicleMove extends PacketWrapper<WrapperPlayClien
     }
 
     public void setPosition(Vector3d position) {
+        this.markDirty();
         this.position = position;
     }
 
@@ -91,6 +92,7 @@ public class WrapperPlayClientVehicleMove extends PacketWrapper<WrapperPlayClien
     }
 
     public void setYaw(float yaw) {
+        this.markDirty();
         this.yaw = yaw;
     }
 
@@ -99,6 +101,7 @@ public class WrapperPlayClientVehicleMove extends PacketWrapper<WrapperPlayClien
     }
 
     public void setPitch(float pitch) {
+        this.markDirty();
         this.pitch = pitch;
     }
 
@@ -107,6 +110,7 @@ public class WrapperPlayClientVehicleMove extends PacketWrapper<WrapperPlayClien
     }
 
     public void setOnGround(boolean onGround) {
+        this.markDirty();
         this.onGround = onGround;
     }
 }
@@ -79,6 +79,7 @@ public class WrapperPlayClientWindowConfirmation extends PacketWrapper<WrapperPl
     }
 
     public void setWindowId(int windowID) {
+        this.markDirty();
         this.windowId = windowID;
     }
 
@@ -87,6 +88,7 @@ public class WrapperPlayClientWindowConfirmation extends PacketWrapper<WrapperPl
     }
 
     public void setActionId(short actionId) {
+        this.markDirty();
         this.actionId = actionId;
     }
 
@@ -95,6 +97,7 @@ public class WrapperPlayClientWindowConfirmation extends PacketWrapper<WrapperPl
     }
 
     public void setAccepted(boolean accepted) {
+        this.markDirty();
         this.accepted = accepted;
     }
 }
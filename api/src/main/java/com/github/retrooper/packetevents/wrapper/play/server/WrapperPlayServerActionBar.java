@@ -56,6 +56,7 @@ public class WrapperPlayServerActionBar extends PacketWrapper<WrapperPlayServerA
     }
 
     public void setActionBarText(Component actionBarText) {
+        this.markDirty();
         this.actionBarText = actionBarText;
     }
 }
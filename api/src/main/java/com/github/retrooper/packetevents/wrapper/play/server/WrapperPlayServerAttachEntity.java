@@ -78,6 +78,7 @@ public class WrapperPlayServerAttachEntity extends PacketWrapper<WrapperPlayServ
      * @param attachedId entity being leashed or the passenger
      */
     public void setAttachedId(int attachedId) {
+        this.markDirty();
         this.attachedId = attachedId;
     }
 
@@ -92,6 +93,7 @@ public class WrapperPlayServerAttachEntity extends PacketWrapper<WrapperPlayServ
      * @param holdingId entity holding the leash or the vehicle
      */
     public void setHoldingId(int holdingId) {
+        this.markDirty();
         this.holdingId = holdingId;
     }
 
@@ -110,6 +112,7 @@ public class WrapperPlayServerAttachEntity extends PacketWrapper<WrapperPlayServ
      * @param leash whether packet indicates leashing instead of mounting
      */
     public void setLeash(boolean leash) {
+        this.markDirty();
         this.leash = leash;
     }
 }
@@ -85,6 +85,7 @@ public class WrapperPlayServerBlockAction extends PacketWrapper<WrapperPlayServe
     }
 
     public void setBlockPosition(Vector3i blockPosition) {
+        this.markDirty();
         this.blockPosition = blockPosition;
     }
 
@@ -93,6 +94,7 @@ public class WrapperPlayServerBlockAction extends PacketWrapper<WrapperPlayServe
     }
 
     public void setActionId(int actionID) {
+        this.markDirty();
         this.actionID = actionID;
     }
 
@@ -101,6 +103,7 @@ public class WrapperPlayServerBlockAction extends PacketWrapper<WrapperPlayServe
     }
 
     public void setActionData(int actionData) {
+        this.markDirty();
         this.actionData = actionData;
     }
 
@@ -109,14 +112,16 @@ public class WrapperPlayServerBlockAction extends PacketWrapper<WrapperPlayServe
     }
 
     public void setBlockTypeId(int blockTypeID) {
+        this.markDirty();
         this.blockTypeID = blockTypeID;
     }
 
     public WrappedBlockState getBlockType() {
-        return WrappedBlockState.getByGlobalId(serverVersion.toClientVersion(), blockTypeID);
+        return this.escape(WrappedBlockState.getByGlobalId(serverVersion.toClientVersion(), blockTypeID));
     }
 
     public void setBlockType(WrappedBlockState blockType) {
+        this.markDirty();
         this.blockTypeID = blockType.getGlobalId();
     }
 }
@@ -79,6 +79,7 @@ public class WrapperPlayServerBlockBreakAnimation extends PacketWrapper<WrapperP
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
@@ -87,6 +88,7 @@ public class WrapperPlayServerBlockBreakAnimation extends PacketWrapper<WrapperP
     }
 
     public void setBlockPosition(Vector3i blockPosition) {
+        this.markDirty();
         this.blockPosition = blockPosition;
     }
 
@@ -95,6 +97,7 @@ public class WrapperPlayServerBlockBreakAnimation extends PacketWrapper<WrapperP
     }
 
     public void setDestroyStage(byte destroyStage) {
+        this.markDirty();
         this.destroyStage = destroyStage;
     }
 }
@@ -77,6 +77,7 @@ public class WrapperPlayServerBlockChange extends PacketWrapper<WrapperPlayServe
     }
 
     public void setBlockPosition(Vector3i blockPosition) {
+        this.markDirty();
         this.blockPosition = blockPosition;
     }
 
@@ -85,14 +86,23 @@ public class WrapperPlayServerBlockChange extends PacketWrapper<WrapperPlayServe
     }
 
     public void setBlockID(int blockID) {
+        this.markDirty();
         this.blockID = blockID;
     }
 
     public WrappedBlockState getBlockState() {
-        return WrappedBlockState.getByGlobalId(serverVersion.toClientVersion(), blockID);
+        return this.escape(this.getBlockState(true));
+    }
+
+    /**
+     * @param clone if false, the immutable interned state is returned without allocating
+     */
+    public WrappedBlockState getBlockState(boolean clone) {
+        return WrappedBlockState.getByGlobalId(serverVersion.toClientVersion(), blockID, clone);
     }
 
     public void setBlockState(WrappedBlockState blockState) {
+        this.markDirty();
         this.blockID = blockState.getGlobalId();
     }
 }
@@ -21,6 +21,7 @@ package com.github.retrooper.packetevents.wrapper.play.server;
 import com.github.retrooper.packetevents.PacketEvents;
 import com.github.retrooper.packetevents.event.PacketSendEvent;
 import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.protocol.nbt.EncodedNBT;
 import com.github.retrooper.packetevents.protocol.nbt.NBTCompound;
 import com.github.retrooper.packetevents.protocol.packettype.PacketType;
 import com.github.retrooper.packetevents.protocol.world.TileEntityType;
@@ -28,12 +29,15 @@ import com.github.retrooper.packetevents.protocol.world.blockentity.BlockEntityT
 import com.github.retrooper.packetevents.protocol.world.blockentity.BlockEntityTypes;
 import com.github.retrooper.packetevents.util.Vector3i;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import org.jetbrains.annotations.Nullable;
 
 public class WrapperPlayServerBlockEntityData extends PacketWrapper<WrapperPlayServerBlockEntityData> {
 
     private Vector3i position;
     private BlockEntityType type;
     private NBTCompound nbt;
+    // the undecoded nbt, until it is accessed
+    private @Nullable EncodedNBT encodedNbt;
 
     public WrapperPlayServerBlockEntityData(PacketSendEvent event) {
         super(event);
@@ -62,7 +66,8 @@ public class WrapperPlayServerBlockEntityData extends PacketWrapper<WrapperPlayS
         int typeId = this.serverVersion.isNewerThanOrEquals(ServerVersion.V_1_18)
                 ? this.readVarInt() : this.readUnsignedByte();
         this.type = BlockEntityTypes.getById(this.serverVersion.toClientVersion(), typeId);
-        this.nbt = this.readNBT();
+        this.nbt = null;
+        this.encodedNbt = EncodedNBT.read(this);
     }
 
     @Override
@@ -74,7 +79,9 @@ public class WrapperPlayServerBlockEntityData extends PacketWrapper<WrapperPlayS
         } else {
             this.writeByte(typeId);
         }
-        this.writeNBT(this.nbt);
+        if (this.encodedNbt == null || !this.encodedNbt.write(this)) {
+            this.writeNBT(this.getNBT());
+        }
     }
 
     @Override
@@ -82,6 +89,7 @@ public class WrapperPlayServerBlockEntityData extends PacketWrapper<WrapperPlayS
         this.position = wrapper.position;
         this.type = wrapper.type;
         this.nbt = wrapper.nbt;
+        this.encodedNbt = wrapper.encodedNbt;
     }
 
     public Vector3i getPosition() {
@@ -89,6 +97,7 @@ public class WrapperPlayServerBlockEntityData extends PacketWrapper<WrapperPlayS
     }
 
     public void setPosition(Vector3i position) {
+        this.markDirty();
         this.position = position;
     }
 
@@ -98,7 +107,7 @@ public class WrapperPlayServerBlockEntityData extends PacketWrapper<WrapperPlayS
     }
 
     public BlockEntityType getBlockEntityType() {
-        return this.type;
+        return this.escape(this.type);
     }
 
     @Deprecated
@@ -108,24 +117,33 @@ public class WrapperPlayServerBlockEntityData extends PacketWrapper<WrapperPlayS
 
     @Deprecated
     public void setType(int type) {
+        this.markDirty();
         this.setType(BlockEntityTypes.getById(this.serverVersion.toClientVersion(), type));
     }
 
     public void setType(BlockEntityType blockEntityType) {
+        this.markDirty();
         this.type = blockEntityType;
     }
 
     @Deprecated
     public void setType(TileEntityType type) {
+        this.markDirty();
         this.setType(type.getId());
     }
 
     public NBTCompound getNBT() {
-        return nbt;
+        if (this.encodedNbt != null) {
+            this.nbt = this.encodedNbt.decode();
+            this.encodedNbt = null;
+        }
+        return this.escape(nbt);
     }
 
     public void setNBT(NBTCompound nbt) {
+        this.markDirty();
         this.nbt = nbt;
+        this.encodedNbt = null;
     }
 
 }
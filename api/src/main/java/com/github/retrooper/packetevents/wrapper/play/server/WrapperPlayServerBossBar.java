@@ -157,6 +157,7 @@ public class WrapperPlayServerBossBar extends PacketWrapper<WrapperPlayServerBos
     }
     
     public void setUUID(UUID uuid) {
+        this.markDirty();
         this.uuid = uuid;
     }
     
@@ -165,6 +166,7 @@ public class WrapperPlayServerBossBar extends PacketWrapper<WrapperPlayServerBos
     }
     
     public void setAction(Action action) {
+        this.markDirty();
         this.action = action;
     }
     
@@ -173,6 +175,7 @@ public class WrapperPlayServerBossBar extends PacketWrapper<WrapperPlayServerBos
     }
     
     public void setTitle(Component title) {
+        this.markDirty();
         this.title = title;
     }
     
@@ -181,30 +184,34 @@ public class WrapperPlayServerBossBar extends PacketWrapper<WrapperPlayServerBos
     }
     
     public void setHealth(float health) {
+        this.markDirty();
         this.health = health;
     }
     
     public BossBar.Color getColor() {
-        return color;
+        return this.escape(color);
     }
     
     public void setColor(BossBar.Color color) {
+        this.markDirty();
         this.color = color;
     }
     
     public BossBar.Overlay getOverlay() {
-        return overlay;
+        return this.escape(overlay);
     }
     
     public void setOverlay(BossBar.Overlay overlay) {
+        this.markDirty();
         this.overlay = overlay;
     }
     
     public EnumSet<BossBar.Flag> getFlags() {
-        return flags;
+        return this.escape(flags);
     }
     
     public void setFlags(EnumSet<BossBar.Flag> flags) {
+        this.markDirty();
         this.flags = flags;
     }
     
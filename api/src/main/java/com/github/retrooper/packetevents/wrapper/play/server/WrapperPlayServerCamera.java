@@ -54,6 +54,7 @@ public class WrapperPlayServerCamera extends PacketWrapper<WrapperPlayServerCame
     }
 
     public void setCameraId(int cameraId) {
+        this.markDirty();
         this.cameraId = cameraId;
     }
 }
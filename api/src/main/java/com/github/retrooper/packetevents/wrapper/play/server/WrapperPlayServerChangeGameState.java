@@ -65,6 +65,7 @@ public class WrapperPlayServerChangeGameState extends PacketWrapper<WrapperPlayS
     }
 
     public void setReason(Reason reason) {
+        this.markDirty();
         this.reason = reason;
     }
 
@@ -73,6 +74,7 @@ public class WrapperPlayServerChangeGameState extends PacketWrapper<WrapperPlayS
     }
 
     public void setValue(float value) {
+        this.markDirty();
         this.value = value;
     }
 
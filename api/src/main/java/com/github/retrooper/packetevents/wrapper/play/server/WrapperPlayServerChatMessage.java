@@ -71,10 +71,11 @@ public class WrapperPlayServerChatMessage extends PacketWrapper<WrapperPlayServe
     }
 
     public ChatMessage getMessage() {
-        return message;
+        return this.escape(message);
     }
 
     public void setMessage(ChatMessage message) {
+        this.markDirty();
         this.message = message;
     }
 
@@ -55,6 +55,7 @@ public class WrapperPlayServerChunkBatchEnd extends PacketWrapper<WrapperPlaySer
     }
 
     public void setBatchSize(int batchSize) {
+        this.markDirty();
         this.batchSize = batchSize;
     }
 }
@@ -22,12 +22,14 @@ import com.github.retrooper.packetevents.event.PacketSendEvent;
 import com.github.retrooper.packetevents.manager.server.ServerVersion;
 import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
 import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
+import com.github.retrooper.packetevents.protocol.nbt.EncodedNBT;
 import com.github.retrooper.packetevents.protocol.nbt.NBTCompound;
 import com.github.retrooper.packetevents.protocol.packettype.PacketType;
 import com.github.retrooper.packetevents.protocol.world.chunk.BaseChunk;
 import com.github.retrooper.packetevents.protocol.world.chunk.ChunkBitMask;
 import com.github.retrooper.packetevents.protocol.world.chunk.Column;
 import com.github.retrooper.packetevents.protocol.world.chunk.HeightmapType;
+import com.github.retrooper.packetevents.protocol.world.chunk.LazyColumn;
 import com.github.retrooper.packetevents.protocol.world.chunk.LightData;
 import com.github.retrooper.packetevents.protocol.world.chunk.NetworkChunkData;
 import com.github.retrooper.packetevents.protocol.world.chunk.TileEntity;
@@ -166,42 +168,48 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
             // let the chunk reader decide how to handle reading
             dataLength = this.readVarInt();
         }
-        BaseChunk[] chunks;
-        try {
-            int expectedReaderIndex = ByteBufHelper.readerIndex(this.buffer) + dataLength;
-            chunks = this.getChunkReader().read(this.user.getDimensionType(), chunkMask, secondaryChunkMask,
-                    fullChunk, hasBlockLight, hasSkyLight, chunkSize, dataLength, this);
-
-            if (hasBiomeData && this.serverVersion.isOlderThan(ServerVersion.V_1_15)) {
-                if (this.serverVersion.isNewerThanOrEquals(ServerVersion.V_1_13)) { // Uses ints
-                    biomeDataInts = new int[16 * 16];
-                    for (int i = 0; i < biomeDataInts.length; i++) {
-                        biomeDataInts[i] = this.readInt();
-                    }
-                } else if (this.serverVersion.isNewerThanOrEquals(ServerVersion.V_1_9)) { // Uses bytes
-                    biomeDataBytes = new byte[16 * 16];
-                    for (int i = 0; i < biomeDataBytes.length; i++) {
-                        biomeDataBytes[i] = this.readByte();
+        BaseChunk[] chunks = null;
+        byte[] sectionData = null;
+        if (this.serverVersion.isNewerThanOrEquals(ServerVersion.V_1_18)) {
+            // sections are only decoded once they are accessed, see LazyColumn
+            sectionData = this.readBytes(dataLength);
+        } else {
+            try {
+                int expectedReaderIndex = ByteBufHelper.readerIndex(this.buffer) + dataLength;
+                chunks = this.getChunkReader().read(this.user.getDimensionType(), chunkMask, secondaryChunkMask,
+                        fullChunk, hasBlockLight, hasSkyLight, chunkSize, dataLength, this);
+
+                if (hasBiomeData && this.serverVersion.isOlderThan(ServerVersion.V_1_15)) {
+                    if (this.serverVersion.isNewerThanOrEquals(ServerVersion.V_1_13)) { // Uses ints
+                        biomeDataInts = new int[16 * 16];
+                        for (int i = 0; i < biomeDataInts.length; i++) {
+                            biomeDataInts[i] = this.readInt();
+                        }
+                    } else if (this.serverVersion.isNewerThanOrEquals(ServerVersion.V_1_9)) { // Uses bytes
+                        biomeDataBytes = new byte[16 * 16];
+                        for (int i = 0; i < biomeDataBytes.length; i++) {
+                            biomeDataBytes[i] = this.readByte();
+                        }
+                    } else if (dataLength == 0) {
+                        // if cache-chunk-maps is enabled in paper, paper doesn't send any biome data on chunk unload
+                        biomeDataBytes = new byte[0];
+                    } else {
+                        biomeDataBytes = this.readBytes(16 * 16);
                     }
-                } else if (dataLength == 0) {
-                    // if cache-chunk-maps is enabled in paper, paper doesn't send any biome data on chunk unload
-                    biomeDataBytes = new byte[0];
-                } else {
-                    biomeDataBytes = this.readBytes(16 * 16);
                 }
-            }
 
-            // verify the full chunk has been read
-            int readerIndex = ByteBufHelper.readerIndex(this.buffer);
-            if (expectedReaderIndex != readerIndex) {
-                throw new RuntimeException("Error while decoding chunk at " + chunkX + " " + chunkZ
-                        + "; expected reader index " + expectedReaderIndex + ", got " + readerIndex);
-            }
-        } finally {
-            // change buffer back if it has been switched
-            if (this.buffer != originalBuffer) {
-                ByteBufHelper.release(this.buffer);
-                this.buffer = originalBuffer;
+                // verify the full chunk has been read
+                int readerIndex = ByteBufHelper.readerIndex(this.buffer);
+                if (expectedReaderIndex != readerIndex) {
+                    throw new RuntimeException("Error while decoding chunk at " + chunkX + " " + chunkZ
+                            + "; expected reader index " + expectedReaderIndex + ", got " + readerIndex);
+                }
+            } finally {
+                // change buffer back if it has been switched
+                if (this.buffer != originalBuffer) {
+                    ByteBufHelper.release(this.buffer);
+                    this.buffer = originalBuffer;
+                }
             }
         }
 
@@ -213,11 +221,11 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
 
         if (serverVersion.isNewerThanOrEquals(ServerVersion.V_1_18)) {
             for (int i = 0; i < tileEntities.length; i++) {
-                tileEntities[i] = new TileEntity(readByte(), readShort(), readVarInt(), readNBT());
+                tileEntities[i] = new TileEntity(readByte(), readShort(), readVarInt(), EncodedNBT.read(this));
             }
         } else {
             for (int i = 0; i < tileEntities.length; i++) {
-                tileEntities[i] = new TileEntity(readNBT());
+                tileEntities[i] = new TileEntity(EncodedNBT.read(this));
             }
         }
 
@@ -240,7 +248,15 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
                 }
             }
         } else {
-            if (hasHeightMaps) {
+            if (sectionData != null) {
+                if (modernHeightmaps != null) {
+                    this.column = new LazyColumn(chunkX, chunkZ, tileEntities, modernHeightmaps,
+                            this.serverVersion, sectionData, chunkSize);
+                } else {
+                    this.column = new LazyColumn(chunkX, chunkZ, tileEntities, heightmapsNbt,
+                            this.serverVersion, sectionData, chunkSize);
+                }
+            } else if (hasHeightMaps) {
                 if (modernHeightmaps != null) {
                     this.column = new Column(chunkX, chunkZ, fullChunk, chunks, tileEntities, modernHeightmaps);
                 } else {
@@ -306,7 +322,6 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
         }
 
         BitSet chunkMask = new BitSet();
-        BaseChunk[] chunks = column.getChunks();
 
         Object dataBuffer; // chunk data holder
         if (this.serverVersion.isNewerThanOrEquals(ServerVersion.V_1_9)) {
@@ -316,11 +331,17 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
             // temporarily replace backing buffer of wrapper
             this.buffer = dataBuffer;
 
-            for (int index = 0; index < chunks.length; index++) {
-                BaseChunk chunk = chunks[index];
+            // don't use getChunks, so sections of lazy columns which were never accessed don't get decoded
+            LazyColumn lazyColumn = this.column instanceof LazyColumn ? (LazyColumn) this.column : null;
+            for (int index = 0; index < column.getChunkCount(); index++) {
                 if (v1_18) {
-                    Chunk_v1_18.write(this, (Chunk_v1_18) chunk);
-                } else if (v1_9 && chunk != null) {
+                    if (lazyColumn == null || !lazyColumn.writeRawSection(this, index)) {
+                        Chunk_v1_18.write(this, (Chunk_v1_18) column.getChunk(index));
+                    }
+                    continue;
+                }
+                BaseChunk chunk = column.getChunk(index);
+                if (v1_9 && chunk != null) {
                     chunkMask.set(index);
                     Chunk_v1_9.write(this, (Chunk_v1_9) chunk);
                 }
@@ -330,7 +351,9 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
 
             // write the same amount of zero bytes mojang also writes
             if (this.serverVersion.isNewerThanOrEquals(ServerVersion.V_1_21_5)) {
-                int zeroBytes = ChunkReader_v1_18.getMojangZeroByteSuffixLength(chunks);
+                int zeroBytes = this.column instanceof LazyColumn
+                        ? ((LazyColumn) this.column).getMojangZeroByteSuffixLength()
+                        : ChunkReader_v1_18.getMojangZeroByteSuffixLength(column.getChunks());
                 int newWriterIndex = ByteBufHelper.writerIndex(dataBuffer) + zeroBytes;
                 // allocate enough space for the zeros
                 if (newWriterIndex > ByteBufHelper.capacity(dataBuffer)) {
@@ -340,12 +363,12 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
                 ByteBufHelper.writerIndex(dataBuffer, newWriterIndex);
             }
         } else if (v1_8) {
-            NetworkChunkData data = ChunkReader_v1_8.chunksToData((Chunk_v1_8[]) chunks, column.getBiomeDataBytes());
+            NetworkChunkData data = ChunkReader_v1_8.chunksToData((Chunk_v1_8[]) column.getChunks(), column.getBiomeDataBytes());
             writeShort(data.getMask());
             writeByteArray(data.getData());
             return;
         } else {
-            NetworkChunkData data = ChunkReader_v1_7.chunksToData((Chunk_v1_7[]) chunks, column.getBiomeDataBytes());
+            NetworkChunkData data = ChunkReader_v1_7.chunksToData((Chunk_v1_7[]) column.getChunks(), column.getBiomeDataBytes());
             Deflater deflater = new Deflater(-1);
 
             byte[] deflated = new byte[data.getData().length];
@@ -432,14 +455,14 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
                 writeByte(tileEntity.getPackedByte());
                 writeShort(tileEntity.getYShort());
                 writeVarInt(tileEntity.getType());
-                writeNBT(tileEntity.getNBT());
+                tileEntity.writeNBT(this);
             }
         } else if (serverVersion.isNewerThanOrEquals(ServerVersion.V_1_9)) {
             TileEntity[] tileEntities = column.getTileEntities();
             writeVarInt(tileEntities.length);
 
             for (TileEntity tileEntity : tileEntities) {
-                writeNBT(tileEntity.getNBT());
+                tileEntity.writeNBT(this);
             }
         }
 
@@ -457,18 +480,20 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
     }
 
     public Column getColumn() {
-        return column;
+        return this.escape(column);
     }
 
     public void setColumn(Column column) {
+        this.markDirty();
         this.column = column;
     }
 
     public LightData getLightData() {
-        return lightData;
+        return this.escape(lightData);
     }
 
     public void setLightData(LightData lightData) {
+        this.markDirty();
         this.lightData = lightData;
     }
 
@@ -477,6 +502,7 @@ public class WrapperPlayServerChunkData extends PacketWrapper<WrapperPlayServerC
     }
 
     public void setIgnoreOldData(boolean ignoreOldData) {
+        this.markDirty();
         this.ignoreOldData = ignoreOldData;
     }
 
@@ -257,18 +257,18 @@ public class WrapperPlayServerChunkDataBulk extends PacketWrapper<WrapperPlaySer
     }
 
     public int[] getX() {
-        return x;
+        return this.escape(x);
     }
 
     public int[] getZ() {
-        return z;
+        return this.escape(z);
     }
 
     public BaseChunk[][] getChunks() {
-        return chunks;
+        return this.escape(chunks);
     }
 
     public byte[][] getBiomeData() {
-        return biomeData;
+        return this.escape(biomeData);
     }
 }
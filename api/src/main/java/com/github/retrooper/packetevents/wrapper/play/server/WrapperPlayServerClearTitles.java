@@ -54,6 +54,7 @@ public class WrapperPlayServerClearTitles extends PacketWrapper<WrapperPlayServe
     }
 
     public void setReset(boolean reset) {
+        this.markDirty();
         this.reset = reset;
     }
 }
@@ -111,6 +111,7 @@ public class WrapperPlayServerCombatEvent extends PacketWrapper<WrapperPlayServe
     }
 
     public void setCombat(Combat combat) {
+        this.markDirty();
         this.combat = combat;
     }
 
@@ -119,6 +120,7 @@ public class WrapperPlayServerCombatEvent extends PacketWrapper<WrapperPlayServe
     }
 
     public void setDuration(int duration) {
+        this.markDirty();
         this.duration = duration;
     }
 
@@ -127,6 +129,7 @@ public class WrapperPlayServerCombatEvent extends PacketWrapper<WrapperPlayServe
     }
 
     public void setEntityId(int entityId) {
+        this.markDirty();
         this.entityId = entityId;
     }
 
@@ -135,6 +138,7 @@ public class WrapperPlayServerCombatEvent extends PacketWrapper<WrapperPlayServe
     }
 
     public void setPlayerId(int playerId) {
+        this.markDirty();
         this.playerId = playerId;
     }
 
@@ -143,6 +147,7 @@ public class WrapperPlayServerCombatEvent extends PacketWrapper<WrapperPlayServe
     }
 
     public void setDeathMessage(@Nullable Component deathMessage) {
+        this.markDirty();
         this.deathMessage = deathMessage;
     }
 }
@@ -115,6 +115,7 @@ public class WrapperPlayServerCraftRecipeResponse extends PacketWrapper<WrapperP
     }
 
     public void setWindowId(int windowId) {
+        this.markDirty();
         this.windowId = windowId;
     }
 
@@ -123,9 +124,9 @@ public class WrapperPlayServerCraftRecipeResponse extends PacketWrapper<WrapperP
      */
     @Deprecated
     public <T> T getRecipe() {
-        return (T) (this.serverVersion.isOlderThan(ServerVersion.V_1_21_2)
+        return this.escape((T) (this.serverVersion.isOlderThan(ServerVersion.V_1_21_2)
                 && this.serverVersion.isNewerThanOrEquals(ServerVersion.V_1_13)
-                ? this.recipeKey : this.recipeId.getId());
+                ? this.recipeKey : this.recipeId.getId()));
     }
 
     /**
@@ -133,6 +134,7 @@ public class WrapperPlayServerCraftRecipeResponse extends PacketWrapper<WrapperP
      */
     @Deprecated
     public <T> void setRecipe(T recipe) {
+        this.markDirty();
         if (this.serverVersion.isNewerThanOrEquals(ServerVersion.V_1_13)) {
             this.recipeKey = new ResourceLocation((String) recipe);
         } else {
@@ -145,22 +147,25 @@ public class WrapperPlayServerCraftRecipeResponse extends PacketWrapper<WrapperP
     }
 
     public void setRecipeKey(ResourceLocation recipeKey) {
+        this.markDirty();
         this.recipeKey = recipeKey;
     }
 
     public RecipeDisplayId getRecipeId() {
-        return this.recipeId;
+        return this.escape(this.recipeId);
     }
 
     public void setRecipeId(RecipeDisplayId recipeId) {
+        this.markDirty();
         this.recipeId = recipeId;
     }
 
     public RecipeDisplay<?> getRecipeDisplay() {
-        return this.recipeDisplay;
+        return this.escape(this.recipeDisplay);
     }
 
     public void setRecipeDisplay(RecipeDisplay<?> recipeDisplay) {
+        this.markDirty();
         this.recipeDisplay = recipeDisplay;
     }
 }
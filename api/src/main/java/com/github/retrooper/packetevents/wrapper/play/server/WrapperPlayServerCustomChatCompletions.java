@@ -62,14 +62,16 @@ public class WrapperPlayServerCustomChatCompletions extends PacketWrapper<Wrappe
     }
 
     public void setAction(ChatCompletionAction action) {
+        this.markDirty();
         this.action = action;
     }
 
     public List<String> getEntries() {
-        return entries;
+        return this.escape(entries);
     }
 
     public void setEntries(List<String> entries) {
+        this.markDirty();
         this.entries = entries;
     }
 }
@@ -79,14 +79,16 @@ public class WrapperPlayServerDamageEvent extends PacketWrapper<WrapperPlayServe
     }
 
     public void setEntityId(int entityId) {
+        this.markDirty();
         this.entityId = entityId;
     }
 
     public DamageType getSourceType() {
-        return sourceType;
+        return this.escape(sourceType);
     }
 
     public void setSourceType(DamageType sourceType) {
+        this.markDirty();
         this.sourceType = sourceType;
     }
 
@@ -95,6 +97,7 @@ public class WrapperPlayServerDamageEvent extends PacketWrapper<WrapperPlayServe
     }
 
     public void setSourceCauseId(int sourceCauseId) {
+        this.markDirty();
         this.sourceCauseId = sourceCauseId;
     }
 
@@ -103,6 +106,7 @@ public class WrapperPlayServerDamageEvent extends PacketWrapper<WrapperPlayServe
     }
 
     public void setSourceDirectId(int sourceDirectId) {
+        this.markDirty();
         this.sourceDirectId = sourceDirectId;
     }
 
@@ -111,6 +115,7 @@ public class WrapperPlayServerDamageEvent extends PacketWrapper<WrapperPlayServe
     }
 
     public void setSourcePosition(@Nullable Vector3d sourcePosition) {
+        this.markDirty();
         this.sourcePosition = sourcePosition;
     }
 }
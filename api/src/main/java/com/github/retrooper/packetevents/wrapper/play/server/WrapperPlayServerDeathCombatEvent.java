@@ -74,6 +74,7 @@ public class WrapperPlayServerDeathCombatEvent extends PacketWrapper<WrapperPlay
     }
 
     public void setPlayerId(int playerId) {
+        this.markDirty();
         this.playerId = playerId;
     }
 
@@ -82,6 +83,7 @@ public class WrapperPlayServerDeathCombatEvent extends PacketWrapper<WrapperPlay
     }
 
     public void setEntityId(int entityId) {
+        this.markDirty();
         this.entityId = entityId;
     }
 
@@ -90,6 +92,7 @@ public class WrapperPlayServerDeathCombatEvent extends PacketWrapper<WrapperPlay
     }
 
     public void setDeathMessage(Component deathMessage) {
+        this.markDirty();
         this.deathMessage = deathMessage;
     }
 }
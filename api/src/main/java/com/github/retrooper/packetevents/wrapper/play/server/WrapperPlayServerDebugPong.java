@@ -55,6 +55,7 @@ public class WrapperPlayServerDebugPong extends PacketWrapper<WrapperPlayServerD
     }
 
     public void setTimestamp(long timestamp) {
+        this.markDirty();
         this.timestamp = timestamp;
     }
 }
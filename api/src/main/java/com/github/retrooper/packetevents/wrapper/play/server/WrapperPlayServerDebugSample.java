@@ -56,10 +56,11 @@ public class WrapperPlayServerDebugSample extends PacketWrapper<WrapperPlayServe
     }
 
     public long[] getSample() {
-        return this.sample;
+        return this.escape(this.sample);
     }
 
     public void setSample(long[] sample) {
+        this.markDirty();
         this.sample = sample;
     }
 
@@ -68,6 +69,7 @@ public class WrapperPlayServerDebugSample extends PacketWrapper<WrapperPlayServe
     }
 
     public void setSampleType(SampleType sampleType) {
+        this.markDirty();
         this.sampleType = sampleType;
     }
 
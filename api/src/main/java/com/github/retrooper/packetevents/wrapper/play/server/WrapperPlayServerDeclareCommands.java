@@ -53,10 +53,11 @@ public class WrapperPlayServerDeclareCommands extends PacketWrapper<WrapperPlayS
     }
 
     public List<Node> getNodes() {
-        return nodes;
+        return this.escape(nodes);
     }
 
     public void setNodes(List<Node> nodes) {
+        this.markDirty();
         this.nodes = nodes;
     }
 
@@ -65,6 +66,7 @@ public class WrapperPlayServerDeclareCommands extends PacketWrapper<WrapperPlayS
     }
 
     public void setRootIndex(int rootIndex) {
+        this.markDirty();
         this.rootIndex = rootIndex;
     }
 }
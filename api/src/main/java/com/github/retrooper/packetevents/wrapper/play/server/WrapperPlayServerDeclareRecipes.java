@@ -110,7 +110,7 @@ public class WrapperPlayServerDeclareRecipes extends PacketWrapper<WrapperPlaySe
      */
     @ApiStatus.Obsolete
     public Recipe<?>[] getRecipes() {
-        return this.recipes;
+        return this.escape(this.recipes);
     }
 
     /**
@@ -118,22 +118,25 @@ public class WrapperPlayServerDeclareRecipes extends PacketWrapper<WrapperPlaySe
      */
     @ApiStatus.Obsolete
     public void setRecipes(Recipe<?>[] recipes) {
+        this.markDirty();
         this.recipes = recipes;
     }
 
     public Map<ResourceLocation, RecipePropertySet> getItemSets() {
-        return this.itemSets;
+        return this.escape(this.itemSets);
     }
 
     public void setItemSets(Map<ResourceLocation, RecipePropertySet> itemSets) {
+        this.markDirty();
         this.itemSets = itemSets;
     }
 
     public List<SingleInputOptionDisplay> getStonecutterRecipes() {
-        return this.stonecutterRecipes;
+        return this.escape(this.stonecutterRecipes);
     }
 
     public void setStonecutterRecipes(List<SingleInputOptionDisplay> stonecutterRecipes) {
+        this.markDirty();
         this.stonecutterRecipes = stonecutterRecipes;
     }
 }
@@ -50,10 +50,11 @@ public class WrapperPlayServerDeleteChat extends PacketWrapper<WrapperPlayServer
     }
 
     public byte[] getSignature() {
-        return signature;
+        return this.escape(signature);
     }
 
     public void setSignature(byte[] signature) {
+        this.markDirty();
         this.signature = signature;
     }
 }
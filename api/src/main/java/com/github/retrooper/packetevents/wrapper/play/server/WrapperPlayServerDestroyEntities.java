@@ -86,10 +86,11 @@ public class WrapperPlayServerDestroyEntities extends PacketWrapper<WrapperPlayS
     }
 
     public int[] getEntityIds() {
-        return entityIDs;
+        return this.escape(entityIDs);
     }
 
     public void setEntityIds(int[] entityIDs) {
+        this.markDirty();
         this.entityIDs = entityIDs;
     }
 }
@@ -75,6 +75,7 @@ public class WrapperPlayServerDifficulty extends PacketWrapper<WrapperPlayServer
     }
 
     public void setDifficulty(Difficulty difficulty) {
+        this.markDirty();
         this.difficulty = difficulty;
     }
 
@@ -83,6 +84,7 @@ public class WrapperPlayServerDifficulty extends PacketWrapper<WrapperPlayServer
     }
 
     public void setLocked(boolean locked) {
+        this.markDirty();
         this.locked = locked;
     }
 }
@@ -55,6 +55,7 @@ public class WrapperPlayServerDisconnect extends PacketWrapper<WrapperPlayServer
     }
 
     public void setReason(Component reason) {
+        this.markDirty();
         this.reason = reason;
     }
 }
@@ -62,14 +62,16 @@ public class WrapperPlayServerDisguisedChat extends PacketWrapper<WrapperPlaySer
     }
 
     public void setMessage(Component message) {
+        this.markDirty();
         this.message = message;
     }
 
     public ChatType.Bound getChatFormatting() {
-        return chatFormatting;
+        return this.escape(chatFormatting);
     }
 
     public void setChatFormatting(ChatType.Bound chatFormatting) {
+        this.markDirty();
         this.chatFormatting = chatFormatting;
     }
 
@@ -79,7 +81,7 @@ public class WrapperPlayServerDisguisedChat extends PacketWrapper<WrapperPlaySer
      */
     @Deprecated
     public ChatType.Bound getChatType() {
-        return chatFormatting;
+        return this.escape(chatFormatting);
     }
 
     /**
@@ -88,6 +90,7 @@ public class WrapperPlayServerDisguisedChat extends PacketWrapper<WrapperPlaySer
      */
     @Deprecated
     public void setChatType(ChatType.Bound chatFormatting) {
+        this.markDirty();
         this.chatFormatting = chatFormatting;
     }
 }
@@ -76,6 +76,7 @@ public class WrapperPlayServerDisplayScoreboard extends PacketWrapper<WrapperPla
     }
 
     public void setPosition(int position) {
+        this.markDirty();
         this.position = position;
     }
 
@@ -84,6 +85,7 @@ public class WrapperPlayServerDisplayScoreboard extends PacketWrapper<WrapperPla
     }
 
     public void setScoreName(String scoreName) {
+        this.markDirty();
         this.scoreName = scoreName;
     }
 }
@@ -68,6 +68,7 @@ public class WrapperPlayServerEndCombatEvent extends PacketWrapper<WrapperPlaySe
     }
 
     public void setDuration(int duration) {
+        this.markDirty();
         this.duration = duration;
     }
 
@@ -76,6 +77,7 @@ public class WrapperPlayServerEndCombatEvent extends PacketWrapper<WrapperPlaySe
     }
 
     public void setEntityId(int entityId) {
+        this.markDirty();
         this.entityId = entityId;
     }
 }
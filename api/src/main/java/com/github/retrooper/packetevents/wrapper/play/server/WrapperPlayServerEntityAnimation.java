@@ -59,6 +59,7 @@ public class WrapperPlayServerEntityAnimation extends PacketWrapper<WrapperPlayS
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
@@ -67,6 +68,7 @@ public class WrapperPlayServerEntityAnimation extends PacketWrapper<WrapperPlayS
     }
 
     public void setType(EntityAnimationType type) {
+        this.markDirty();
         this.type = type;
     }
 
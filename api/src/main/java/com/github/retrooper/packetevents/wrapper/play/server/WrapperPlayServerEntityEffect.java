@@ -92,10 +92,11 @@ public class WrapperPlayServerEntityEffect extends PacketWrapper<WrapperPlayServ
     }
 
     public PotionType getPotionType() {
-        return potionType;
+        return this.escape(potionType);
     }
 
     public void setPotionType(PotionType potionType) {
+        this.markDirty();
         this.potionType = potionType;
     }
 
@@ -104,6 +105,7 @@ public class WrapperPlayServerEntityEffect extends PacketWrapper<WrapperPlayServ
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
@@ -112,6 +114,7 @@ public class WrapperPlayServerEntityEffect extends PacketWrapper<WrapperPlayServ
     }
 
     public void setEffectAmplifier(int effectAmplifier) {
+        this.markDirty();
         this.effectAmplifier = effectAmplifier;
     }
 
@@ -120,6 +123,7 @@ public class WrapperPlayServerEntityEffect extends PacketWrapper<WrapperPlayServ
     }
 
     public void setEffectDurationTicks(int effectDurationTicks) {
+        this.markDirty();
         this.effectDurationTicks = effectDurationTicks;
     }
 
@@ -132,10 +136,11 @@ public class WrapperPlayServerEntityEffect extends PacketWrapper<WrapperPlayServ
     }
 
     public @Nullable NBTCompound getFactorData() {
-        return factorData;
+        return this.escape(factorData);
     }
 
     public void setFactorData(@Nullable NBTCompound factorData) {
+        this.markDirty();
         this.factorData = factorData;
     }
 
@@ -156,6 +161,7 @@ public class WrapperPlayServerEntityEffect extends PacketWrapper<WrapperPlayServ
     }
 
     public void setAmbient(boolean isAmbient) {
+        this.markDirty();
         if (serverVersion.isNewerThan(ServerVersion.V_1_8_8)) {
             // used as a boolean in 1.9, works either way though
             setFlags(constructFlags(isVisible(), isAmbient, isShowIcon()));
@@ -175,6 +181,7 @@ public class WrapperPlayServerEntityEffect extends PacketWrapper<WrapperPlayServ
     }
 
     public void setVisible(boolean isVisible) {
+        this.markDirty();
         if (serverVersion.isOlderThan(ServerVersion.V_1_10)) {
             return;
         }
@@ -189,6 +196,7 @@ public class WrapperPlayServerEntityEffect extends PacketWrapper<WrapperPlayServ
     }
 
     public void setShowIcon(boolean showIcon) {
+        this.markDirty();
         if (serverVersion.isOlderThanOrEquals(ServerVersion.V_1_13_2)) {
             return;
         }
@@ -106,14 +106,16 @@ public class WrapperPlayServerEntityEquipment extends PacketWrapper<WrapperPlayS
     }
 
     public void setEntityId(int entityId) {
+        this.markDirty();
         this.entityId = entityId;
     }
 
     public List<Equipment> getEquipment() {
-        return equipment;
+        return this.escape(equipment);
     }
 
     public void setEquipment(List<Equipment> equipment) {
+        this.markDirty();
         this.equipment = equipment;
     }
 }
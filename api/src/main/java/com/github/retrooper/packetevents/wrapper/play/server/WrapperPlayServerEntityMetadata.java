@@ -22,15 +22,20 @@ import com.github.retrooper.packetevents.PacketEvents;
 import com.github.retrooper.packetevents.event.PacketSendEvent;
 import com.github.retrooper.packetevents.manager.server.ServerVersion;
 import com.github.retrooper.packetevents.protocol.entity.data.EntityData;
+import com.github.retrooper.packetevents.protocol.entity.data.EntityMetadata;
 import com.github.retrooper.packetevents.protocol.entity.data.EntityMetadataProvider;
 import com.github.retrooper.packetevents.protocol.packettype.PacketType;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class WrapperPlayServerEntityMetadata extends PacketWrapper<WrapperPlayServerEntityMetadata> {
     private int entityID;
-    private List<EntityData<?>> entityMetadata;
+    // only one of these is set at a time, converted when the other representation is accessed
+    private @Nullable List<EntityData<?>> entityMetadata;
+    private @Nullable EntityMetadata metadata;
 
     public WrapperPlayServerEntityMetadata(PacketSendEvent event) {
         super(event);
@@ -49,7 +54,8 @@ public class WrapperPlayServerEntityMetadata extends PacketWrapper<WrapperPlaySe
     @Override
     public void read() {
         entityID = serverVersion.isNewerThanOrEquals(ServerVersion.V_1_8) ? readVarInt() : readInt();
-        entityMetadata = readEntityMetadata();
+        entityMetadata = null;
+        metadata = EntityMetadata.read(this);
     }
 
     @Override
@@ -59,13 +65,18 @@ public class WrapperPlayServerEntityMetadata extends PacketWrapper<WrapperPlaySe
         } else {
             writeInt(entityID);
         }
-        writeEntityMetadata(entityMetadata);
+        if (metadata != null) {
+            metadata.write(this);
+        } else {
+            writeEntityMetadata(entityMetadata);
+        }
     }
 
     @Override
     public void copy(WrapperPlayServerEntityMetadata wrapper) {
         entityID = wrapper.entityID;
         entityMetadata = wrapper.entityMetadata;
+        metadata = wrapper.metadata;
     }
 
     public int getEntityId() {
@@ -73,18 +84,46 @@ public class WrapperPlayServerEntityMetadata extends PacketWrapper<WrapperPlaySe
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
     public List<EntityData<?>> getEntityMetadata() {
-        return entityMetadata;
+        if (metadata != null) {
+            entityMetadata = metadata.toList();
+            metadata = null;
+        }
+        return this.escape(entityMetadata);
     }
 
     public void setEntityMetadata(List<EntityData<?>> entityMetadata) {
+        this.markDirty();
         this.entityMetadata = entityMetadata;
+        this.metadata = null;
     }
 
     public void setEntityMetadata(EntityMetadataProvider metadata) {
+        this.markDirty();
         this.entityMetadata = metadata.entityData(serverVersion.toClientVersion());
+        this.metadata = null;
+    }
+
+    /**
+     * Accesses the metadata without boxing primitive values.
+     * Unmodified entries are written back as they were read, setting or removing entries marks this wrapper dirty.
+     */
+    public EntityMetadata getMetadata() {
+        if (metadata == null) {
+            metadata = EntityMetadata.fromList(entityMetadata != null ? entityMetadata : new ArrayList<>());
+            entityMetadata = null;
+        }
+        metadata.setOwner(this);
+        return metadata;
+    }
+
+    public void setMetadata(EntityMetadata metadata) {
+        this.markDirty();
+        this.metadata = metadata;
+        this.entityMetadata = null;
     }
 }
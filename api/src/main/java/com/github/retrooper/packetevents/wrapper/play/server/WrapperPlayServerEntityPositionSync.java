@@ -66,14 +66,16 @@ public class WrapperPlayServerEntityPositionSync extends PacketWrapper<WrapperPl
     }
 
     public void setId(int id) {
+        this.markDirty();
         this.id = id;
     }
 
     public EntityPositionData getValues() {
-        return this.values;
+        return this.escape(this.values);
     }
 
     public void setValues(EntityPositionData values) {
+        this.markDirty();
         this.values = values;
     }
 
@@ -82,6 +84,7 @@ public class WrapperPlayServerEntityPositionSync extends PacketWrapper<WrapperPl
     }
 
     public void setOnGround(boolean onGround) {
+        this.markDirty();
         this.onGround = onGround;
     }
 }
@@ -93,6 +93,7 @@ public class WrapperPlayServerEntityRelativeMove extends PacketWrapper<WrapperPl
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
@@ -101,6 +102,7 @@ public class WrapperPlayServerEntityRelativeMove extends PacketWrapper<WrapperPl
     }
 
     public void setDeltaX(double deltaX) {
+        this.markDirty();
         this.deltaX = deltaX;
     }
 
@@ -109,6 +111,7 @@ public class WrapperPlayServerEntityRelativeMove extends PacketWrapper<WrapperPl
     }
 
     public void setDeltaY(double deltaY) {
+        this.markDirty();
         this.deltaY = deltaY;
     }
 
@@ -117,6 +120,7 @@ public class WrapperPlayServerEntityRelativeMove extends PacketWrapper<WrapperPl
     }
 
     public void setDeltaZ(double deltaZ) {
+        this.markDirty();
         this.deltaZ = deltaZ;
     }
 
@@ -125,6 +129,7 @@ public class WrapperPlayServerEntityRelativeMove extends PacketWrapper<WrapperPl
     }
 
     public void setOnGround(boolean onGround) {
+        this.markDirty();
         this.onGround = onGround;
     }
 }
@@ -102,6 +102,7 @@ public class WrapperPlayServerEntityRelativeMoveAndRotation extends PacketWrappe
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
@@ -110,6 +111,7 @@ public class WrapperPlayServerEntityRelativeMoveAndRotation extends PacketWrappe
     }
 
     public void setDeltaX(double deltaX) {
+        this.markDirty();
         this.deltaX = deltaX;
     }
 
@@ -118,6 +120,7 @@ public class WrapperPlayServerEntityRelativeMoveAndRotation extends PacketWrappe
     }
 
     public void setDeltaY(double deltaY) {
+        this.markDirty();
         this.deltaY = deltaY;
     }
 
@@ -126,6 +129,7 @@ public class WrapperPlayServerEntityRelativeMoveAndRotation extends PacketWrappe
     }
 
     public void setDeltaZ(double deltaZ) {
+        this.markDirty();
         this.deltaZ = deltaZ;
     }
 
@@ -134,6 +138,7 @@ public class WrapperPlayServerEntityRelativeMoveAndRotation extends PacketWrappe
     }
 
     public void setYaw(float yaw) {
+        this.markDirty();
         this.yaw = yaw;
     }
 
@@ -142,6 +147,7 @@ public class WrapperPlayServerEntityRelativeMoveAndRotation extends PacketWrappe
     }
 
     public void setPitch(float pitch) {
+        this.markDirty();
         this.pitch = pitch;
     }
 
@@ -150,6 +156,7 @@ public class WrapperPlayServerEntityRelativeMoveAndRotation extends PacketWrappe
     }
 
     public void setOnGround(boolean onGround) {
+        this.markDirty();
         this.onGround = onGround;
     }
 }
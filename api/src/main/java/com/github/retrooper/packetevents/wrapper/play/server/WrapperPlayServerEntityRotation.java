@@ -70,6 +70,7 @@ public class WrapperPlayServerEntityRotation extends PacketWrapper<WrapperPlaySe
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
@@ -78,6 +79,7 @@ public class WrapperPlayServerEntityRotation extends PacketWrapper<WrapperPlaySe
     }
 
     public void setYaw(float yaw) {
+        this.markDirty();
         this.yaw = yaw;
     }
 
@@ -86,6 +88,7 @@ public class WrapperPlayServerEntityRotation extends PacketWrapper<WrapperPlaySe
     }
 
     public void setPitch(float pitch) {
+        this.markDirty();
         this.pitch = pitch;
     }
 
@@ -94,6 +97,7 @@ public class WrapperPlayServerEntityRotation extends PacketWrapper<WrapperPlaySe
     }
 
     public void setOnGround(boolean onGround) {
+        this.markDirty();
         this.onGround = onGround;
     }
 }
@@ -111,10 +111,11 @@ public class WrapperPlayServerEntitySoundEffect extends PacketWrapper<WrapperPla
     }
 
     public Sound getSound() {
-        return this.sound;
+        return this.escape(this.sound);
     }
 
     public void setSound(Sound sound) {
+        this.markDirty();
         this.sound = sound;
     }
 
@@ -125,6 +126,7 @@ public class WrapperPlayServerEntitySoundEffect extends PacketWrapper<WrapperPla
 
     @Deprecated
     public void setSoundId(int soundId) {
+        this.markDirty();
         this.setSound(Sounds.getById(this.serverVersion.toClientVersion(), soundId));
     }
 
@@ -133,6 +135,7 @@ public class WrapperPlayServerEntitySoundEffect extends PacketWrapper<WrapperPla
     }
 
     public void setSoundCategory(SoundCategory soundCategory) {
+        this.markDirty();
         this.soundCategory = soundCategory;
     }
 
@@ -141,6 +144,7 @@ public class WrapperPlayServerEntitySoundEffect extends PacketWrapper<WrapperPla
     }
 
     public void setEntityId(int entityId) {
+        this.markDirty();
         this.entityId = entityId;
     }
 
@@ -149,6 +153,7 @@ public class WrapperPlayServerEntitySoundEffect extends PacketWrapper<WrapperPla
     }
 
     public void setVolume(float volume) {
+        this.markDirty();
         this.volume = volume;
     }
 
@@ -157,6 +162,7 @@ public class WrapperPlayServerEntitySoundEffect extends PacketWrapper<WrapperPla
     }
 
     public void setPitch(float pitch) {
+        this.markDirty();
         this.pitch = pitch;
     }
 
@@ -165,6 +171,7 @@ public class WrapperPlayServerEntitySoundEffect extends PacketWrapper<WrapperPla
     }
 
     public void setSeed(long seed) {
+        this.markDirty();
         this.seed = seed;
     }
 }
@@ -59,6 +59,7 @@ public class WrapperPlayServerEntityStatus extends PacketWrapper<WrapperPlayServ
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
@@ -67,6 +68,7 @@ public class WrapperPlayServerEntityStatus extends PacketWrapper<WrapperPlayServ
     }
 
     public void setStatus(int status) {
+        this.markDirty();
         this.status = status;
     }
 }
@@ -137,14 +137,16 @@ public class WrapperPlayServerEntityTeleport extends PacketWrapper<WrapperPlaySe
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
     public EntityPositionData getValues() {
-        return this.values;
+        return this.escape(this.values);
     }
 
     public void setValues(EntityPositionData values) {
+        this.markDirty();
         this.values = values;
     }
 
@@ -153,6 +155,7 @@ public class WrapperPlayServerEntityTeleport extends PacketWrapper<WrapperPlaySe
     }
 
     public void setPosition(Vector3d position) {
+        this.markDirty();
         this.values.setPosition(position);
     }
 
@@ -161,6 +164,7 @@ public class WrapperPlayServerEntityTeleport extends PacketWrapper<WrapperPlaySe
     }
 
     public void setDeltaMovement(Vector3d deltaMovement) {
+        this.markDirty();
         this.values.setDeltaMovement(deltaMovement);
     }
 
@@ -169,6 +173,7 @@ public class WrapperPlayServerEntityTeleport extends PacketWrapper<WrapperPlaySe
     }
 
     public void setYaw(float yaw) {
+        this.markDirty();
         this.values.setYaw(yaw);
     }
 
@@ -177,14 +182,16 @@ public class WrapperPlayServerEntityTeleport extends PacketWrapper<WrapperPlaySe
     }
 
     public void setPitch(float pitch) {
+        this.markDirty();
         this.values.setPitch(pitch);
     }
 
     public RelativeFlag getRelativeFlags() {
-        return this.relativeFlags;
+        return this.escape(this.relativeFlags);
     }
 
     public void setRelativeFlags(RelativeFlag relativeFlags) {
+        this.markDirty();
         this.relativeFlags = relativeFlags;
     }
 
@@ -193,6 +200,7 @@ public class WrapperPlayServerEntityTeleport extends PacketWrapper<WrapperPlaySe
     }
 
     public void setOnGround(boolean onGround) {
+        this.markDirty();
         this.onGround = onGround;
     }
 }
@@ -83,6 +83,7 @@ public class WrapperPlayServerEntityVelocity extends PacketWrapper<WrapperPlaySe
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
@@ -91,6 +92,7 @@ public class WrapperPlayServerEntityVelocity extends PacketWrapper<WrapperPlaySe
     }
 
     public void setVelocity(Vector3d velocity) {
+        this.markDirty();
         this.velocity = velocity;
     }
 }
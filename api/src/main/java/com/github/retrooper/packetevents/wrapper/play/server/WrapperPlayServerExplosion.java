@@ -239,6 +239,7 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
     }
 
     public void setPosition(Vector3d position) {
+        this.markDirty();
         this.position = position;
     }
 
@@ -249,16 +250,18 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
 
     @ApiStatus.Obsolete // removed in 1.21.2
     public void setStrength(float strength) {
+        this.markDirty();
         this.strength = strength;
     }
 
     @ApiStatus.Obsolete // removed in 1.21.2
     public List<Vector3i> getRecords() {
-        return records;
+        return this.escape(records);
     }
 
     @ApiStatus.Obsolete // removed in 1.21.2
     public void setRecords(List<Vector3i> records) {
+        this.markDirty();
         this.records = records;
     }
 
@@ -267,6 +270,7 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
     }
 
     public void setKnockback(@Nullable Vector3d knockback) {
+        this.markDirty();
         this.knockback = knockback;
     }
 
@@ -281,35 +285,39 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
 
     @Deprecated
     public void setPlayerMotion(@Nullable Vector3f playerMotion) {
+        this.markDirty();
         this.knockback = playerMotion == null ? null : new Vector3d(
                 playerMotion.x, playerMotion.y, playerMotion.z);
     }
 
     @ApiStatus.Obsolete // removed in 1.21.2
     public Particle<?> getSmallExplosionParticles() {
-        return this.smallParticle;
+        return this.escape(this.smallParticle);
     }
 
     @ApiStatus.Obsolete // removed in 1.21.2
     public void setSmallExplosionParticles(Particle<?> smallExplosionParticles) {
+        this.markDirty();
         this.smallParticle = smallExplosionParticles;
     }
 
     public Particle<?> getParticle() {
-        return this.particle;
+        return this.escape(this.particle);
     }
 
     public void setParticle(Particle<?> particle) {
+        this.markDirty();
         this.particle = particle;
     }
 
     @ApiStatus.Obsolete // renamed in 1.21.2
     public Particle<?> getLargeExplosionParticles() {
-        return this.getParticle();
+        return this.escape(this.getParticle());
     }
 
     @ApiStatus.Obsolete // renamed in 1.21.2
     public void setLargeExplosionParticles(Particle<?> largeExplosionParticles) {
+        this.markDirty();
         this.setParticle(largeExplosionParticles);
     }
 
@@ -320,6 +328,7 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
 
     @ApiStatus.Obsolete // removed in 1.21.2
     public void setBlockInteraction(BlockInteraction blockInteraction) {
+        this.markDirty();
         this.blockInteraction = blockInteraction;
     }
 
@@ -328,6 +337,7 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
     }
 
     public void setExplosionSoundKey(ResourceLocation explosionSoundKey) {
+        this.markDirty();
         this.explosionSound = new StaticSound(explosionSoundKey, this.explosionSound.getRange());
     }
 
@@ -336,14 +346,16 @@ public class WrapperPlayServerExplosion extends PacketWrapper<WrapperPlayServerE
     }
 
     public void setExplosionSoundRange(@Nullable Float explosionSoundRange) {
+        this.markDirty();
         this.explosionSound = new StaticSound(this.explosionSound.getSoundId(), explosionSoundRange);
     }
 
     public Sound getExplosionSound() {
-        return this.explosionSound;
+        return this.escape(this.explosionSound);
     }
 
     public void setExplosionSound(Sound explosionSound) {
+        this.markDirty();
         this.explosionSound = explosionSound;
     }
 
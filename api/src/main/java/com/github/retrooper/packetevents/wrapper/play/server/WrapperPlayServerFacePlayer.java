@@ -71,6 +71,7 @@ public class WrapperPlayServerFacePlayer extends PacketWrapper<WrapperPlayServer
     }
 
     public void setAimUnit(EntitySection aimUnit) {
+        this.markDirty();
         this.aimUnit = aimUnit;
     }
 
@@ -79,15 +80,17 @@ public class WrapperPlayServerFacePlayer extends PacketWrapper<WrapperPlayServer
     }
 
     public void setTargetPosition(Vector3d targetPosition) {
+        this.markDirty();
         this.targetPosition = targetPosition;
     }
 
     @Nullable
     public TargetEntity getTargetEntity() {
-        return targetEntity;
+        return this.escape(targetEntity);
     }
 
     public void setTargetEntity(@Nullable TargetEntity targetEntity) {
+        this.markDirty();
         this.targetEntity = targetEntity;
     }
 
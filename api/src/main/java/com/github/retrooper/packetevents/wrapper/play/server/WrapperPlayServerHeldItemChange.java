@@ -60,6 +60,7 @@ public class WrapperPlayServerHeldItemChange extends PacketWrapper<WrapperPlaySe
     }
 
     public void setSlot(int slot) {
+        this.markDirty();
         this.slot = slot;
     }
 }
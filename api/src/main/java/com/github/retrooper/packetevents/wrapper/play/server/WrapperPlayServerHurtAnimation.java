@@ -41,6 +41,7 @@ public class WrapperPlayServerHurtAnimation extends PacketWrapper<WrapperPlaySer
     }
 
     public void setEntityId(int entityId) {
+        this.markDirty();
         this.entityId = entityId;
     }
 
@@ -49,6 +50,7 @@ public class WrapperPlayServerHurtAnimation extends PacketWrapper<WrapperPlaySer
     }
 
     public void setYaw(float yaw) {
+        this.markDirty();
         this.yaw = yaw;
     }
 }
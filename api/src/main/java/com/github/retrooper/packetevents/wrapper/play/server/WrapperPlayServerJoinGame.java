@@ -495,6 +495,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
@@ -503,6 +504,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setHardcore(boolean hardcore) {
+        this.markDirty();
         this.hardcore = hardcore;
     }
 
@@ -511,6 +513,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setGameMode(GameMode gameMode) {
+        this.markDirty();
         this.gameMode = gameMode;
     }
 
@@ -520,30 +523,34 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setPreviousGameMode(@Nullable GameMode previousGameMode) {
+        this.markDirty();
         this.previousGameMode = previousGameMode;
     }
 
     public List<String> getWorldNames() {
-        return worldNames;
+        return this.escape(worldNames);
     }
 
     public void setWorldNames(List<String> worldNames) {
+        this.markDirty();
         this.worldNames = worldNames;
     }
 
     public NBTCompound getDimensionCodec() {
-        return dimensionCodec;
+        return this.escape(dimensionCodec);
     }
 
     public void setDimensionCodec(NBTCompound dimensionCodec) {
+        this.markDirty();
         this.dimensionCodec = dimensionCodec;
     }
 
     public DimensionTypeRef getDimensionTypeRef() {
-        return this.dimensionTypeRef;
+        return this.escape(this.dimensionTypeRef);
     }
 
     public void setDimensionTypeRef(DimensionTypeRef dimensionTypeRef) {
+        this.markDirty();
         this.dimensionTypeRef = dimensionTypeRef;
     }
 
@@ -554,16 +561,18 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setDimensionType(DimensionType dimensionType) {
+        this.markDirty();
         this.dimensionTypeRef = dimensionType.asRef(this.serverVersion.toClientVersion());
     }
 
     @Deprecated
     public Dimension getDimension() {
-        return Dimension.fromDimensionTypeRef(this.dimensionTypeRef);
+        return this.escape(Dimension.fromDimensionTypeRef(this.dimensionTypeRef));
     }
 
     @Deprecated
     public void setDimension(Dimension dimension) {
+        this.markDirty();
         this.dimensionTypeRef = dimension.asDimensionTypeRef();
     }
 
@@ -572,6 +581,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setDifficulty(Difficulty difficulty) {
+        this.markDirty();
         this.difficulty = difficulty;
     }
 
@@ -580,6 +590,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setWorldName(String worldName) {
+        this.markDirty();
         this.worldName = worldName;
     }
 
@@ -588,6 +599,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setHashedSeed(long hashedSeed) {
+        this.markDirty();
         this.hashedSeed = hashedSeed;
     }
 
@@ -596,6 +608,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setMaxPlayers(int maxPlayers) {
+        this.markDirty();
         this.maxPlayers = maxPlayers;
     }
 
@@ -604,6 +617,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setViewDistance(int viewDistance) {
+        this.markDirty();
         this.viewDistance = viewDistance;
     }
 
@@ -612,6 +626,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setSimulationDistance(int simulationDistance) {
+        this.markDirty();
         this.simulationDistance = simulationDistance;
     }
 
@@ -620,6 +635,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setReducedDebugInfo(boolean reducedDebugInfo) {
+        this.markDirty();
         this.reducedDebugInfo = reducedDebugInfo;
     }
 
@@ -628,6 +644,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setRespawnScreenEnabled(boolean enableRespawnScreen) {
+        this.markDirty();
         this.enableRespawnScreen = enableRespawnScreen;
     }
 
@@ -636,6 +653,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setLimitedCrafting(boolean limitedCrafting) {
+        this.markDirty();
         this.limitedCrafting = limitedCrafting;
     }
 
@@ -644,6 +662,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setDebug(boolean isDebug) {
+        this.markDirty();
         this.isDebug = isDebug;
     }
 
@@ -652,14 +671,16 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setFlat(boolean isFlat) {
+        this.markDirty();
         this.isFlat = isFlat;
     }
 
     public @Nullable WorldBlockPosition getLastDeathPosition() {
-        return lastDeathPosition;
+        return this.escape(lastDeathPosition);
     }
 
     public void setLastDeathPosition(@Nullable WorldBlockPosition lastDeathPosition) {
+        this.markDirty();
         this.lastDeathPosition = lastDeathPosition;
     }
 
@@ -668,6 +689,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setPortalCooldown(int portalCooldown) {
+        this.markDirty();
         this.portalCooldown = portalCooldown;
     }
 
@@ -676,6 +698,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setSeaLevel(int seaLevel) {
+        this.markDirty();
         this.seaLevel = seaLevel;
     }
 
@@ -684,6 +707,7 @@ public class WrapperPlayServerJoinGame extends PacketWrapper<WrapperPlayServerJo
     }
 
     public void setEnforcesSecureChat(boolean enforcesSecureChat) {
+        this.markDirty();
         this.enforcesSecureChat = enforcesSecureChat;
     }
 }
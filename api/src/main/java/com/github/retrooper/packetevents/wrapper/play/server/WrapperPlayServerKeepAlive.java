@@ -72,6 +72,7 @@ public class WrapperPlayServerKeepAlive extends PacketWrapper<WrapperPlayServerK
     }
 
     public void setId(long id) {
+        this.markDirty();
         this.id = id;
     }
 }
@@ -225,6 +225,7 @@ public class WrapperPlayServerMapData extends PacketWrapper<WrapperPlayServerMap
     }
 
     public void setMapId(int mapId) {
+        this.markDirty();
         this.mapId = mapId;
     }
 
@@ -233,6 +234,7 @@ public class WrapperPlayServerMapData extends PacketWrapper<WrapperPlayServerMap
     }
 
     public void setScale(byte scale) {
+        this.markDirty();
         this.scale = scale;
     }
 
@@ -241,6 +243,7 @@ public class WrapperPlayServerMapData extends PacketWrapper<WrapperPlayServerMap
     }
 
     public void setTrackingPosition(boolean trackingPosition) {
+        this.markDirty();
         this.trackingPosition = trackingPosition;
     }
 
@@ -249,14 +252,16 @@ public class WrapperPlayServerMapData extends PacketWrapper<WrapperPlayServerMap
     }
 
     public void setLocked(boolean locked) {
+        this.markDirty();
         this.locked = locked;
     }
 
     public @Nullable List<MapDecoration> getDecorations() {
-        return this.decorations;
+        return this.escape(this.decorations);
     }
 
     public void setDecorations(@Nullable List<MapDecoration> decorations) {
+        this.markDirty();
         this.decorations = decorations;
     }
 
@@ -265,6 +270,7 @@ public class WrapperPlayServerMapData extends PacketWrapper<WrapperPlayServerMap
     }
 
     public void setColumns(int columns) {
+        this.markDirty();
         this.columns = columns;
     }
 
@@ -273,6 +279,7 @@ public class WrapperPlayServerMapData extends PacketWrapper<WrapperPlayServerMap
     }
 
     public void setRows(int rows) {
+        this.markDirty();
         this.rows = rows;
     }
 
@@ -281,6 +288,7 @@ public class WrapperPlayServerMapData extends PacketWrapper<WrapperPlayServerMap
     }
 
     public void setX(int x) {
+        this.markDirty();
         this.x = x;
     }
 
@@ -289,14 +297,16 @@ public class WrapperPlayServerMapData extends PacketWrapper<WrapperPlayServerMap
     }
 
     public void setZ(int z) {
+        this.markDirty();
         this.z = z;
     }
 
     public byte @Nullable [] getData() {
-        return this.data;
+        return this.escape(this.data);
     }
 
     public void setData(byte @Nullable [] data) {
+        this.markDirty();
         this.data = data;
     }
 }
@@ -105,14 +105,16 @@ public class WrapperPlayServerMerchantOffers extends PacketWrapper<WrapperPlaySe
     }
 
     public void setContainerId(int containerId) {
+        this.markDirty();
         this.containerId = containerId;
     }
 
     public List<MerchantOffer> getMerchantOffers() {
-        return merchantOffers;
+        return this.escape(merchantOffers);
     }
 
     public void setMerchantOffers(List<MerchantOffer> merchantOffers) {
+        this.markDirty();
         this.merchantOffers = merchantOffers;
     }
 
@@ -121,6 +123,7 @@ public class WrapperPlayServerMerchantOffers extends PacketWrapper<WrapperPlaySe
     }
 
     public void setVillagerLevel(int villagerLevel) {
+        this.markDirty();
         this.villagerLevel = villagerLevel;
     }
 
@@ -129,6 +132,7 @@ public class WrapperPlayServerMerchantOffers extends PacketWrapper<WrapperPlaySe
     }
 
     public void setVillagerXp(int villagerXp) {
+        this.markDirty();
         this.villagerXp = villagerXp;
     }
 
@@ -137,6 +141,7 @@ public class WrapperPlayServerMerchantOffers extends PacketWrapper<WrapperPlaySe
     }
 
     public void setShowProgress(boolean showProgress) {
+        this.markDirty();
         this.showProgress = showProgress;
     }
 
@@ -145,6 +150,7 @@ public class WrapperPlayServerMerchantOffers extends PacketWrapper<WrapperPlaySe
     }
 
     public void setCanRestock(boolean canRestock) {
+        this.markDirty();
         this.canRestock = canRestock;
     }
 }
@@ -64,14 +64,16 @@ public class WrapperPlayServerMoveMinecart extends PacketWrapper<WrapperPlayServ
     }
 
     public void setEntityId(int entityId) {
+        this.markDirty();
         this.entityId = entityId;
     }
 
     public List<MinecartStep> getLerpSteps() {
-        return this.lerpSteps;
+        return this.escape(this.lerpSteps);
     }
 
     public void setLerpSteps(List<MinecartStep> lerpSteps) {
+        this.markDirty();
         this.lerpSteps = lerpSteps;
     }
 
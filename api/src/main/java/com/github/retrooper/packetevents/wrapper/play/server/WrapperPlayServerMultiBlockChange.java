@@ -123,6 +123,7 @@ public class WrapperPlayServerMultiBlockChange extends PacketWrapper<WrapperPlay
     }
 
     public void setChunkPosition(Vector3i chunkPosition) {
+        this.markDirty();
         this.chunkPosition = chunkPosition;
     }
 
@@ -131,14 +132,16 @@ public class WrapperPlayServerMultiBlockChange extends PacketWrapper<WrapperPlay
     }
 
     public void setTrustEdges(Boolean trustEdges) {
+        this.markDirty();
         this.trustEdges = trustEdges;
     }
 
     public EncodedBlock[] getBlocks() {
-        return blockData;
+        return this.escape(blockData);
     }
 
     public void setBlocks(EncodedBlock[] blocks) {
+        this.markDirty();
         this.blockData = blocks;
     }
 
@@ -183,7 +186,14 @@ public class WrapperPlayServerMultiBlockChange extends PacketWrapper<WrapperPlay
         }
 
         public WrappedBlockState getBlockState(ClientVersion version) {
-            return WrappedBlockState.getByGlobalId(version, blockID);
+            return this.getBlockState(version, true);
+        }
+
+        /**
+         * @param clone if false, the immutable interned state is returned without allocating
+         */
+        public WrappedBlockState getBlockState(ClientVersion version, boolean clone) {
+            return WrappedBlockState.getByGlobalId(version, blockID, clone);
         }
 
         public void setBlockState(WrappedBlockState blockState) {
@@ -60,14 +60,16 @@ public class WrapperPlayServerNBTQueryResponse extends PacketWrapper<WrapperPlay
     }
 
     public void setTransactionId(int transactionId) {
+        this.markDirty();
         this.transactionId = transactionId;
     }
 
     public NBTCompound getTag() {
-        return tag;
+        return this.escape(tag);
     }
 
     public void setTag(NBTCompound tag) {
+        this.markDirty();
         this.tag = tag;
     }
 }
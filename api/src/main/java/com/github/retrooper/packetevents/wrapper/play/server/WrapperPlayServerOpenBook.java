@@ -55,6 +55,7 @@ public class WrapperPlayServerOpenBook extends PacketWrapper<WrapperPlayServerOp
     }
 
     public void setHand(InteractionHand hand) {
+        this.markDirty();
         this.hand = hand;
     }
 }
@@ -64,6 +64,7 @@ public class WrapperPlayServerOpenHorseWindow extends PacketWrapper<WrapperPlayS
     }
 
     public void setWindowId(int windowId) {
+        this.markDirty();
         this.windowId = windowId;
     }
 
@@ -72,6 +73,7 @@ public class WrapperPlayServerOpenHorseWindow extends PacketWrapper<WrapperPlayS
     }
 
     public void setSlotCount(int slotCount) {
+        this.markDirty();
         this.slotCount = slotCount;
     }
 
@@ -80,6 +82,7 @@ public class WrapperPlayServerOpenHorseWindow extends PacketWrapper<WrapperPlayS
     }
 
     public void setEntityId(int entityId) {
+        this.markDirty();
         this.entityId = entityId;
     }
 }
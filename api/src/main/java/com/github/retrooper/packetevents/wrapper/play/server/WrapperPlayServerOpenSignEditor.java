@@ -81,6 +81,7 @@ public class WrapperPlayServerOpenSignEditor extends PacketWrapper<WrapperPlaySe
     }
 
     public void setPosition(Vector3i position) {
+        this.markDirty();
         this.position = position;
     }
 
@@ -89,6 +90,7 @@ public class WrapperPlayServerOpenSignEditor extends PacketWrapper<WrapperPlaySe
     }
 
     public void setFrontText(boolean frontText) {
+        this.markDirty();
         isFrontText = frontText;
     }
 }
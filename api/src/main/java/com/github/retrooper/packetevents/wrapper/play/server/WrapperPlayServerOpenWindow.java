@@ -161,6 +161,7 @@ public class WrapperPlayServerOpenWindow extends PacketWrapper<WrapperPlayServer
     }
 
     public void setContainerId(int containerId) {
+        this.markDirty();
         this.containerId = containerId;
     }
 
@@ -169,6 +170,7 @@ public class WrapperPlayServerOpenWindow extends PacketWrapper<WrapperPlayServer
     }
 
     public void setType(int type) {
+        this.markDirty();
         this.type = type;
     }
 
@@ -177,6 +179,7 @@ public class WrapperPlayServerOpenWindow extends PacketWrapper<WrapperPlayServer
     }
 
     public void setLegacyType(String legacyType) {
+        this.markDirty();
         this.legacyType = legacyType;
     }
 
@@ -185,6 +188,7 @@ public class WrapperPlayServerOpenWindow extends PacketWrapper<WrapperPlayServer
     }
 
     public void setLegacySlots(int legacySlots) {
+        this.markDirty();
         this.legacySlots = legacySlots;
     }
 
@@ -193,6 +197,7 @@ public class WrapperPlayServerOpenWindow extends PacketWrapper<WrapperPlayServer
     }
 
     public void setHorseId(int horseId) {
+        this.markDirty();
         this.horseId = horseId;
     }
 
@@ -201,6 +206,7 @@ public class WrapperPlayServerOpenWindow extends PacketWrapper<WrapperPlayServer
     }
 
     public void setTitle(Component title) {
+        this.markDirty();
         this.title = title;
     }
 
@@ -209,6 +215,7 @@ public class WrapperPlayServerOpenWindow extends PacketWrapper<WrapperPlayServer
     }
 
     public void setUseProvidedWindowTitle(boolean useProvidedWindowTitle) {
+        this.markDirty();
         this.useProvidedWindowTitle = useProvidedWindowTitle;
     }
 }
@@ -172,10 +172,11 @@ public class WrapperPlayServerParticle extends PacketWrapper<WrapperPlayServerPa
     }
 
     public Particle<?> getParticle() {
-        return particle;
+        return this.escape(particle);
     }
 
     public void setParticle(Particle<?> particle) {
+        this.markDirty();
         this.particle = particle;
     }
 
@@ -184,6 +185,7 @@ public class WrapperPlayServerParticle extends PacketWrapper<WrapperPlayServerPa
     }
 
     public void setLongDistance(boolean longDistance) {
+        this.markDirty();
         this.longDistance = longDistance;
     }
 
@@ -192,6 +194,7 @@ public class WrapperPlayServerParticle extends PacketWrapper<WrapperPlayServerPa
     }
 
     public void setPosition(Vector3d position) {
+        this.markDirty();
         this.position = position;
     }
 
@@ -200,6 +203,7 @@ public class WrapperPlayServerParticle extends PacketWrapper<WrapperPlayServerPa
     }
 
     public void setOffset(Vector3f offset) {
+        this.markDirty();
         this.offset = offset;
     }
 
@@ -208,6 +212,7 @@ public class WrapperPlayServerParticle extends PacketWrapper<WrapperPlayServerPa
     }
 
     public void setMaxSpeed(float maxSpeed) {
+        this.markDirty();
         this.maxSpeed = maxSpeed;
     }
 
@@ -216,6 +221,7 @@ public class WrapperPlayServerParticle extends PacketWrapper<WrapperPlayServerPa
     }
 
     public void setParticleCount(int particleCount) {
+        this.markDirty();
         this.particleCount = particleCount;
     }
 
@@ -230,6 +236,7 @@ public class WrapperPlayServerParticle extends PacketWrapper<WrapperPlayServerPa
      * Added with 1.21.4
      */
     public void setAlwaysShow(boolean alwaysShow) {
+        this.markDirty();
         this.alwaysShow = alwaysShow;
     }
 }
@@ -75,7 +75,7 @@ public class WrapperPlayServerPlayerChatHeader extends PacketWrapper<WrapperPlay
      * @return the previous message signature if exists.
      */
     public Optional<byte[]> getPreviousSignature() {
-        return Optional.ofNullable(previousSignature);
+        return this.escape(Optional.ofNullable(previousSignature));
     }
 
     /**
@@ -84,6 +84,7 @@ public class WrapperPlayServerPlayerChatHeader extends PacketWrapper<WrapperPlay
      * @param previousSignature the previous message signature.
      */
     public void setPreviousSignature(byte @Nullable [] previousSignature) {
+        this.markDirty();
         this.previousSignature = previousSignature;
     }
 
@@ -102,6 +103,7 @@ public class WrapperPlayServerPlayerChatHeader extends PacketWrapper<WrapperPlay
      * @param playerUUID The UUID of the message sender.
      */
     public void setPlayerUUID(UUID playerUUID) {
+        this.markDirty();
         this.playerUUID = playerUUID;
     }
 
@@ -111,7 +113,7 @@ public class WrapperPlayServerPlayerChatHeader extends PacketWrapper<WrapperPlay
      * @return The signature of the current message.
      */
     public byte[] getSignature() {
-        return signature;
+        return this.escape(signature);
     }
 
     /**
@@ -120,6 +122,7 @@ public class WrapperPlayServerPlayerChatHeader extends PacketWrapper<WrapperPlay
      * @param signature The signature of the current message.
      */
     public void setSignature(byte[] signature) {
+        this.markDirty();
         this.signature = signature;
     }
 
@@ -129,7 +132,7 @@ public class WrapperPlayServerPlayerChatHeader extends PacketWrapper<WrapperPlay
      * @return the hash of the chat message.
      */
     public byte[] getHash() {
-        return hash;
+        return this.escape(hash);
     }
 
     /**
@@ -138,6 +141,7 @@ public class WrapperPlayServerPlayerChatHeader extends PacketWrapper<WrapperPlay
      * @param hash the hash of the chat message.
      */
     public void setHash(byte[] hash) {
+        this.markDirty();
         this.hash = hash;
     }
 }
@@ -215,14 +215,16 @@ public class WrapperPlayServerPlayerInfo extends PacketWrapper<WrapperPlayServer
     }
 
     public void setAction(@NotNull Action action) {
+        this.markDirty();
         this.action = action;
     }
 
     public List<PlayerData> getPlayerDataList() {
-        return playerDataList;
+        return this.escape(playerDataList);
     }
 
     public void setPlayerDataList(List<PlayerData> playerDataList) {
+        this.markDirty();
         this.playerDataList = playerDataList;
     }
 
@@ -61,10 +61,11 @@ public class WrapperPlayServerPlayerInfoRemove extends PacketWrapper<WrapperPlay
     }
 
     public List<UUID> getProfileIds() {
-        return profileIds;
+        return this.escape(profileIds);
     }
 
     public void setProfileIds(List<UUID> profileIds) {
+        this.markDirty();
         this.profileIds = profileIds;
     }
 }
@@ -340,18 +340,20 @@ public class WrapperPlayServerPlayerInfoUpdate extends PacketWrapper<WrapperPlay
     }
 
     public EnumSet<Action> getActions() {
-        return actions;
+        return this.escape(actions);
     }
 
     public void setActions(EnumSet<Action> actions) {
+        this.markDirty();
         this.actions = actions;
     }
 
     public List<PlayerInfo> getEntries() {
-        return entries;
+        return this.escape(entries);
     }
 
     public void setEntries(List<PlayerInfo> entries) {
+        this.markDirty();
         this.entries = entries;
     }
 }
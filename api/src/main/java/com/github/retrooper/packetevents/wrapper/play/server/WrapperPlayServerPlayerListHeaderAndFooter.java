@@ -73,6 +73,7 @@ public class WrapperPlayServerPlayerListHeaderAndFooter extends PacketWrapper<Wr
     }
 
     public void setHeader(Component header) {
+        this.markDirty();
         this.header = header;
     }
 
@@ -81,6 +82,7 @@ public class WrapperPlayServerPlayerListHeaderAndFooter extends PacketWrapper<Wr
     }
 
     public void setFooter(Component footer) {
+        this.markDirty();
         this.footer = footer;
     }
 
@@ -91,6 +93,7 @@ public class WrapperPlayServerPlayerListHeaderAndFooter extends PacketWrapper<Wr
 
     @Deprecated
     public void setHeaderJson(String headerJson) {
+        this.markDirty();
         this.setHeader(this.getSerializers().fromJson(headerJson));
     }
 
@@ -101,6 +104,7 @@ public class WrapperPlayServerPlayerListHeaderAndFooter extends PacketWrapper<Wr
 
     @Deprecated
     public void setFooterJson(String footerJson) {
+        this.markDirty();
         this.setFooter(this.getSerializers().fromJson(footerJson));
     }
 
@@ -111,6 +115,7 @@ public class WrapperPlayServerPlayerListHeaderAndFooter extends PacketWrapper<Wr
 
     @Deprecated
     public void setHeaderComponent(Component headerComponent) {
+        this.markDirty();
         this.setHeader(headerComponent);
     }
 
@@ -121,6 +126,7 @@ public class WrapperPlayServerPlayerListHeaderAndFooter extends PacketWrapper<Wr
 
     @Deprecated
     public void setFooterComponent(Component footerComponent) {
+        this.markDirty();
         this.setFooter(footerComponent);
     }
 }
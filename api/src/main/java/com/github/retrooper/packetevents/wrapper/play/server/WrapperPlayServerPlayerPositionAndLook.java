@@ -136,14 +136,16 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setTeleportId(int teleportId) {
+        this.markDirty();
         this.teleportId = teleportId;
     }
 
     public EntityPositionData getValues() {
-        return this.values;
+        return this.escape(this.values);
     }
 
     public void setValues(EntityPositionData values) {
+        this.markDirty();
         this.values = values;
     }
 
@@ -152,6 +154,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setPosition(Vector3d position) {
+        this.markDirty();
         this.values.setPosition(position);
     }
 
@@ -160,6 +163,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setX(double x) {
+        this.markDirty();
         this.setPosition(new Vector3d(x, this.getY(), this.getZ()));
     }
 
@@ -168,6 +172,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setY(double y) {
+        this.markDirty();
         this.setPosition(new Vector3d(this.getX(), y, this.getZ()));
     }
 
@@ -176,6 +181,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setZ(double z) {
+        this.markDirty();
         this.setPosition(new Vector3d(this.getX(), this.getY(), z));
     }
 
@@ -184,6 +190,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setDeltaMovement(Vector3d deltaMovement) {
+        this.markDirty();
         this.values.setDeltaMovement(deltaMovement);
     }
 
@@ -192,6 +199,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setYaw(float yaw) {
+        this.markDirty();
         this.values.setYaw(yaw);
     }
 
@@ -200,6 +208,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setPitch(float pitch) {
+        this.markDirty();
         this.values.setPitch(pitch);
     }
 
@@ -216,6 +225,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
      */
     @Deprecated
     public void setRelativeMask(byte relativeMask) {
+        this.markDirty();
         this.relativeFlags = new RelativeFlag(relativeMask);
     }
 
@@ -224,14 +234,16 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
     }
 
     public void setRelative(RelativeFlag flag, boolean relative) {
+        this.markDirty();
         this.relativeFlags = this.relativeFlags.set(flag, relative);
     }
 
     public RelativeFlag getRelativeFlags() {
-        return this.relativeFlags;
+        return this.escape(this.relativeFlags);
     }
 
     public void setRelativeFlags(RelativeFlag flags) {
+        this.markDirty();
         this.relativeFlags = flags;
     }
 
@@ -248,6 +260,7 @@ public class WrapperPlayServerPlayerPositionAndLook extends PacketWrapper<Wrappe
      */
     @ApiStatus.Obsolete
     public void setDismountVehicle(boolean dismountVehicle) {
+        this.markDirty();
         this.dismountVehicle = dismountVehicle;
     }
 }
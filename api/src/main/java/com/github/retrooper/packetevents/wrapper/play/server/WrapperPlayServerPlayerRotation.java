@@ -60,6 +60,7 @@ public class WrapperPlayServerPlayerRotation extends PacketWrapper<WrapperPlaySe
     }
 
     public void setYaw(float yaw) {
+        this.markDirty();
         this.yaw = yaw;
     }
 
@@ -68,6 +69,7 @@ public class WrapperPlayServerPlayerRotation extends PacketWrapper<WrapperPlaySe
     }
 
     public void setPitch(float pitch) {
+        this.markDirty();
         this.pitch = pitch;
     }
 }
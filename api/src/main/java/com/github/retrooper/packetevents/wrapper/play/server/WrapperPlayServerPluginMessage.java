@@ -98,6 +98,7 @@ public class WrapperPlayServerPluginMessage extends PacketWrapper<WrapperPlaySer
      * @param channelName The channel name.
      */
     public void setChannelName(String channelName) {
+        this.markDirty();
        this.channelName = channelName;
     }
 
@@ -107,7 +108,7 @@ public class WrapperPlayServerPluginMessage extends PacketWrapper<WrapperPlaySer
      * @return The data.
      */
     public byte[] getData() {
-        return data;
+        return this.escape(data);
     }
 
     /**
@@ -116,6 +117,7 @@ public class WrapperPlayServerPluginMessage extends PacketWrapper<WrapperPlaySer
      * @param data The data.
      */
     public void setData(byte[] data) {
+        this.markDirty();
         this.data = data;
     }
 }
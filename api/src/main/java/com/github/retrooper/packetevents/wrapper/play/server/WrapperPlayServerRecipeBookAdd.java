@@ -59,10 +59,11 @@ public class WrapperPlayServerRecipeBookAdd extends PacketWrapper<WrapperPlaySer
     }
 
     public List<AddEntry> getEntries() {
-        return this.entries;
+        return this.escape(this.entries);
     }
 
     public void setEntries(List<AddEntry> entries) {
+        this.markDirty();
         this.entries = entries;
     }
 
@@ -71,6 +72,7 @@ public class WrapperPlayServerRecipeBookAdd extends PacketWrapper<WrapperPlaySer
     }
 
     public void setReplace(boolean replace) {
+        this.markDirty();
         this.replace = replace;
     }
 
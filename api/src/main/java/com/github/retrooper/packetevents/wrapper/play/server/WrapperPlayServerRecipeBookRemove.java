@@ -54,10 +54,11 @@ public class WrapperPlayServerRecipeBookRemove extends PacketWrapper<WrapperPlay
     }
 
     public List<RecipeDisplayId> getRecipeIds() {
-        return this.recipeIds;
+        return this.escape(this.recipeIds);
     }
 
     public void setRecipeIds(List<RecipeDisplayId> recipeIds) {
+        this.markDirty();
         this.recipeIds = recipeIds;
     }
 }
@@ -52,10 +52,11 @@ public class WrapperPlayServerRecipeBookSettings extends PacketWrapper<WrapperPl
     }
 
     public RecipeBookSettings getSettings() {
-        return this.settings;
+        return this.escape(this.settings);
     }
 
     public void setSettings(RecipeBookSettings settings) {
+        this.markDirty();
         this.settings = settings;
     }
 }
@@ -72,14 +72,16 @@ public class WrapperPlayServerRemoveEntityEffect extends PacketWrapper<WrapperPl
     }
 
     public void setEntityId(int entityId) {
+        this.markDirty();
         this.entityId = entityId;
     }
 
     public PotionType getPotionType() {
-        return potionType;
+        return this.escape(potionType);
     }
 
     public void setPotionType(PotionType potionType) {
+        this.markDirty();
         this.potionType = potionType;
     }
 }
@@ -58,6 +58,7 @@ public class WrapperPlayServerResourcePackRemove extends PacketWrapper<WrapperPl
     }
 
     public void setPackId(@Nullable UUID packId) {
+        this.markDirty();
         this.packId = packId;
     }
 }
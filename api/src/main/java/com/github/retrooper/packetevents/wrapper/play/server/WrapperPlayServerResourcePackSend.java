@@ -107,6 +107,7 @@ public class WrapperPlayServerResourcePackSend extends PacketWrapper<WrapperPlay
     }
 
     public void setPackId(UUID packId) {
+        this.markDirty();
         this.packId = packId;
     }
 
@@ -115,6 +116,7 @@ public class WrapperPlayServerResourcePackSend extends PacketWrapper<WrapperPlay
     }
 
     public void setUrl(String url) {
+        this.markDirty();
         this.url = url;
     }
 
@@ -123,6 +125,7 @@ public class WrapperPlayServerResourcePackSend extends PacketWrapper<WrapperPlay
     }
 
     public void setHash(String hash) {
+        this.markDirty();
         this.hash = hash;
     }
 
@@ -131,6 +134,7 @@ public class WrapperPlayServerResourcePackSend extends PacketWrapper<WrapperPlay
     }
 
     public void setRequired(boolean required) {
+        this.markDirty();
         this.required = required;
     }
 
@@ -139,6 +143,7 @@ public class WrapperPlayServerResourcePackSend extends PacketWrapper<WrapperPlay
     }
 
     public void setPrompt(Component prompt) {
+        this.markDirty();
         this.prompt = prompt;
     }
 }
@@ -290,10 +290,11 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public DimensionTypeRef getDimensionTypeRef() {
-        return this.dimensionTypeRef;
+        return this.escape(this.dimensionTypeRef);
     }
 
     public void setDimensionTypeRef(DimensionTypeRef dimensionTypeRef) {
+        this.markDirty();
         this.dimensionTypeRef = dimensionTypeRef;
     }
 
@@ -304,16 +305,18 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setDimensionType(DimensionType dimensionType) {
+        this.markDirty();
         this.dimensionTypeRef = dimensionType.asRef(this.serverVersion.toClientVersion());
     }
 
     @Deprecated
     public Dimension getDimension() {
-        return Dimension.fromDimensionTypeRef(this.dimensionTypeRef);
+        return this.escape(Dimension.fromDimensionTypeRef(this.dimensionTypeRef));
     }
 
     @Deprecated
     public void setDimension(Dimension dimension) {
+        this.markDirty();
         this.dimensionTypeRef = dimension.asDimensionTypeRef();
     }
 
@@ -322,6 +325,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setWorldName(@Nullable String worldName) {
+        this.markDirty();
         this.worldName = Optional.ofNullable(worldName);
     }
 
@@ -330,6 +334,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setDifficulty(Difficulty difficulty) {
+        this.markDirty();
         this.difficulty = difficulty;
     }
 
@@ -338,6 +343,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setHashedSeed(long hashedSeed) {
+        this.markDirty();
         this.hashedSeed = hashedSeed;
     }
 
@@ -346,6 +352,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setGameMode(GameMode gameMode) {
+        this.markDirty();
         this.gameMode = gameMode;
     }
 
@@ -355,6 +362,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setPreviousGameMode(@Nullable GameMode previousGameMode) {
+        this.markDirty();
         this.previousGameMode = previousGameMode;
     }
 
@@ -363,6 +371,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setWorldDebug(boolean worldDebug) {
+        this.markDirty();
         this.worldDebug = worldDebug;
     }
 
@@ -371,6 +380,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setWorldFlat(boolean worldFlat) {
+        this.markDirty();
         this.worldFlat = worldFlat;
     }
 
@@ -379,6 +389,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setKeepingAllPlayerData(boolean keepAllPlayerData) {
+        this.markDirty();
         this.keptData = keepAllPlayerData ? KEEP_ALL_DATA : KEEP_ENTITY_DATA;
     }
 
@@ -387,14 +398,16 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setKeptData(byte keptData) {
+        this.markDirty();
         this.keptData = keptData;
     }
 
     public @Nullable WorldBlockPosition getLastDeathPosition() {
-        return lastDeathPosition;
+        return this.escape(lastDeathPosition);
     }
 
     public void setLastDeathPosition(@Nullable WorldBlockPosition lastDeathPosition) {
+        this.markDirty();
         this.lastDeathPosition = lastDeathPosition;
     }
 
@@ -403,6 +416,7 @@ public class WrapperPlayServerRespawn extends PacketWrapper<WrapperPlayServerRes
     }
 
     public void setPortalCooldown(int portalCooldown) {
+        this.markDirty();
         this.portalCooldown = portalCooldown;
     }
 }
@@ -128,6 +128,7 @@ public class WrapperPlayServerScoreboardObjective extends PacketWrapper<WrapperP
     }
 
     public void setName(String name) {
+        this.markDirty();
         this.name = name;
     }
 
@@ -136,6 +137,7 @@ public class WrapperPlayServerScoreboardObjective extends PacketWrapper<WrapperP
     }
 
     public void setMode(ObjectiveMode mode) {
+        this.markDirty();
         this.mode = mode;
     }
 
@@ -144,6 +146,7 @@ public class WrapperPlayServerScoreboardObjective extends PacketWrapper<WrapperP
     }
 
     public void setDisplayName(@Nullable Component displayName) {
+        this.markDirty();
         this.displayName = displayName;
     }
 
@@ -152,14 +155,16 @@ public class WrapperPlayServerScoreboardObjective extends PacketWrapper<WrapperP
     }
 
     public void setRenderType(@Nullable RenderType renderType) {
+        this.markDirty();
         this.renderType = renderType;
     }
 
     public @Nullable ScoreFormat getScoreFormat() {
-        return this.scoreFormat;
+        return this.escape(this.scoreFormat);
     }
 
     public void setScoreFormat(@Nullable ScoreFormat scoreFormat) {
+        this.markDirty();
         this.scoreFormat = scoreFormat;
     }
 
@@ -56,6 +56,7 @@ public class WrapperPlayServerSelectAdvancementsTab extends PacketWrapper<Wrappe
     }
 
     public void setIdentifier(@Nullable ResourceLocation identifier) {
+        this.markDirty();
         this.identifier = identifier;
     }
 }
@@ -113,6 +113,7 @@ public class WrapperPlayServerServerData extends PacketWrapper<WrapperPlayServer
     }
 
     public void setMOTD(@Nullable Component motd) {
+        this.markDirty();
         this.motd = motd;
     }
 
@@ -121,6 +122,7 @@ public class WrapperPlayServerServerData extends PacketWrapper<WrapperPlayServer
     }
 
     public void setIcon(@Nullable String icon) {
+        this.markDirty();
         this.icon = icon;
     }
 
@@ -129,6 +131,7 @@ public class WrapperPlayServerServerData extends PacketWrapper<WrapperPlayServer
     }
 
     public void setPreviewsChat(boolean previewsChat) {
+        this.markDirty();
         this.previewsChat = previewsChat;
     }
 
@@ -143,6 +146,7 @@ public class WrapperPlayServerServerData extends PacketWrapper<WrapperPlayServer
      * <strong>WARNING:</strong> This was moved to {@link WrapperPlayServerJoinGame} with 1.20.5
      */
     public void setEnforceSecureChat(boolean enforceSecureChat) {
+        this.markDirty();
         this.enforceSecureChat = enforceSecureChat;
     }
 }
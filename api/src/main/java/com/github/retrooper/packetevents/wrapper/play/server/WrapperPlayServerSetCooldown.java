@@ -85,6 +85,7 @@ public class WrapperPlayServerSetCooldown extends PacketWrapper<WrapperPlayServe
     }
 
     public void setCooldownGroup(ResourceLocation cooldownGroup) {
+        this.markDirty();
         this.cooldownGroup = cooldownGroup;
     }
 
@@ -99,6 +100,7 @@ public class WrapperPlayServerSetCooldown extends PacketWrapper<WrapperPlayServe
 
     @ApiStatus.Obsolete // since 1.21.2
     public void setItem(ItemType item) {
+        this.markDirty();
         this.cooldownGroup = item.getName();
     }
 
@@ -107,6 +109,7 @@ public class WrapperPlayServerSetCooldown extends PacketWrapper<WrapperPlayServe
     }
 
     public void setCooldownTicks(int cooldownTicks) {
+        this.markDirty();
         this.cooldownTicks = cooldownTicks;
     }
 }
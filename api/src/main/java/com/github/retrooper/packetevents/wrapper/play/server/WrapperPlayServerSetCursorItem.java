@@ -52,10 +52,11 @@ public class WrapperPlayServerSetCursorItem extends PacketWrapper<WrapperPlaySer
     }
 
     public ItemStack getStack() {
-        return this.stack;
+        return this.escape(this.stack);
     }
 
     public void setStack(ItemStack stack) {
+        this.markDirty();
         this.stack = stack;
     }
 }
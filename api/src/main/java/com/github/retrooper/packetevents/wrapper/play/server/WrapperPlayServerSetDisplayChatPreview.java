@@ -36,6 +36,7 @@ public class WrapperPlayServerSetDisplayChatPreview extends PacketWrapper<Wrappe
     }
 
     public void setChatPreviewDisplay(boolean chatPreviewDisplay) {
+        this.markDirty();
         this.chatPreviewDisplay = chatPreviewDisplay;
     }
 }
\ No newline at end of file
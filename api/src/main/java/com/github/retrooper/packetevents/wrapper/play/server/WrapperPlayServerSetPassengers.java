@@ -59,14 +59,16 @@ public class WrapperPlayServerSetPassengers extends PacketWrapper<WrapperPlaySer
     }
 
     public void setEntityId(int entityId) {
+        this.markDirty();
         this.entityId = entityId;
     }
 
     public int[] getPassengers() {
-        return passengers;
+        return this.escape(passengers);
     }
 
     public void setPassengers(int[] passengers) {
+        this.markDirty();
         this.passengers = passengers;
     }
 }
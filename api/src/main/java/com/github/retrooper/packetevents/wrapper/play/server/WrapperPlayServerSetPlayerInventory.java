@@ -61,14 +61,16 @@ public class WrapperPlayServerSetPlayerInventory extends PacketWrapper<WrapperPl
     }
 
     public void setSlot(int slot) {
+        this.markDirty();
         this.slot = slot;
     }
 
     public ItemStack getStack() {
-        return this.stack;
+        return this.escape(this.stack);
     }
 
     public void setStack(ItemStack stack) {
+        this.markDirty();
         this.stack = stack;
     }
 }
@@ -75,6 +75,7 @@ public class WrapperPlayServerSetSlot extends PacketWrapper<WrapperPlayServerSet
     }
 
     public void setWindowId(int windowID) {
+        this.markDirty();
         this.windowID = windowID;
     }
 
@@ -83,6 +84,7 @@ public class WrapperPlayServerSetSlot extends PacketWrapper<WrapperPlayServerSet
     }
 
     public void setStateId(int stateID) {
+        this.markDirty();
         this.stateID = stateID;
     }
 
@@ -91,14 +93,16 @@ public class WrapperPlayServerSetSlot extends PacketWrapper<WrapperPlayServerSet
     }
 
     public void setSlot(int slot) {
+        this.markDirty();
         this.slot = slot;
     }
 
     public ItemStack getItem() {
-        return item;
+        return this.escape(item);
     }
 
     public void setItem(ItemStack item) {
+        this.markDirty();
         this.item = item;
     }
 }
@@ -66,6 +66,7 @@ public class WrapperPlayServerSetTitleSubtitle extends PacketWrapper<WrapperPlay
     }
 
     public void setSubtitle(Component subtitle) {
+        this.markDirty();
         this.subtitle = subtitle;
     }
 
@@ -76,6 +77,7 @@ public class WrapperPlayServerSetTitleSubtitle extends PacketWrapper<WrapperPlay
 
     @Deprecated
     public void setSubtitleJson(String subtitleJson) {
+        this.markDirty();
         this.setSubtitle(this.getSerializers().fromJson(subtitleJson));
     }
 }
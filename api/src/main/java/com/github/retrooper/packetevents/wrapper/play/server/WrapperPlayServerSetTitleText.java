@@ -65,6 +65,7 @@ public class WrapperPlayServerSetTitleText extends PacketWrapper<WrapperPlayServ
     }
 
     public void setTitle(Component title) {
+        this.markDirty();
         this.title = title;
     }
 
@@ -75,6 +76,7 @@ public class WrapperPlayServerSetTitleText extends PacketWrapper<WrapperPlayServ
 
     @Deprecated
     public void setTitleJson(String titleJson) {
+        this.markDirty();
         this.setTitle(this.getSerializers().fromJson(titleJson));
     }
 }
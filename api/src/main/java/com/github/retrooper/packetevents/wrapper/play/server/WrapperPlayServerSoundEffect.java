@@ -137,10 +137,11 @@ public class WrapperPlayServerSoundEffect extends PacketWrapper<WrapperPlayServe
     }
 
     public Sound getSound() {
-        return this.sound;
+        return this.escape(this.sound);
     }
 
     public void setSound(Sound sound) {
+        this.markDirty();
         this.sound = sound;
     }
 
@@ -151,6 +152,7 @@ public class WrapperPlayServerSoundEffect extends PacketWrapper<WrapperPlayServe
 
     @Deprecated
     public void setSoundId(int soundId) {
+        this.markDirty();
         this.setSound(Sounds.getById(this.serverVersion.toClientVersion(), soundId));
     }
 
@@ -160,6 +162,7 @@ public class WrapperPlayServerSoundEffect extends PacketWrapper<WrapperPlayServe
     }
 
     public void setSoundCategory(SoundCategory soundCategory) {
+        this.markDirty();
         this.soundCategory = soundCategory;
     }
 
@@ -168,6 +171,7 @@ public class WrapperPlayServerSoundEffect extends PacketWrapper<WrapperPlayServe
     }
 
     public void setEffectPosition(Vector3i effectPosition) {
+        this.markDirty();
         this.effectPosition = effectPosition;
     }
 
@@ -176,6 +180,7 @@ public class WrapperPlayServerSoundEffect extends PacketWrapper<WrapperPlayServe
     }
 
     public void setVolume(float volume) {
+        this.markDirty();
         this.volume = volume;
     }
 
@@ -184,6 +189,7 @@ public class WrapperPlayServerSoundEffect extends PacketWrapper<WrapperPlayServe
     }
 
     public void setPitch(float pitch) {
+        this.markDirty();
         this.pitch = pitch;
     }
 
@@ -202,6 +208,7 @@ public class WrapperPlayServerSoundEffect extends PacketWrapper<WrapperPlayServe
      * @param seed the seed to set
      */
     public void setSeed(long seed) {
+        this.markDirty();
         this.seed = seed;
     }
 }
@@ -208,6 +208,7 @@ public class WrapperPlayServerSpawnEntity extends PacketWrapper<WrapperPlayServe
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
@@ -216,14 +217,16 @@ public class WrapperPlayServerSpawnEntity extends PacketWrapper<WrapperPlayServe
     }
 
     public void setUUID(Optional<UUID> uuid) {
+        this.markDirty();
         this.uuid = uuid;
     }
 
     public EntityType getEntityType() {
-        return entityType;
+        return this.escape(entityType);
     }
 
     public void setEntityType(EntityType entityType) {
+        this.markDirty();
         this.entityType = entityType;
     }
 
@@ -232,6 +235,7 @@ public class WrapperPlayServerSpawnEntity extends PacketWrapper<WrapperPlayServe
     }
 
     public void setPosition(Vector3d position) {
+        this.markDirty();
         this.position = position;
     }
 
@@ -240,6 +244,7 @@ public class WrapperPlayServerSpawnEntity extends PacketWrapper<WrapperPlayServe
     }
 
     public void setPitch(float pitch) {
+        this.markDirty();
         this.pitch = pitch;
     }
 
@@ -248,6 +253,7 @@ public class WrapperPlayServerSpawnEntity extends PacketWrapper<WrapperPlayServe
     }
 
     public void setYaw(float yaw) {
+        this.markDirty();
         this.yaw = yaw;
     }
 
@@ -256,6 +262,7 @@ public class WrapperPlayServerSpawnEntity extends PacketWrapper<WrapperPlayServe
     }
 
     public void setHeadYaw(float headYaw) {
+        this.markDirty();
         this.headYaw = headYaw;
     }
 
@@ -264,6 +271,7 @@ public class WrapperPlayServerSpawnEntity extends PacketWrapper<WrapperPlayServe
     }
 
     public void setData(int data) {
+        this.markDirty();
         this.data = data;
     }
 
@@ -272,6 +280,7 @@ public class WrapperPlayServerSpawnEntity extends PacketWrapper<WrapperPlayServe
     }
 
     public void setVelocity(Optional<Vector3d> velocity) {
+        this.markDirty();
         this.velocity = velocity;
     }
 }
@@ -93,6 +93,7 @@ public class WrapperPlayServerSpawnExperienceOrb extends PacketWrapper<WrapperPl
     }
 
     public void setEntityId(int entityId) {
+        this.markDirty();
         this.entityId = entityId;
     }
 
@@ -101,6 +102,7 @@ public class WrapperPlayServerSpawnExperienceOrb extends PacketWrapper<WrapperPl
     }
 
     public void setX(double x) {
+        this.markDirty();
         this.x = x;
     }
 
@@ -109,6 +111,7 @@ public class WrapperPlayServerSpawnExperienceOrb extends PacketWrapper<WrapperPl
     }
 
     public void setY(double y) {
+        this.markDirty();
         this.y = y;
     }
 
@@ -117,6 +120,7 @@ public class WrapperPlayServerSpawnExperienceOrb extends PacketWrapper<WrapperPl
     }
 
     public void setZ(double z) {
+        this.markDirty();
         this.z = z;
     }
 
@@ -125,6 +129,7 @@ public class WrapperPlayServerSpawnExperienceOrb extends PacketWrapper<WrapperPl
     }
 
     public void setCount(short count) {
+        this.markDirty();
         this.count = count;
     }
 }
@@ -168,6 +168,7 @@ public class WrapperPlayServerSpawnLivingEntity extends PacketWrapper<WrapperPla
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
@@ -176,14 +177,16 @@ public class WrapperPlayServerSpawnLivingEntity extends PacketWrapper<WrapperPla
     }
 
     public void setEntityUUID(UUID entityUUID) {
+        this.markDirty();
         this.entityUUID = entityUUID;
     }
 
     public EntityType getEntityType() {
-        return entityType;
+        return this.escape(entityType);
     }
 
     public void setEntityType(EntityType entityType) {
+        this.markDirty();
         this.entityType = entityType;
     }
 
@@ -192,6 +195,7 @@ public class WrapperPlayServerSpawnLivingEntity extends PacketWrapper<WrapperPla
     }
 
     public void setPosition(Vector3d position) {
+        this.markDirty();
         this.position = position;
     }
 
@@ -200,6 +204,7 @@ public class WrapperPlayServerSpawnLivingEntity extends PacketWrapper<WrapperPla
     }
 
     public void setYaw(float yaw) {
+        this.markDirty();
         this.yaw = yaw;
     }
 
@@ -208,6 +213,7 @@ public class WrapperPlayServerSpawnLivingEntity extends PacketWrapper<WrapperPla
     }
 
     public void setPitch(float pitch) {
+        this.markDirty();
         this.pitch = pitch;
     }
 
@@ -216,6 +222,7 @@ public class WrapperPlayServerSpawnLivingEntity extends PacketWrapper<WrapperPla
     }
 
     public void setHeadPitch(float headPitch) {
+        this.markDirty();
         this.headPitch = headPitch;
     }
 
@@ -224,18 +231,21 @@ public class WrapperPlayServerSpawnLivingEntity extends PacketWrapper<WrapperPla
     }
 
     public void setVelocity(Vector3d velocity) {
+        this.markDirty();
         this.velocity = velocity;
     }
 
     public List<EntityData<?>> getEntityMetadata() {
-        return entityMetadata;
+        return this.escape(entityMetadata);
     }
 
     public void setEntityMetadata(List<EntityData<?>> entityMetadata) {
+        this.markDirty();
         this.entityMetadata = entityMetadata;
     }
 
     public void setEntityMetadata(EntityMetadataProvider metadata) {
+        this.markDirty();
         this.entityMetadata = metadata.entityData(serverVersion.toClientVersion());
     }
 }
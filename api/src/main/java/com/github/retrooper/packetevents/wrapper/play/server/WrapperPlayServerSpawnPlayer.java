@@ -143,6 +143,7 @@ public class WrapperPlayServerSpawnPlayer extends PacketWrapper<WrapperPlayServe
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
@@ -151,6 +152,7 @@ public class WrapperPlayServerSpawnPlayer extends PacketWrapper<WrapperPlayServe
     }
 
     public void setUUID(UUID uuid) {
+        this.markDirty();
         this.uuid = uuid;
     }
 
@@ -159,6 +161,7 @@ public class WrapperPlayServerSpawnPlayer extends PacketWrapper<WrapperPlayServe
     }
 
     public void setPosition(Vector3d position) {
+        this.markDirty();
         this.position = position;
     }
 
@@ -167,6 +170,7 @@ public class WrapperPlayServerSpawnPlayer extends PacketWrapper<WrapperPlayServe
     }
 
     public void setYaw(float yaw) {
+        this.markDirty();
         this.yaw = yaw;
     }
 
@@ -175,31 +179,35 @@ public class WrapperPlayServerSpawnPlayer extends PacketWrapper<WrapperPlayServe
     }
 
     public void setPitch(float pitch) {
+        this.markDirty();
         this.pitch = pitch;
     }
 
     @Deprecated
     public List<EntityData<?>> getEntityMetadata() {
-        return entityMetadata;
+        return this.escape(entityMetadata);
     }
 
     @Deprecated
     public void setEntityMetadata(List<EntityData<?>> entityMetadata) {
+        this.markDirty();
         this.entityMetadata = entityMetadata;
     }
 
     @Deprecated
     public void setEntityMetadata(EntityMetadataProvider metadata) {
+        this.markDirty();
         this.entityMetadata = metadata.entityData(serverVersion.toClientVersion());
     }
 
     @Deprecated
     public ItemType getItem() {
-        return item;
+        return this.escape(item);
     }
 
     @Deprecated
     public void setItem(ItemType item) {
+        this.markDirty();
         this.item = item;
     }
 }
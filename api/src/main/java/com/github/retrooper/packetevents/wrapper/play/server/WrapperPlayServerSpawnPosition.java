@@ -86,6 +86,7 @@ public class WrapperPlayServerSpawnPosition extends PacketWrapper<WrapperPlaySer
     }
 
     public void setPosition(Vector3i position) {
+        this.markDirty();
         this.position = position;
     }
 
@@ -94,6 +95,7 @@ public class WrapperPlayServerSpawnPosition extends PacketWrapper<WrapperPlaySer
     }
 
     public void setAngle(float angle) {
+        this.markDirty();
         this.angle = angle;
     }
 }
@@ -84,6 +84,7 @@ public class WrapperPlayServerSpawnWeatherEntity extends PacketWrapper<WrapperPl
     }
 
     public void setEntityId(int entityId) {
+        this.markDirty();
         this.entityId = entityId;
     }
 
@@ -92,6 +93,7 @@ public class WrapperPlayServerSpawnWeatherEntity extends PacketWrapper<WrapperPl
     }
 
     public void setType(byte type) {
+        this.markDirty();
         this.type = type;
     }
 
@@ -100,6 +102,7 @@ public class WrapperPlayServerSpawnWeatherEntity extends PacketWrapper<WrapperPl
     }
 
     public void setX(double x) {
+        this.markDirty();
         this.x = x;
     }
 
@@ -108,6 +111,7 @@ public class WrapperPlayServerSpawnWeatherEntity extends PacketWrapper<WrapperPl
     }
 
     public void setY(double y) {
+        this.markDirty();
         this.y = y;
     }
 
@@ -116,6 +120,7 @@ public class WrapperPlayServerSpawnWeatherEntity extends PacketWrapper<WrapperPl
     }
 
     public void setZ(double z) {
+        this.markDirty();
         this.z = z;
     }
 }
\ No newline at end of file
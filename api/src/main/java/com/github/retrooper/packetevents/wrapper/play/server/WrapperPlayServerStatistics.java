@@ -35,10 +35,11 @@ public class WrapperPlayServerStatistics extends PacketWrapper<WrapperPlayServer
     }
 
     public Map<String, Integer> getStatistics() {
-        return statistics;
+        return this.escape(statistics);
     }
 
     public void setStatistics(Map<String, Integer> statistics) {
+        this.markDirty();
         this.statistics = statistics;
     }
 }
@@ -122,11 +122,12 @@ public class WrapperPlayServerSystemChatMessage extends PacketWrapper<WrapperPla
 
     @Deprecated
     public @Nullable ChatType getType() {
-        return type;
+        return this.escape(type);
     }
 
     @Deprecated
     public void setType(@Nullable ChatType type) {
+        this.markDirty();
         this.type = type;
     }
 
@@ -137,6 +138,7 @@ public class WrapperPlayServerSystemChatMessage extends PacketWrapper<WrapperPla
 
     @Deprecated
     public void setMessageJson(String messageJson) {
+        this.markDirty();
         this.setMessage(this.getSerializers().fromJson(messageJson));
     }
 
@@ -145,6 +147,7 @@ public class WrapperPlayServerSystemChatMessage extends PacketWrapper<WrapperPla
     }
 
     public void setMessage(Component message) {
+        this.markDirty();
         this.message = message;
     }
 
@@ -153,6 +156,7 @@ public class WrapperPlayServerSystemChatMessage extends PacketWrapper<WrapperPla
     }
 
     public void setOverlay(boolean overlay) {
+        this.markDirty();
         this.overlay = overlay;
     }
 }
@@ -118,22 +118,25 @@ public class WrapperPlayServerTabComplete extends PacketWrapper<WrapperPlayServe
     }
 
     public void setTransactionId(@Nullable Integer transactionID) {
+        this.markDirty();
         this.transactionID = Optional.ofNullable(transactionID);
     }
 
     public Optional<CommandRange> getCommandRange() {
-        return commandRange;
+        return this.escape(commandRange);
     }
 
     public void setCommandRange(@Nullable CommandRange commandRange) {
+        this.markDirty();
         this.commandRange = Optional.ofNullable(commandRange);
     }
 
     public List<CommandMatch> getCommandMatches() {
-        return commandMatches;
+        return this.escape(commandMatches);
     }
 
     public void setCommandMatches(List<CommandMatch> commandMatches) {
+        this.markDirty();
         this.commandMatches = commandMatches;
     }
 
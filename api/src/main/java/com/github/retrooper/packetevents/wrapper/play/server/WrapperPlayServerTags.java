@@ -81,10 +81,11 @@ public class WrapperPlayServerTags extends PacketWrapper<WrapperPlayServerTags>
     }
 
     public Map<ResourceLocation, List<Tag>> getTagMap() {
-        return this.tags;
+        return this.escape(this.tags);
     }
 
     public void setTagMap(Map<ResourceLocation, List<Tag>> tags) {
+        this.markDirty();
         this.tags = tags;
     }
 
@@ -97,11 +98,12 @@ public class WrapperPlayServerTags extends PacketWrapper<WrapperPlayServerTags>
         for (Map.Entry<ResourceLocation, List<Tag>> entry : this.tags.entrySet()) {
             tags.put(entry.getKey().toString(), entry.getValue());
         }
-        return Collections.unmodifiableMap(tags);
+        return this.escape(Collections.unmodifiableMap(tags));
     }
 
     @Deprecated
     public void setTags(HashMap<String, List<Tag>> tags) {
+        this.markDirty();
         if (tags == null) {
             this.tags = null;
         } else {
@@ -298,6 +298,7 @@ public class WrapperPlayServerTeams extends PacketWrapper<WrapperPlayServerTeams
     }
 
     public void setTeamName(String teamName) {
+        this.markDirty();
         this.teamName = teamName;
     }
 
@@ -306,22 +307,25 @@ public class WrapperPlayServerTeams extends PacketWrapper<WrapperPlayServerTeams
     }
 
     public void setTeamMode(TeamMode teamMode) {
+        this.markDirty();
         this.teamMode = teamMode;
     }
 
     public Collection<String> getPlayers() {
-        return players;
+        return this.escape(players);
     }
 
     public void setPlayers(Collection<String> players) {
+        this.markDirty();
         this.players = players;
     }
 
     public Optional<ScoreBoardTeamInfo> getTeamInfo() {
-        return teamInfo;
+        return this.escape(teamInfo);
     }
 
     public void setTeamInfo(@Nullable ScoreBoardTeamInfo teamInfo) {
+        this.markDirty();
         this.teamInfo = Optional.ofNullable(teamInfo);
     }
 
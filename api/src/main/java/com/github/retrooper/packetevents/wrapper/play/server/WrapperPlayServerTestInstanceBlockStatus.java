@@ -66,6 +66,7 @@ public class WrapperPlayServerTestInstanceBlockStatus extends PacketWrapper<Wrap
     }
 
     public void setStatus(Component status) {
+        this.markDirty();
         this.status = status;
     }
 
@@ -74,6 +75,7 @@ public class WrapperPlayServerTestInstanceBlockStatus extends PacketWrapper<Wrap
     }
 
     public void setSize(@Nullable Vector3i size) {
+        this.markDirty();
         this.size = size;
     }
 }
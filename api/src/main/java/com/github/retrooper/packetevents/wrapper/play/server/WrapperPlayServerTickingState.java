@@ -66,6 +66,7 @@ public class WrapperPlayServerTickingState extends PacketWrapper<WrapperPlayServ
      * The tick rate is measured in ticks per second.
      */
     public void setTickRate(float tickRate) {
+        this.markDirty();
         this.tickRate = tickRate;
     }
 
@@ -74,6 +75,7 @@ public class WrapperPlayServerTickingState extends PacketWrapper<WrapperPlayServ
     }
 
     public void setFrozen(boolean frozen) {
+        this.markDirty();
         this.frozen = frozen;
     }
 }
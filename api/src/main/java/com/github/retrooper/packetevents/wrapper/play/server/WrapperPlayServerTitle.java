@@ -141,6 +141,7 @@ public class WrapperPlayServerTitle extends PacketWrapper<WrapperPlayServerTitle
     }
 
     public void setAction(TitleAction action) {
+        this.markDirty();
         this.action = action;
     }
 
@@ -149,6 +150,7 @@ public class WrapperPlayServerTitle extends PacketWrapper<WrapperPlayServerTitle
     }
 
     public void setTitle(@Nullable Component title) {
+        this.markDirty();
         this.title = title;
     }
 
@@ -159,6 +161,7 @@ public class WrapperPlayServerTitle extends PacketWrapper<WrapperPlayServerTitle
 
     @Deprecated
     public void setTitleJson(@Nullable String titleJson) {
+        this.markDirty();
         this.setTitle(this.getSerializers().fromJson(titleJson));
     }
 
@@ -167,6 +170,7 @@ public class WrapperPlayServerTitle extends PacketWrapper<WrapperPlayServerTitle
     }
 
     public void setSubtitle(@Nullable Component subtitle) {
+        this.markDirty();
         this.subtitle = subtitle;
     }
 
@@ -177,6 +181,7 @@ public class WrapperPlayServerTitle extends PacketWrapper<WrapperPlayServerTitle
 
     @Deprecated
     public void setSubtitleJson(@Nullable String subtitleJson) {
+        this.markDirty();
         this.setSubtitle(this.getSerializers().fromJson(subtitleJson));
     }
 
@@ -185,6 +190,7 @@ public class WrapperPlayServerTitle extends PacketWrapper<WrapperPlayServerTitle
     }
 
     public void setActionBar(@Nullable Component actionBar) {
+        this.markDirty();
         this.actionBar = actionBar;
     }
 
@@ -195,6 +201,7 @@ public class WrapperPlayServerTitle extends PacketWrapper<WrapperPlayServerTitle
 
     @Deprecated
     public void setActionBarJson(@Nullable String actionBarJson) {
+        this.markDirty();
         this.setActionBar(this.getSerializers().fromJson(actionBarJson));
     }
 
@@ -203,6 +210,7 @@ public class WrapperPlayServerTitle extends PacketWrapper<WrapperPlayServerTitle
     }
 
     public void setFadeInTicks(int fadeInTicks) {
+        this.markDirty();
         this.fadeInTicks = fadeInTicks;
     }
 
@@ -211,6 +219,7 @@ public class WrapperPlayServerTitle extends PacketWrapper<WrapperPlayServerTitle
     }
 
     public void setStayTicks(int stayTicks) {
+        this.markDirty();
         this.stayTicks = stayTicks;
     }
 
@@ -219,6 +228,7 @@ public class WrapperPlayServerTitle extends PacketWrapper<WrapperPlayServerTitle
     }
 
     public void setFadeOutTicks(int fadeOutTicks) {
+        this.markDirty();
         this.fadeOutTicks = fadeOutTicks;
     }
 
@@ -60,6 +60,7 @@ public class WrapperPlayServerTransfer extends PacketWrapper<WrapperPlayServerTr
     }
 
     public void setHost(String host) {
+        this.markDirty();
         this.host = host;
     }
 
@@ -68,6 +69,7 @@ public class WrapperPlayServerTransfer extends PacketWrapper<WrapperPlayServerTr
     }
 
     public void setPort(int port) {
+        this.markDirty();
         this.port = port;
     }
 }
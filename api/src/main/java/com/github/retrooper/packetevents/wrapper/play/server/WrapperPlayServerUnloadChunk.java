@@ -69,6 +69,7 @@ public class WrapperPlayServerUnloadChunk extends PacketWrapper<WrapperPlayServe
     }
 
     public void setChunkX(int chunkX) {
+        this.markDirty();
         this.chunkX = chunkX;
     }
 
@@ -77,6 +78,7 @@ public class WrapperPlayServerUnloadChunk extends PacketWrapper<WrapperPlayServe
     }
 
     public void setChunkZ(int chunkZ) {
+        this.markDirty();
         this.chunkZ = chunkZ;
     }
 }
@@ -95,30 +95,34 @@ public class WrapperPlayServerUpdateAdvancements extends PacketWrapper<WrapperPl
     }
 
     public void setReset(boolean reset) {
+        this.markDirty();
         this.reset = reset;
     }
 
     public List<AdvancementHolder> getAddedAdvancements() {
-        return this.addedAdvancements;
+        return this.escape(this.addedAdvancements);
     }
 
     public void setAddedAdvancements(List<AdvancementHolder> addedAdvancements) {
+        this.markDirty();
         this.addedAdvancements = addedAdvancements;
     }
 
     public Set<ResourceLocation> getRemovedAdvancements() {
-        return this.removedAdvancements;
+        return this.escape(this.removedAdvancements);
     }
 
     public void setRemovedAdvancements(Set<ResourceLocation> removedAdvancements) {
+        this.markDirty();
         this.removedAdvancements = removedAdvancements;
     }
 
     public Map<ResourceLocation, AdvancementProgress> getProgress() {
-        return this.progress;
+        return this.escape(this.progress);
     }
 
     public void setProgress(Map<ResourceLocation, AdvancementProgress> progress) {
+        this.markDirty();
         this.progress = progress;
     }
 
@@ -133,6 +137,7 @@ public class WrapperPlayServerUpdateAdvancements extends PacketWrapper<WrapperPl
      * Added with 1.21.5
      */
     public void setShowAdvancements(boolean showAdvancements) {
+        this.markDirty();
         this.showAdvancements = showAdvancements;
     }
 }
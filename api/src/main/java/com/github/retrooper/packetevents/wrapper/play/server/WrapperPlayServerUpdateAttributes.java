@@ -195,14 +195,16 @@ public class WrapperPlayServerUpdateAttributes extends PacketWrapper<WrapperPlay
     }
 
     public void setEntityId(int entityID) {
+        this.markDirty();
         this.entityID = entityID;
     }
 
     public List<Property> getProperties() {
-        return properties;
+        return this.escape(properties);
     }
 
     public void setProperties(List<Property> properties) {
+        this.markDirty();
         this.properties = properties;
     }
 
@@ -53,10 +53,11 @@ public class WrapperPlayServerUpdateEnabledFeatures extends PacketWrapper<Wrappe
     }
 
     public Set<ResourceLocation> getFeatures() {
-        return features;
+        return this.escape(features);
     }
 
     public void setFeatures(Set<ResourceLocation> features) {
+        this.markDirty();
         this.features = features;
     }
 }
@@ -60,14 +60,16 @@ public class WrapperPlayServerUpdateEntityNBT extends PacketWrapper<WrapperPlayS
     }
 
     public void setEntityId(int entityId) {
+        this.markDirty();
         this.entityId = entityId;
     }
 
     public NBTCompound getNBTCompound() {
-        return nbtCompound;
+        return this.escape(nbtCompound);
     }
 
     public void setNBTCompound(NBTCompound nbtCompound) {
+        this.markDirty();
         this.nbtCompound = nbtCompound;
     }
 }
@@ -41,6 +41,7 @@ public class WrapperPlayServerUpdateLight extends PacketWrapper<WrapperPlayServe
     }
 
     public void setX(int x) {
+        this.markDirty();
         this.x = x;
     }
 
@@ -49,14 +50,16 @@ public class WrapperPlayServerUpdateLight extends PacketWrapper<WrapperPlayServe
     }
 
     public void setZ(int z) {
+        this.markDirty();
         this.z = z;
     }
 
     public LightData getLightData() {
-        return lightData;
+        return this.escape(lightData);
     }
 
     public void setLightData(LightData lightData) {
+        this.markDirty();
         this.lightData = lightData;
     }
 
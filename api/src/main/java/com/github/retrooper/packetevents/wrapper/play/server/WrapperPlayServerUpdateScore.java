@@ -151,6 +151,7 @@ public class WrapperPlayServerUpdateScore extends PacketWrapper<WrapperPlayServe
     }
 
     public void setEntityName(String entityName) {
+        this.markDirty();
         this.entityName = entityName;
     }
 
@@ -159,6 +160,7 @@ public class WrapperPlayServerUpdateScore extends PacketWrapper<WrapperPlayServe
     }
 
     public void setAction(Action action) {
+        this.markDirty();
         this.action = action;
     }
 
@@ -167,6 +169,7 @@ public class WrapperPlayServerUpdateScore extends PacketWrapper<WrapperPlayServe
     }
 
     public void setObjectiveName(String objectiveName) {
+        this.markDirty();
         this.objectiveName = objectiveName;
     }
 
@@ -181,6 +184,7 @@ public class WrapperPlayServerUpdateScore extends PacketWrapper<WrapperPlayServe
      * Always present for >=1.20.3
      */
     public void setValue(Optional<Integer> value) {
+        this.markDirty();
         this.value = value;
     }
 
@@ -189,14 +193,16 @@ public class WrapperPlayServerUpdateScore extends PacketWrapper<WrapperPlayServe
     }
 
     public void setEntityDisplayName(@Nullable Component entityDisplayName) {
+        this.markDirty();
         this.entityDisplayName = entityDisplayName;
     }
 
     public @Nullable ScoreFormat getScoreFormat() {
-        return this.scoreFormat;
+        return this.escape(this.scoreFormat);
     }
 
     public void setScoreFormat(@Nullable ScoreFormat scoreFormat) {
+        this.markDirty();
         this.scoreFormat = scoreFormat;
     }
 
@@ -54,6 +54,7 @@ public class WrapperPlayServerUpdateSimulationDistance extends PacketWrapper<Wra
     }
 
     public void setSimulationDistance(int simulationDistance) {
+        this.markDirty();
         this.simulationDistance = simulationDistance;
     }
 }
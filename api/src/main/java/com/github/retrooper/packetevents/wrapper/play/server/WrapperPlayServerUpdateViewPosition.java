@@ -59,6 +59,7 @@ public class WrapperPlayServerUpdateViewPosition extends PacketWrapper<WrapperPl
     }
 
     public void setChunkX(int chunkX) {
+        this.markDirty();
         this.chunkX = chunkX;
     }
 
@@ -67,6 +68,7 @@ public class WrapperPlayServerUpdateViewPosition extends PacketWrapper<WrapperPl
     }
 
     public void setChunkZ(int chunkZ) {
+        this.markDirty();
         this.chunkZ = chunkZ;
     }
 }
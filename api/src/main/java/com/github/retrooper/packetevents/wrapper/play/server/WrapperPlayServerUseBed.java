@@ -83,6 +83,7 @@ public class WrapperPlayServerUseBed extends PacketWrapper<WrapperPlayServerUseB
     }
 
     public void setEntityId(int entityId) {
+        this.markDirty();
         this.entityId = entityId;
     }
 
@@ -91,6 +92,7 @@ public class WrapperPlayServerUseBed extends PacketWrapper<WrapperPlayServerUseB
     }
 
     public void setPosition(Vector3i position) {
+        this.markDirty();
         this.position = position;
     }
 }
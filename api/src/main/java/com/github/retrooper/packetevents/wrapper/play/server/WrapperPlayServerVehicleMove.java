@@ -67,6 +67,7 @@ public class WrapperPlayServerVehicleMove extends PacketWrapper<WrapperPlayServe
     }
 
     public void setPosition(Vector3d position) {
+        this.markDirty();
         this.position = position;
     }
 
@@ -75,6 +76,7 @@ public class WrapperPlayServerVehicleMove extends PacketWrapper<WrapperPlayServe
     }
 
     public void setYaw(float yaw) {
+        this.markDirty();
         this.yaw = yaw;
     }
 
@@ -83,6 +85,7 @@ public class WrapperPlayServerVehicleMove extends PacketWrapper<WrapperPlayServe
     }
 
     public void setPitch(float pitch) {
+        this.markDirty();
         this.pitch = pitch;
     }
 }
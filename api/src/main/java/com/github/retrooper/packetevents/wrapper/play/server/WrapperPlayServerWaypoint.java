@@ -63,14 +63,16 @@ public class WrapperPlayServerWaypoint extends PacketWrapper<WrapperPlayServerWa
     }
 
     public void setOperation(Operation operation) {
+        this.markDirty();
         this.operation = operation;
     }
 
     public TrackedWaypoint getWaypoint() {
-        return this.waypoint;
+        return this.escape(this.waypoint);
     }
 
     public void setWaypoint(TrackedWaypoint waypoint) {
+        this.markDirty();
         this.waypoint = waypoint;
     }
 
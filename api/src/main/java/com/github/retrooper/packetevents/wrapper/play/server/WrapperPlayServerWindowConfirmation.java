@@ -87,6 +87,7 @@ public class WrapperPlayServerWindowConfirmation extends PacketWrapper<WrapperPl
     }
 
     public void setWindowId(int windowID) {
+        this.markDirty();
         this.windowId = windowID;
     }
 
@@ -95,6 +96,7 @@ public class WrapperPlayServerWindowConfirmation extends PacketWrapper<WrapperPl
     }
 
     public void setActionId(short actionID) {
+        this.markDirty();
         this.actionId = actionID;
     }
 
@@ -103,6 +105,7 @@ public class WrapperPlayServerWindowConfirmation extends PacketWrapper<WrapperPl
     }
 
     public void setAccepted(boolean accepted) {
+        this.markDirty();
         this.accepted = accepted;
     }
 }
@@ -101,6 +101,7 @@ public class WrapperPlayServerWindowItems extends PacketWrapper<WrapperPlayServe
     }
 
     public void setWindowId(int windowID) {
+        this.markDirty();
         this.windowID = windowID;
     }
 
@@ -109,22 +110,25 @@ public class WrapperPlayServerWindowItems extends PacketWrapper<WrapperPlayServe
     }
 
     public void setStateId(int stateID) {
+        this.markDirty();
         this.stateID = stateID;
     }
 
     public List<ItemStack> getItems() {
-        return items;
+        return this.escape(items);
     }
 
     public void setItems(List<ItemStack> items) {
+        this.markDirty();
         this.items = items;
     }
 
     public Optional<ItemStack> getCarriedItem() {
-        return carriedItem;
+        return this.escape(carriedItem);
     }
 
     public void setCarriedItem(@Nullable ItemStack carriedItem) {
+        this.markDirty();
         this.carriedItem = Optional.ofNullable(carriedItem);
     }
 }
@@ -69,6 +69,7 @@ public class WrapperPlayServerWindowProperty extends PacketWrapper<WrapperPlaySe
     }
 
     public void setContainerId(int windowId) {
+        this.markDirty();
         this.windowId = windowId;
     }
 
@@ -79,6 +80,7 @@ public class WrapperPlayServerWindowProperty extends PacketWrapper<WrapperPlaySe
 
     @Deprecated
     public void setWindowId(byte windowId) {
+        this.markDirty();
         this.setContainerId(windowId);
     }
 
@@ -87,6 +89,7 @@ public class WrapperPlayServerWindowProperty extends PacketWrapper<WrapperPlaySe
     }
 
     public void setId(int id) {
+        this.markDirty();
         this.id = id;
     }
 
@@ -95,6 +98,7 @@ public class WrapperPlayServerWindowProperty extends PacketWrapper<WrapperPlaySe
     }
 
     public void setValue(int value) {
+        this.markDirty();
         this.value = value;
     }
 }
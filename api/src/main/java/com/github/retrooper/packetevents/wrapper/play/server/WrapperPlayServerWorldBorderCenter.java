@@ -63,10 +63,12 @@ public class WrapperPlayServerWorldBorderCenter extends PacketWrapper<WrapperPla
     }
 
     public void setX(double x) {
+        this.markDirty();
         this.x = x;
     }
 
     public void setZ(double z) {
+        this.markDirty();
         this.z = z;
     }
 }
@@ -54,6 +54,7 @@ public class WrapperPlayServerWorldBorderSize extends PacketWrapper<WrapperPlayS
     }
 
     public void setDiameter(double diameter) {
+        this.markDirty();
         this.diameter = diameter;
     }
 }
@@ -55,6 +55,7 @@ public class WrapperPlayServerWorldBorderWarningReach extends PacketWrapper<Wrap
     }
 
     public void setWarningBlocks(int warningBlocks) {
+        this.markDirty();
         this.warningBlocks = warningBlocks;
     }
 }
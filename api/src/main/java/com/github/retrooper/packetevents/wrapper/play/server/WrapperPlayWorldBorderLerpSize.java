@@ -72,14 +72,17 @@ public class WrapperPlayWorldBorderLerpSize extends PacketWrapper<WrapperPlayWor
     }
 
     public void setOldDiameter(double oldDiameter) {
+        this.markDirty();
         this.oldDiameter = oldDiameter;
     }
 
     public void setNewDiameter(double newDiameter) {
+        this.markDirty();
         this.newDiameter = newDiameter;
     }
 
     public void setSpeed(long speed) {
+        this.markDirty();
         this.speed = speed;
     }
 }
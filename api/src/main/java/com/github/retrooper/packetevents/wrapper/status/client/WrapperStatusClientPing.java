@@ -55,6 +55,7 @@ public class WrapperStatusClientPing extends PacketWrapper<WrapperStatusClientPi
     }
 
     public void setTime(long time) {
+        this.markDirty();
         this.time = time;
     }
 }
@@ -56,10 +56,11 @@ public class WrapperStatusServerResponse extends PacketWrapper<WrapperStatusServ
     }
 
     public JsonObject getComponent() {
-        return this.getSerializers().gson().serializer().fromJson(componentJson, JsonObject.class);
+        return this.escape(this.getSerializers().gson().serializer().fromJson(componentJson, JsonObject.class));
     }
 
     public void setComponent(JsonObject component) {
+        this.markDirty();
         this.componentJson = this.getSerializers().gson().serializer().toJson(component);
     }
 
@@ -68,6 +69,7 @@ public class WrapperStatusServerResponse extends PacketWrapper<WrapperStatusServ
     }
 
     public void setComponentJson(String componentJson) {
+        this.markDirty();
         this.componentJson = componentJson;
     }
 }
@@ -1,6 +1,7 @@
 package com.github.retrooper.packetevents.test;
 
 import com.github.retrooper.packetevents.protocol.player.ClientVersion;
+import com.github.retrooper.packetevents.protocol.world.BlockFace;
 import com.github.retrooper.packetevents.protocol.world.states.WrappedBlockState;
 import com.github.retrooper.packetevents.protocol.world.states.type.StateTypes;
 import com.github.retrooper.packetevents.test.base.BaseDummyAPITest;
@@ -8,6 +9,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BlockDataConversionTest extends BaseDummyAPITest {
 
@@ -20,4 +24,22 @@ public class BlockDataConversionTest extends BaseDummyAPITest {
         assertEquals(StateTypes.WARPED_DOOR, state.getType());
     }
 
+    @Test
+    @DisplayName("Test interned BlockData transitions")
+    public void testInternedTransitions() {
+        String northDoor = "minecraft:warped_door[facing=north,half=lower,hinge=left,open=false,powered=false]";
+        String eastDoor = "minecraft:warped_door[facing=east,half=lower,hinge=left,open=false,powered=false]";
+        WrappedBlockState state = WrappedBlockState.getByString(ClientVersion.V_1_20_3, northDoor, false);
+        assertTrue(state.isInterned());
+
+        WrappedBlockState east = state.withFacing(BlockFace.EAST);
+        assertSame(WrappedBlockState.getByString(ClientVersion.V_1_20_3, eastDoor, false), east);
+        assertEquals(BlockFace.NORTH, state.getFacing());
+        assertSame(state, east.withFacing(BlockFace.NORTH));
+        // doors can't be waterlogged
+        assertSame(state, state.withWaterlogged(true));
+
+        assertThrows(UnsupportedOperationException.class, () -> state.setFacing(BlockFace.SOUTH));
+        assertSame(east, WrappedBlockState.getByString(ClientVersion.V_1_20_3, northDoor).withFacing(BlockFace.EAST));
+    }
 }
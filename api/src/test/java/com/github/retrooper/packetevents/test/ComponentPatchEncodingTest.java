@@ -0,0 +1,122 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
+import com.github.retrooper.packetevents.protocol.ConnectionState;
+import com.github.retrooper.packetevents.protocol.component.ComponentTypes;
+import com.github.retrooper.packetevents.protocol.component.PatchableComponentMap;
+import com.github.retrooper.packetevents.protocol.component.builtin.item.ItemLore;
+import com.github.retrooper.packetevents.protocol.item.ItemStack;
+import com.github.retrooper.packetevents.protocol.item.type.ItemTypes;
+import com.github.retrooper.packetevents.protocol.player.ClientVersion;
+import com.github.retrooper.packetevents.protocol.player.User;
+import com.github.retrooper.packetevents.protocol.player.UserProfile;
+import com.github.retrooper.packetevents.test.base.BaseDummyAPITest;
+import com.github.retrooper.packetevents.util.mappings.GlobalRegistryHolder;
+import com.github.retrooper.packetevents.util.mappings.SimpleRegistry;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ComponentPatchEncodingTest extends BaseDummyAPITest {
+
+    private static final ClientVersion VERSION = ServerVersion.V_1_21.toClientVersion();
+
+    // writes and reads the item stack, returns the lore which was written
+    private static List<Component> rewriteLore(ItemStack stack) {
+        PacketWrapper<?> wrapper = PacketWrapper.createUniversalPacketWrapper(
+                UnpooledByteBufAllocationHelper.buffer(), ServerVersion.V_1_21);
+        try {
+            wrapper.writeItemStack(stack);
+            return wrapper.readItemStack().getComponent(ComponentTypes.LORE)
+                    .map(ItemLore::getLines).orElse(null);
+        } finally {
+            ByteBufHelper.release(wrapper.buffer);
+        }
+    }
+
+    @Test
+    @DisplayName("Encode component values again after they were modified in place")
+    public void testInPlaceModification() {
+        ItemStack stack = ItemStack.builder().type(ItemTypes.STONE).amount(1).build();
+        stack.setComponent(ComponentTypes.LORE, new ItemLore(new ArrayList<>(Arrays.asList(Component.text("a")))));
+        assertEquals(Arrays.asList(Component.text("a")), rewriteLore(stack));
+
+        stack.getComponent(ComponentTypes.LORE).get().addLine(Component.text("b"));
+        assertEquals(Arrays.asList(Component.text("a"), Component.text("b")), rewriteLore(stack));
+
+        // values modified after being encoded don't have to be set again
+        ItemLore lore = stack.getComponent(ComponentTypes.LORE).get();
+        assertEquals(2, rewriteLore(stack).size());
+        lore.addLine(Component.text("c"));
+        assertEquals(Arrays.asList(Component.text("a"), Component.text("b"), Component.text("c")), rewriteLore(stack));
+        assertNull(stack.getComponents().getEncodedPatches(VERSION, GlobalRegistryHolder.INSTANCE, false));
+    }
+
+    @Test
+    @DisplayName("Cache encoded patches of immutable values per registries")
+    public void testImmutableCaching() {
+        ItemStack stack = ItemStack.builder().type(ItemTypes.STONE).amount(1).build();
+        stack.setComponent(ComponentTypes.MAX_STACK_SIZE, 16);
+        rewriteLore(stack);
+        PatchableComponentMap components = stack.getComponents();
+        assertNotNull(components.getEncodedPatches(VERSION, GlobalRegistryHolder.INSTANCE, false));
+        assertNull(components.getEncodedPatches(VERSION, GlobalRegistryHolder.INSTANCE, true));
+
+        // users with the same registries share the cached encoding
+        User user = createUser();
+        User other = createUser();
+        assertNull(components.getEncodedPatches(VERSION, user, false));
+        components.setEncodedPatches(VERSION, user, false, new byte[]{1});
+        assertArrayEquals(new byte[]{1}, components.getEncodedPatches(VERSION, other, false));
+        other.putRegistry(new SimpleRegistry<>("test"));
+        assertNull(components.getEncodedPatches(VERSION, other, false));
+    }
+
+    private static User createUser() {
+        return new User(null, ConnectionState.PLAY, VERSION, new UserProfile(UUID.randomUUID(), "test"));
+    }
+
+    @Test
+    @DisplayName("Share encoded patches between unmodified copies only")
+    public void testCopies() {
+        ItemStack stack = ItemStack.builder().type(ItemTypes.STONE).amount(1).build();
+        stack.setComponent(ComponentTypes.LORE, new ItemLore(new ArrayList<>(Arrays.asList(Component.text("a")))));
+        ItemStack copy = stack.copy();
+        assertEquals(1, rewriteLore(stack).size());
+
+        copy.setComponent(ComponentTypes.LORE, new ItemLore(Arrays.asList(Component.text("b"), Component.text("c"))));
+        assertEquals(Arrays.asList(Component.text("b"), Component.text("c")), rewriteLore(copy));
+        assertEquals(Arrays.asList(Component.text("a")), rewriteLore(stack));
+    }
+}
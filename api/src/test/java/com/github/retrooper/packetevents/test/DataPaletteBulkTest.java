@@ -0,0 +1,93 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.protocol.world.chunk.palette.DataPalette;
+import com.github.retrooper.packetevents.protocol.world.chunk.palette.GlobalPalette;
+import com.github.retrooper.packetevents.protocol.world.chunk.palette.PaletteType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class DataPaletteBulkTest {
+
+    private static int[] randomStates(int distinct, long seed) {
+        Random random = new Random(seed);
+        int[] states = new int[PaletteType.CHUNK.getStorageSize()];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = 1000 + random.nextInt(distinct);
+        }
+        return states;
+    }
+
+    @Test
+    @DisplayName("Set and get all states of a palette")
+    public void testSetAndGetAll() {
+        for (int distinct : new int[]{1, 2, 16, 17, 256, 300}) {
+            DataPalette palette = PaletteType.CHUNK.create();
+            int[] states = randomStates(distinct, distinct);
+            palette.setAll(states);
+
+            int[] out = new int[states.length];
+            palette.getAll(out);
+            assertArrayEquals(states, out);
+            // the bulk order has to match the per-block accessors
+            assertEquals(states[(3 << 4 | 2) << 4 | 1], palette.get(1, 3, 2));
+        }
+    }
+
+    @Test
+    @DisplayName("Replace all states by only rewriting the palette")
+    public void testReplaceAll() {
+        DataPalette palette = PaletteType.CHUNK.create();
+        int[] states = randomStates(20, 1L);
+        palette.setAll(states);
+        long[] data = palette.storage.getData().clone();
+
+        palette.replaceAll(state -> state == 1005 ? 1 : state);
+        assertArrayEquals(data, palette.storage.getData());
+
+        int[] out = new int[states.length];
+        palette.getAll(out);
+        for (int i = 0; i < states.length; i++) {
+            assertEquals(states[i] == 1005 ? 1 : states[i], out[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Replace all states of a global palette")
+    public void testReplaceAllGlobal() {
+        DataPalette palette = PaletteType.CHUNK.create();
+        int[] states = randomStates(300, 2L);
+        palette.setAll(states);
+        assertInstanceOf(GlobalPalette.class, palette.palette);
+
+        palette.replaceAll(state -> state + 1);
+        int[] out = new int[states.length];
+        palette.getAll(out);
+        for (int i = 0; i < states.length; i++) {
+            assertEquals(states[i] + 1, out[i]);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
+import com.github.retrooper.packetevents.protocol.item.ItemStack;
+import com.github.retrooper.packetevents.protocol.item.type.ItemTypes;
+import com.github.retrooper.packetevents.protocol.nbt.EncodedNBT;
+import com.github.retrooper.packetevents.protocol.nbt.NBTCompound;
+import com.github.retrooper.packetevents.protocol.nbt.NBTInt;
+import com.github.retrooper.packetevents.protocol.nbt.NBTString;
+import com.github.retrooper.packetevents.protocol.world.chunk.TileEntity;
+import com.github.retrooper.packetevents.test.base.BaseDummyAPITest;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EncodedNBTTest extends BaseDummyAPITest {
+
+    private static final ServerVersion[] LEGACY_ITEM_VERSIONS = {ServerVersion.V_1_12_2, ServerVersion.V_1_20};
+
+    private static PacketWrapper<?> createWrapper(ServerVersion version) {
+        return PacketWrapper.createUniversalPacketWrapper(UnpooledByteBufAllocationHelper.buffer(), version);
+    }
+
+    private static byte[] getBytes(PacketWrapper<?> wrapper) {
+        byte[] bytes = new byte[ByteBufHelper.readableBytes(wrapper.buffer)];
+        ByteBufHelper.getBytes(wrapper.buffer, ByteBufHelper.readerIndex(wrapper.buffer), bytes);
+        return bytes;
+    }
+
+    private static ItemStack createItem(NBTCompound nbt) {
+        return ItemStack.builder().type(ItemTypes.STONE).amount(3).nbt(nbt).build();
+    }
+
+    // writes the item, reads it back and writes it again, returns the bytes of both writes
+    private static byte[][] rewriteItem(ServerVersion version, ItemStack item, boolean modify) {
+        PacketWrapper<?> original = createWrapper(version);
+        PacketWrapper<?> rewritten = createWrapper(version);
+        try {
+            original.writeItemStack(item);
+            byte[] originalBytes = getBytes(original);
+            ItemStack read = original.readItemStack();
+            if (modify) {
+                read.getNBT().setTag("modified", new NBTInt(1));
+            }
+            rewritten.writeItemStack(read);
+            return new byte[][]{originalBytes, getBytes(rewritten)};
+        } finally {
+            ByteBufHelper.release(original.buffer);
+            ByteBufHelper.release(rewritten.buffer);
+        }
+    }
+
+    @Test
+    @DisplayName("Write unread nbt back byte for byte")
+    public void testVerbatimNBT() {
+        // a named root tag, which is lost when the compound is decoded and encoded again
+        PacketWrapper<?> original = createWrapper(ServerVersion.V_1_20);
+        PacketWrapper<?> rewritten = createWrapper(ServerVersion.V_1_20);
+        try {
+            original.writeByte(10);
+            original.writeShort(4);
+            original.writeBytes(new byte[]{'r', 'o', 'o', 't'});
+            original.writeByte(3);
+            original.writeShort(1);
+            original.writeByte('x');
+            original.writeInt(5);
+            original.writeByte(0);
+            byte[] bytes = getBytes(original);
+
+            TileEntity tileEntity = new TileEntity(EncodedNBT.read(original));
+            tileEntity.writeNBT(rewritten);
+            assertArrayEquals(bytes, getBytes(rewritten));
+            assertEquals(5, tileEntity.getX());
+        } finally {
+            ByteBufHelper.release(original.buffer);
+            ByteBufHelper.release(rewritten.buffer);
+        }
+
+        NBTCompound nbt = new NBTCompound();
+        nbt.setTag("name", new NBTString("héllo"));
+        for (ServerVersion version : LEGACY_ITEM_VERSIONS) {
+            byte[][] bytes = rewriteItem(version, createItem(nbt), false);
+            assertArrayEquals(bytes[0], bytes[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("Write modified nbt instead of the original bytes")
+    public void testModifiedNBT() {
+        NBTCompound nbt = new NBTCompound();
+        nbt.setTag("name", new NBTString("stone"));
+        for (ServerVersion version : LEGACY_ITEM_VERSIONS) {
+            byte[][] bytes = rewriteItem(version, createItem(nbt), true);
+            PacketWrapper<?> wrapper = createWrapper(version);
+            try {
+                wrapper.writeBytes(bytes[1]);
+                NBTCompound read = wrapper.readItemStack().getNBT();
+                assertEquals(new NBTInt(1), read.getTagOrNull("modified"));
+                assertEquals(new NBTString("stone"), read.getTagOrNull("name"));
+            } finally {
+                ByteBufHelper.release(wrapper.buffer);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Round trip empty and missing nbt")
+    public void testEmptyNBT() {
+        for (ServerVersion version : LEGACY_ITEM_VERSIONS) {
+            for (NBTCompound nbt : new NBTCompound[]{null, new NBTCompound()}) {
+                byte[][] bytes = rewriteItem(version, createItem(nbt), false);
+                assertArrayEquals(bytes[0], bytes[1]);
+
+                PacketWrapper<?> wrapper = createWrapper(version);
+                try {
+                    wrapper.writeBytes(bytes[1]);
+                    NBTCompound read = wrapper.readItemStack().getNBT();
+                    assertTrue(read == null || read.isEmpty());
+                } finally {
+                    ByteBufHelper.release(wrapper.buffer);
+                }
+            }
+        }
+
+        PacketWrapper<?> original = createWrapper(ServerVersion.V_1_21);
+        PacketWrapper<?> rewritten = createWrapper(ServerVersion.V_1_21);
+        try {
+            original.writeNBT(new NBTCompound());
+            byte[] bytes = getBytes(original);
+            TileEntity tileEntity = new TileEntity(EncodedNBT.read(original));
+            tileEntity.writeNBT(rewritten);
+            assertArrayEquals(bytes, getBytes(rewritten));
+            assertTrue(tileEntity.getNBT().isEmpty());
+        } finally {
+            ByteBufHelper.release(original.buffer);
+            ByteBufHelper.release(rewritten.buffer);
+        }
+    }
+}
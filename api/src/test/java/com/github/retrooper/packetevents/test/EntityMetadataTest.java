@@ -0,0 +1,147 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
+import com.github.retrooper.packetevents.protocol.entity.data.EntityData;
+import com.github.retrooper.packetevents.protocol.entity.data.EntityDataTypes;
+import com.github.retrooper.packetevents.protocol.entity.data.EntityMetadata;
+import com.github.retrooper.packetevents.test.base.BaseDummyAPITest;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerEntityMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EntityMetadataTest extends BaseDummyAPITest {
+
+    private static List<EntityData<?>> createMetadata() {
+        List<EntityData<?>> metadata = new ArrayList<>();
+        metadata.add(new EntityData<>(0, EntityDataTypes.BYTE, (byte) 1));
+        metadata.add(new EntityData<>(8, EntityDataTypes.INT, 7));
+        metadata.add(new EntityData<>(9, EntityDataTypes.FLOAT, 2.5F));
+        metadata.add(new EntityData<>(10, EntityDataTypes.BOOLEAN, true));
+        metadata.add(new EntityData<>(11, EntityDataTypes.STRING, "name"));
+        return metadata;
+    }
+
+    private static byte[] encode(WrapperPlayServerEntityMetadata wrapper) {
+        Object buffer = UnpooledByteBufAllocationHelper.buffer();
+        try {
+            wrapper.buffer = buffer;
+            wrapper.write();
+            byte[] bytes = new byte[ByteBufHelper.readableBytes(buffer)];
+            ByteBufHelper.getBytes(buffer, ByteBufHelper.readerIndex(buffer), bytes);
+            return bytes;
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+    }
+
+    private static WrapperPlayServerEntityMetadata decode(byte[] bytes) {
+        Object buffer = UnpooledByteBufAllocationHelper.wrappedBuffer(bytes);
+        try {
+            WrapperPlayServerEntityMetadata wrapper = new WrapperPlayServerEntityMetadata(0, new ArrayList<>());
+            wrapper.buffer = buffer;
+            wrapper.read();
+            return wrapper;
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+    }
+
+    @Test
+    @DisplayName("Read and write entity metadata without boxing")
+    public void testRoundTrip() {
+        byte[] bytes = encode(new WrapperPlayServerEntityMetadata(5, createMetadata()));
+        WrapperPlayServerEntityMetadata wrapper = decode(bytes);
+
+        EntityMetadata metadata = wrapper.getMetadata();
+        assertEquals(5, wrapper.getEntityId());
+        assertArrayEquals(new int[]{0, 8, 9, 10, 11}, metadata.getIndices());
+        assertEquals((byte) 1, metadata.getByte(0));
+        assertEquals(7, metadata.getInt(8));
+        assertEquals(2.5F, metadata.getFloat(9));
+        assertTrue(metadata.getBoolean(10));
+        assertEquals("name", metadata.get(11));
+
+        // entries built from values encode the same as the entries which were read
+        wrapper.setMetadata(EntityMetadata.fromList(metadata.toList()));
+        assertArrayEquals(bytes, encode(wrapper));
+    }
+
+    @Test
+    @DisplayName("Write unmodified entity metadata verbatim")
+    public void testUnmodified() {
+        byte[] bytes = encode(new WrapperPlayServerEntityMetadata(5, createMetadata()));
+        WrapperPlayServerEntityMetadata wrapper = decode(bytes);
+
+        EntityMetadata metadata = wrapper.getMetadata();
+        assertEquals(7, metadata.getInt(8));
+        assertEquals("name", metadata.get(11));
+
+        assertFalse(wrapper.isDirty());
+        assertArrayEquals(bytes, encode(wrapper));
+    }
+
+    @Test
+    @DisplayName("Write modified entity metadata entries and mark the wrapper dirty")
+    public void testModified() {
+        byte[] bytes = encode(new WrapperPlayServerEntityMetadata(5, createMetadata()));
+        WrapperPlayServerEntityMetadata wrapper = decode(bytes);
+
+        wrapper.getMetadata().setInt(8, 42);
+        assertTrue(wrapper.isDirty());
+
+        Object buffer = UnpooledByteBufAllocationHelper.wrappedBuffer(encode(wrapper));
+        try {
+            PacketWrapper<?> output = PacketWrapper.createUniversalPacketWrapper(buffer);
+            assertEquals(5, output.readVarInt());
+            List<EntityData<?>> metadata = output.readEntityMetadata();
+            assertEquals(5, metadata.size());
+            assertEquals((byte) 1, metadata.get(0).getValue());
+            assertEquals(42, metadata.get(1).getValue());
+            assertEquals(2.5F, metadata.get(2).getValue());
+            assertEquals(true, metadata.get(3).getValue());
+            assertEquals("name", metadata.get(4).getValue());
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+    }
+
+    @Test
+    @DisplayName("Removing entity metadata entries marks the wrapper dirty")
+    public void testRemoved() {
+        WrapperPlayServerEntityMetadata wrapper = decode(encode(new WrapperPlayServerEntityMetadata(5, createMetadata())));
+
+        assertTrue(wrapper.getMetadata().remove(9));
+        assertTrue(wrapper.isDirty());
+
+        WrapperPlayServerEntityMetadata output = decode(encode(wrapper));
+        assertArrayEquals(new int[]{0, 8, 10, 11}, output.getMetadata().getIndices());
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.event.EventManager;
+import com.github.retrooper.packetevents.event.PacketListener;
+import com.github.retrooper.packetevents.event.PacketListenerCommon;
+import com.github.retrooper.packetevents.event.PacketListenerPriority;
+import com.github.retrooper.packetevents.event.PacketSendEvent;
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
+import com.github.retrooper.packetevents.protocol.ConnectionState;
+import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.protocol.player.User;
+import com.github.retrooper.packetevents.protocol.player.UserProfile;
+import com.github.retrooper.packetevents.protocol.world.chunk.BaseChunk;
+import com.github.retrooper.packetevents.protocol.world.chunk.Column;
+import com.github.retrooper.packetevents.protocol.world.chunk.HeightmapType;
+import com.github.retrooper.packetevents.protocol.world.chunk.LazyColumn;
+import com.github.retrooper.packetevents.protocol.world.chunk.LightData;
+import com.github.retrooper.packetevents.protocol.world.chunk.TileEntity;
+import com.github.retrooper.packetevents.protocol.world.chunk.impl.v_1_18.Chunk_v1_18;
+import com.github.retrooper.packetevents.test.base.BaseDummyAPITest;
+import com.github.retrooper.packetevents.util.PacketEventsImplHelper;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerChunkData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LazyColumnTest extends BaseDummyAPITest {
+
+    private static User createUser() {
+        return new User(null, ConnectionState.PLAY, ServerVersion.getLatest().toClientVersion(),
+                new UserProfile(UUID.randomUUID(), "test"));
+    }
+
+    // every section has a few different blocks, so each of them uses a palette and storage
+    private static Chunk_v1_18 createSection(int index) {
+        Chunk_v1_18 section = new Chunk_v1_18();
+        for (int i = 0; i < 16; i++) {
+            section.set(i, index % 16, (i * 7) % 16, 1 + (i + index) % 5);
+        }
+        return section;
+    }
+
+    private static Object createChunkPacket(int sectionCount) {
+        BaseChunk[] sections = new BaseChunk[sectionCount];
+        for (int i = 0; i < sections.length; i++) {
+            sections[i] = createSection(i);
+        }
+        Column column = new Column(3, -4, true, sections, new TileEntity[0],
+                Collections.singletonMap(HeightmapType.MOTION_BLOCKING, new long[]{1L, 2L, 3L}));
+        LightData lightData = new LightData(false, new BitSet(), new BitSet(), new BitSet(), new BitSet(),
+                0, 0, new byte[0][], new byte[0][]);
+        WrapperPlayServerChunkData wrapper = new WrapperPlayServerChunkData(column, lightData);
+        wrapper.buffer = UnpooledByteBufAllocationHelper.buffer();
+        wrapper.writeVarInt(PacketType.Play.Server.CHUNK_DATA.getId(ServerVersion.getLatest().toClientVersion()));
+        wrapper.write();
+        return wrapper.buffer;
+    }
+
+    private static byte[] getBytes(Object buffer) {
+        byte[] bytes = new byte[ByteBufHelper.readableBytes(buffer)];
+        ByteBufHelper.getBytes(buffer, ByteBufHelper.readerIndex(buffer), bytes);
+        return bytes;
+    }
+
+    // sends the packet through a listener, the passed on packet replaces the contents of the buffer
+    private static void send(User user, Object buffer, Consumer<WrapperPlayServerChunkData> action) throws Exception {
+        EventManager eventManager = PacketEvents.getAPI().getEventManager();
+        PacketListenerCommon listener = eventManager.registerListener(new PacketListener() {
+            @Override
+            public void onPacketSend(PacketSendEvent event) {
+                action.accept(new WrapperPlayServerChunkData(event));
+            }
+        }, PacketListenerPriority.NORMAL);
+        try {
+            PacketEventsImplHelper.handleClientBoundPacket(null, user, null, buffer, true);
+        } finally {
+            eventManager.unregisterListener(listener);
+        }
+    }
+
+    @Test
+    @DisplayName("Write untouched columns as their original bytes")
+    public void testUntouched() throws Exception {
+        User user = createUser();
+        Object buffer = createChunkPacket(user.getTotalWorldHeight() >> 4);
+        try {
+            byte[] original = getBytes(buffer);
+            send(user, buffer, wrapper -> {
+                LazyColumn column = assertInstanceOf(LazyColumn.class, wrapper.getColumn());
+                assertFalse(column.isDecoded(0));
+            });
+            assertArrayEquals(original, getBytes(buffer));
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+    }
+
+    @Test
+    @DisplayName("Write partially decoded columns without changes")
+    public void testPartiallyDecoded() throws Exception {
+        User user = createUser();
+        Object buffer = createChunkPacket(user.getTotalWorldHeight() >> 4);
+        try {
+            byte[] original = getBytes(buffer);
+            send(user, buffer, wrapper -> {
+                LazyColumn column = (LazyColumn) wrapper.getColumn();
+                assertEquals(createSection(3).getBlockId(2, 3, 14), column.getChunk(3).getBlockId(2, 3, 14));
+                assertTrue(column.isDecoded(3));
+                assertFalse(column.isDecoded(4));
+            });
+            assertArrayEquals(original, getBytes(buffer));
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+    }
+
+    @Test
+    @DisplayName("Write modified sections of partially decoded columns")
+    public void testModifiedSection() throws Exception {
+        User user = createUser();
+        int sectionCount = user.getTotalWorldHeight() >> 4;
+        Object buffer = createChunkPacket(sectionCount);
+        try {
+            send(user, buffer, wrapper -> wrapper.getColumn().getChunk(3).set(0, 0, 0, 42));
+            send(user, buffer, wrapper -> {
+                Column column = wrapper.getColumn();
+                assertEquals(42, column.getChunk(3).getBlockId(0, 0, 0));
+                for (int i = 0; i < sectionCount; i++) {
+                    Chunk_v1_18 expected = createSection(i);
+                    if (i == 3) {
+                        expected.set(0, 0, 0, 42);
+                    }
+                    Chunk_v1_18 section = (Chunk_v1_18) column.getChunk(i);
+                    assertEquals(expected.getBlockCount(), section.getBlockCount());
+                    for (int x = 0; x < 16; x++) {
+                        assertEquals(expected.getBlockId(x, i % 16, (x * 7) % 16), section.getBlockId(x, i % 16, (x * 7) % 16));
+                    }
+                }
+            });
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+    }
+
+    @Test
+    @DisplayName("Reject section data which isn't fully read")
+    public void testTrailingBytes() {
+        PacketWrapper<?> wrapper = PacketWrapper.createUniversalPacketWrapper(
+                UnpooledByteBufAllocationHelper.buffer(), ServerVersion.V_1_21);
+        try {
+            Chunk_v1_18.write(wrapper, createSection(0));
+            wrapper.writeByte(0);
+            byte[] sectionData = getBytes(wrapper.buffer);
+            assertThrows(RuntimeException.class, () -> new LazyColumn(0, 0, new TileEntity[0],
+                    Collections.emptyMap(), ServerVersion.V_1_21, sectionData, 1));
+        } finally {
+            ByteBufHelper.release(wrapper.buffer);
+        }
+    }
+}
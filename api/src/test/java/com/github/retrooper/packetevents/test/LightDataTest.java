@@ -0,0 +1,118 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
+import com.github.retrooper.packetevents.protocol.world.chunk.LightData;
+import com.github.retrooper.packetevents.test.base.BaseDummyAPITest;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LightDataTest extends BaseDummyAPITest {
+
+    private static LightData createLightData() {
+        BitSet skyLightMask = BitSet.valueOf(new long[]{0b1011L});
+        BitSet blockLightMask = BitSet.valueOf(new long[]{0b10L});
+        BitSet emptySkyLightMask = BitSet.valueOf(new long[]{0b100L});
+        BitSet emptyBlockLightMask = BitSet.valueOf(new long[]{0b1101L});
+        byte[][] skyLightArray = new byte[3][];
+        for (int i = 0; i < skyLightArray.length; i++) {
+            skyLightArray[i] = new byte[2048];
+            Arrays.fill(skyLightArray[i], (byte) (i + 1));
+        }
+        byte[][] blockLightArray = new byte[][]{new byte[2048]};
+        blockLightArray[0][17] = 0x4F;
+        return new LightData(true, blockLightMask, skyLightMask, emptyBlockLightMask, emptySkyLightMask,
+                skyLightArray.length, blockLightArray.length, skyLightArray, blockLightArray);
+    }
+
+    private static byte[] write(LightData lightData, ServerVersion version) {
+        PacketWrapper<?> wrapper = PacketWrapper.createUniversalPacketWrapper(
+                UnpooledByteBufAllocationHelper.buffer(), version);
+        try {
+            LightData.write(wrapper, lightData);
+            byte[] bytes = new byte[ByteBufHelper.readableBytes(wrapper.buffer)];
+            ByteBufHelper.getBytes(wrapper.buffer, ByteBufHelper.readerIndex(wrapper.buffer), bytes);
+            return bytes;
+        } finally {
+            ByteBufHelper.release(wrapper.buffer);
+        }
+    }
+
+    // reads the light data, followed by a marker which has to be left unread
+    private static LightData read(byte[] bytes, ServerVersion version) {
+        Object buffer = UnpooledByteBufAllocationHelper.buffer();
+        try {
+            ByteBufHelper.writeBytes(buffer, bytes);
+            ByteBufHelper.writeByte(buffer, 0x7E);
+            PacketWrapper<?> wrapper = PacketWrapper.createUniversalPacketWrapper(buffer, version);
+            LightData lightData = LightData.read(wrapper);
+            assertEquals(1, ByteBufHelper.readableBytes(buffer));
+            assertEquals(0x7E, wrapper.readByte());
+            return lightData;
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+    }
+
+    @Test
+    @DisplayName("Write untouched light data as its original bytes")
+    public void testUntouched() {
+        for (ServerVersion version : new ServerVersion[]{ServerVersion.V_1_19_4, ServerVersion.getLatest()}) {
+            byte[] bytes = write(createLightData(), version);
+            assertArrayEquals(bytes, write(read(bytes, version), version));
+        }
+    }
+
+    @Test
+    @DisplayName("Decode skipped light data like it was written")
+    public void testDecode() {
+        LightData expected = createLightData();
+        LightData lightData = read(write(expected, ServerVersion.V_1_19_4), ServerVersion.V_1_19_4);
+        assertTrue(lightData.isTrustEdges());
+        assertEquals(expected.getSkyLightMask(), lightData.getSkyLightMask());
+        assertEquals(expected.getBlockLightMask(), lightData.getBlockLightMask());
+        assertEquals(expected.getEmptySkyLightMask(), lightData.getEmptySkyLightMask());
+        assertEquals(expected.getEmptyBlockLightMask(), lightData.getEmptyBlockLightMask());
+        assertEquals(expected.getSkyLightCount(), lightData.getSkyLightCount());
+        assertEquals(expected.getBlockLightCount(), lightData.getBlockLightCount());
+        assertArrayEquals(expected.getSkyLightArray(), lightData.getSkyLightArray());
+        assertArrayEquals(expected.getBlockLightArray(), lightData.getBlockLightArray());
+    }
+
+    @Test
+    @DisplayName("Encode light data again for other versions")
+    public void testOtherVersion() {
+        // 1.20 no longer writes whether edges are trusted
+        LightData lightData = read(write(createLightData(), ServerVersion.V_1_19_4), ServerVersion.V_1_19_4);
+        byte[] bytes = write(lightData, ServerVersion.V_1_20);
+        assertArrayEquals(write(createLightData(), ServerVersion.V_1_20), bytes);
+        assertArrayEquals(bytes, write(read(bytes, ServerVersion.V_1_20), ServerVersion.V_1_20));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
+import com.github.retrooper.packetevents.protocol.nbt.NBTCompound;
+import com.github.retrooper.packetevents.protocol.nbt.NBTInt;
+import com.github.retrooper.packetevents.protocol.nbt.NBTIntArray;
+import com.github.retrooper.packetevents.protocol.nbt.NBTList;
+import com.github.retrooper.packetevents.protocol.nbt.NBTString;
+import com.github.retrooper.packetevents.protocol.nbt.NBTType;
+import com.github.retrooper.packetevents.protocol.nbt.codec.NBTCodec;
+import com.github.retrooper.packetevents.test.base.BaseDummyAPITest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NBTBufferReaderTest extends BaseDummyAPITest {
+
+    private static NBTCompound createBlockEntity() {
+        NBTCompound nested = new NBTCompound();
+        nested.setTag("text", new NBTString("h\u00e9llo \u2603"));
+        NBTList<NBTCompound> list = new NBTList<>(NBTType.COMPOUND);
+        list.addTag(nested);
+
+        NBTCompound compound = new NBTCompound();
+        compound.setTag("items", list);
+        compound.setTag("data", new NBTIntArray(new int[]{1, 2, 3}));
+        compound.setTag("id", new NBTString("minecraft:sign"));
+        compound.setTag("x", new NBTInt(5));
+        return compound;
+    }
+
+    @Test
+    @DisplayName("Read single nbt values without building the tag tree")
+    public void testVisitCompound() {
+        for (ServerVersion version : new ServerVersion[]{ServerVersion.V_1_7_10, ServerVersion.V_1_20, ServerVersion.V_1_21}) {
+            Object buffer = UnpooledByteBufAllocationHelper.buffer();
+            try {
+                NBTCodec.writeNBTToBuffer(buffer, version, createBlockEntity());
+                ByteBufHelper.writeInt(buffer, 42); // data after the nbt must not be touched
+
+                String[] id = new String[1];
+                assertTrue(NBTCodec.readNBTFromBuffer(buffer, version, (reader, type, name) -> {
+                    if (type == NBTType.STRING && name.equals("id")) {
+                        id[0] = reader.readString();
+                        return false;
+                    }
+                    return true;
+                }));
+                assertEquals("minecraft:sign", id[0]);
+                assertEquals(42, ByteBufHelper.readInt(buffer));
+            } finally {
+                ByteBufHelper.release(buffer);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Read nested nbt values")
+    public void testVisitNested() {
+        Object buffer = UnpooledByteBufAllocationHelper.buffer();
+        try {
+            NBTCodec.writeNBTToBuffer(buffer, ServerVersion.V_1_21, createBlockEntity());
+            NBTCodec.writeNBTToBuffer(buffer, ServerVersion.V_1_21, (NBTCompound) null);
+
+            String[] text = new String[1];
+            assertTrue(NBTCodec.readNBTFromBuffer(buffer, ServerVersion.V_1_21, (reader, type, name) -> {
+                if (name.equals("items")) {
+                    reader.readList((listReader, elementType, index) -> {
+                        listReader.readCompound((compoundReader, valueType, key) -> {
+                            text[0] = compoundReader.readString();
+                            return true;
+                        });
+                        return true;
+                    });
+                }
+                return true;
+            }));
+            assertEquals("h\u00e9llo \u2603", text[0]);
+            assertFalse(NBTCodec.readNBTFromBuffer(buffer, ServerVersion.V_1_21, (reader, type, name) -> true));
+            assertEquals(0, ByteBufHelper.readableBytes(buffer));
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+    }
+
+    // an unnamed root compound with a single list entry, whose elements are missing
+    private static Object createListCompound(byte elementType, int size) {
+        Object buffer = UnpooledByteBufAllocationHelper.buffer();
+        ByteBufHelper.writeByte(buffer, 10); // compound
+        ByteBufHelper.writeByte(buffer, 9); // list
+        ByteBufHelper.writeShort(buffer, 1);
+        ByteBufHelper.writeByte(buffer, 'l');
+        ByteBufHelper.writeByte(buffer, elementType);
+        ByteBufHelper.writeInt(buffer, size);
+        ByteBufHelper.writeByte(buffer, 0); // end of compound
+        return buffer;
+    }
+
+    @Test
+    @DisplayName("Reject nbt lists with sizes their elements can't have")
+    public void testMaliciousListSize() {
+        Object buffer = createListCompound((byte) 0, 1 << 30);
+        try {
+            assertThrows(IllegalStateException.class, () -> NBTCodec.readRawNBTFromBuffer(buffer, ServerVersion.V_1_21));
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+
+        Object sizedBuffer = createListCompound((byte) 1, 1 << 30);
+        try {
+            assertThrows(IllegalArgumentException.class, () -> NBTCodec.readRawNBTFromBuffer(sizedBuffer, ServerVersion.V_1_21));
+        } finally {
+            ByteBufHelper.release(sizedBuffer);
+        }
+
+        Object visitedBuffer = createListCompound((byte) 0, 1 << 30);
+        try {
+            assertThrows(IllegalStateException.class, () -> NBTCodec.readNBTFromBuffer(visitedBuffer, ServerVersion.V_1_21,
+                    (reader, type, name) -> {
+                        reader.readList((listReader, elementType, index) -> true);
+                        return true;
+                    }));
+        } finally {
+            ByteBufHelper.release(visitedBuffer);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.event.EventManager;
+import com.github.retrooper.packetevents.event.PacketListener;
+import com.github.retrooper.packetevents.event.PacketListenerCommon;
+import com.github.retrooper.packetevents.event.PacketListenerPriority;
+import com.github.retrooper.packetevents.event.PacketSendEvent;
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
+import com.github.retrooper.packetevents.protocol.ConnectionState;
+import com.github.retrooper.packetevents.protocol.entity.data.EntityData;
+import com.github.retrooper.packetevents.protocol.entity.data.EntityDataTypes;
+import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.protocol.player.User;
+import com.github.retrooper.packetevents.protocol.player.UserProfile;
+import com.github.retrooper.packetevents.test.base.BaseDummyAPITest;
+import com.github.retrooper.packetevents.util.PacketEventsImplHelper;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerEntityMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PacketReEncodeTest extends BaseDummyAPITest {
+
+    private static Object createMetadataPacket() {
+        List<EntityData<?>> metadata = new ArrayList<>();
+        metadata.add(new EntityData<>(0, EntityDataTypes.BYTE, (byte) 1));
+        metadata.add(new EntityData<>(8, EntityDataTypes.INT, 7));
+        WrapperPlayServerEntityMetadata wrapper = new WrapperPlayServerEntityMetadata(5, metadata);
+        wrapper.buffer = UnpooledByteBufAllocationHelper.buffer();
+        wrapper.writeVarInt(PacketType.Play.Server.ENTITY_METADATA.getId(ServerVersion.getLatest().toClientVersion()));
+        wrapper.write();
+        return wrapper.buffer;
+    }
+
+    // the entity id is encoded with a redundant VarInt byte, which re-encoding the packet would drop
+    private static Object createPaddedMetadataPacket() {
+        List<EntityData<?>> metadata = new ArrayList<>();
+        metadata.add(new EntityData<>(8, EntityDataTypes.INT, 7));
+        PacketWrapper<?> wrapper = PacketWrapper.createUniversalPacketWrapper(UnpooledByteBufAllocationHelper.buffer());
+        wrapper.writeVarInt(PacketType.Play.Server.ENTITY_METADATA.getId(ServerVersion.getLatest().toClientVersion()));
+        wrapper.writeByte(0x85);
+        wrapper.writeByte(0x00);
+        wrapper.writeEntityMetadata(metadata);
+        return wrapper.buffer;
+    }
+
+    // the readable bytes after the packet id, which send already read from the passed on packet
+    private static byte[] getBytes(Object buffer, boolean skipId) {
+        int offset = skipId ? ByteBufHelper.getByteSize(
+                PacketType.Play.Server.ENTITY_METADATA.getId(ServerVersion.getLatest().toClientVersion())) : 0;
+        byte[] bytes = new byte[ByteBufHelper.readableBytes(buffer) - offset];
+        ByteBufHelper.getBytes(buffer, ByteBufHelper.readerIndex(buffer) + offset, bytes);
+        return bytes;
+    }
+
+    // sends the packet through a listener, returns the packet which is passed on after its id
+    private static PacketWrapper<?> send(Object buffer, Consumer<WrapperPlayServerEntityMetadata> action) throws Exception {
+        EventManager eventManager = PacketEvents.getAPI().getEventManager();
+        PacketListenerCommon listener = eventManager.registerListener(new PacketListener() {
+            @Override
+            public void onPacketSend(PacketSendEvent event) {
+                action.accept(new WrapperPlayServerEntityMetadata(event));
+            }
+        }, PacketListenerPriority.NORMAL);
+        try {
+            User user = new User(null, ConnectionState.PLAY, ServerVersion.getLatest().toClientVersion(),
+                    new UserProfile(UUID.randomUUID(), "test"));
+            PacketEventsImplHelper.handleClientBoundPacket(null, user, null, buffer, true);
+        } finally {
+            eventManager.unregisterListener(listener);
+        }
+        PacketWrapper<?> output = PacketWrapper.createUniversalPacketWrapper(buffer);
+        output.readVarInt(); // packet id
+        return output;
+    }
+
+    @Test
+    @DisplayName("Re-encode objects which were modified in place")
+    @SuppressWarnings("unchecked")
+    public void testInPlaceModification() throws Exception {
+        Object buffer = createMetadataPacket();
+        try {
+            PacketWrapper<?> output = send(buffer, wrapper ->
+                    ((EntityData<Integer>) wrapper.getEntityMetadata().get(1)).setValue(42));
+            assertEquals(5, output.readVarInt());
+            List<EntityData<?>> metadata = output.readEntityMetadata();
+            assertEquals((byte) 1, metadata.get(0).getValue());
+            assertEquals(42, metadata.get(1).getValue());
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+    }
+
+    @Test
+    @DisplayName("Re-encode modified wrappers when re-encoding by default is disabled")
+    public void testModifiedWithoutReEncodeByDefault() throws Exception {
+        PacketEvents.getAPI().getSettings().reEncodeByDefault(false);
+        Object buffer = createMetadataPacket();
+        try {
+            PacketWrapper<?> output = send(buffer, wrapper -> wrapper.setEntityId(6));
+            assertEquals(6, output.readVarInt());
+            assertEquals(7, output.readEntityMetadata().get(1).getValue());
+        } finally {
+            PacketEvents.getAPI().getSettings().reEncodeByDefault(true);
+            ByteBufHelper.release(buffer);
+        }
+    }
+
+    @Test
+    @DisplayName("Re-encode wrappers modified through their entity metadata when re-encoding by default is disabled")
+    public void testMetadataModifiedWithoutReEncodeByDefault() throws Exception {
+        PacketEvents.getAPI().getSettings().reEncodeByDefault(false);
+        Object buffer = createMetadataPacket();
+        try {
+            PacketWrapper<?> output = send(buffer, wrapper -> wrapper.getMetadata().setInt(8, 42));
+            assertEquals(5, output.readVarInt());
+            assertEquals(42, output.readEntityMetadata().get(1).getValue());
+        } finally {
+            PacketEvents.getAPI().getSettings().reEncodeByDefault(true);
+            ByteBufHelper.release(buffer);
+        }
+    }
+
+    @Test
+    @DisplayName("Pass on the original bytes when wrappers were only read")
+    public void testReadOnlyPassThrough() throws Exception {
+        Object buffer = createPaddedMetadataPacket();
+        try {
+            byte[] original = getBytes(buffer, true);
+            int[] read = new int[2];
+            send(buffer, wrapper -> {
+                read[0] = wrapper.getEntityId();
+                read[1] = wrapper.getMetadata().getInt(8);
+            });
+            assertEquals(5, read[0]);
+            assertEquals(7, read[1]);
+            assertArrayEquals(original, getBytes(buffer, false));
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+    }
+
+    @Test
+    @DisplayName("Re-encode wrappers which handed out mutable objects")
+    public void testEscapedReEncode() throws Exception {
+        Object buffer = createPaddedMetadataPacket();
+        try {
+            byte[] original = getBytes(buffer, true);
+            PacketWrapper<?> output = send(buffer, WrapperPlayServerEntityMetadata::getEntityMetadata);
+            assertEquals(original.length - 1, getBytes(buffer, false).length);
+            assertEquals(5, output.readVarInt());
+        } finally {
+            ByteBufHelper.release(buffer);
+        }
+
+        PacketEvents.getAPI().getSettings().reEncodeByDefault(false);
+        Object untrackedBuffer = createPaddedMetadataPacket();
+        try {
+            byte[] original = getBytes(untrackedBuffer, true);
+            send(untrackedBuffer, WrapperPlayServerEntityMetadata::getEntityMetadata);
+            assertArrayEquals(original, getBytes(untrackedBuffer, false));
+        } finally {
+            PacketEvents.getAPI().getSettings().reEncodeByDefault(true);
+            ByteBufHelper.release(untrackedBuffer);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.util.reflection.ReflectionObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReflectionObjectTest {
+
+    @Test
+    @DisplayName("Read and write fields by type and index")
+    public void testReadWrite() {
+        Holder holder = new Holder();
+        ReflectionObject reflection = new ReflectionObject(holder);
+        reflection.writeString(1, "second");
+        reflection.writeInt(0, 5);
+
+        assertEquals("first", reflection.readString(0));
+        assertEquals("second", reflection.readString(1));
+        assertEquals(5, holder.number);
+    }
+
+    @Test
+    @DisplayName("Writing a value of the wrong type leaves the field untouched")
+    public void testWrongValueType() {
+        Holder holder = new Holder();
+        ReflectionObject reflection = new ReflectionObject(holder);
+
+        assertDoesNotThrow(() -> reflection.write(String.class, 0, 5));
+        assertEquals("first", holder.first);
+    }
+
+    private static final class Holder {
+
+        private String first = "first";
+        private String second;
+        private int number;
+    }
+}
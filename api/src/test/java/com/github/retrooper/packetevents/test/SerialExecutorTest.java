@@ -0,0 +1,170 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.event.EventManager;
+import com.github.retrooper.packetevents.event.PacketListener;
+import com.github.retrooper.packetevents.event.PacketListenerCommon;
+import com.github.retrooper.packetevents.event.PacketListenerPriority;
+import com.github.retrooper.packetevents.event.PacketSendEvent;
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
+import com.github.retrooper.packetevents.protocol.ConnectionState;
+import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.protocol.player.User;
+import com.github.retrooper.packetevents.protocol.player.UserProfile;
+import com.github.retrooper.packetevents.settings.PacketEventsSettings;
+import com.github.retrooper.packetevents.test.base.BaseDummyAPITest;
+import com.github.retrooper.packetevents.util.PacketEventsImplHelper;
+import com.github.retrooper.packetevents.util.SerialExecutor;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerEntityStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SerialExecutorTest extends BaseDummyAPITest {
+
+    // tasks only run once #runPending is called
+    private final Queue<Runnable> pending = new ArrayDeque<>();
+    private final Executor executor = this.pending::add;
+
+    private void runPending() {
+        Runnable task;
+        while ((task = this.pending.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static Object[] submitBuffers(SerialExecutor executor, int count, List<Integer> ran) {
+        Object[] buffers = new Object[count];
+        for (int i = 0; i < count; i++) {
+            Object buffer = UnpooledByteBufAllocationHelper.buffer();
+            int index = i;
+            buffers[i] = buffer;
+            executor.execute(() -> {
+                ran.add(index);
+                ByteBufHelper.release(buffer);
+            }, () -> ByteBufHelper.release(buffer));
+        }
+        return buffers;
+    }
+
+    @Test
+    @DisplayName("Drop and release the oldest task once the queue is full")
+    public void testOverflow() {
+        SerialExecutor executor = new SerialExecutor(this.executor, 2);
+        List<Integer> ran = new ArrayList<>();
+        Object[] buffers = submitBuffers(executor, 3, ran);
+        assertEquals(0, ByteBufHelper.refCnt(buffers[0]));
+        assertEquals(1, ByteBufHelper.refCnt(buffers[1]));
+        assertEquals(1, ByteBufHelper.refCnt(buffers[2]));
+        assertEquals(1, executor.getDroppedTasks());
+
+        this.runPending();
+        assertEquals(Arrays.asList(1, 2), ran);
+        for (Object buffer : buffers) {
+            assertEquals(0, ByteBufHelper.refCnt(buffer));
+        }
+    }
+
+    @Test
+    @DisplayName("Release queued and later tasks once shut down")
+    public void testShutdown() {
+        SerialExecutor executor = new SerialExecutor(this.executor, 2);
+        List<Integer> ran = new ArrayList<>();
+        Object[] buffers = submitBuffers(executor, 2, ran);
+        executor.shutdown();
+        Object[] lateBuffers = submitBuffers(executor, 1, ran);
+
+        this.runPending();
+        assertTrue(ran.isEmpty());
+        assertEquals(0, ByteBufHelper.refCnt(buffers[0]));
+        assertEquals(0, ByteBufHelper.refCnt(buffers[1]));
+        assertEquals(0, ByteBufHelper.refCnt(lateBuffers[0]));
+        assertEquals(0, executor.getDroppedTasks());
+    }
+
+    @Test
+    @DisplayName("Only pass the newest packets to async listeners which can't keep up")
+    public void testAsyncListenerQueue() {
+        PacketEventsSettings settings = PacketEvents.getAPI().getSettings();
+        Executor previousExecutor = settings.getAsyncListenerExecutor();
+        int previousCapacity = settings.getAsyncListenerQueueCapacity();
+        settings.asyncListenerExecutor(this.executor).asyncListenerQueueCapacity(2);
+
+        List<Integer> received = new ArrayList<>();
+        EventManager eventManager = PacketEvents.getAPI().getEventManager();
+        PacketListenerCommon listener = eventManager.registerListener(new PacketListener() {
+            @Override
+            public void onPacketSend(PacketSendEvent event) {
+                received.add(new WrapperPlayServerEntityStatus(event).getEntityId());
+            }
+
+            @Override
+            public boolean isAsync() {
+                return true;
+            }
+        }, PacketListenerPriority.NORMAL);
+        try {
+            User user = new User(null, ConnectionState.PLAY, ServerVersion.getLatest().toClientVersion(),
+                    new UserProfile(UUID.randomUUID(), "test"));
+            for (int entityId = 0; entityId < 3; entityId++) {
+                send(user, entityId);
+            }
+            this.runPending();
+            assertEquals(Arrays.asList(1, 2), received);
+            assertEquals(1, user.getAsyncListenerExecutor().getDroppedTasks());
+
+            send(user, 3);
+            user.shutdownAsyncListenerExecutor();
+            send(user, 4);
+            this.runPending();
+            assertEquals(Arrays.asList(1, 2), received);
+        } finally {
+            eventManager.unregisterListener(listener);
+            settings.asyncListenerExecutor(previousExecutor).asyncListenerQueueCapacity(previousCapacity);
+        }
+    }
+
+    private static void send(User user, int entityId) {
+        WrapperPlayServerEntityStatus wrapper = new WrapperPlayServerEntityStatus(entityId, 0);
+        wrapper.buffer = UnpooledByteBufAllocationHelper.buffer();
+        wrapper.writeVarInt(PacketType.Play.Server.ENTITY_STATUS.getId(ServerVersion.getLatest().toClientVersion()));
+        wrapper.write();
+        try {
+            PacketEventsImplHelper.handleClientBoundPacket(null, user, null, wrapper.buffer, true);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        } finally {
+            ByteBufHelper.release(wrapper.buffer);
+        }
+    }
+}
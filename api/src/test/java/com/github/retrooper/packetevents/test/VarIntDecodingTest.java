@@ -0,0 +1,70 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.packetevents.test;
+
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class VarIntDecodingTest {
+
+    private static final int[] INT_VALUES = {0, 1, 127, 128, 255, 300, 16383, 16384, 2097151, 2097152,
+            268435455, 268435456, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+    private static final long[] LONG_VALUES = {0L, 1L, 127L, 128L, 300L, 34359738367L, 34359738368L,
+            72057594037927935L};
+
+    // encodes the value like PacketWrapper#writeVarLong, into the low bytes of a little endian word
+    private static long encode(long value, int[] length) {
+        long word = 0L;
+        int size = 0;
+        while ((value & ~0x7FL) != 0L) {
+            word |= ((value & 0x7FL) | 0x80L) << (size++ << 3);
+            value >>>= 7;
+        }
+        word |= value << (size++ << 3);
+        length[0] = size;
+        // garbage after the VarInt must not influence decoding
+        return size < 8 ? word | (0xFFFFFFFFFFFFFFFFL << (size << 3)) : word;
+    }
+
+    @Test
+    @DisplayName("Decode VarInts from a single word")
+    public void testVarIntWordDecoding() {
+        int[] length = new int[1];
+        for (int value : INT_VALUES) {
+            long word = encode(value & 0xFFFFFFFFL, length);
+            assertEquals(length[0], ByteBufHelper.getVarIntLength(word));
+            assertEquals(value, ByteBufHelper.decodeVarInt(word, length[0]));
+        }
+        // six continuation bytes are never a valid VarInt
+        assertEquals(0, ByteBufHelper.getVarIntLength(0xFFFFFFFFFFFFFFFFL));
+    }
+
+    @Test
+    @DisplayName("Decode VarLongs from a single word")
+    public void testVarLongWordDecoding() {
+        int[] length = new int[1];
+        for (long value : LONG_VALUES) {
+            long word = encode(value, length);
+            assertEquals(value, ByteBufHelper.decodeVarLong(word, length[0]));
+        }
+    }
+}
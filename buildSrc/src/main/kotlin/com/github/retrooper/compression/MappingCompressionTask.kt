@@ -18,6 +18,7 @@
 package com.github.retrooper.compression
 
 import com.github.retrooper.compression.strategy.CompressionStrategy
+import com.github.retrooper.compression.strategy.dir.DirCompressionStrategy
 import org.gradle.api.DefaultTask
 import org.gradle.api.tasks.Internal
 import org.gradle.api.tasks.TaskAction
@@ -44,8 +45,16 @@ abstract class MappingCompressionTask : DefaultTask() {
         outDir ?: error("outDir is not set")
 
         for ((relativePath, strategy) in strategies) {
+            val from = mappingsDir!!.resolve(relativePath)
             val target = CompressionStrategy.resolveTargetPath(outDir!!, relativePath)
-            strategy.compress(mappingsDir!!.resolve(relativePath), target)
+            if (strategy is DirCompressionStrategy) {
+                // nested directories with their own strategy are left to that strategy
+                val excluded = strategies.keys.map { mappingsDir!!.resolve(it) }
+                    .filter { it != from && it.startsWith(from) }
+                strategy.compress(from, target, excluded)
+            } else {
+                strategy.compress(from, target)
+            }
         }
     }
 }
@@ -24,11 +24,16 @@ interface CompressionStrategy {
     companion object {
         const val COMPRESSION_VERSION: Byte = 3
 
-        fun resolveTargetPath(output: Path, relativePath: String): Path {
-            return output.resolve(relativePath.replace(".json", ".nbt"))
+        fun resolveTargetPath(output: Path, relativePath: String, extension: String = ".nbt"): Path {
+            return output.resolve(relativePath.replace(".json", extension))
         }
     }
 
+    /**
+     * The file extension of compressed files, replacing the extension of the source file
+     */
+    val fileExtension: String get() = ".nbt"
+
     fun compress(from: Path, to: Path)
 
 }
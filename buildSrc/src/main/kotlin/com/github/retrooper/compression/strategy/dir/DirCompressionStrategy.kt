@@ -27,12 +27,22 @@ abstract class DirCompressionStrategy(
     private val strategy: CompressionStrategy
 ) : CompressionStrategy {
 
-    @OptIn(ExperimentalPathApi::class)
     override fun compress(from: Path, to: Path) {
-        from.walk().forEach {
+        compress(from, to, emptyList())
+    }
+
+    /**
+     * Compresses all files in [from], except for those inside one of the [excluded] directories
+     */
+    @OptIn(ExperimentalPathApi::class)
+    fun compress(from: Path, to: Path, excluded: Collection<Path>) {
+        from.walk().filter { path -> excluded.none { path.startsWith(it) } }.forEach {
             val relativePath = from.relativize(it).toString()
-            val target = CompressionStrategy.resolveTargetPath(to, relativePath)
-            this.strategy.compress(it, target)
+            val strategy = strategyFor(it)
+            val target = CompressionStrategy.resolveTargetPath(to, relativePath, strategy.fileExtension)
+            strategy.compress(it, target)
         }
     }
+
+    protected open fun strategyFor(path: Path): CompressionStrategy = this.strategy
 }
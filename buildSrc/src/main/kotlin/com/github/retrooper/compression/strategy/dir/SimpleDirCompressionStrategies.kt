@@ -18,14 +18,21 @@
 
 package com.github.retrooper.compression.strategy.dir
 
-import com.github.retrooper.compression.strategy.json.JsonArrayCompressionStrategy
+import com.github.retrooper.compression.strategy.CompressionStrategy
 import com.github.retrooper.compression.strategy.json.JsonBase64DataStrategy
-import com.github.retrooper.compression.strategy.json.JsonObjectCompressionStrategy
-import com.github.retrooper.compression.strategy.json.JsonRegistryCompressionStrategy
+import com.github.retrooper.compression.strategy.json.JsonBlockStateTableStrategy
+import com.github.retrooper.compression.strategy.json.JsonRegistryTableStrategy
 import com.github.retrooper.compression.strategy.json.JsonToNbtStrategy
+import java.nio.file.Path
 
 object JsonToNbtDirStrategy : DirCompressionStrategy(JsonToNbtStrategy)
-object JsonArrayCompressionDirStrategy : DirCompressionStrategy(JsonArrayCompressionStrategy)
-object JsonObjectCompressionDirStrategy : DirCompressionStrategy(JsonObjectCompressionStrategy)
 object JsonBase64DataDirStrategy : DirCompressionStrategy(JsonBase64DataStrategy)
-object JsonRegistryCompressionDirStrategy : DirCompressionStrategy(JsonRegistryCompressionStrategy)
+object JsonRegistryTableDirStrategy : DirCompressionStrategy(JsonRegistryTableStrategy)
+
+object JsonBlockStateTableDirStrategy : DirCompressionStrategy(JsonBlockStateTableStrategy) {
+
+    // legacy mappings are keyed by block id and data value instead of listing the states in id order
+    override fun strategyFor(path: Path): CompressionStrategy {
+        return if (path.fileName.toString() == "legacy.json") JsonToNbtStrategy else super.strategyFor(path)
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.compression.strategy.json
+
+import com.github.retrooper.compression.CompressionUtil
+import com.github.retrooper.compression.strategy.CompressionStrategy
+import com.google.gson.JsonElement
+import java.io.DataOutputStream
+import java.nio.file.Path
+import kotlin.io.path.createDirectories
+import kotlin.io.path.outputStream
+
+/**
+ * Writes the block states of a version as a table, listing the property set of each state in id order.
+ * Every distinct property set is only written once, so it only has to be parsed once when loading.
+ *
+ * Format (big endian):
+ * - int magic, byte format version
+ * - int string count, followed by the property names and values
+ * - int property set count, followed by each set as a byte pair count and (short name, short value) string indexes
+ * - byte property set index width (2 or 4)
+ * - int type count, followed by each type as its name, int default state index, int state count
+ *   and the property set index of each state
+ */
+object JsonBlockStateTableStrategy : CompressionStrategy {
+
+    const val MAGIC: Int = 0x50454253 // PEBS
+    const val FORMAT_VERSION: Byte = 1
+
+    override val fileExtension: String = ".bin"
+
+    override fun compress(from: Path, to: Path) {
+        val types = CompressionUtil.loadJson(from).asJsonArray.map { it.asJsonObject }
+
+        val strings = linkedMapOf<String, Int>()
+        val sets = linkedMapOf<List<Int>, Int>()
+        fun indexSet(entry: JsonElement): Int {
+            val pairs = if (entry.isJsonObject) {
+                // keep the order of the properties, it determines the order of the state strings
+                entry.asJsonObject.entrySet().flatMap { (key, value) ->
+                    listOf(key, value.asString).map { strings.getOrPut(it) { strings.size } }
+                }
+            } else {
+                emptyList()
+            }
+            return sets.getOrPut(pairs) { sets.size }
+        }
+
+        val states = types.map { type -> type.getAsJsonArray("entries").map(::indexSet) }
+        check(strings.size <= 0xFFFF) { "Too many property strings in $from" }
+        val wide = sets.size > Short.MAX_VALUE
+
+        to.parent?.createDirectories()
+        DataOutputStream(to.outputStream().buffered()).use { out ->
+            out.writeInt(MAGIC)
+            out.writeByte(FORMAT_VERSION.toInt())
+            out.writeInt(strings.size)
+            for (string in strings.keys) {
+                out.writeUTF(string)
+            }
+            out.writeInt(sets.size)
+            for (pairs in sets.keys) {
+                out.writeByte(pairs.size / 2)
+                for (index in pairs) {
+                    out.writeShort(index)
+                }
+            }
+            out.writeByte(if (wide) 4 else 2)
+            out.writeInt(types.size)
+            for ((type, indexes) in types.zip(states)) {
+                out.writeUTF(type.get("type").asString)
+                out.writeInt(type.get("def")?.asInt ?: -1)
+                out.writeInt(indexes.size)
+                for (index in indexes) {
+                    if (wide) out.writeInt(index) else out.writeShort(index)
+                }
+            }
+        }
+    }
+}
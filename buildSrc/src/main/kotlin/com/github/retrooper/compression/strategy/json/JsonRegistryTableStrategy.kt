@@ -0,0 +1,83 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.github.retrooper.compression.strategy.json
+
+import com.github.retrooper.compression.CompressionUtil
+import com.github.retrooper.compression.EntryVersion
+import com.github.retrooper.compression.strategy.CompressionStrategy
+import com.google.gson.JsonObject
+import java.io.DataOutputStream
+import java.nio.file.Path
+import java.util.*
+import kotlin.io.path.createDirectories
+import kotlin.io.path.outputStream
+
+/**
+ * Writes registry mappings as a flat table of ids, with one row per version and one column per entry name.
+ *
+ * Format (big endian):
+ * - int magic, byte format version
+ * - int version count, followed by the version names
+ * - int name count, followed by the entry names
+ * - byte id width (2 or 4), followed by the id table; absent entries have an id of -1
+ */
+object JsonRegistryTableStrategy : CompressionStrategy {
+
+    const val MAGIC: Int = 0x50454D54 // PEMT
+    const val FORMAT_VERSION: Byte = 1
+
+    override val fileExtension: String = ".bin"
+
+    override fun compress(from: Path, to: Path) {
+        val json = CompressionUtil.loadJson(from).asJsonObject
+        val versions = json.entrySet().associateTo(TreeMap()) { EntryVersion.fromString(it.key) to it.value }
+
+        // the ids of each version, keyed by entry name
+        val tables = versions.mapValues { (_, value) ->
+            if (value.isJsonArray) {
+                value.asJsonArray.withIndex().associate { (id, name) -> name.asString to id }
+            } else {
+                (value as JsonObject).entrySet().associate { it.key to it.value.asInt }
+            }
+        }
+        val names = tables.values.flatMapTo(TreeSet()) { it.keys }.toList()
+        val wide = tables.values.any { table -> table.values.any { it !in -1..Short.MAX_VALUE } }
+
+        to.parent?.createDirectories()
+        DataOutputStream(to.outputStream().buffered()).use { out ->
+            out.writeInt(MAGIC)
+            out.writeByte(FORMAT_VERSION.toInt())
+            out.writeInt(tables.size)
+            for (version in tables.keys) {
+                out.writeUTF(version.toString())
+            }
+            out.writeInt(names.size)
+            for (name in names) {
+                out.writeUTF(name)
+            }
+            out.writeByte(if (wide) 4 else 2)
+            for (table in tables.values) {
+                for (name in names) {
+                    val id = table[name] ?: -1
+                    if (wide) out.writeInt(id) else out.writeShort(id)
+                }
+            }
+        }
+    }
+}
@@ -20,9 +20,11 @@ package io.github.retrooper.packetevents.handlers;
 
 import com.github.retrooper.packetevents.PacketEvents;
 import com.github.retrooper.packetevents.event.PacketReceiveEvent;
-import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.protocol.PacketSide;
 import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.util.EventCreationUtil;
+import com.github.retrooper.packetevents.util.PacketEventsImplHelper;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 import io.github.retrooper.packetevents.injector.ServerConnectionInitializer;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandler;
@@ -49,31 +51,51 @@ public class PacketEventsDecoder extends MessageToMessageDecoder<ByteBuf> {
         if (this.tryFixCompressorOrder(ctx, byteBuf)) {
             return; // skip handling of buffer
         }
+        if (!PacketEventsImplHelper.isListenedTo(user, byteBuf, PacketSide.CLIENT, false)) {
+            // nobody is interested, pass the packet on untouched
+            output.add(byteBuf.retain());
+            return;
+        }
 
-        ByteBuf transformed = ctx.alloc().buffer().writeBytes(byteBuf);
-        try {
-            int firstReaderIndex = transformed.readerIndex();
-            PacketReceiveEvent packetReceiveEvent = EventCreationUtil.createReceiveEvent(ctx.channel(),
-                    user, player, transformed, false);
-            int readerIndex = transformed.readerIndex();
-            PacketEvents.getAPI().getEventManager().callEvent(packetReceiveEvent, () -> transformed.readerIndex(readerIndex));
-            if (!packetReceiveEvent.isCancelled()) {
-                if (packetReceiveEvent.getLastUsedWrapper() != null) {
-                    ByteBufHelper.clear(packetReceiveEvent.getByteBuf());
-                    packetReceiveEvent.getLastUsedWrapper().writeVarInt(packetReceiveEvent.getPacketId());
-                    packetReceiveEvent.getLastUsedWrapper().write();
-                } else {
-                    transformed.readerIndex(firstReaderIndex);
-                }
-                output.add(transformed.retain());
+        // The event works on the incoming buffer, it is only copied if a listener rewrites the packet
+        int firstReaderIndex = byteBuf.readerIndex();
+        PacketReceiveEvent packetReceiveEvent = EventCreationUtil.createReceiveEvent(ctx.channel(),
+                user, player, byteBuf, false);
+        int readerIndex = byteBuf.readerIndex();
+        PacketEvents.getAPI().getEventManager().callEvent(packetReceiveEvent, () -> byteBuf.readerIndex(readerIndex));
+        if (!packetReceiveEvent.isCancelled()) {
+            PacketWrapper<?> wrapper = packetReceiveEvent.getLastUsedWrapper();
+            ByteBuf packet;
+            if (wrapper != null) {
+                // The incoming buffer may be a slice of the frame, which can't grow
+                packet = rewrite(ctx, wrapper, packetReceiveEvent.getPacketId());
+            } else {
+                byteBuf.readerIndex(firstReaderIndex);
+                packet = byteBuf.retain();
             }
-            if (packetReceiveEvent.hasPostTasks()) {
-                for (Runnable task : packetReceiveEvent.getPostTasks()) {
-                    task.run();
-                }
+            output.add(packet);
+            PacketEvents.getAPI().getEventManager().callAsyncListeners(packetReceiveEvent, packet);
+        } else {
+            byteBuf.readerIndex(firstReaderIndex);
+            PacketEvents.getAPI().getEventManager().callAsyncListeners(packetReceiveEvent, byteBuf);
+        }
+        if (packetReceiveEvent.hasPostTasks()) {
+            for (Runnable task : packetReceiveEvent.getPostTasks()) {
+                task.run();
             }
-        } finally {
-            transformed.release();
+        }
+    }
+
+    private static ByteBuf rewrite(ChannelHandlerContext ctx, PacketWrapper<?> wrapper, int packetId) {
+        ByteBuf rewritten = ctx.alloc().buffer();
+        try {
+            wrapper.buffer = rewritten;
+            wrapper.writeVarInt(packetId);
+            wrapper.write();
+            return rewritten;
+        } catch (Throwable t) {
+            rewritten.release();
+            throw t;
         }
     }
 
@@ -21,8 +21,10 @@ package io.github.retrooper.packetevents.handlers;
 import com.github.retrooper.packetevents.PacketEvents;
 import com.github.retrooper.packetevents.event.PacketSendEvent;
 import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.protocol.PacketSide;
 import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.util.EventCreationUtil;
+import com.github.retrooper.packetevents.util.PacketEventsImplHelper;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 import io.github.retrooper.packetevents.injector.CustomPipelineUtil;
 import io.netty.buffer.ByteBuf;
@@ -51,6 +53,11 @@ public class PacketEventsEncoder extends ChannelOutboundHandlerAdapter {
 
     public void read(ChannelHandlerContext originalCtx, ByteBuf buffer, ChannelPromise promise) {
         ChannelHandlerContext ctx = this.tryFixCompressorOrder(originalCtx, buffer);
+        if (!PacketEventsImplHelper.isListenedTo(user, buffer, PacketSide.SERVER, false)) {
+            // nobody is interested, pass the packet on untouched
+            ctx.write(buffer, promise);
+            return;
+        }
         int firstReaderIndex = buffer.readerIndex();
         PacketSendEvent packetSendEvent = EventCreationUtil.createSendEvent(ctx.channel(), user, player,
                 buffer, false);
@@ -70,12 +77,17 @@ public class PacketEventsEncoder extends ChannelOutboundHandlerAdapter {
                 }
                 packetSendEvent.getLastUsedWrapper().writeVarInt(packetSendEvent.getPacketId());
                 packetSendEvent.getLastUsedWrapper().write();
+                // before writing it, since the buffer is released once it was written
+                PacketEvents.getAPI().getEventManager().callAsyncListeners(packetSendEvent, newBuffer);
                 ctx.write(newBuffer, promise);
             } else {
                 buffer.readerIndex(firstReaderIndex);
+                PacketEvents.getAPI().getEventManager().callAsyncListeners(packetSendEvent, buffer);
                 ctx.write(buffer, promise);
             }
         } else {
+            buffer.readerIndex(firstReaderIndex);
+            PacketEvents.getAPI().getEventManager().callAsyncListeners(packetSendEvent, buffer);
             ReferenceCountUtil.release(packetSendEvent.getByteBuf());
         }
         if (packetSendEvent.hasPostTasks()) {
@@ -134,6 +134,11 @@ public class ByteBufOperatorImpl implements ByteBufOperator {
         return ((ByteBuf)buffer).getUnsignedByte(index);
     }
 
+    @Override
+    public long getLong(Object buffer, int index) {
+        return ((ByteBuf)buffer).getLong(index);
+    }
+
     @Override
     public boolean isReadable(Object buffer) {
         return ((ByteBuf)buffer).isReadable();
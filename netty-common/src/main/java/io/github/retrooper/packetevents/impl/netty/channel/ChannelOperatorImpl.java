@@ -19,12 +19,20 @@
 package io.github.retrooper.packetevents.impl.netty.channel;
 
 import com.github.retrooper.packetevents.netty.channel.ChannelOperator;
+import com.github.retrooper.packetevents.protocol.player.User;
 import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.SocketAddress;
 import java.util.List;
 
 public class ChannelOperatorImpl implements ChannelOperator {
+
+    // the name of the user class is unique for each relocated copy of packetevents,
+    // which mustn't share a key as their user classes are incompatible
+    private static final AttributeKey<Object> USER_KEY = AttributeKey.valueOf(User.class.getName());
+
     @Override
     public SocketAddress remoteAddress(Object channel) {
         return ((Channel) channel).remoteAddress();
@@ -114,4 +122,17 @@ public class ChannelOperatorImpl implements ChannelOperator {
     public Object pooledByteBuf(Object channel) {
         return ((Channel) channel).alloc().buffer();
     }
+
+    @Override
+    public @Nullable User getUser(Object channel) {
+        // users are keyed by pipeline, so use the channel of the pipeline in case this is a wrapper
+        Object user = ((Channel) channel).pipeline().channel().attr(USER_KEY).get();
+        // the user may have been attached by a previously loaded instance of this class
+        return user instanceof User ? (User) user : null;
+    }
+
+    @Override
+    public void setUser(Object channel, @Nullable User user) {
+        ((Channel) channel).pipeline().channel().attr(USER_KEY).set(user);
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * This file is part of packetevents - https://github.com/retrooper/packetevents
+ * Copyright (C) 2025 retrooper and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.retrooper.packetevents.impl.netty.compression;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.protocol.ConnectionState;
+import com.github.retrooper.packetevents.protocol.PacketSide;
+import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.protocol.player.ClientVersion;
+import com.github.retrooper.packetevents.protocol.player.User;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.function.Predicate;
+
+/**
+ * Relocates the packetevents handlers as soon as vanilla has set up compression, before the next packet is encoded.
+ * <p>
+ * Vanilla adds its compression handlers from a listener of the set compression packet's write. The packets sent
+ * right after it, like the game profile, are usually queued on the event loop by then, so relocating from a task
+ * on the event loop would be too late for them. This handler sits in front of the vanilla encoder instead, where
+ * it sees every packet before it's encoded and compressed, and relocates synchronously once compression is set up.
+ * Without it, the packetevents encoder would have to decompress and recompress these packets.
+ */
+@ApiStatus.Internal
+public final class CompressionSetupHandler extends ChannelOutboundHandlerAdapter {
+
+    private final Predicate<Channel> relocate;
+
+    private CompressionSetupHandler(Predicate<Channel> relocate) {
+        this.relocate = relocate;
+    }
+
+    /**
+     * Installs the handler if the packet is the set compression packet.
+     *
+     * @param relocate relocates the handlers of the channel if needed,
+     *                 returns false if compression hasn't been set up yet
+     */
+    public static void installOnSetCompression(ChannelHandlerContext ctx, User user, ByteBuf buffer, Predicate<Channel> relocate) {
+        if (user.getEncoderState() != ConnectionState.LOGIN || !isSetCompression(buffer)) {
+            return;
+        }
+        ChannelPipeline pipeline = ctx.pipeline();
+        String name = PacketEvents.ENCODER_NAME + "-compression";
+        String encoderName = pipeline.names().contains("outbound_config") ? "outbound_config" : "encoder";
+        if (pipeline.get(name) == null && pipeline.get(encoderName) != null) {
+            pipeline.addAfter(encoderName, name, new CompressionSetupHandler(relocate));
+        }
+    }
+
+    private static boolean isSetCompression(ByteBuf buffer) {
+        int readerIndex = buffer.readerIndex();
+        int packetId;
+        try {
+            packetId = ByteBufHelper.readVarInt(buffer);
+        } catch (Exception e) {
+            return false;
+        } finally {
+            buffer.readerIndex(readerIndex);
+        }
+        ClientVersion version = PacketEvents.getAPI().getServerManager().getVersion().toClientVersion();
+        return PacketType.getById(PacketSide.SERVER, ConnectionState.LOGIN, version, packetId) == PacketType.Login.Server.SET_COMPRESSION;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (this.relocate.test(ctx.channel())) {
+            ctx.pipeline().remove(this);
+        }
+        ctx.write(msg, promise);
+    }
+}
@@ -27,6 +27,7 @@ import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.util.ExceptionUtil;
 import com.github.retrooper.packetevents.util.PacketEventsImplHelper;
 import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerDisconnect;
+import io.github.retrooper.packetevents.impl.netty.compression.CompressionSetupHandler;
 import io.github.retrooper.packetevents.injector.connection.ServerConnectionInitializer;
 import io.github.retrooper.packetevents.util.SpigotReflectionUtil;
 import io.github.retrooper.packetevents.util.folia.FoliaScheduler;
@@ -44,6 +45,7 @@ import org.bukkit.plugin.Plugin;
 import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
 
 public class PacketEventsEncoder extends ChannelOutboundHandlerAdapter {
 
@@ -104,6 +106,9 @@ public class PacketEventsEncoder extends ChannelOutboundHandlerAdapter {
         this.promise = promise;
 
         if (msg instanceof ByteBuf) {
+            if (!this.handledCompression) {
+                CompressionSetupHandler.installOnSetCompression(ctx, this.user, (ByteBuf) msg, this::relocateForCompression);
+            }
             boolean needsRecompression = !this.handledCompression && this.handleCompression(ctx, (ByteBuf) msg);
             this.handleClientBoundPacket(ctx.channel(), this.user, this.player, (ByteBuf) msg, this.promise);
 
@@ -196,6 +201,28 @@ public class PacketEventsEncoder extends ChannelOutboundHandlerAdapter {
         }
     }
 
+    // Vanilla adds the compression handlers while the set compression packet is written, and the packets right
+    // after it are often queued by then. Relocating synchronously before the next packet is encoded means no
+    // compressed packet reaches us (see CompressionSetupHandler), so #handleCompression is only a fallback.
+    // Returns false if vanilla hasn't set up compression yet.
+    private boolean relocateForCompression(Channel channel) {
+        if (this.handledCompression) {
+            return true;
+        }
+        List<String> names = channel.pipeline().names();
+        int compressIndex = names.indexOf("compress");
+        int peEncoderIndex = names.indexOf(PacketEvents.ENCODER_NAME);
+        if (compressIndex == -1) {
+            return false;
+        }
+        this.handledCompression = true;
+        if (peEncoderIndex != -1 && compressIndex > peEncoderIndex) {
+            PacketEventsDecoder decoder = (PacketEventsDecoder) channel.pipeline().get(PacketEvents.DECODER_NAME);
+            ServerConnectionInitializer.relocateHandlers(channel, decoder, this.user);
+        }
+        return true;
+    }
+
     private boolean handleCompression(ChannelHandlerContext ctx, ByteBuf buffer) throws InvocationTargetException {
         if (handledCompression) return false;
         int compressIndex = ctx.pipeline().names().indexOf("compress");
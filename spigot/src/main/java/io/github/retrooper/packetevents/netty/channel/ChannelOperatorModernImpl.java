@@ -19,12 +19,30 @@
 package io.github.retrooper.packetevents.netty.channel;
 
 import com.github.retrooper.packetevents.netty.channel.ChannelOperator;
+import com.github.retrooper.packetevents.protocol.player.User;
 import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.SocketAddress;
 import java.util.List;
 
 public class ChannelOperatorModernImpl implements ChannelOperator {
+
+    // the name of the user class is unique for each relocated copy of packetevents,
+    // which mustn't share a key as their user classes are incompatible
+    private static final AttributeKey<Object> USER_KEY = createUserKey();
+
+    private static AttributeKey<Object> createUserKey() {
+        String name = User.class.getName();
+        try {
+            return AttributeKey.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            // legacy netty versions don't allow creating a key with the same name twice, e.g. after a reload
+            return AttributeKey.valueOf(name + '#' + System.nanoTime());
+        }
+    }
+
     @Override
     public SocketAddress remoteAddress(Object channel) {
         return ((Channel) channel).remoteAddress();
@@ -114,4 +132,17 @@ public class ChannelOperatorModernImpl implements ChannelOperator {
     public Object pooledByteBuf(Object o) {
         return ((Channel) o).alloc().buffer();
     }
+
+    @Override
+    public @Nullable User getUser(Object channel) {
+        // users are keyed by pipeline, so use the channel of the pipeline in case this is a wrapper
+        Object user = ((Channel) channel).pipeline().channel().attr(USER_KEY).get();
+        // the user may have been attached by a previously loaded instance of this class
+        return user instanceof User ? (User) user : null;
+    }
+
+    @Override
+    public void setUser(Object channel, @Nullable User user) {
+        ((Channel) channel).pipeline().channel().attr(USER_KEY).set(user);
+    }
 }
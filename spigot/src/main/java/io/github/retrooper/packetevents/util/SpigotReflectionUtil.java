@@ -27,6 +27,7 @@ import com.github.retrooper.packetevents.protocol.particle.type.ParticleType;
 import com.github.retrooper.packetevents.protocol.particle.type.ParticleTypes;
 import com.github.retrooper.packetevents.protocol.player.TextureProperty;
 import com.github.retrooper.packetevents.resources.ResourceLocation;
+import com.github.retrooper.packetevents.util.reflection.FieldAccessor;
 import com.github.retrooper.packetevents.util.reflection.Reflection;
 import com.github.retrooper.packetevents.util.reflection.ReflectionObject;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
@@ -54,6 +55,7 @@ import java.io.DataInputStream;
 import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -529,9 +531,13 @@ public final class SpigotReflectionUtil {
     public static Object getEntityPlayer(Player player) {
         Object craftPlayer = getCraftPlayer(player);
         try {
+            MethodHandle getHandle = PlayerAccessors.GET_HANDLE;
+            if (getHandle != null) {
+                return (Object) getHandle.invokeExact(craftPlayer);
+            }
             return GET_CRAFT_PLAYER_HANDLE_METHOD.invoke(craftPlayer);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            e.printStackTrace();
+        } catch (Throwable t) {
+            t.printStackTrace();
         }
         return null;
     }
@@ -541,6 +547,14 @@ public final class SpigotReflectionUtil {
         if (entityPlayer == null) {
             return null;
         }
+        MethodHandle getConnection = PlayerAccessors.GET_PLAYER_CONNECTION;
+        if (getConnection != null) {
+            try {
+                return (Object) getConnection.invokeExact(entityPlayer);
+            } catch (Throwable ignored) {
+                // fall back to looking up the field reflectively
+            }
+        }
         ReflectionObject wrappedEntityPlayer = new ReflectionObject(entityPlayer, ENTITY_PLAYER_CLASS);
         return wrappedEntityPlayer.readObject(0, SpigotReflectionUtil.PLAYER_CONNECTION_CLASS);
     }
@@ -591,9 +605,15 @@ public final class SpigotReflectionUtil {
         if (playerConnection == null) {
             return null;
         }
-        Class<?> playerConnectionClass = SERVER_COMMON_PACKETLISTENER_IMPL_CLASS != null ?
-                SERVER_COMMON_PACKETLISTENER_IMPL_CLASS : PLAYER_CONNECTION_CLASS;
-        ReflectionObject wrapper = new ReflectionObject(playerConnection, playerConnectionClass);
+        MethodHandle getNetworkManager = PlayerAccessors.GET_NETWORK_MANAGER;
+        if (getNetworkManager != null) {
+            try {
+                return (Object) getNetworkManager.invokeExact(playerConnection);
+            } catch (Throwable ignored) {
+                // fall back to looking up the field reflectively
+            }
+        }
+        ReflectionObject wrapper = new ReflectionObject(playerConnection, getPlayerConnectionClass());
         try {
             return wrapper.readObject(0, NETWORK_MANAGER_CLASS);
         } catch (Exception ex) {
@@ -610,11 +630,24 @@ public final class SpigotReflectionUtil {
         return null;
     }
 
+    private static Class<?> getPlayerConnectionClass() {
+        return SERVER_COMMON_PACKETLISTENER_IMPL_CLASS != null ?
+                SERVER_COMMON_PACKETLISTENER_IMPL_CLASS : PLAYER_CONNECTION_CLASS;
+    }
+
     public static Object getChannel(Player player) {
         Object networkManager = getNetworkManager(player);
         if (networkManager == null) {
             return null;
         }
+        MethodHandle getChannel = PlayerAccessors.GET_CHANNEL;
+        if (getChannel != null) {
+            try {
+                return (Object) getChannel.invokeExact(networkManager);
+            } catch (Throwable ignored) {
+                // fall back to looking up the field reflectively
+            }
+        }
         ReflectionObject wrapper = new ReflectionObject(networkManager, NETWORK_MANAGER_CLASS);
         return wrapper.readObject(0, CHANNEL_CLASS);
     }
@@ -1184,4 +1217,21 @@ public final class SpigotReflectionUtil {
         return null;
     }
 
+
+    /**
+     * Accessors for getting from a player to its channel, resolved on first use after {@link #init()}.
+     * These are static final, so the JIT treats them as constants and can inline the field accesses.
+     * A handle is null if it couldn't be resolved, in which case the field is looked up reflectively.
+     */
+    private static final class PlayerAccessors {
+
+        private static final @Nullable MethodHandle GET_HANDLE =
+                FieldAccessor.invoker(GET_CRAFT_PLAYER_HANDLE_METHOD);
+        private static final @Nullable MethodHandle GET_PLAYER_CONNECTION =
+                FieldAccessor.getter(ENTITY_PLAYER_CLASS, PLAYER_CONNECTION_CLASS, 0);
+        private static final @Nullable MethodHandle GET_NETWORK_MANAGER =
+                FieldAccessor.getter(getPlayerConnectionClass(), NETWORK_MANAGER_CLASS, 0);
+        private static final @Nullable MethodHandle GET_CHANNEL =
+                FieldAccessor.getter(NETWORK_MANAGER_CLASS, CHANNEL_CLASS, 0);
+    }
 }
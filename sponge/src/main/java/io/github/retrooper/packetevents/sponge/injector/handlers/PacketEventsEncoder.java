@@ -28,6 +28,7 @@ import com.github.retrooper.packetevents.protocol.ConnectionState;
 import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.util.ExceptionUtil;
 import com.github.retrooper.packetevents.util.PacketEventsImplHelper;
+import io.github.retrooper.packetevents.impl.netty.compression.CompressionSetupHandler;
 import io.github.retrooper.packetevents.sponge.injector.connection.ServerConnectionInitializer;
 import io.github.retrooper.packetevents.sponge.util.viaversion.CustomPipelineUtil;
 import io.netty.buffer.ByteBuf;
@@ -63,6 +64,9 @@ public class PacketEventsEncoder extends MessageToMessageEncoder<ByteBuf> {
 
     @Override
     protected void encode(ChannelHandlerContext ctx, ByteBuf byteBuf, List<Object> list) throws Exception {
+        if (!handledCompression) {
+            CompressionSetupHandler.installOnSetCompression(ctx, this.user, byteBuf, this::relocateForCompression);
+        }
         boolean needsRecompression = !handledCompression && handleCompression(ctx, byteBuf);
         handleClientBoundPacket(ctx.channel(), user, player, byteBuf, this.promise);
 
@@ -152,6 +156,28 @@ public class PacketEventsEncoder extends MessageToMessageEncoder<ByteBuf> {
         }
     }
 
+    // Vanilla adds the compression handlers while the set compression packet is written, and the packets right
+    // after it are often queued by then. Relocating synchronously before the next packet is encoded means no
+    // compressed packet reaches us (see CompressionSetupHandler), so #handleCompression is only a fallback.
+    // Returns false if vanilla hasn't set up compression yet.
+    private boolean relocateForCompression(Channel channel) {
+        if (this.handledCompression) {
+            return true;
+        }
+        List<String> names = channel.pipeline().names();
+        int compressIndex = names.indexOf("compress");
+        int peEncoderIndex = names.indexOf(PacketEvents.ENCODER_NAME);
+        if (compressIndex == -1) {
+            return false;
+        }
+        this.handledCompression = true;
+        if (peEncoderIndex != -1 && compressIndex > peEncoderIndex) {
+            PacketEventsDecoder decoder = (PacketEventsDecoder) channel.pipeline().get(PacketEvents.DECODER_NAME);
+            ServerConnectionInitializer.relocateHandlers(channel, decoder, this.user);
+        }
+        return true;
+    }
+
     private boolean handleCompression(ChannelHandlerContext ctx, ByteBuf buffer) throws InvocationTargetException {
         if (handledCompression) return false;
         int compressIndex = ctx.pipeline().names().indexOf("compress");
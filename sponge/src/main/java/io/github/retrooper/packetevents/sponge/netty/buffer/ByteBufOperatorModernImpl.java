@@ -136,6 +136,11 @@ public class ByteBufOperatorModernImpl implements ByteBufOperator {
         return ((ByteBuf)buffer).getUnsignedByte(index);
     }
 
+    @Override
+    public long getLong(Object buffer, int index) {
+        return ((ByteBuf)buffer).getLong(index);
+    }
+
     @Override
     public boolean isReadable(Object buffer) {
         return ((ByteBuf)buffer).isReadable();
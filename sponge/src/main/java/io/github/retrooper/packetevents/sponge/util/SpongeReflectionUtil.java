@@ -23,6 +23,7 @@ import com.github.retrooper.packetevents.manager.server.ServerVersion;
 import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
 import com.github.retrooper.packetevents.netty.buffer.UnpooledByteBufAllocationHelper;
 import com.github.retrooper.packetevents.protocol.nbt.NBTCompound;
+import com.github.retrooper.packetevents.util.reflection.FieldAccessor;
 import com.github.retrooper.packetevents.util.reflection.Reflection;
 import com.github.retrooper.packetevents.util.reflection.ReflectionObject;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
@@ -41,6 +42,7 @@ import java.io.DataInputStream;
 import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -204,9 +206,15 @@ public final class SpongeReflectionUtil {
         if (playerConnection == null) {
             return null;
         }
-        Class<?> playerConnectionClass = SERVER_COMMON_PACKETLISTENER_IMPL_CLASS != null ?
-                SERVER_COMMON_PACKETLISTENER_IMPL_CLASS : PLAYER_CONNECTION_CLASS;
-        ReflectionObject wrapper = new ReflectionObject(playerConnection, playerConnectionClass);
+        MethodHandle getNetworkManager = PlayerAccessors.GET_NETWORK_MANAGER;
+        if (getNetworkManager != null) {
+            try {
+                return (Object) getNetworkManager.invokeExact(playerConnection);
+            } catch (Throwable ignored) {
+                // fall back to looking up the field reflectively
+            }
+        }
+        ReflectionObject wrapper = new ReflectionObject(playerConnection, getPlayerConnectionClass());
         try {
             return wrapper.readObject(0, NETWORK_MANAGER_CLASS);
         } catch (Exception ex) {
@@ -224,16 +232,37 @@ public final class SpongeReflectionUtil {
         return null;
     }
 
+    private static Class<?> getPlayerConnectionClass() {
+        return SERVER_COMMON_PACKETLISTENER_IMPL_CLASS != null ?
+                SERVER_COMMON_PACKETLISTENER_IMPL_CLASS : PLAYER_CONNECTION_CLASS;
+    }
+
     public static Object getChannel(ServerPlayer player) {
         Object networkManager = getNetworkManager(player);
         if (networkManager == null) {
             return null;
         }
+        MethodHandle getChannel = PlayerAccessors.GET_CHANNEL;
+        if (getChannel != null) {
+            try {
+                return (Object) getChannel.invokeExact(networkManager);
+            } catch (Throwable ignored) {
+                // fall back to looking up the field reflectively
+            }
+        }
         ReflectionObject wrapper = new ReflectionObject(networkManager, NETWORK_MANAGER_CLASS);
         return wrapper.readObject(0, Channel.class);
     }
 
     public static Object getPlayerConnection(ServerPlayer player) {
+        MethodHandle getConnection = PlayerAccessors.GET_PLAYER_CONNECTION;
+        if (getConnection != null) {
+            try {
+                return (Object) getConnection.invokeExact((Object) player);
+            } catch (Throwable ignored) {
+                // fall back to looking up the field reflectively
+            }
+        }
         ReflectionObject wrappedEntityPlayer = new ReflectionObject(player, ENTITY_PLAYER_CLASS);
         return wrappedEntityPlayer.readObject(0, PLAYER_CONNECTION_CLASS);
     }
@@ -356,4 +385,19 @@ public final class SpongeReflectionUtil {
         }
         return null;
     }
+
+    /**
+     * Accessors for getting from a player to its channel, resolved on first use after {@link #init()}.
+     * These are static final, so the JIT treats them as constants and can inline the field accesses.
+     * A handle is null if it couldn't be resolved, in which case the field is looked up reflectively.
+     */
+    private static final class PlayerAccessors {
+
+        private static final @Nullable MethodHandle GET_PLAYER_CONNECTION =
+                FieldAccessor.getter(ENTITY_PLAYER_CLASS, PLAYER_CONNECTION_CLASS, 0);
+        private static final @Nullable MethodHandle GET_NETWORK_MANAGER =
+                FieldAccessor.getter(getPlayerConnectionClass(), NETWORK_MANAGER_CLASS, 0);
+        private static final @Nullable MethodHandle GET_CHANNEL =
+                FieldAccessor.getter(NETWORK_MANAGER_CLASS, Channel.class, 0);
+    }
 }
@@ -20,11 +20,13 @@ package io.github.retrooper.packetevents.handlers;
 
 import com.github.retrooper.packetevents.PacketEvents;
 import com.github.retrooper.packetevents.event.PacketReceiveEvent;
-import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
 import com.github.retrooper.packetevents.netty.channel.ChannelHelper;
+import com.github.retrooper.packetevents.protocol.PacketSide;
 import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.util.EnumUtil;
 import com.github.retrooper.packetevents.util.EventCreationUtil;
+import com.github.retrooper.packetevents.util.PacketEventsImplHelper;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 import com.github.retrooper.packetevents.util.reflection.Reflection;
 import com.velocitypowered.api.proxy.Player;
 import io.github.retrooper.packetevents.injector.ServerConnectionInitializer;
@@ -48,29 +50,50 @@ public class PacketEventsDecoder extends MessageToMessageDecoder<ByteBuf> {
     }
 
     public void read(ChannelHandlerContext ctx, ByteBuf byteBuf, List<Object> output) throws Exception {
-        ByteBuf transformed = ctx.alloc().buffer().writeBytes(byteBuf);
-        try {
-            int firstReaderIndex = transformed.readerIndex();
-            PacketReceiveEvent packetReceiveEvent = EventCreationUtil.createReceiveEvent(ctx.channel(), user, player,
-                    transformed, false);
-            int readerIndex = transformed.readerIndex();
-            PacketEvents.getAPI().getEventManager().callEvent(packetReceiveEvent, () -> transformed.readerIndex(readerIndex));
-            if (!packetReceiveEvent.isCancelled()) {
-                if (packetReceiveEvent.getLastUsedWrapper() != null) {
-                    ByteBufHelper.clear(packetReceiveEvent.getByteBuf());
-                    packetReceiveEvent.getLastUsedWrapper().writeVarInt(packetReceiveEvent.getPacketId());
-                    packetReceiveEvent.getLastUsedWrapper().write();
-                }
-                transformed.readerIndex(firstReaderIndex);
-                output.add(transformed.retain());
+        if (!PacketEventsImplHelper.isListenedTo(user, byteBuf, PacketSide.CLIENT, false)) {
+            // nobody is interested, pass the packet on untouched
+            output.add(byteBuf.retain());
+            return;
+        }
+        // The event works on the incoming buffer, it is only copied if a listener rewrites the packet
+        int firstReaderIndex = byteBuf.readerIndex();
+        PacketReceiveEvent packetReceiveEvent = EventCreationUtil.createReceiveEvent(ctx.channel(),
+                user, player, byteBuf, false);
+        int readerIndex = byteBuf.readerIndex();
+        PacketEvents.getAPI().getEventManager().callEvent(packetReceiveEvent, () -> byteBuf.readerIndex(readerIndex));
+        if (!packetReceiveEvent.isCancelled()) {
+            PacketWrapper<?> wrapper = packetReceiveEvent.getLastUsedWrapper();
+            ByteBuf packet;
+            if (wrapper != null) {
+                // The incoming buffer may be a slice of the frame, which can't grow
+                packet = rewrite(ctx, wrapper, packetReceiveEvent.getPacketId());
+            } else {
+                byteBuf.readerIndex(firstReaderIndex);
+                packet = byteBuf.retain();
             }
-            if (packetReceiveEvent.hasPostTasks()) {
-                for (Runnable task : packetReceiveEvent.getPostTasks()) {
-                    task.run();
-                }
+            output.add(packet);
+            PacketEvents.getAPI().getEventManager().callAsyncListeners(packetReceiveEvent, packet);
+        } else {
+            byteBuf.readerIndex(firstReaderIndex);
+            PacketEvents.getAPI().getEventManager().callAsyncListeners(packetReceiveEvent, byteBuf);
+        }
+        if (packetReceiveEvent.hasPostTasks()) {
+            for (Runnable task : packetReceiveEvent.getPostTasks()) {
+                task.run();
             }
-        } finally {
-            transformed.release();
+        }
+    }
+
+    private static ByteBuf rewrite(ChannelHandlerContext ctx, PacketWrapper<?> wrapper, int packetId) {
+        ByteBuf rewritten = ctx.alloc().buffer();
+        try {
+            wrapper.buffer = rewritten;
+            wrapper.writeVarInt(packetId);
+            wrapper.write();
+            return rewritten;
+        } catch (Throwable t) {
+            rewritten.release();
+            throw t;
         }
     }
 
@@ -20,9 +20,11 @@ package io.github.retrooper.packetevents.handlers;
 
 import com.github.retrooper.packetevents.PacketEvents;
 import com.github.retrooper.packetevents.event.PacketSendEvent;
-import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.protocol.PacketSide;
 import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.util.EventCreationUtil;
+import com.github.retrooper.packetevents.util.PacketEventsImplHelper;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 import com.velocitypowered.api.proxy.Player;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandler;
@@ -38,21 +40,27 @@ public class PacketEventsEncoder extends MessageToByteEncoder<ByteBuf> {
         this.user = user;
     }
 
-    public void read(ChannelHandlerContext ctx, ByteBuf buffer) throws Exception {
+    public void read(ChannelHandlerContext ctx, ByteBuf buffer, ByteBuf out) throws Exception {
         int firstReaderIndex = buffer.readerIndex();
         PacketSendEvent packetSendEvent = EventCreationUtil.createSendEvent(ctx.channel(), user, player, buffer,
                 false);
         int readerIndex = buffer.readerIndex();
         PacketEvents.getAPI().getEventManager().callEvent(packetSendEvent, () -> buffer.readerIndex(readerIndex));
         if (!packetSendEvent.isCancelled()) {
-            if (packetSendEvent.getLastUsedWrapper() != null) {
-                ByteBufHelper.clear(packetSendEvent.getByteBuf());
-                packetSendEvent.getLastUsedWrapper().writeVarInt(packetSendEvent.getPacketId());
-                packetSendEvent.getLastUsedWrapper().write();
+            PacketWrapper<?> wrapper = packetSendEvent.getLastUsedWrapper();
+            if (wrapper != null) {
+                // Write the rewritten packet straight into the output buffer
+                wrapper.buffer = out;
+                wrapper.writeVarInt(packetSendEvent.getPacketId());
+                wrapper.write();
+            } else {
+                buffer.readerIndex(firstReaderIndex);
+                out.writeBytes(buffer);
             }
-            buffer.readerIndex(firstReaderIndex);
+            PacketEvents.getAPI().getEventManager().callAsyncListeners(packetSendEvent, out);
         } else {
-            ByteBufHelper.clear(packetSendEvent.getByteBuf());
+            buffer.readerIndex(firstReaderIndex);
+            PacketEvents.getAPI().getEventManager().callAsyncListeners(packetSendEvent, buffer);
         }
         if (packetSendEvent.hasPostTasks()) {
             for (Runnable task : packetSendEvent.getPostTasks()) {
@@ -64,14 +72,14 @@ public class PacketEventsEncoder extends MessageToByteEncoder<ByteBuf> {
     @Override
     protected void encode(ChannelHandlerContext ctx, ByteBuf msg, ByteBuf out) throws Exception {
         if (!msg.isReadable()) return;
-
-        ByteBuf transformed = ctx.alloc().buffer().writeBytes(msg);
-        try {
-            read(ctx, transformed);
-            out.writeBytes(transformed);
-        } finally {
-            transformed.release();
+        if (!PacketEventsImplHelper.isListenedTo(user, msg, PacketSide.SERVER, false)) {
+            // nobody is interested, pass the packet on untouched
+            out.writeBytes(msg);
+            return;
         }
+
+        // The event works on the outgoing buffer directly, instead of a copy of it
+        read(ctx, msg, out);
     }
 
     @Override